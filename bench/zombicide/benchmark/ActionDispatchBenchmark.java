@@ -0,0 +1,143 @@
+package zombicide.benchmark;
+
+import zombicide.action.Action;
+import zombicide.action.ActionTable;
+import zombicide.action.survivor.special.Snooper;
+import zombicide.actor.survivor.Role;
+import zombicide.actor.survivor.Survivor;
+import zombicide.city.City;
+import zombicide.util.listchooser.RandomListChooser;
+import zombicide.util.output.GameOutput;
+import zombicide.util.random.RandomSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Compares the two ways of picking the actions of the survivors of a game, for many survivors playing in turn:
+ * choosing in the list of roles of the survivor then scanning the roles for a {@link Snooper},
+ * as survivors used to, and reading the action table compiled for the role of the survivor.
+ * The actions only count their calls, so that the cost of the choice alone is measured.
+ * A quarter of the survivors are snoopers, as with an even mix of roles.
+ *
+ * Arguments (optional): the numbers of survivors, 100 1000 10000 by default
+ */
+public class ActionDispatchBenchmark {
+    private static final int[] DEFAULT_SIZES = { 100, 1000, 10_000 };
+    private static final long CHOICES_PER_SIZE = 20_000_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static long sink;
+
+    /** An action only counting its calls. */
+    private static final Action<Survivor> COUNT = survivor -> sink++;
+
+    /** A snooper only counting its calls. */
+    private static final Action<Survivor> SNOOP = new Snooper() {
+        @Override
+        public void doSomething(Survivor survivor) {
+            sink += 2;
+        }
+    };
+
+    public static void main(String[] args) {
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        City city = new City(5, 5, 42L);
+        city.setOutput(GameOutput.silent());
+        Survivor survivor = new Survivor(city);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runScan(survivor, roles(1000), 2_000);
+            runTable(survivor, tables(roles(1000)), 2_000);
+        }
+        System.out.printf("%10s %12s %12s %10s%n", "survivors", "scan ns", "table ns", "speedup");
+        for (int size : sizes) {
+            List<List<Action<Survivor>>> roles = roles(size);
+            int rounds = (int) Math.max(1, CHOICES_PER_SIZE / size);
+            double scan = runScan(survivor, roles, rounds);
+            double table = runTable(survivor, tables(roles), rounds);
+            System.out.printf("%10d %12.1f %12.1f %9.1fx%n", size, scan, table, scan / table);
+        }
+    }
+
+    /**
+     * Builds the roles of the survivors, in the layout of {@link Role#createActions()}.
+     *
+     * @param size The number of survivors.
+     * @return The roles of each survivor.
+     */
+    private static List<List<Action<Survivor>>> roles(int size) {
+        List<List<Action<Survivor>>> roles = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Action<Survivor> special = i % Role.values().length == Role.SNOOPER.ordinal() ? SNOOP : COUNT;
+            roles.add(new ArrayList<>(Arrays.asList(null, COUNT, COUNT, COUNT, COUNT, COUNT, COUNT, COUNT, special, COUNT)));
+        }
+        return roles;
+    }
+
+    private static List<ActionTable<Survivor>> tables(List<List<Action<Survivor>>> roles) {
+        List<ActionTable<Survivor>> tables = new ArrayList<>(roles.size());
+        for (List<Action<Survivor>> actions : roles) {
+            tables.add(Role.compile(actions));
+        }
+        return tables;
+    }
+
+    /**
+     * Picks the actions of every survivor in turn the way survivors used to.
+     *
+     * @return The mean time taken by a survivor to pick and play its actions, in nanoseconds.
+     */
+    private static double runScan(Survivor survivor, List<List<Action<Survivor>>> roles, int rounds) {
+        RandomListChooser<Action<Survivor>> chooser = new RandomListChooser<>(RandomSource.seeded(1));
+        long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            for (List<Action<Survivor>> actions : roles) {
+                Action<Survivor> action = chooser.choose(actions);
+                if (action != null) {
+                    action.doSomething(survivor);
+                }
+                Iterator<Action<Survivor>> it = actions.iterator();
+                boolean found = false;
+                while (it.hasNext() && !found) {
+                    Action<Survivor> a = it.next();
+                    if (a instanceof Snooper) {
+                        a.doSomething(survivor);
+                        found = true;
+                    }
+                }
+            }
+        }
+        return (double) (System.nanoTime() - start) / rounds / roles.size();
+    }
+
+    /**
+     * Picks the actions of every survivor in turn from their action tables.
+     *
+     * @return The mean time taken by a survivor to pick and play its actions, in nanoseconds.
+     */
+    private static double runTable(Survivor survivor, List<ActionTable<Survivor>> tables, int rounds) {
+        RandomSource random = RandomSource.seeded(1);
+        long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            for (ActionTable<Survivor> table : tables) {
+                Action<Survivor> action = table.choose(random);
+                if (action != null) {
+                    action.doSomething(survivor);
+                }
+                Action<Survivor> passive = table.getPassive();
+                if (passive != null) {
+                    passive.doSomething(survivor);
+                }
+            }
+        }
+        return (double) (System.nanoTime() - start) / rounds / tables.size();
+    }
+}
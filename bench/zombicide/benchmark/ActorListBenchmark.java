@@ -0,0 +1,87 @@
+package zombicide.benchmark;
+
+import zombicide.actor.ActorList;
+import zombicide.actor.zombie.Walker;
+import zombicide.actor.zombie.Zombie;
+import zombicide.city.City;
+import zombicide.util.random.RandomSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares an {@link ActorList} with the {@link ArrayList} areas used to hold their actors in,
+ * on a pile of zombies leaving a manhole one by one in a random order.
+ *
+ * Arguments (optional): the sizes of the piles, 10 100 1000 10000 by default
+ */
+public class ActorListBenchmark {
+    private static final int[] DEFAULT_SIZES = { 10, 100, 1000, 10_000 };
+    private static final long REMOVALS_PER_SIZE = 2_000_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static long sink;
+
+    public static void main(String[] args) {
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        City city = new City(5, 5, 42L);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(city, 1000, 20, false);
+            run(city, 1000, 20, true);
+        }
+        System.out.printf("%8s %14s %14s %10s%n", "zombies", "ArrayList ns", "ActorList ns", "speedup");
+        for (int size : sizes) {
+            int rounds = (int) Math.max(1, REMOVALS_PER_SIZE / size / Math.max(1, size / 100));
+            double arrayList = run(city, size, rounds, false);
+            double actorList = run(city, size, rounds, true);
+            System.out.printf("%8d %14.1f %14.1f %9.1fx%n", size, arrayList, actorList, arrayList / actorList);
+        }
+    }
+
+    /**
+     * Fills a list with zombies then removes them all in a random order, several times.
+     *
+     * @param city      The city of the zombies.
+     * @param size      The number of zombies in the pile.
+     * @param rounds    The number of times the pile is emptied.
+     * @param actorList true to hold the zombies in an {@link ActorList}, false in an {@link ArrayList}.
+     * @return The mean time of one removal, in nanoseconds.
+     */
+    private static double run(City city, int size, int rounds, boolean actorList) {
+        RandomSource random = RandomSource.seeded(size);
+        Zombie[] pile = new Zombie[size];
+        for (int i = 0; i < size; i++) {
+            pile[i] = new Walker(new ArrayList<>(), city);
+        }
+        long elapsed = 0;
+        for (int r = 0; r < rounds; r++) {
+            List<Zombie> zombies = actorList ? new ActorList<>() : new ArrayList<>();
+            for (Zombie zombie : pile) {
+                zombies.add(zombie);
+            }
+            shuffle(pile, random);
+            long start = System.nanoTime();
+            for (Zombie zombie : pile) {
+                zombies.remove(zombie);
+            }
+            elapsed += System.nanoTime() - start;
+            sink += zombies.size();
+        }
+        return (double) elapsed / ((long) rounds * size);
+    }
+
+    private static void shuffle(Zombie[] pile, RandomSource random) {
+        for (int i = pile.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Zombie swap = pile[i];
+            pile[i] = pile[j];
+            pile[j] = swap;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package zombicide.benchmark;
+
+import zombicide.action.Action;
+import zombicide.action.survivor.AttackZombieAction;
+import zombicide.actor.survivor.Survivor;
+import zombicide.actor.zombie.Abomination;
+import zombicide.actor.zombie.Zombie;
+import zombicide.city.City;
+import zombicide.city.area.Area;
+import zombicide.item.attackItem.AttackItem;
+import zombicide.item.attackItem.weapon.Pistol;
+import zombicide.item.attackItem.weapon.Riffle;
+import zombicide.util.Direction;
+import zombicide.util.output.GameOutput;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the attack actions a survivor plays per second with a Riffle and with a Pistol,
+ * then the choice of the target alone, from the list of {@link AttackItem#shootRange()}
+ * and from {@link AttackItem#getWeakestTarget()} which builds no list.
+ * The zombies around the survivor are abominations, too strong for both weapons, so attacks leave them as they are.
+ *
+ * Arguments (optional): attacks zombiesPerCell
+ */
+public class AttackBenchmark {
+    private static final int WARMUP_ROUNDS = 3;
+    private static long sink;
+
+    public static void main(String[] args) {
+        int attacks = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int zombiesPerCell = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+
+        City city = new City(64, 64, 42L);
+        city.setOutput(GameOutput.silent());
+        Survivor survivor = new Survivor(city);
+        survivor.setArea(city.getSpawn());
+        List<Action<Zombie>> actions = new ArrayList<>();
+        int x = city.getSpawn().getX();
+        int y = city.getSpawn().getY();
+        for (Direction d : Direction.values()) {
+            for (int range = 0; range <= 3; range++) {
+                int zx = x + range * d.getX();
+                int zy = y + range * d.getY();
+                if (city.getGrid().contains(zx, zy)) {
+                    Area area = city.getArea(zx, zy);
+                    for (int i = 0; i < zombiesPerCell; i++) {
+                        new Abomination(actions, city).setArea(area);
+                    }
+                }
+            }
+        }
+
+        AttackItem[] weapons = { new Riffle(), new Pistol() };
+        AttackZombieAction attack = new AttackZombieAction();
+        System.out.printf("%8s %16s %18s %18s%n", "weapon", "attacks/s", "shootRange ns", "weakest ns");
+        for (AttackItem weapon : weapons) {
+            survivor.setItemHeld(weapon);
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                attack(survivor, attack, attacks / 10);
+                chooseFromList(weapon, attacks / 10);
+                chooseWeakest(weapon, attacks / 10);
+            }
+            double perAttack = attack(survivor, attack, attacks);
+            double fromList = chooseFromList(weapon, attacks);
+            double weakest = chooseWeakest(weapon, attacks);
+            System.out.printf("%8s %16.0f %18.1f %18.1f%n", weapon, 1e9 / perAttack, fromList, weakest);
+        }
+    }
+
+    private static double attack(Survivor survivor, AttackZombieAction attack, int attacks) {
+        long start = System.nanoTime();
+        for (int i = 0; i < attacks; i++) {
+            attack.doSomething(survivor);
+        }
+        return (double) (System.nanoTime() - start) / attacks;
+    }
+
+    private static double chooseFromList(AttackItem weapon, int attacks) {
+        long start = System.nanoTime();
+        for (int i = 0; i < attacks; i++) {
+            List<Zombie> zombies = weapon.shootRange();
+            Zombie weakest = zombies.get(0);
+            for (Zombie zombie : zombies) {
+                if (zombie.getLifePoints() > 0 && zombie.getLifePoints() < weakest.getLifePoints()) {
+                    weakest = zombie;
+                }
+            }
+            sink += weakest.getLifePoints();
+        }
+        return (double) (System.nanoTime() - start) / attacks;
+    }
+
+    private static double chooseWeakest(AttackItem weapon, int attacks) {
+        long start = System.nanoTime();
+        for (int i = 0; i < attacks; i++) {
+            sink += weapon.getWeakestTarget().getLifePoints();
+        }
+        return (double) (System.nanoTime() - start) / attacks;
+    }
+}
@@ -0,0 +1,109 @@
+package zombicide.benchmark;
+
+import zombicide.city.City;
+import zombicide.city.area.Bitboards;
+import zombicide.city.area.CityGrid;
+import zombicide.util.Direction;
+import zombicide.util.random.RandomSource;
+
+import java.util.Arrays;
+
+/**
+ * Compares the two ways of finding every cell reachable from a random cell:
+ * a breadth-first search going through the cells one by one and asking the grid for each of their doors,
+ * or the flood fill of the bitboards, spreading 64 cells at a time along the rows.
+ * Half the doors of the city are opened first, so that the fills cover large parts of it.
+ *
+ * Arguments (optional): the sizes of the cities, 64 256 1024 by default
+ */
+public class BitboardBenchmark {
+    private static final int[] DEFAULT_SIZES = { 64, 256, 1024 };
+    private static final int TARGET_CELLS = 20_000_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static long sink;
+
+    public static void main(String[] args) {
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        System.out.printf("%8s %8s %14s %14s %10s%n", "size", "fills", "search us", "bitboards us", "speedup");
+        for (int size : sizes) {
+            City city = new City(size, size, 42L);
+            CityGrid grid = city.getGrid();
+            RandomSource random = RandomSource.seeded(1);
+            for (int i = 0; i < grid.size() * 2; i++) {
+                city.getArea(random.nextInt(size), random.nextInt(size))
+                        .getDoor(Direction.values()[random.nextInt(4)]).open();
+            }
+            int fills = Math.max(4, TARGET_CELLS / grid.size());
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                run(city, fills, false);
+                run(city, fills, true);
+            }
+            double search = run(city, fills, false);
+            double bitboards = run(city, fills, true);
+            System.out.printf("%8d %8d %14.1f %14.1f %9.1fx%n", size, fills, search, bitboards, search / bitboards);
+        }
+    }
+
+    /**
+     * Fills the city from random cells.
+     *
+     * @param city      The city.
+     * @param fills     The number of fills.
+     * @param bitboards true to use the bitboards, false to search the cells one by one.
+     * @return The mean time of a fill, in microseconds.
+     */
+    private static double run(City city, int fills, boolean bitboards) {
+        CityGrid grid = city.getGrid();
+        Bitboards boards = city.getBitboards();
+        RandomSource random = RandomSource.seeded(fills);
+        boolean[] seen = new boolean[grid.size()];
+        int[] queue = new int[grid.size()];
+        long start = System.nanoTime();
+        for (int i = 0; i < fills; i++) {
+            int x = random.nextInt(grid.getWidth());
+            int y = random.nextInt(grid.getHeight());
+            if (bitboards) {
+                sink += Bitboards.count(boards.getReachable(x, y, false));
+            } else {
+                sink += search(grid, grid.cell(x, y), seen, queue);
+            }
+        }
+        return (System.nanoTime() - start) / 1000.0 / fills;
+    }
+
+    /**
+     * Counts the cells reachable from a cell by a breadth-first search over the grid.
+     */
+    private static int search(CityGrid grid, int start, boolean[] seen, int[] queue) {
+        Arrays.fill(seen, false);
+        int width = grid.getWidth();
+        int head = 0;
+        int tail = 0;
+        seen[start] = true;
+        queue[tail++] = start;
+        while (head < tail) {
+            int cell = queue[head++];
+            int x = cell % width;
+            int y = cell / width;
+            for (Direction d : Direction.values()) {
+                int nx = x + d.getX();
+                int ny = y + d.getY();
+                if (grid.contains(nx, ny) && grid.isDoorOpen(cell, d)) {
+                    int next = grid.cell(nx, ny);
+                    if (!seen[next]) {
+                        seen[next] = true;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+        }
+        return tail;
+    }
+}
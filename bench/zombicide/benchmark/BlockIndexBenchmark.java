@@ -0,0 +1,212 @@
+package zombicide.benchmark;
+
+import zombicide.actor.zombie.Walker;
+import zombicide.actor.zombie.Zombie;
+import zombicide.city.BlockIndex;
+import zombicide.city.City;
+import zombicide.city.GenerationMode;
+import zombicide.city.area.Area;
+import zombicide.city.area.CityGrid;
+import zombicide.util.random.RandomSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares the {@link BlockIndex} of square cities of growing size with brute-force scans of their cells,
+ * on zombies counted and listed in random rectangles a quarter of the side of the city wide,
+ * and on the rooms nearest to random positions.
+ * The cost of keeping the index up to date is measured on random zombie moves, with and without the index.
+ * Large cities need a large heap, for instance {@code -Xmx3g} for 4096x4096.
+ *
+ * Arguments (optional): the sizes of the cities, 256 1024 4096 by default
+ */
+public class BlockIndexBenchmark {
+    private static final int[] DEFAULT_SIZES = { 256, 1024, 4096 };
+    private static final int ZOMBIES = 20_000;
+    private static final int QUERIES = 2_000;
+    private static final int NEAREST = 5;
+    private static final int MOVES = 200_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static long sink;
+
+    public static void main(String[] args) {
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(new City(256, 256, i), QUERIES / 10, false);
+        }
+        System.out.printf("%8s %6s %12s %12s %12s %12s %12s %12s %12s%n", "size", "query", "scan us", "index us",
+                "speedup", "", "", "", "");
+        for (int size : sizes) {
+            run(new City(size, size, RandomSource.seeded(42), GenerationMode.PARALLEL), QUERIES, true);
+        }
+    }
+
+    /**
+     * Fills a city with zombies, measures every query with a scan then with the index, and the zombie moves.
+     *
+     * @param city    The city.
+     * @param queries The number of queries of each kind.
+     * @param print   true to print the times, false for a warmup round.
+     */
+    private static void run(City city, int queries, boolean print) {
+        RandomSource random = RandomSource.seeded(7);
+        List<Zombie> zombies = new ArrayList<>(ZOMBIES);
+        for (int i = 0; i < ZOMBIES; i++) {
+            Zombie zombie = new Walker(new ArrayList<>(), city);
+            zombie.setArea(randomArea(city, random));
+            zombies.add(zombie);
+        }
+        int[] positions = new int[2 * queries];
+        for (int i = 0; i < positions.length; i += 2) {
+            positions[i] = random.nextInt(city.getWidth());
+            positions[i + 1] = random.nextInt(city.getHeight());
+        }
+        Area[] targets = new Area[MOVES];
+        for (int i = 0; i < MOVES; i++) {
+            targets[i] = randomArea(city, random);
+        }
+
+        double movesAlone = move(zombies, targets);
+        BlockIndex index = city.getBlockIndex();
+        double movesIndexed = move(zombies, targets);
+
+        double countScan = countByScan(city, positions);
+        double countIndex = countByIndex(index, positions, city.getWidth() / 4);
+        double listScan = listByScan(city, positions);
+        double listIndex = listByIndex(index, positions, city.getWidth() / 4);
+        // a scan of the nearest rooms goes through the whole city, so it gets fewer positions
+        int[] few = new int[Math.max(2, positions.length / Math.max(1, city.getWidth() / 16)) & ~1];
+        System.arraycopy(positions, 0, few, 0, few.length);
+        double nearestScan = nearestByScan(city, few);
+        double nearestIndex = nearestByIndex(index, positions);
+        if (print) {
+            print(city.getWidth(), "count", countScan, countIndex);
+            print(city.getWidth(), "list", listScan, listIndex);
+            print(city.getWidth(), "near", nearestScan, nearestIndex);
+            System.out.printf("%8d %6s %12s %12s %12s %12s %12.3f %12s %12.3f%n", city.getWidth(), "move", "", "", "",
+                    "alone us", movesAlone / 1e3, "indexed us", movesIndexed / 1e3);
+        }
+    }
+
+    private static void print(int size, String query, double scan, double index) {
+        System.out.printf("%8d %6s %12.2f %12.2f %11.1fx%n", size, query, scan / 1e3, index / 1e3, scan / index);
+    }
+
+    private static Area randomArea(City city, RandomSource random) {
+        return city.getArea(random.nextInt(city.getWidth()), random.nextInt(city.getHeight()));
+    }
+
+    /**
+     * Moves random zombies to the given areas.
+     *
+     * @return The mean time of a move, in nanoseconds.
+     */
+    private static double move(List<Zombie> zombies, Area[] targets) {
+        long start = System.nanoTime();
+        for (int i = 0; i < targets.length; i++) {
+            zombies.get(i % zombies.size()).setArea(targets[i]);
+        }
+        return (double) (System.nanoTime() - start) / targets.length;
+    }
+
+    private static double countByScan(City city, int[] positions) {
+        CityGrid grid = city.getGrid();
+        int side = city.getWidth() / 4;
+        long start = System.nanoTime();
+        for (int i = 0; i < positions.length; i += 2) {
+            int right = Math.min(positions[i] + side - 1, city.getWidth() - 1);
+            int bottom = Math.min(positions[i + 1] + side - 1, city.getHeight() - 1);
+            for (int y = positions[i + 1]; y <= bottom; y++) {
+                for (int x = positions[i]; x <= right; x++) {
+                    sink += grid.getZombieCount(grid.cell(x, y));
+                }
+            }
+        }
+        return (double) (System.nanoTime() - start) / (positions.length / 2);
+    }
+
+    private static double countByIndex(BlockIndex index, int[] positions, int side) {
+        long start = System.nanoTime();
+        for (int i = 0; i < positions.length; i += 2) {
+            sink += index.countZombies(positions[i], positions[i + 1],
+                    positions[i] + side - 1, positions[i + 1] + side - 1);
+        }
+        return (double) (System.nanoTime() - start) / (positions.length / 2);
+    }
+
+    private static double listByScan(City city, int[] positions) {
+        CityGrid grid = city.getGrid();
+        int side = city.getWidth() / 4;
+        long start = System.nanoTime();
+        for (int i = 0; i < positions.length; i += 2) {
+            List<Zombie> found = new ArrayList<>();
+            int right = Math.min(positions[i] + side - 1, city.getWidth() - 1);
+            int bottom = Math.min(positions[i + 1] + side - 1, city.getHeight() - 1);
+            for (int y = positions[i + 1]; y <= bottom; y++) {
+                for (int x = positions[i]; x <= right; x++) {
+                    int cell = grid.cell(x, y);
+                    if (grid.getZombieCount(cell) > 0) {
+                        found.addAll(grid.getArea(cell).getZombies());
+                    }
+                }
+            }
+            sink += found.size();
+        }
+        return (double) (System.nanoTime() - start) / (positions.length / 2);
+    }
+
+    private static double listByIndex(BlockIndex index, int[] positions, int side) {
+        long start = System.nanoTime();
+        for (int i = 0; i < positions.length; i += 2) {
+            sink += index.getZombies(positions[i], positions[i + 1],
+                    positions[i] + side - 1, positions[i + 1] + side - 1).size();
+        }
+        return (double) (System.nanoTime() - start) / (positions.length / 2);
+    }
+
+    /**
+     * Finds the nearest rooms by going through every cell, keeping the best ones in a small sorted array.
+     */
+    private static double nearestByScan(City city, int[] positions) {
+        CityGrid grid = city.getGrid();
+        long[] best = new long[NEAREST];
+        long start = System.nanoTime();
+        for (int i = 0; i < positions.length; i += 2) {
+            Arrays.fill(best, Long.MAX_VALUE);
+            for (int cell = 0; cell < grid.size(); cell++) {
+                if (!grid.getKind(cell).isRoom()) {
+                    continue;
+                }
+                long distance = Math.abs(cell % city.getWidth() - positions[i]) + Math.abs(cell / city.getWidth() - positions[i + 1]);
+                long key = distance << 32 | cell;
+                if (key < best[NEAREST - 1]) {
+                    int j = NEAREST - 1;
+                    while (j > 0 && best[j - 1] > key) {
+                        best[j] = best[j - 1];
+                        j--;
+                    }
+                    best[j] = key;
+                }
+            }
+            sink += grid.getArea((int) best[0]).getX();
+        }
+        return (double) (System.nanoTime() - start) / (positions.length / 2);
+    }
+
+    private static double nearestByIndex(BlockIndex index, int[] positions) {
+        long start = System.nanoTime();
+        for (int i = 0; i < positions.length; i += 2) {
+            sink += index.getNearestRooms(positions[i], positions[i + 1], NEAREST).get(0).getX();
+        }
+        return (double) (System.nanoTime() - start) / (positions.length / 2);
+    }
+}
@@ -0,0 +1,63 @@
+package zombicide.benchmark;
+
+import zombicide.city.City;
+import zombicide.city.GenerationMode;
+import zombicide.util.random.RandomSource;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Measures the time taken to generate square cities of growing size, sequentially then in parallel.
+ * The time per cell should stay about the same from one size to the next.
+ * Large cities need a large heap, for instance {@code -Xmx3g} for 8192x8192.
+ *
+ * Arguments (optional): the sizes to generate, 5 16 64 256 1024 2048 4096 8192 by default
+ */
+public class CityGenerationBenchmark {
+    private static final int[] DEFAULT_SIZES = { 5, 16, 64, 256, 1024, 2048, 4096, 8192 };
+    private static final long CELLS_PER_SIZE = 1L << 26;
+    private static final int WARMUP_ROUNDS = 3;
+    private static long sink;
+
+    public static void main(String[] args) {
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            generate(256, 4, GenerationMode.SEQUENTIAL);
+            generate(256, 4, GenerationMode.PARALLEL);
+        }
+        System.out.printf("%d threads%n", ForkJoinPool.getCommonPoolParallelism());
+        System.out.printf("%8s %10s %14s %10s %14s %10s%n", "size", "cities", "seq ms/city", "ns/cell", "par ms/city", "ns/cell");
+        for (int size : sizes) {
+            long cells = (long) size * size;
+            int cities = (int) Math.max(1, Math.min(10_000, CELLS_PER_SIZE / cells));
+            double sequential = generate(size, cities, GenerationMode.SEQUENTIAL);
+            double parallel = generate(size, cities, GenerationMode.PARALLEL);
+            System.out.printf("%8d %10d %14.3f %10.1f %14.3f %10.1f%n", size, cities,
+                    sequential / 1e6, sequential / cells, parallel / 1e6, parallel / cells);
+        }
+    }
+
+    /**
+     * Generates several cities of the same size.
+     *
+     * @param size   The width and height of the cities.
+     * @param cities The number of cities to generate.
+     * @param mode   The way the cities are generated.
+     * @return The mean time taken to generate one city, in nanoseconds.
+     */
+    private static double generate(int size, int cities, GenerationMode mode) {
+        long start = System.nanoTime();
+        for (int i = 0; i < cities; i++) {
+            City city = new City(size, size, RandomSource.seeded(i), mode);
+            sink += city.getSpawn().getX();
+        }
+        return (double) (System.nanoTime() - start) / cities;
+    }
+}
@@ -0,0 +1,102 @@
+package zombicide.benchmark;
+
+import zombicide.city.City;
+import zombicide.city.area.Area;
+import zombicide.util.random.RandomSource;
+
+/**
+ * Measures the heap used by a city stored in its grid, then once every area of the city has been created,
+ * which is the layout the city had when it held one object per cell.
+ * It then compares the noise reset of the end phase done on the grid with the same reset done area by area.
+ *
+ * Arguments (optional): size sweeps
+ */
+public class CityGridBenchmark {
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int NOISY_AREAS = 1000;
+    private static final double MEGABYTE = 1024 * 1024;
+    private static long sink;
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 2048;
+        int sweeps = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        long before = usedMemory();
+        long start = System.nanoTime();
+        City city = new City(size, size, 42L);
+        long built = System.nanoTime() - start;
+        long gridMemory = usedMemory() - before;
+        System.out.printf("City %dx%d built in %.1f ms%n", size, size, built / 1e6);
+        System.out.printf("grid only      : %8.1f MB (%.1f bytes/cell)%n", gridMemory / MEGABYTE, (double) gridMemory / ((long) size * size));
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(city, sweeps, true);
+        }
+        double grid = run(city, sweeps, true);
+
+        Area[][] areas = city.getAreas();
+        long viewMemory = usedMemory() - before;
+        System.out.printf("every area     : %8.1f MB (%.1f bytes/cell)%n", viewMemory / MEGABYTE, (double) viewMemory / ((long) size * size));
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(city, sweeps, false);
+        }
+        double perArea = run(city, sweeps, false);
+
+        System.out.printf("resetNoise, grid     : %12.1f us/sweep%n", grid / 1e3);
+        System.out.printf("resetNoise, per area : %12.1f us/sweep%n", perArea / 1e3);
+        System.out.printf("speedup: x%.1f%n", perArea / grid);
+        sink += areas.length;
+        if (sink == 42) {
+            System.out.println();
+        }
+    }
+
+    /**
+     * Makes some noise in random areas then resets the noise of the whole city, several times.
+     *
+     * @param city   The city to work on.
+     * @param sweeps The number of resets.
+     * @param grid   true to reset the noise on the grid, false to reset it area by area.
+     * @return The mean time of a reset, in nanoseconds.
+     */
+    private static double run(City city, int sweeps, boolean grid) {
+        RandomSource random = RandomSource.seeded(42);
+        long elapsed = 0;
+        for (int i = 0; i < sweeps; i++) {
+            for (int n = 0; n < NOISY_AREAS; n++) {
+                city.getGrid().setNoise(random.nextInt(city.getGrid().size()), n + 1);
+            }
+            long start = System.nanoTime();
+            if (grid) {
+                city.resetNoise();
+            } else {
+                resetNoisePerArea(city);
+            }
+            elapsed += System.nanoTime() - start;
+        }
+        sink += city.getGrid().getNoise(0);
+        return (double) elapsed / sweeps;
+    }
+
+    /**
+     * The area by area reset formerly done by the end phase of the game.
+     *
+     * @param city The city to reset.
+     */
+    private static void resetNoisePerArea(City city) {
+        for (int i = 0; i < city.getWidth(); i++) {
+            for (int j = 0; j < city.getHeight(); j++) {
+                city.getArea(i, j).setNoise(0);
+            }
+        }
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,59 @@
+package zombicide.benchmark;
+
+import zombicide.city.City;
+import zombicide.city.CitySnapshot;
+import zombicide.util.random.RandomSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Compares the time taken to generate a city with the time taken to load the same city from a snapshot.
+ * Large cities need a large heap, for instance {@code -Xmx3g} for 8192x8192.
+ *
+ * Arguments (optional): size loads
+ */
+public class CitySnapshotBenchmark {
+    private static final int WARMUP_ROUNDS = 3;
+    private static long sink;
+
+    public static void main(String[] args) throws IOException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 4096;
+        int loads = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        Path file = Files.createTempFile("city", ".bin");
+
+        try {
+            long start = System.nanoTime();
+            City city = new City(size, size, 42L);
+            long generated = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            CitySnapshot.write(city, file);
+            long written = System.nanoTime() - start;
+            city = null;
+
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                load(file);
+            }
+            start = System.nanoTime();
+            for (int i = 0; i < loads; i++) {
+                load(file);
+            }
+            double loaded = (double) (System.nanoTime() - start) / loads;
+
+            System.out.printf("City %dx%d, snapshot of %.1f MB%n", size, size, Files.size(file) / (1024.0 * 1024.0));
+            System.out.printf("generate : %10.1f ms%n", generated / 1e6);
+            System.out.printf("write    : %10.1f ms%n", written / 1e6);
+            System.out.printf("load     : %10.1f ms%n", loaded / 1e6);
+            System.out.printf("speedup: x%.1f%n", generated / loaded);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void load(Path file) throws IOException {
+        City city = CitySnapshot.read(file, RandomSource.seeded(42));
+        sink += city.getSpawn().getX();
+    }
+}
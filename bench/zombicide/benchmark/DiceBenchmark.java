@@ -0,0 +1,75 @@
+package zombicide.benchmark;
+
+import zombicide.action.survivor.AttackZombieAction;
+import zombicide.action.survivor.special.Fighter;
+import zombicide.action.survivor.special.Lucky;
+import zombicide.item.attackItem.AttackItem;
+import zombicide.item.attackItem.weapon.Axe;
+import zombicide.item.attackItem.weapon.Chainsaw;
+import zombicide.item.attackItem.weapon.Crowbar;
+import zombicide.item.attackItem.weapon.Pistol;
+import zombicide.item.attackItem.weapon.Riffle;
+import zombicide.util.random.MaxOfDice;
+import zombicide.util.random.RandomSource;
+
+/**
+ * Compares the highest of N dice thrown one by one with the same maximum drawn in one go by {@link MaxOfDice},
+ * then prints the exact hit probability of every weapon for every attack skill.
+ *
+ * Arguments (optional): draws
+ */
+public class DiceBenchmark {
+    private static final int FACES = 6;
+    private static final int MAX_DICE = 5;
+    private static final int WARMUP_ROUNDS = 3;
+    private static long sink;
+
+    public static void main(String[] args) {
+        int draws = args.length > 0 ? Integer.parseInt(args[0]) : 20_000_000;
+
+        System.out.printf("%6s %14s %14s %10s%n", "dice", "one by one ns", "max-of-N ns", "speedup");
+        for (int count = 1; count <= MAX_DICE; count++) {
+            MaxOfDice dice = MaxOfDice.of(FACES, count);
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                oneByOne(count, draws / 10);
+                maxOfN(dice, draws / 10);
+            }
+            double oneByOne = oneByOne(count, draws);
+            double maxOfN = maxOfN(dice, draws);
+            System.out.printf("%6d %14.2f %14.2f %9.1fx%n", count, oneByOne, maxOfN, oneByOne / maxOfN);
+        }
+
+        AttackItem[] weapons = { new Axe(), new Chainsaw(), new Crowbar(), new Pistol(), new Riffle() };
+        AttackZombieAction[] skills = { new AttackZombieAction(), new Fighter(), new Lucky() };
+        System.out.printf("%nP(hit) %10s %10s %10s%n", "plain", "fighter", "lucky");
+        for (AttackItem weapon : weapons) {
+            System.out.printf("%-8s", weapon);
+            for (AttackZombieAction skill : skills) {
+                System.out.printf(" %10.4f", skill.getHitProbability(weapon));
+            }
+            System.out.println();
+        }
+    }
+
+    private static double oneByOne(int count, int draws) {
+        RandomSource random = RandomSource.seeded(1);
+        long start = System.nanoTime();
+        for (int i = 0; i < draws; i++) {
+            int highest = 0;
+            for (int d = 0; d < count; d++) {
+                highest = Math.max(highest, random.nextInt(FACES) + 1);
+            }
+            sink += highest;
+        }
+        return (double) (System.nanoTime() - start) / draws;
+    }
+
+    private static double maxOfN(MaxOfDice dice, int draws) {
+        RandomSource random = RandomSource.seeded(1);
+        long start = System.nanoTime();
+        for (int i = 0; i < draws; i++) {
+            sink += dice.roll(random);
+        }
+        return (double) (System.nanoTime() - start) / draws;
+    }
+}
@@ -0,0 +1,97 @@
+package zombicide.benchmark;
+
+import zombicide.city.City;
+import zombicide.city.GenerationMode;
+import zombicide.city.area.Area;
+import zombicide.city.area.CityGrid;
+import zombicide.city.path.HierarchicalPathFinder;
+import zombicide.city.path.PathFinder;
+import zombicide.city.path.Route;
+import zombicide.util.random.RandomSource;
+
+/**
+ * Compares flat A* over the cells of a city with the hierarchical search over its blocks,
+ * for routes between random streets of square cities of growing size.
+ * The caches of the flat finder are left out by giving each route its own pair of areas.
+ * The hierarchical finder is measured twice over the same routes: cold, while it finds the portals of every cluster,
+ * then warm.
+ * Cities of fewer than 2^17 cells are searched cell by cell by the hierarchical finder too.
+ * Large cities need a large heap, for instance {@code -Xmx2g} for 4096x4096.
+ *
+ * Arguments (optional): the sizes of the cities, 256 1024 4096 by default
+ */
+public class HierarchicalPathFinderBenchmark {
+    private static final int[] DEFAULT_SIZES = { 256, 1024, 4096 };
+    private static final int ROUTES = 200;
+    private static final int WARMUP_ROUNDS = 3;
+    private static long sink;
+
+    public static void main(String[] args) {
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            City city = new City(256, 256, i);
+            Area[] streets = randomStreets(city, 2 * ROUTES);
+            flat(city, streets);
+            hierarchical(city.getHierarchicalPathFinder(), streets);
+        }
+        System.out.printf("%8s %10s %14s %14s %14s%n", "size", "clusters", "flat us/route", "cold us/route", "warm us/route");
+        for (int size : sizes) {
+            City city = new City(size, size, RandomSource.seeded(42), GenerationMode.PARALLEL);
+            Area[] streets = randomStreets(city, 2 * ROUTES);
+            double flat = flat(city, streets);
+            HierarchicalPathFinder finder = city.getHierarchicalPathFinder();
+            double cold = hierarchical(finder, streets);
+            double warm = hierarchical(finder, streets);
+            System.out.printf("%8d %10d %14.1f %14.1f %14.1f%n", size, finder.getClusterCount(), flat / 1e3, cold / 1e3, warm / 1e3);
+        }
+    }
+
+    /**
+     * Finds the routes between pairs of streets with flat A*.
+     *
+     * @return The mean time taken by a route, in nanoseconds.
+     */
+    private static double flat(City city, Area[] streets) {
+        PathFinder finder = city.getPathFinder();
+        long start = System.nanoTime();
+        for (int i = 0; i < streets.length; i += 2) {
+            Route route = finder.find(streets[i], streets[i + 1]);
+            sink += route == null ? -1 : route.length();
+        }
+        return (double) (System.nanoTime() - start) / (streets.length / 2);
+    }
+
+    /**
+     * Finds the routes between pairs of streets with the hierarchical search.
+     *
+     * @return The mean time taken by a route, in nanoseconds.
+     */
+    private static double hierarchical(HierarchicalPathFinder finder, Area[] streets) {
+        long start = System.nanoTime();
+        for (int i = 0; i < streets.length; i += 2) {
+            Route route = finder.find(streets[i], streets[i + 1]);
+            sink += route == null ? -1 : route.length();
+        }
+        return (double) (System.nanoTime() - start) / (streets.length / 2);
+    }
+
+    private static Area[] randomStreets(City city, int count) {
+        RandomSource random = RandomSource.seeded(1);
+        CityGrid grid = city.getGrid();
+        Area[] streets = new Area[count];
+        for (int i = 0; i < count; ) {
+            int cell = random.nextInt(grid.size());
+            if (!grid.getKind(cell).isRoom()) {
+                streets[i++] = grid.getArea(cell);
+            }
+        }
+        return streets;
+    }
+}
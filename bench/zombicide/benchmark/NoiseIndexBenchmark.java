@@ -0,0 +1,83 @@
+package zombicide.benchmark;
+
+import zombicide.city.City;
+import zombicide.city.area.Area;
+
+import zombicide.util.random.RandomSource;
+
+/**
+ * Compares the noise index of the city with the full-grid scan it replaced.
+ * Each operation makes some noise in a random area and then asks for the noisiest area,
+ * which is what a survivor action followed by a zombie move does.
+ *
+ * Arguments (optional): width height operations
+ */
+public class NoiseIndexBenchmark {
+    private static final int WARMUP_ROUNDS = 3;
+    private static long sink;
+
+    public static void main(String[] args) {
+        int width = args.length > 0 ? Integer.parseInt(args[0]) : 512;
+        int height = args.length > 1 ? Integer.parseInt(args[1]) : 512;
+        int operations = args.length > 2 ? Integer.parseInt(args[2]) : 500;
+
+        City city = new City(width, height);
+        System.out.printf("City %dx%d, %d operations%n", width, height, operations);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(city, operations, true);
+            run(city, operations, false);
+        }
+        double scan = run(city, operations, true);
+        double index = run(city, operations, false);
+
+        System.out.printf("scan  : %12.1f ns/op%n", scan);
+        System.out.printf("index : %12.1f ns/op%n", index);
+        System.out.printf("speedup: x%.1f%n", scan / index);
+    }
+
+    /**
+     * Runs the operations and returns the mean time of one of them.
+     *
+     * @param city       The city to work on.
+     * @param operations The number of operations.
+     * @param scan       true to use the full-grid scan, false to use the index.
+     * @return The mean time of an operation, in nanoseconds.
+     */
+    private static double run(City city, int operations, boolean scan) {
+        RandomSource random = RandomSource.seeded(42);
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            Area area = city.getArea(random.nextInt(city.getWidth()), random.nextInt(city.getHeight()));
+            area.increaseNoiseLevel(1);
+            Area noisiest = scan ? scanAreaNoiseMax(city) : city.getAreaNoiseMax();
+            checksum += noisiest.getX() + noisiest.getY();
+        }
+        long elapsed = System.nanoTime() - start;
+        city.resetNoise();
+        sink += checksum;
+        return (double) elapsed / operations;
+    }
+
+    /**
+     * The full-grid scan formerly done by {@link City#getAreaNoiseMax()}.
+     *
+     * @param city The city to scan.
+     * @return The noisiest area of the city.
+     */
+    private static Area scanAreaNoiseMax(City city) {
+        Area areaMaxNoise = city.getSpawn();
+        int maxNoise = 0;
+        for (int i = 0; i < city.getWidth(); i++) {
+            for (int j = 0; j < city.getHeight(); j++) {
+                int noiseArea = city.getArea(i, j).getNoise();
+                if (noiseArea > maxNoise) {
+                    areaMaxNoise = city.getArea(i, j);
+                    maxNoise = noiseArea;
+                }
+            }
+        }
+        return areaMaxNoise;
+    }
+}
@@ -0,0 +1,107 @@
+package zombicide.benchmark;
+
+import zombicide.city.City;
+import zombicide.city.area.Area;
+import zombicide.city.path.FlowField;
+import zombicide.city.path.PathFinder;
+import zombicide.city.path.Route;
+import zombicide.util.random.RandomSource;
+
+/**
+ * Measures the time taken by many actors to find their route toward a few shared targets on square cities of growing size:
+ * a breadth-first search per actor, as {@link FlowField} does, then A* with a new {@link PathFinder} per round,
+ * so that only the routes met during the round are cached, then the same finder asked again once every route is cached.
+ *
+ * Arguments (optional): the sizes of the cities, 64 256 1024 by default
+ */
+public class PathFinderBenchmark {
+    private static final int[] DEFAULT_SIZES = { 64, 256, 1024 };
+    private static final int ACTORS = 1000;
+    private static final int TARGETS = 4;
+    private static final int ROUNDS = 5;
+    private static final int WARMUP_ROUNDS = 3;
+    private static long sink;
+
+    public static void main(String[] args) {
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            City city = new City(64, 64, i);
+            Area[] actors = randomAreas(city, ACTORS, 1);
+            Area[] targets = randomAreas(city, TARGETS, 2);
+            search(city, actors, targets, 1);
+            find(city, actors, targets, 20);
+        }
+        System.out.printf("%8s %14s %14s %14s%n", "size", "bfs us/route", "cold ns/route", "warm ns/route");
+        for (int size : sizes) {
+            City city = new City(size, size, 42L);
+            Area[] actors = randomAreas(city, ACTORS, 1);
+            Area[] targets = randomAreas(city, TARGETS, 2);
+            double bfs = search(city, actors, targets, size <= 256 ? ROUNDS : 1);
+            double cold = find(city, actors, targets, ROUNDS);
+            PathFinder finder = city.getPathFinder();
+            query(finder, actors, targets);
+            long start = System.nanoTime();
+            for (int round = 0; round < ROUNDS; round++) {
+                query(finder, actors, targets);
+            }
+            double warm = (double) (System.nanoTime() - start) / ROUNDS / (ACTORS * TARGETS);
+            System.out.printf("%8d %14.1f %14.1f %14.1f%n", size, bfs / 1e3, cold, warm);
+        }
+    }
+
+    /**
+     * Finds the route of every actor toward every target with one breadth-first search per route.
+     *
+     * @return The mean time taken by a route, in nanoseconds.
+     */
+    private static double search(City city, Area[] actors, Area[] targets, int rounds) {
+        int count = Math.min(actors.length, 100);
+        long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < count; i++) {
+                for (Area target : targets) {
+                    sink += FlowField.towards(city, target).getDistance(actors[i]);
+                }
+            }
+        }
+        return (double) (System.nanoTime() - start) / rounds / (count * targets.length);
+    }
+
+    /**
+     * Finds the route of every actor toward every target, with a new path finder every round.
+     *
+     * @return The mean time taken by a route, in nanoseconds.
+     */
+    private static double find(City city, Area[] actors, Area[] targets, int rounds) {
+        long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            query(new PathFinder(city.getGrid()), actors, targets);
+        }
+        return (double) (System.nanoTime() - start) / rounds / (actors.length * targets.length);
+    }
+
+    private static void query(PathFinder finder, Area[] actors, Area[] targets) {
+        for (Area actor : actors) {
+            for (Area target : targets) {
+                Route route = finder.find(actor, target);
+                sink += route == null ? -1 : route.length();
+            }
+        }
+    }
+
+    private static Area[] randomAreas(City city, int count, long seed) {
+        RandomSource random = RandomSource.seeded(seed);
+        Area[] areas = new Area[count];
+        for (int i = 0; i < count; i++) {
+            areas[i] = city.getArea(random.nextInt(city.getWidth()), random.nextInt(city.getHeight()));
+        }
+        return areas;
+    }
+}
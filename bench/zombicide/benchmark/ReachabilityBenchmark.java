@@ -0,0 +1,86 @@
+package zombicide.benchmark;
+
+import zombicide.city.City;
+import zombicide.city.area.Area;
+import zombicide.city.area.CityGrid;
+import zombicide.city.path.FlowField;
+import zombicide.util.Direction;
+import zombicide.util.random.RandomSource;
+
+/**
+ * Compares the two ways of telling if an area can be reached from another one on square cities of growing size:
+ * a breadth-first search from the first area, as {@link FlowField} does, and the union-find of {@link CityGrid#isReachable(int, int)}.
+ * A door is opened between two queries, so the union-find is kept up to date while it is queried.
+ * The time to build the union-find on the first query is printed apart.
+ *
+ * Arguments (optional): the sizes of the cities, 64 256 1024 by default
+ */
+public class ReachabilityBenchmark {
+    private static final int[] DEFAULT_SIZES = { 64, 256, 1024 };
+    private static final int SEARCHES = 50;
+    private static final int QUERIES = 2_000_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static long sink;
+
+    public static void main(String[] args) {
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            City city = new City(64, 64, i);
+            search(city, 200);
+            query(city, 200_000);
+        }
+        System.out.printf("%8s %12s %12s %12s%n", "size", "search us", "build ms", "query ns");
+        for (int size : sizes) {
+            City city = new City(size, size, 42L);
+            double search = search(city, SEARCHES);
+            long start = System.nanoTime();
+            sink += city.isReachable(city.getSpawn(), city.getSpawn()) ? 1 : 0;
+            double build = (System.nanoTime() - start) / 1e6;
+            double query = query(city, QUERIES);
+            System.out.printf("%8d %12.1f %12.2f %12.1f%n", size, search / 1e3, build, query);
+        }
+    }
+
+    /**
+     * Tells if random areas can be reached from random areas, one search each.
+     *
+     * @return The mean time taken by a query, in nanoseconds.
+     */
+    private static double search(City city, int searches) {
+        RandomSource random = RandomSource.seeded(1);
+        long start = System.nanoTime();
+        for (int i = 0; i < searches; i++) {
+            FlowField field = FlowField.towards(city, randomArea(city, random));
+            sink += field.getDistance(randomArea(city, random)) >= 0 ? 1 : 0;
+        }
+        return (double) (System.nanoTime() - start) / searches;
+    }
+
+    /**
+     * Tells if random areas can be reached from random areas with the union-find, a door opening between two queries.
+     *
+     * @return The mean time taken by a query and a door opening, in nanoseconds.
+     */
+    private static double query(City city, int queries) {
+        RandomSource random = RandomSource.seeded(2);
+        CityGrid grid = city.getGrid();
+        Direction[] directions = Direction.values();
+        long start = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            sink += grid.isReachable(random.nextInt(grid.size()), random.nextInt(grid.size())) ? 1 : 0;
+            grid.setDoorOpen(random.nextInt(grid.size()), directions[random.nextInt(4)], true);
+        }
+        return (double) (System.nanoTime() - start) / queries;
+    }
+
+    private static Area randomArea(City city, RandomSource random) {
+        return city.getArea(random.nextInt(city.getWidth()), random.nextInt(city.getHeight()));
+    }
+}
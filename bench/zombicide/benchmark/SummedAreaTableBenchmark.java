@@ -0,0 +1,104 @@
+package zombicide.benchmark;
+
+import zombicide.actor.zombie.Walker;
+import zombicide.actor.zombie.Zombie;
+import zombicide.city.City;
+import zombicide.city.area.Area;
+import zombicide.util.random.RandomSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the rectangle counts of the city with a scan of the areas of the rectangle,
+ * on zombies counted in square windows around random areas.
+ * Each phase moves some zombies then asks for one window per survivor, which is what the zombie phase
+ * followed by the survivors looking around them does; the moves of a phase stay in the log of the table,
+ * or make it be built again when there are too many of them.
+ *
+ * Arguments (optional): the radii of the windows, 2 8 32 by default
+ */
+public class SummedAreaTableBenchmark {
+    private static final int[] DEFAULT_RADII = { 2, 8, 32 };
+    private static final int SIZE = 512;
+    private static final int ZOMBIES = 5_000;
+    private static final int PHASES = 200;
+    private static final int MOVES_PER_PHASE = 20;
+    private static final int QUERIES_PER_PHASE = 100;
+    private static final int WARMUP_ROUNDS = 3;
+    private static long sink;
+
+    public static void main(String[] args) {
+        int[] radii = DEFAULT_RADII;
+        if (args.length > 0) {
+            radii = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                radii[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        City city = new City(SIZE, SIZE, 42L);
+        List<Zombie> zombies = new ArrayList<>(ZOMBIES);
+        RandomSource random = RandomSource.seeded(1);
+        for (int i = 0; i < ZOMBIES; i++) {
+            Zombie zombie = new Walker(new ArrayList<>(), city);
+            zombie.setArea(randomArea(city, random));
+            zombies.add(zombie);
+        }
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(city, zombies, 4, true);
+            run(city, zombies, 4, false);
+        }
+        System.out.printf("City %dx%d, %d zombies, %d moves then %d windows per phase%n",
+                SIZE, SIZE, ZOMBIES, MOVES_PER_PHASE, QUERIES_PER_PHASE);
+        System.out.printf("%8s %14s %14s %10s%n", "radius", "scan ns/op", "table ns/op", "speedup");
+        for (int radius : radii) {
+            double scan = run(city, zombies, radius, true);
+            double table = run(city, zombies, radius, false);
+            System.out.printf("%8d %14.1f %14.1f %9.1fx%n", radius, scan, table, scan / table);
+        }
+    }
+
+    private static Area randomArea(City city, RandomSource random) {
+        return city.getArea(random.nextInt(city.getWidth()), random.nextInt(city.getHeight()));
+    }
+
+    /**
+     * Runs the phases and returns the mean time of a window, the moves of the phases included.
+     *
+     * @param city    The city to work on.
+     * @param zombies The zombies of the city.
+     * @param radius  The radius of the windows.
+     * @param scan    true to scan the areas of the windows, false to ask the city.
+     * @return The mean time of a window, in nanoseconds.
+     */
+    private static double run(City city, List<Zombie> zombies, int radius, boolean scan) {
+        RandomSource random = RandomSource.seeded(radius);
+        long start = System.nanoTime();
+        for (int phase = 0; phase < PHASES; phase++) {
+            for (int i = 0; i < MOVES_PER_PHASE; i++) {
+                zombies.get(random.nextInt(zombies.size())).setArea(randomArea(city, random));
+            }
+            for (int i = 0; i < QUERIES_PER_PHASE; i++) {
+                int x = random.nextInt(city.getWidth());
+                int y = random.nextInt(city.getHeight());
+                sink += scan ? scanZombies(city, x - radius, y - radius, x + radius, y + radius)
+                        : city.countZombies(x - radius, y - radius, x + radius, y + radius);
+            }
+        }
+        return (double) (System.nanoTime() - start) / (PHASES * QUERIES_PER_PHASE);
+    }
+
+    /**
+     * Counts the zombies of a rectangle by going through its areas.
+     */
+    private static int scanZombies(City city, int left, int top, int right, int bottom) {
+        int count = 0;
+        for (int y = Math.max(top, 0); y <= Math.min(bottom, city.getHeight() - 1); y++) {
+            for (int x = Math.max(left, 0); x <= Math.min(right, city.getWidth() - 1); x++) {
+                count += city.getArea(x, y).getZombies().size();
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,90 @@
+package zombicide.benchmark;
+
+import zombicide.actor.zombie.Walker;
+import zombicide.city.City;
+import zombicide.city.area.CityGrid;
+import zombicide.city.area.LineOfFire;
+import zombicide.util.random.RandomSource;
+
+import java.util.ArrayList;
+
+/**
+ * Compares the two ways of finding the cells holding zombies in range of a shooter on a sparse board:
+ * going through every cell of the line of fire and checking its count,
+ * or jumping from zombie to zombie in the row and column bitsets of the grid.
+ * The Pistol reaches 1 cell and the Riffle 3; longer ranges show how each way grows.
+ *
+ * Arguments (optional): the maximum ranges, 1 3 16 64 by default
+ */
+public class TargetSearchBenchmark {
+    private static final int[] DEFAULT_RANGES = { 1, 3, 16, 64 };
+    private static final int SIZE = 256;
+    private static final int ZOMBIES = 600;
+    private static final int SEARCHES = 2_000_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static long sink;
+
+    public static void main(String[] args) {
+        int[] ranges = DEFAULT_RANGES;
+        if (args.length > 0) {
+            ranges = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                ranges[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        City city = new City(SIZE, SIZE, 42L);
+        RandomSource random = RandomSource.seeded(1);
+        for (int i = 0; i < ZOMBIES; i++) {
+            new Walker(new ArrayList<>(), city).setArea(city.getArea(random.nextInt(SIZE), random.nextInt(SIZE)));
+        }
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            search(city, 3, SEARCHES / 10, false);
+            search(city, 3, SEARCHES / 10, true);
+        }
+        System.out.printf("City %dx%d, %d zombies%n", SIZE, SIZE, ZOMBIES);
+        System.out.printf("%8s %14s %14s %10s%n", "range", "cells ns", "bitsets ns", "speedup");
+        for (int range : ranges) {
+            double cells = search(city, range, SEARCHES, false);
+            double bitsets = search(city, range, SEARCHES, true);
+            System.out.printf("%8d %14.1f %14.1f %9.1fx%n", range, cells, bitsets, cells / bitsets);
+        }
+    }
+
+    /**
+     * Finds the cells holding zombies in range of shooters standing in random cells.
+     *
+     * @param city     The city.
+     * @param range    The maximum range of the weapon, the minimum one being 0.
+     * @param searches The number of searches.
+     * @param bitsets  true to use the bitsets, false to check every cell in range.
+     * @return The mean time of a search, in nanoseconds.
+     */
+    private static double search(City city, int range, int searches, boolean bitsets) {
+        CityGrid grid = city.getGrid();
+        LineOfFire lineOfFire = city.getLineOfFire();
+        int[] cells = new int[LineOfFire.maxTargets(range)];
+        RandomSource random = RandomSource.seeded(range);
+        int[] shooters = new int[1024];
+        for (int i = 0; i < shooters.length; i++) {
+            shooters[i] = random.nextInt(grid.size());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < searches; i++) {
+            int shooter = shooters[i & (shooters.length - 1)];
+            int x = shooter % SIZE;
+            int y = shooter / SIZE;
+            if (bitsets) {
+                sink += lineOfFire.zombieCells(x, y, 0, range, false, cells);
+            } else {
+                int n = lineOfFire.targetCells(x, y, 0, range, false, cells);
+                for (int j = 0; j < n; j++) {
+                    if (grid.getZombieCount(cells[j]) > 0) {
+                        sink++;
+                    }
+                }
+            }
+        }
+        return (double) (System.nanoTime() - start) / searches;
+    }
+}
@@ -0,0 +1,77 @@
+package zombicide.benchmark;
+
+import zombicide.util.listchooser.WeightedListChooser;
+import zombicide.util.random.RandomSource;
+
+/**
+ * Measures the choices per second of a {@link WeightedListChooser} as the number of weighted options grows,
+ * next to a linear scan of the cumulated weights, and the time taken to build its alias tables.
+ *
+ * Arguments (optional): the numbers of options, 4 16 64 256 1024 4096 by default
+ */
+public class WeightedListChooserBenchmark {
+    private static final int[] DEFAULT_SIZES = { 4, 16, 64, 256, 1024, 4096 };
+    private static final int DRAWS = 5_000_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static long sink;
+
+    public static void main(String[] args) {
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        System.out.printf("%8s %12s %14s %14s%n", "options", "build us", "alias ns", "scan ns");
+        for (int size : sizes) {
+            RandomSource random = RandomSource.seeded(size);
+            double[] weights = new double[size];
+            for (int i = 0; i < size; i++) {
+                weights[i] = 1 + random.nextInt(100);
+            }
+
+            long start = System.nanoTime();
+            WeightedListChooser<Object> chooser = new WeightedListChooser<>(RandomSource.seeded(1), weights);
+            double build = (System.nanoTime() - start) / 1e3;
+
+            double[] cumulated = new double[size];
+            double total = 0;
+            for (int i = 0; i < size; i++) {
+                total += weights[i];
+                cumulated[i] = total;
+            }
+
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                alias(chooser, DRAWS / 10);
+                scan(cumulated, RandomSource.seeded(1), DRAWS / 10);
+            }
+            double alias = alias(chooser, DRAWS);
+            double scan = scan(cumulated, RandomSource.seeded(1), DRAWS);
+            System.out.printf("%8d %12.1f %14.1f %14.1f%n", size, build, alias, scan);
+        }
+    }
+
+    private static double alias(WeightedListChooser<Object> chooser, int draws) {
+        long start = System.nanoTime();
+        for (int i = 0; i < draws; i++) {
+            sink += chooser.chooseIndex();
+        }
+        return (double) (System.nanoTime() - start) / draws;
+    }
+
+    private static double scan(double[] cumulated, RandomSource random, int draws) {
+        double total = cumulated[cumulated.length - 1];
+        long start = System.nanoTime();
+        for (int i = 0; i < draws; i++) {
+            double draw = random.nextDouble() * total;
+            int index = 0;
+            while (cumulated[index] <= draw) {
+                index++;
+            }
+            sink += index;
+        }
+        return (double) (System.nanoTime() - start) / draws;
+    }
+}
@@ -0,0 +1,95 @@
+package zombicide.benchmark;
+
+import zombicide.actor.survivor.Role;
+import zombicide.actor.survivor.Survivor;
+import zombicide.actor.zombie.Zombie;
+import zombicide.actor.zombie.ZombieFactory;
+import zombicide.city.City;
+import zombicide.city.path.FlowField;
+import zombicide.game.ZombiePhase;
+import zombicide.util.output.GameOutput;
+import zombicide.util.random.RandomSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Measures the zombie phase of a large city, the zombies playing one after another,
+ * then in two stages with a {@link ZombiePhase}, first following the distance heuristic then a flow field.
+ * The zombies are spread over the city, a few survivors stand in random areas and one area makes noise.
+ * Each way is measured several times on a new city, the best time being kept.
+ * The planning stage runs on the common fork/join pool, so its gain grows with the number of cores;
+ * with a single core the two stages only add the planning to the phase.
+ *
+ * Arguments (optional): size zombies, 512 50000 by default
+ */
+public class ZombiePhaseBenchmark {
+    private static final int PHASES = 20;
+    private static final int ROUNDS = 5;
+    private static final int WARMUP_ROUNDS = 3;
+    private static long sink;
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 512;
+        int zombies = args.length > 1 ? Integer.parseInt(args[1]) : 50_000;
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(128, 10_000, false, false);
+            run(128, 10_000, false, true);
+        }
+        System.out.printf("%d threads, %dx%d, %d zombies%n", ForkJoinPool.getCommonPoolParallelism(), size, size, zombies);
+        System.out.printf("%12s %16s %16s %10s%n", "moves", "sequential ms", "two stages ms", "speedup");
+        for (boolean flow : new boolean[] { false, true }) {
+            double sequential = Double.MAX_VALUE;
+            double twoStages = Double.MAX_VALUE;
+            for (int i = 0; i < ROUNDS; i++) {
+                sequential = Math.min(sequential, run(size, zombies, flow, false));
+                twoStages = Math.min(twoStages, run(size, zombies, flow, true));
+            }
+            System.out.printf("%12s %16.2f %16.2f %9.1fx%n", flow ? "flow field" : "heuristic",
+                    sequential, twoStages, sequential / twoStages);
+        }
+    }
+
+    /**
+     * Plays several zombie phases on the same city, the action points of the zombies being given back between two.
+     *
+     * @return The mean time taken by a phase, in milliseconds.
+     */
+    private static double run(int size, int count, boolean flow, boolean twoStages) {
+        City city = new City(size, size, 7L);
+        city.setOutput(GameOutput.silent());
+        RandomSource random = RandomSource.seeded(7);
+        for (int i = 0; i < count / 250; i++) {
+            new Survivor(Role.values()[i % Role.values().length], city)
+                    .setArea(city.getArea(random.nextInt(size), random.nextInt(size)));
+        }
+        city.getArea(random.nextInt(size), random.nextInt(size)).setNoise(4);
+        ZombieFactory factory = new ZombieFactory(city);
+        List<Zombie> zombies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Zombie zombie = factory.create();
+            zombie.setArea(city.getArea(random.nextInt(size), random.nextInt(size)));
+            zombies.add(zombie);
+        }
+        if (flow) {
+            city.setFlowField(FlowField.towards(city, city.getAreaNoiseMax()));
+        }
+
+        System.gc();
+        long start = System.nanoTime();
+        for (int phase = 0; phase < PHASES; phase++) {
+            if (twoStages) {
+                new ZombiePhase(city, zombies).playInTwoStages();
+            } else {
+                new ZombiePhase(city, zombies).playInTurn();
+            }
+            for (Zombie z : zombies) {
+                z.resetActionPoints();
+            }
+        }
+        sink += zombies.get(0).getArea().getX();
+        return (System.nanoTime() - start) / 1e6 / PHASES;
+    }
+}
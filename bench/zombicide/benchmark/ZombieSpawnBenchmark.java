@@ -0,0 +1,116 @@
+package zombicide.benchmark;
+
+import zombicide.action.Action;
+import zombicide.action.zombie.AttackSurvivorAction;
+import zombicide.action.zombie.ZombieMoveAction;
+import zombicide.actor.zombie.Abomination;
+import zombicide.actor.zombie.Balaise;
+import zombicide.actor.zombie.Runner;
+import zombicide.actor.zombie.Walker;
+import zombicide.actor.zombie.Zombie;
+import zombicide.actor.zombie.ZombieFactory;
+import zombicide.city.City;
+import zombicide.util.listchooser.RandomListChooser;
+import zombicide.util.random.RandomStream;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares the ways of creating the zombies of a spawn: four zombies and a list of actions created
+ * for each spawn then one of them kept, as spawns used to be done, a {@link ZombieFactory},
+ * and a factory recycling the zombies killed between two spawns.
+ * Prints the time and the bytes allocated per zombie, the zombies being killed in waves of the given size.
+ *
+ * Arguments (optional): the sizes of the waves, 1 10 100 1000 by default
+ */
+public class ZombieSpawnBenchmark {
+    private static final int[] DEFAULT_SIZES = { 1, 10, 100, 1000 };
+    private static final int ZOMBIES_PER_SIZE = 2_000_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static long sink;
+
+    private enum Mode { PER_SPAWN, FACTORY, RECYCLING }
+
+    public static void main(String[] args) {
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        City city = new City(5, 5, 42L);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            for (Mode mode : Mode.values()) {
+                run(city, mode, 100, 200_000);
+            }
+        }
+        System.out.printf("%8s", "wave");
+        for (Mode mode : Mode.values()) {
+            System.out.printf(" %14s %10s", mode.name().toLowerCase() + " ns", "bytes");
+        }
+        System.out.println();
+        for (int size : sizes) {
+            System.out.printf("%8d", size);
+            for (Mode mode : Mode.values()) {
+                long bytes = THREADS.getCurrentThreadAllocatedBytes();
+                double time = run(city, mode, size, ZOMBIES_PER_SIZE);
+                bytes = THREADS.getCurrentThreadAllocatedBytes() - bytes;
+                System.out.printf(" %14.1f %10.1f", time, (double) bytes / ZOMBIES_PER_SIZE);
+            }
+            System.out.println();
+        }
+    }
+
+    /**
+     * Creates zombies in waves, every zombie of a wave being killed before the next wave.
+     *
+     * @param city    The city of the zombies.
+     * @param mode    The way the zombies are created.
+     * @param size    The number of zombies in a wave.
+     * @param zombies The total number of zombies to create.
+     * @return The mean time taken to create and kill a zombie, in nanoseconds.
+     */
+    private static double run(City city, Mode mode, int size, int zombies) {
+        ZombieFactory factory = new ZombieFactory(city);
+        factory.setRecycling(mode == Mode.RECYCLING);
+        Zombie[] wave = new Zombie[size];
+        long start = System.nanoTime();
+        for (int created = 0; created < zombies; created += size) {
+            for (int i = 0; i < size; i++) {
+                wave[i] = mode == Mode.PER_SPAWN ? createPerSpawn(city) : factory.create();
+                sink += wave[i].getLifePoints();
+            }
+            for (int i = 0; i < size; i++) {
+                wave[i].removeLifePoints(wave[i].getLifePoints());
+                factory.recycle(wave[i]);
+            }
+        }
+        return (double) (System.nanoTime() - start) / zombies;
+    }
+
+    /**
+     * Creates a zombie the way spawns used to.
+     *
+     * @param city The city of the zombie.
+     * @return The zombie.
+     */
+    private static Zombie createPerSpawn(City city) {
+        List<Action<Zombie>> zombieActions = Arrays.asList(
+                new ZombieMoveAction(),
+                new AttackSurvivorAction()
+        );
+        List<Zombie> zombiesTypes = Arrays.asList(
+                new Runner(zombieActions, city),
+                new Balaise(zombieActions, city),
+                new Abomination(zombieActions, city),
+                new Walker(zombieActions, city)
+        );
+        return new RandomListChooser<Zombie>(city.getRandom(RandomStream.SPAWNS)).choose(zombiesTypes);
+    }
+}
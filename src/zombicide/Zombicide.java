@@ -1,19 +1,14 @@
 package zombicide;
 
-import zombicide.action.Action;
-import zombicide.action.survivor.*;
-import zombicide.action.survivor.special.Fighter;
-import zombicide.action.survivor.special.Healer;
-import zombicide.action.survivor.special.Lucky;
-import zombicide.action.survivor.special.Snooper;
+import zombicide.actor.survivor.Role;
 import zombicide.actor.survivor.Survivor;
 import zombicide.city.City;
 import zombicide.game.Game;
 import zombicide.util.listchooser.ListChooser;
 import zombicide.util.listchooser.RandomListChooser;
+import zombicide.util.random.RandomStream;
 
 import java.util.Arrays;
-import java.util.List;
 
 public class Zombicide {
 
@@ -26,82 +21,27 @@ public class Zombicide {
     }
 
     private void start(String[] args) {
-        if (args.length != 3) {
-            throw new IllegalArgumentException("Il faut 3 arguments (longueur, largeur, nombre de survivants");
+        if (args.length != 3 && args.length != 4) {
+            throw new IllegalArgumentException("Il faut 3 arguments (longueur, largeur, nombre de survivants) et éventuellement une graine");
         }
         if (Integer.parseInt(args[2]) < 2) {
             throw new IllegalArgumentException("Le nombre de survivant doit être au minimum de 2");
         }
-        city = new City(parseInt(args[0]), parseInt(args[1]));
+        if (args.length == 4) {
+            city = new City(parseInt(args[0]), parseInt(args[1]), Long.parseLong(args[3]));
+        } else {
+            city = new City(parseInt(args[0]), parseInt(args[1]));
+        }
         game = new Game(this.city);
         createSurvivors(Integer.parseInt(args[2]));
         initTrainCity();
     }
 
     private void createSurvivors(int n) {
-        List<Action<Survivor>> fighterAction = Arrays.asList(
-                null,
-                new AttackZombieAction(),
-                new RummageAction(),
-                new BackPackAction(),
-                new DoorAction(),
-                new ItemAction(),
-                new NoiseAction(),
-                new LookAction(),
-                new Fighter(),
-                new SurvivorMoveAction()
-        );
-
-        List<Action<Survivor>> healerAction = Arrays.asList(
-                null,
-                new AttackZombieAction(),
-                new RummageAction(),
-                new BackPackAction(),
-                new DoorAction(),
-                new ItemAction(),
-                new NoiseAction(),
-                new LookAction(),
-                new Healer(),
-                new SurvivorMoveAction()
-        );
-
-        List<Action<Survivor>> luckyAction = Arrays.asList(
-                null,
-                new AttackZombieAction(),
-                new RummageAction(),
-                new BackPackAction(),
-                new DoorAction(),
-                new ItemAction(),
-                new NoiseAction(),
-                new LookAction(),
-                new Lucky(),
-                new SurvivorMoveAction()
-        );
-
-        List<Action<Survivor>> snooperAction = Arrays.asList(
-                null,
-                new RummageAction(),
-                new AttackZombieAction(),
-                new BackPackAction(),
-                new DoorAction(),
-                new ItemAction(),
-                new NoiseAction(),
-                new LookAction(),
-                new Snooper(),
-                new SurvivorMoveAction()
-        );
-
-        List<List<Action<Survivor>>> roles = Arrays.asList(
-                fighterAction,
-                healerAction,
-                luckyAction,
-                snooperAction
-        );
-
-        ListChooser<List<Action<Survivor>>> chooser = new RandomListChooser<>();
+        ListChooser<Role> chooser = new RandomListChooser<>(game.getRandom(RandomStream.GENERATION));
 
         for (int i=0; i<n; i++) {
-            Survivor survivor = new Survivor(chooser.choose(roles), game.getCity());
+            Survivor survivor = new Survivor(chooser.choose(Arrays.asList(Role.values())), game.getCity());
             survivor.setName("s" + (i + 1));
             game.addSurvivor(survivor);
         }
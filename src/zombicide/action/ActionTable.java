@@ -0,0 +1,91 @@
+package zombicide.action;
+
+import zombicide.actor.Actor;
+import zombicide.util.random.RandomSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Immutable table of the actions an actor picks from, compiled once from a list of actions.
+ * The actions are held in a dense array, a null action standing for doing nothing,
+ * and the passive action of the actor, run after each of its actions, is found once when the table is built.
+ * The actions of a table must not keep any state, so that a table can be shared by many actors.
+ *
+ * @param <T> The type of actor performing the actions.
+ */
+public final class ActionTable<T extends Actor> {
+    private final Action<T>[] actions;
+    private final Action<T> passive;
+    private final List<Action<T>> view;
+
+    /**
+     * Compiles a table from a list of actions.
+     *
+     * @param actions   The actions to pick from, in order, possibly holding null.
+     * @param isPassive Tells which action is the passive one, the first action it accepts being kept.
+     */
+    @SuppressWarnings("unchecked")
+    public ActionTable(List<? extends Action<T>> actions, Predicate<? super Action<T>> isPassive) {
+        this.actions = actions.toArray((Action<T>[]) new Action<?>[0]);
+        Action<T> found = null;
+        for (Action<T> action : this.actions) {
+            if (action != null && isPassive.test(action)) {
+                found = action;
+                break;
+            }
+        }
+        this.passive = found;
+        this.view = Collections.unmodifiableList(Arrays.asList(this.actions));
+    }
+
+    /**
+     * Retrieves the number of actions of the table.
+     *
+     * @return The number of actions.
+     */
+    public int size() {
+        return this.actions.length;
+    }
+
+    /**
+     * Retrieves an action of the table.
+     *
+     * @param index The index of the action.
+     * @return The action, null for doing nothing.
+     */
+    public Action<T> get(int index) {
+        return this.actions[index];
+    }
+
+    /**
+     * Picks an action at random, drawing once from the source, or not at all if the table is empty.
+     *
+     * @param random The random source to draw from.
+     * @return The action picked, null for doing nothing or if the table is empty.
+     */
+    public Action<T> choose(RandomSource random) {
+        int n = this.actions.length;
+        return n == 0 ? null : this.actions[random.nextInt(n)];
+    }
+
+    /**
+     * Retrieves the passive action, run after each action of the actor.
+     *
+     * @return The passive action, or null if there is none.
+     */
+    public Action<T> getPassive() {
+        return this.passive;
+    }
+
+    /**
+     * Retrieves the actions of the table as a list.
+     *
+     * @return An unmodifiable view over the actions.
+     */
+    public List<Action<T>> asList() {
+        return this.view;
+    }
+}
@@ -7,8 +7,8 @@ import zombicide.city.area.Area;
 import zombicide.city.area.room.ThePharmacy;
 import zombicide.util.Direction;
 import zombicide.util.Position;
-import zombicide.util.listchooser.ListChooser;
-import zombicide.util.listchooser.RandomListChooser;
+import zombicide.util.random.RandomSource;
+import zombicide.util.output.Verbosity;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,8 +22,7 @@ import java.util.stream.Stream;
  * @param <T> The type of Actor performing the move action.
  */
 public abstract class MoveAction<T extends Actor> implements Action<T> {
-    private static final ListChooser<Direction> DIRECTION_CHOOSER =
-            new RandomListChooser<>();
+    private static final Direction[] DIRECTIONS = Direction.values();
 
     /**
      * Gets a list of open Directions from the specified Area.
@@ -33,27 +32,33 @@ public abstract class MoveAction<T extends Actor> implements Action<T> {
      */
     protected List<Direction> getOpenDirectionsFrom(Area area) {
         return Stream.of(Direction.values())
-                .filter(d -> area.getDoor(d).isOpen())
+                .filter(d -> area.isDoorOpen(d))
                 .collect(Collectors.toList());
     }
 
     /**
      * Chooses a random open Direction from the specified Area.
      *
-     * @param area The Area to choose a random open Direction from.
-     * @return A random open Direction from the specified Area.
+     * @param area   The Area to choose a random open Direction from.
+     * @param random The random source to draw from.
+     * @return A random open Direction from the specified Area, or null if every door is closed.
      */
-    protected Direction randomOpenDirectionFrom(Area area) {
-        return DIRECTION_CHOOSER.choose(getOpenDirectionsFrom(area));
+    protected Direction randomOpenDirectionFrom(Area area, RandomSource random) {
+        List<Direction> openDirections = getOpenDirectionsFrom(area);
+        if (openDirections.isEmpty()) {
+            return null;
+        }
+        return openDirections.get(random.nextInt(openDirections.size()));
     }
 
     /**
      * Chooses a random Direction.
      *
+     * @param random The random source to draw from.
      * @return A random Direction.
      */
-    protected Direction randomDirection() {
-        return DIRECTION_CHOOSER.choose(List.of(Direction.values()));
+    protected Direction randomDirection(RandomSource random) {
+        return DIRECTIONS[random.nextInt(DIRECTIONS.length)];
     }
 
     /**
@@ -66,8 +71,17 @@ public abstract class MoveAction<T extends Actor> implements Action<T> {
         if (actor == null)
             return null;
 
-        Direction direction = getDirectionFrom(actor , actor.getArea());
+        return positionAfterMoving(actor, getDirectionFrom(actor , actor.getArea()));
+    }
 
+    /**
+     * Calculates the new Position of an Actor after moving in a direction already chosen.
+     *
+     * @param actor     The Actor to calculate the new Position for.
+     * @param direction The direction to move in, or null to stay.
+     * @return The new Position after moving the Actor.
+     */
+    protected Position positionAfterMoving(Actor actor, Direction direction) {
         int x = actor.getArea().getX();
         int y = actor.getArea().getY();
 
@@ -78,7 +92,9 @@ public abstract class MoveAction<T extends Actor> implements Action<T> {
             int i = x + direction.getX();
             int j = y + direction.getY();
 
-            System.out.println(actor.getName()+" moved ");
+            if (actor.getOutput().isEnabled(Verbosity.ACTION)) {
+                actor.getOutput().println(Verbosity.ACTION, actor.getName()+" moved ");
+            }
 
             return new Position(i, j);
         }
@@ -101,14 +117,25 @@ public abstract class MoveAction<T extends Actor> implements Action<T> {
      */
     @Override
     public void doSomething(T actor) {
-        Position p = positionAfterMoving(actor);
+        moveTo(actor, positionAfterMoving(actor));
+    }
+
+    /**
+     * Moves the Actor to a Position and spends one of its action points.
+     *
+     * @param actor The Actor performing the move action.
+     * @param p     The Position to move to.
+     */
+    protected void moveTo(T actor, Position p) {
         City city = actor.getCity();
         actor.setArea(city.getArea(p.getX(), p.getY()));
 
         if(actor.getArea().isPharmacy()){
             ThePharmacy pharmacy = (ThePharmacy) actor.getArea();
             pharmacy.addHealingFiask();
-            System.out.println(actor.getName()+" entered the pharmacy, a healing fiask appeared");
+            if (actor.getOutput().isEnabled(Verbosity.ACTION)) {
+                actor.getOutput().println(Verbosity.ACTION, actor.getName()+" entered the pharmacy, a healing fiask appeared");
+            }
         }
 
         actor.removeActionPoint();
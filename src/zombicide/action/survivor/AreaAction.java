@@ -6,6 +6,8 @@ import zombicide.city.City;
 import zombicide.city.area.Area;
 import zombicide.city.area.room.Room;
 import zombicide.util.Direction;
+import zombicide.util.output.GameOutput;
+import zombicide.util.output.Verbosity;
 
 /**
  * An action representing a Survivor inspecting the areas around their current position.
@@ -20,8 +22,11 @@ public class AreaAction implements Action<Survivor> {
      */
     private void displayAreasAround(Survivor survivor) {
         City city = survivor.getCity();
+        GameOutput output = survivor.getOutput();
         for (Direction d : Direction.values()) {
-            System.out.println(d);
+            if (output.isEnabled(Verbosity.BOARD)) {
+                output.println(Verbosity.BOARD, d.toString());
+            }
             int i = d.getX();
             int j = d.getY();
 
@@ -31,9 +36,9 @@ public class AreaAction implements Action<Survivor> {
             if ((y + j) <0 || (y + j)>=city.getHeight() || (x + i) <0 || (x + i)>=city.getWidth()) {
                 continue;
             }
-            Area a = city.getAreas()[y + j][x + i];
+            Area a = city.getArea(x + i, y + j);
 
-            a.displayActors();
+            a.displayActors(output);
             // System.out.println();
 
             if (!a.isARoom()) {
@@ -42,10 +47,10 @@ public class AreaAction implements Action<Survivor> {
 
             Room r = (Room) a;
             if (!r.isContinental()) {
-                r.displayItems();
+                r.displayItems(output);
                 // System.out.println();
             }
-            System.out.println();
+            output.println(Verbosity.BOARD, "");
         }
     }
 
@@ -5,18 +5,18 @@ import zombicide.actor.survivor.Survivor;
 import zombicide.actor.zombie.Zombie;
 import zombicide.item.attackItem.AttackItem;
 import zombicide.item.Item;
-import zombicide.util.listchooser.RandomListChooser;
-
-import java.util.List;
-import java.util.Random;
+import zombicide.util.random.MaxOfDice;
+import zombicide.util.random.RandomSource;
+import zombicide.util.random.RandomStream;
+import zombicide.util.output.Verbosity;
 
 /**
  * An action representing a Survivor attacking a Zombie with a weapon.
  * This action consumes one action point from the Survivor.
  */
 public class AttackZombieAction implements Action<Survivor> {
-    private static final RandomListChooser<Zombie> ZOMBIE_CHOOSER = new RandomListChooser<>();
-    protected static final Random RANDOM_DIE_VALUE = new Random();
+    /** The number of faces of a die. */
+    protected static final int DIE_FACES = 6;
 
     /**
      * Performs the action of attacking a Zombie with a weapon.
@@ -29,11 +29,15 @@ public class AttackZombieAction implements Action<Survivor> {
         survivor.removeActionPoint();
         Item itemHeld = survivor.getItemHeld();
         if (itemHeld == null) {
-            System.out.println(survivor.getName() + " don't hold any item, no attack possible");
+            if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+                survivor.getOutput().println(Verbosity.ACTION, survivor.getName() + " don't hold any item, no attack possible");
+            }
             return;
         }
         if (!itemHeld.canAttack()){
-            System.out.println(survivor.getName()+" can't attack !");
+            if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+                survivor.getOutput().println(Verbosity.ACTION, survivor.getName()+" can't attack !");
+            }
             return;
         }
 
@@ -41,37 +45,19 @@ public class AttackZombieAction implements Action<Survivor> {
         AttackItem attackItem = (AttackItem) itemHeld;
         attackItem.setSurvivor(survivor);
 
-        List<Zombie> zombies = attackItem.shootRange();
-        if (zombies.isEmpty()) {
-            System.out.println("There is no zombies in the current area");
+        Zombie zombie = attackItem.getWeakestTarget();
+        if (zombie == null) {
+            survivor.getOutput().println(Verbosity.ACTION, "There is no zombies in the current area");
             return;
         }
-        Zombie zombie = getZombieLessLife(zombies);
         /**
         Zombie zombie = chooseRandomZombie(zombies);
         */
-        if (zombie != null) {
+        if (zombie.getLifePoints() > 0) {
             shootZombie(survivor, zombie, attackItem);
         }
     }
 
-    private Zombie getZombieLessLife(List<Zombie> zombies) {
-        Zombie zombieLessLife = zombies.get(0);
-        int minZombieLife = zombies.get(0).getLifePoints();
-        for (Zombie zombie : zombies) {
-            int life = zombie.getLifePoints();
-            if (life > 0) {
-                if (life < minZombieLife) {
-                    zombieLessLife = zombie;
-                    minZombieLife = life;
-                }
-            }
-        }
-        if (minZombieLife <= 0)
-            return null;
-        return zombieLessLife;
-    }
-
     /**
      * Shoots the specified Zombie with the Survivor's weapon.
      * Determines if the shot hits based on the weapon's dice throws.
@@ -82,12 +68,14 @@ public class AttackZombieAction implements Action<Survivor> {
      * @param weapon   The weapon used for the attack.
      */
     protected void shootZombie(Survivor survivor, Zombie zombie, AttackItem weapon) {
-        int highestDieValue = getHighestDieValue(weapon.getNbDiceThrows());
+        int highestDieValue = getHighestDieValue(getNbDice(weapon), survivor.getCity().getRandom(RandomStream.DICE));
 
         if (weapon.shotHitsTarget(highestDieValue)) {
             attackZombie(survivor, zombie, weapon);
         } else {
-            System.out.println(survivor.getName()+" missed his shot");
+            if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+                survivor.getOutput().println(Verbosity.ACTION, survivor.getName()+" missed his shot");
+            }
         }
     }
 
@@ -101,42 +89,112 @@ public class AttackZombieAction implements Action<Survivor> {
      * @param weapon   The weapon used for the attack.
      */
     protected void attackZombie(Survivor survivor, Zombie zombie, AttackItem weapon) {
-        System.out.println(survivor.getName()+" is attacking "+zombie.getName()+" ("+zombie.getLifePoints()+" life point(s)) with his "+weapon.toString()+" ("+weapon.getDamage()+" damage point(s))");
+        if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+            survivor.getOutput().println(Verbosity.ACTION, survivor.getName()+" is attacking "+zombie.getName()+" ("+zombie.getLifePoints()+" life point(s)) with his "+weapon.toString()+" ("+weapon.getDamage()+" damage point(s))");
+        }
         if (zombie.getIsStrong() && weapon.getDamage() < 2) {
-            System.out.println("the zombie attacked is too strong for the weapon's survivor ! ("+weapon.toString()+")");
+            if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+                survivor.getOutput().println(Verbosity.ACTION, "the zombie attacked is too strong for the weapon's survivor ! ("+weapon.toString()+")");
+            }
             return;
         }
 
         if(survivor.getArea().isContinental()){
-            System.out.printf(survivor.getName()+" is in the continental, he can't attack !");
+            if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+                survivor.getOutput().print(Verbosity.ACTION, survivor.getName()+" is in the continental, he can't attack !");
+            }
             return;
         }
 
         zombie.removeLifePoints(weapon.getDamage());
         if (weapon.isNoisyWhenUsed()) {
             survivor.getArea().increaseNoiseLevel(1);
-            System.out.println("The use of the " + survivor.getItemHeld().toString() + " is noisy!");
+            if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+                survivor.getOutput().println(Verbosity.ACTION, "The use of the " + survivor.getItemHeld().toString() + " is noisy!");
+            }
         }
 
 
         if (zombie.isDead()) {
             survivor.addSkillPoints(1);
-            System.out.println("the zombie attacked is dead, "+survivor.getName()+" won a skill point ! ("+survivor.getSkillPoints()+")");
-            zombie.getArea().getZombies().remove(zombie);
+            if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+                survivor.getOutput().println(Verbosity.ACTION, "the zombie attacked is dead, "+survivor.getName()+" won a skill point ! ("+survivor.getSkillPoints()+")");
+            }
+            zombie.getArea().removeActor(zombie);
             if(survivor.isLevelReached()){
                 survivor.increaseActionPoints();
-                System.out.println(survivor.getName()+" reached stage "+survivor.getSkillPoints()+", his action points increased !");
+                if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+                    survivor.getOutput().println(Verbosity.ACTION, survivor.getName()+" reached stage "+survivor.getSkillPoints()+", his action points increased !");
+                }
             }
         }
     }
 
     /**
-     * Throws one die with 6 sides and returns the result.
+     * Throws one die with 6 sides, drawn from the given random source, and returns the result.
      *
+     * @param dice The random source of the dice.
      * @return The result of the die throw.
      */
-    protected int throwOneDie() {
-        return RANDOM_DIE_VALUE.nextInt(6) + 1;
+    protected int throwOneDie(RandomSource dice) {
+        return dice.nextInt(DIE_FACES - getLowestDieValue() + 1) + getLowestDieValue();
+    }
+
+    /**
+     * Retrieves the lowest value the dice of this action can show.
+     *
+     * @return The lowest value of a die, 1 for a plain die.
+     */
+    protected int getLowestDieValue() {
+        return 1;
+    }
+
+    /**
+     * Retrieves the number of dice thrown by this action for a shot with the given weapon.
+     *
+     * @param weapon The weapon used for the shot.
+     * @return The number of dice thrown.
+     */
+    protected int getNbDice(AttackItem weapon) {
+        return weapon.getNbDiceThrows();
+    }
+
+    /**
+     * Retrieves the table of the highest value of the dice thrown by this action.
+     *
+     * @param nbDiceThrows The number of dice thrown.
+     * @return The table of the highest value, whose values start at 1 and must be shifted by the lowest die value.
+     */
+    private MaxOfDice getDice(int nbDiceThrows) {
+        return MaxOfDice.of(DIE_FACES - getLowestDieValue() + 1, nbDiceThrows);
+    }
+
+    /**
+     * Retrieves the exact probability that a shot of this action with the given weapon hits its target.
+     *
+     * @param weapon The weapon used for the shot.
+     * @return The probability that the highest die reaches the threshold of the weapon.
+     */
+    public double getHitProbability(AttackItem weapon) {
+        int nbDice = getNbDice(weapon);
+        if (nbDice <= 0) {
+            return weapon.shotHitsTarget(0) ? 1 : 0;
+        }
+        return getDice(nbDice).probabilityAtLeast(weapon.getDiceThreshold() - getLowestDieValue() + 1);
+    }
+
+    /**
+     * Retrieves the mean damage a shot of this action with the given weapon deals to a zombie.
+     *
+     * @param weapon The weapon used for the shot.
+     * @param zombie The zombie shot at.
+     * @return The mean damage, 0 if the zombie is too strong for the weapon.
+     */
+    public double getExpectedDamage(AttackItem weapon, Zombie zombie) {
+        if (zombie.getIsStrong() && weapon.getDamage() < 2) {
+            return 0;
+        }
+        return getHitProbability(weapon) * weapon.getDamage();
     }
 
     /**
@@ -152,20 +210,17 @@ public class AttackZombieAction implements Action<Survivor> {
      */
 
     /**
-     * Gets the highest value after throwing the specified number of dice.
+     * Gets the highest value after throwing the specified number of dice, drawn in one go from the table of the dice.
      *
      * @param nbDiceThrows The number of dice to throw.
-     * @return The highest value obtained after throwing the dice.
+     * @param dice         The random source of the dice.
+     * @return The highest value obtained after throwing the dice, 0 if no die is thrown.
      */
-    protected int getHighestDieValue(int nbDiceThrows) {
-        int dieValue = 0;
-        for (int i = 0; i < nbDiceThrows; i++) {
-            int actual = throwOneDie();
-            if (actual > dieValue) {
-                dieValue = actual;
-            }
+    protected int getHighestDieValue(int nbDiceThrows, RandomSource dice) {
+        if (nbDiceThrows <= 0) {
+            return 0;
         }
-        return dieValue;
+        return getDice(nbDiceThrows).roll(dice) + getLowestDieValue() - 1;
     }
 
     public String toString() {
@@ -4,6 +4,7 @@ import zombicide.action.Action;
 import zombicide.actor.survivor.backpack.BackPack;
 import zombicide.actor.survivor.Survivor;
 import zombicide.item.Item;
+import zombicide.util.output.Verbosity;
 
 /**
  * An action representing a Survivor interacting with their backpack.
@@ -35,15 +36,21 @@ public class BackPackAction implements Action<Survivor> {
     private void holdRandomItem(Survivor survivor) {
         BackPack backpack = survivor.getBackpack();
         if (backpack.getItems().isEmpty()) {
-            System.out.println(survivor.getName()+" has nothing in his backpack");
+            if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+                survivor.getOutput().println(Verbosity.ACTION, survivor.getName()+" has nothing in his backpack");
+            }
             return;
         }
 
         Item i = backpack.getRandomItem();
         survivor.setItemHeld(i);
         survivor.getBackpack().removeItem(i);
-        System.out.println(survivor.getName()+" took a(n) "+i.toString()+" from his backpack");
-        System.out.println(survivor.getName()+" 's backpack : "+survivor.getBackpack().displayItems());
+        if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+            survivor.getOutput().println(Verbosity.ACTION, survivor.getName()+" took a(n) "+i.toString()+" from his backpack");
+        }
+        if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+            survivor.getOutput().println(Verbosity.ACTION, survivor.getName()+" 's backpack : "+survivor.getBackpack().displayItems());
+        }
     }
 
     public String toString() {
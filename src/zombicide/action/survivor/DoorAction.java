@@ -7,6 +7,8 @@ import zombicide.city.area.door.Door;
 import zombicide.item.Item;
 import zombicide.util.listchooser.RandomListChooser;
 import zombicide.util.Direction;
+import zombicide.util.random.RandomStream;
+import zombicide.util.output.Verbosity;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,19 +29,23 @@ public class DoorAction implements Action<Survivor> {
         if (canOpen(survivor)) {
             List<Door> doors = doorsAround(survivor);
             if (!doors.isEmpty()) {
-                RandomListChooser<Door> chooser = new RandomListChooser<>();
+                RandomListChooser<Door> chooser = new RandomListChooser<>(survivor.getCity().getRandom(RandomStream.ACTIONS));
                 Door door = chooser.choose(doors);
                 door.open();
                 if(survivor.getItemHeld().isNoisyWhenUsedToOpenDoor()){
                     survivor.getArea().increaseNoiseLevel(1);
-                    System.out.println("The overture of the door is noisy!");
+                    survivor.getOutput().println(Verbosity.ACTION, "The overture of the door is noisy!");
+                }
+                if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+                    survivor.getOutput().println(Verbosity.ACTION, survivor.getName()+" opened a door");
                 }
-                System.out.println(survivor.getName()+" opened a door");
             }else{
-                System.out.println("there is no closed doors around");
+                survivor.getOutput().println(Verbosity.ACTION, "there is no closed doors around");
             }
         }else{
-            System.out.println(survivor.getName()+" can't open any door");
+            if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+                survivor.getOutput().println(Verbosity.ACTION, survivor.getName()+" can't open any door");
+            }
         }
 
         survivor.removeActionPoint();
@@ -78,7 +84,7 @@ public class DoorAction implements Action<Survivor> {
                 continue;
             }
 
-            Door door = city.getAreas()[y + j][x + i].getDoor(direction.getReverse());
+            Door door = city.getArea(x + i, y + j).getDoor(direction.getReverse());
             if (door != null && !door.isOpen()) {
                 doors.add(door);
             }
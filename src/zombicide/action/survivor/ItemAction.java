@@ -3,6 +3,7 @@ package zombicide.action.survivor;
 import zombicide.action.Action;
 import zombicide.actor.survivor.Survivor;
 import zombicide.item.Item;
+import zombicide.util.output.Verbosity;
 
 /**
  * An action representing a Survivor using an item they are currently holding.
@@ -20,17 +21,23 @@ public class ItemAction implements Action<Survivor> {
     public void doSomething(Survivor survivor) {
         if(survivor.holdAnItem()){
             Item itemUsed = survivor.getItemHeld();
-            System.out.println(survivor.getName()+" is using his "+itemUsed.toString());
+            if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+                survivor.getOutput().println(Verbosity.ACTION, survivor.getName()+" is using his "+itemUsed.toString());
+            }
             itemUsed.use();
             if(itemUsed.isNoisyWhenUsed()){
                 survivor.getArea().increaseNoiseLevel(1);
-                System.out.println("The use of the "+survivor.getItemHeld().toString()+" is noisy!");
+                if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+                    survivor.getOutput().println(Verbosity.ACTION, "The use of the "+survivor.getItemHeld().toString()+" is noisy!");
+                }
             }
 
             if(!itemUsed.canAttack())
                 survivor.setItemHeld(null);
         }else{
-            System.out.println(survivor.getName()+" has no item in his hands");
+            if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+                survivor.getOutput().println(Verbosity.ACTION, survivor.getName()+" has no item in his hands");
+            }
         }
 
         survivor.removeActionPoint();
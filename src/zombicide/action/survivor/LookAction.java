@@ -4,6 +4,7 @@ import zombicide.action.Action;
 import zombicide.actor.survivor.Survivor;
 import zombicide.city.area.Area;
 import zombicide.util.Direction;
+import zombicide.util.output.Verbosity;
 
 /**
  * An action representing a Survivor looking around their current area.
@@ -18,7 +19,9 @@ public class LookAction implements Action<Survivor> {
      * @param survivor The Survivor performing the look action.
      */
     public void doSomething(Survivor survivor) {
-        System.out.println(survivor.getName()+" is looking around");
+        if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+            survivor.getOutput().println(Verbosity.ACTION, survivor.getName()+" is looking around");
+        }
         look(survivor);
     }
 
@@ -30,12 +33,16 @@ public class LookAction implements Action<Survivor> {
     private void look(Survivor survivor) {
         Area area = survivor.getArea();
         if(area.isContinental()){
-            System.out.printf(survivor.getName()+" is in the continental, he can't see anything !");
+            if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+                survivor.getOutput().print(Verbosity.ACTION, survivor.getName()+" is in the continental, he can't see anything !");
+            }
         }
 
-        area.displayActors();
+        area.displayActors(survivor.getOutput());
         for (Direction direction : Direction.values()) {
-            System.out.println("The door " + direction.name() + " is " + (area.getDoor(direction).isOpen() ? "open" : "closed"));
+            if (survivor.getOutput().isEnabled(Verbosity.BOARD)) {
+                survivor.getOutput().println(Verbosity.BOARD, "The door " + direction.name() + " is " + (area.isDoorOpen(direction) ? "open" : "closed"));
+            }
         }
     }
 
@@ -3,6 +3,7 @@ package zombicide.action.survivor;
 import zombicide.action.Action;
 import zombicide.actor.survivor.Survivor;
 import zombicide.city.area.Area;
+import zombicide.util.output.Verbosity;
 
 /**
  * An action representing a Survivor creating noise in their current area.
@@ -32,7 +33,9 @@ public class NoiseAction implements Action<Survivor> {
         if (currentArea != null) {
             currentArea.increaseNoiseLevel(this.noiseLevel);
         }
-        System.out.println(survivor.getName()+" makes some noise !!!");
+        if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+            survivor.getOutput().println(Verbosity.ACTION, survivor.getName()+" makes some noise !!!");
+        }
         survivor.removeActionPoint();
     }
 
@@ -6,6 +6,8 @@ import zombicide.city.area.Area;
 import zombicide.city.area.room.Room;
 import zombicide.actor.survivor.backpack.BackPack;
 import zombicide.item.Item;
+import zombicide.util.random.RandomStream;
+import zombicide.util.output.Verbosity;
 
 /**
  * An action representing a Survivor rummaging through items in the current room.
@@ -21,7 +23,9 @@ public class RummageAction implements Action<Survivor> {
      */
     @Override
     public void doSomething(Survivor survivor) {
-        System.out.println(survivor.getName()+" tried to rummage");
+        if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+            survivor.getOutput().println(Verbosity.ACTION, survivor.getName()+" tried to rummage");
+        }
         rummage(survivor);
         survivor.removeActionPoint();
     }
@@ -37,7 +41,9 @@ public class RummageAction implements Action<Survivor> {
         Area area = survivor.getArea();
 
         if (!area.isARoom()) {
-            System.out.println(survivor.getName()+" is in the street, he can't rummage");
+            if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+                survivor.getOutput().println(Verbosity.ACTION, survivor.getName()+" is in the street, he can't rummage");
+            }
             return;
         }
 
@@ -45,20 +51,24 @@ public class RummageAction implements Action<Survivor> {
         BackPack backpack = survivor.getBackpack();
 
         if (!room.hasItems()) {
-            System.out.println("There is no items in the current room");
+            survivor.getOutput().println(Verbosity.ACTION, "There is no items in the current room");
             return;
         }
 
-        Item roomItem = room.getRandomItem();
+        Item roomItem = room.getRandomItem(survivor.getCity().getRandom(RandomStream.ACTIONS));
 
         Item oldBpItem = backpack.addItem(roomItem);
 
         if (oldBpItem != null) {
             room.addItem(oldBpItem);
-            System.out.println(survivor.getName()+"'s backpack was full, his "+ oldBpItem +" has been dropped");
+            if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+                survivor.getOutput().println(Verbosity.ACTION, survivor.getName()+"'s backpack was full, his "+ oldBpItem +" has been dropped");
+            }
         }
 
-        System.out.println(survivor.getName()+" picked up a(n) "+ roomItem);
+        if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+            survivor.getOutput().println(Verbosity.ACTION, survivor.getName()+" picked up a(n) "+ roomItem);
+        }
     }
 
     public String toString() {
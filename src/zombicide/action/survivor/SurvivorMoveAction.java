@@ -5,6 +5,8 @@ import zombicide.actor.Actor;
 import zombicide.actor.survivor.Survivor;
 import zombicide.city.area.Area;
 import zombicide.util.Direction;
+import zombicide.util.output.Verbosity;
+import zombicide.util.random.RandomStream;
 
 /**
  * An action representing a Survivor moving in a specified direction.
@@ -22,11 +24,12 @@ public class SurvivorMoveAction extends MoveAction<Survivor> {
      */
     @Override
     protected Direction getDirectionFrom(Actor actor , Area area) {
-        Direction direction = randomDirection();
+        Direction direction = randomDirection(actor.getCity().getRandom(RandomStream.ACTIONS));
 
-        if (!area.getDoor(direction).isOpen()) {
-            System.out.printf("Door closed in direction: %s", direction);
-            System.out.println();
+        if (!area.isDoorOpen(direction)) {
+            if (actor.getOutput().isEnabled(Verbosity.ACTION)) {
+                actor.getOutput().println(Verbosity.ACTION, "Door closed in direction: " + direction);
+            }
             return null;
         }
 
@@ -5,7 +5,7 @@ import zombicide.action.survivor.AttackZombieAction;
 public class Fighter extends AttackZombieAction {
 
     @Override
-    protected int throwOneDie() {
-        return RANDOM_DIE_VALUE.nextInt(5) + 2;
+    protected int getLowestDieValue() {
+        return 2;
     }
 }
@@ -4,16 +4,25 @@ import zombicide.action.survivor.AttackZombieAction;
 import zombicide.actor.survivor.Survivor;
 import zombicide.actor.zombie.Zombie;
 import zombicide.item.attackItem.AttackItem;
+import zombicide.util.random.RandomStream;
+import zombicide.util.output.Verbosity;
 
 public class Lucky extends AttackZombieAction {
 
     @Override
     protected void shootZombie(Survivor survivor, Zombie zombie, AttackItem attackItem) {
-        System.out.println(survivor.getName()+" uses his lucky skill ! He has two dice throws !");
-        int highestDieValue = getHighestDieValue(attackItem.getNbDiceThrows() + 1);
+        if (survivor.getOutput().isEnabled(Verbosity.ACTION)) {
+            survivor.getOutput().println(Verbosity.ACTION, survivor.getName()+" uses his lucky skill ! He has two dice throws !");
+        }
+        int highestDieValue = getHighestDieValue(getNbDice(attackItem), survivor.getCity().getRandom(RandomStream.DICE));
 
         if (attackItem.shotHitsTarget(highestDieValue)) {
             attackZombie(survivor, zombie, attackItem);
         }
     }
+
+    @Override
+    protected int getNbDice(AttackItem attackItem) {
+        return attackItem.getNbDiceThrows() + 1;
+    }
 }
@@ -6,16 +6,16 @@ import zombicide.actor.zombie.Zombie;
 import zombicide.city.area.Area;
 import zombicide.city.area.room.Room;
 import zombicide.util.listchooser.RandomListChooser;
+import zombicide.util.random.RandomSource;
+import zombicide.util.output.Verbosity;
 
 import java.util.List;
-import java.util.Random;
 
 /**
  * A class representing the action of a Zombie attacking a Survivor in the game.
  * When executed, a Zombie will attack a random Survivor in its current area.
  */
 public class AttackSurvivorAction implements Action<Zombie> {
-    private static final RandomListChooser<Survivor> SURVIVOR_CHOOSER = new RandomListChooser<>();
 
     /**
      * Executes the attack action of the Zombie.
@@ -26,19 +26,46 @@ public class AttackSurvivorAction implements Action<Zombie> {
     @Override
     public void doSomething(Zombie zombie) {
         if(zombie.getArea().isContinental()){
-            System.out.printf(zombie.getName()+" is in the continental, he can't attack !");
+            if (zombie.getOutput().isEnabled(Verbosity.ACTION)) {
+                zombie.getOutput().print(Verbosity.ACTION, zombie.getName()+" is in the continental, he can't attack !");
+            }
             zombie.removeActionPoint();
             return;
         }
 
-        List<Survivor> survivors = zombie.getArea().getSurvivors();
-        Survivor s = this.chooseRandomSurvivor(survivors);
+        hit(zombie, chooseTarget(zombie, zombie.getArea().getSurvivors()));
+    }
+
+    /**
+     * Chooses the Survivor a Zombie attacks, drawing from the attack stream of the Zombie.
+     * Only reads the list and the stream of the Zombie, so zombies of different areas can choose at once.
+     *
+     * @param zombie    The Zombie attacking.
+     * @param survivors The Survivors standing in the area of the Zombie.
+     * @return The Survivor attacked, or null if the list is empty.
+     */
+    public Survivor chooseTarget(Zombie zombie, List<Survivor> survivors) {
+        return chooseRandomSurvivor(survivors, zombie.getAttackRandom());
+    }
+
+    /**
+     * Plays the attack of a Zombie on a Survivor chosen with {@link #chooseTarget}.
+     * The Survivor loses life points and leaves the city if it dies, and the Zombie spends an action point.
+     *
+     * @param zombie The Zombie attacking.
+     * @param s      The Survivor attacked.
+     */
+    public void hit(Zombie zombie, Survivor s) {
         s.removeLifePoints(zombie.getAttackPoints());
-        System.out.println(zombie.getName()+" attacked "+s.getName()+", he has now "+s.getLifePoints()+" life points");
+        if (zombie.getOutput().isEnabled(Verbosity.ACTION)) {
+            zombie.getOutput().println(Verbosity.ACTION, zombie.getName()+" attacked "+s.getName()+", he has now "+s.getLifePoints()+" life points");
+        }
 
         if(s.isDead()) {
-            System.out.println(s.getName() + " is dead ");
-            s.getArea().getSurvivors().remove(s);
+            if (zombie.getOutput().isEnabled(Verbosity.ACTION)) {
+                zombie.getOutput().println(Verbosity.ACTION, s.getName() + " is dead ");
+            }
+            s.getArea().removeActor(s);
             Area a = s.getArea();
             if (a.isARoom()) {
                 Room r = (Room) a;
@@ -53,10 +80,11 @@ public class AttackSurvivorAction implements Action<Zombie> {
      * Chooses a random Survivor from the given list of survivors.
      *
      * @param survivors The list of Survivors to choose from.
+     * @param random    The random source to draw from.
      * @return A random Survivor from the list, or null if the list is empty.
      */
-    protected Survivor chooseRandomSurvivor(List<Survivor> survivors) {
-        return SURVIVOR_CHOOSER.choose(survivors);
+    protected Survivor chooseRandomSurvivor(List<Survivor> survivors, RandomSource random) {
+        return new RandomListChooser<Survivor>(random).choose(survivors);
     }
 
     public String toString () {
@@ -3,23 +3,28 @@ package zombicide.action.zombie;
 import zombicide.action.MoveAction;
 import zombicide.actor.Actor;
 import zombicide.actor.zombie.Zombie;
+import zombicide.city.City;
 import zombicide.city.area.Area;
+import zombicide.city.area.AreaKind;
+import zombicide.city.area.CityGrid;
+import zombicide.city.area.room.ThePharmacy;
+import zombicide.city.path.FlowField;
 import zombicide.util.Direction;
-
-import java.util.HashMap;
-import java.util.Map;
+import zombicide.util.output.Verbosity;
 
 /**
  * A class representing the move action for a Zombie in the game.
  * This class extends the MoveAction class and provides the specific
  * implementation for a Zombie's movement behavior.
+ * The direction a zombie heads for only depends on its position, the noisiest area and the flow field of the city,
+ * so it can be chosen ahead with {@link #chooseDirection}, then played with {@link #followPlan}.
  */
 public class ZombieMoveAction extends MoveAction<Zombie> {
-
-
+    private static final Direction[] DIRECTIONS = Direction.values();
 
     /**
      * Calculates the direction of movement for the Zombie.
+     * The flow field of the city is followed when there is one, the distance heuristic is used otherwise.
      *
      * @param area The Area in which the Zombie is located.
      * @return The direction of movement for the Zombie.
@@ -27,14 +32,104 @@ public class ZombieMoveAction extends MoveAction<Zombie> {
      */
     @Override
     protected Direction getDirectionFrom(Actor z , Area area) throws IllegalStateException {
-        Direction direction = bestDirectionToTake(z);
+        City city = z.getCity();
+        FlowField flowField = city.getFlowField();
+        Area noisiest = flowField != null ? null : city.getAreaNoiseMax();
+        Direction direction = chooseDirection(city, area.getX(), area.getY(), flowField, noisiest);
+        return checkDirection(z, flowField, direction, direction != null && area.isDoorOpen(direction));
+    }
+
+    /**
+     * Chooses the direction a zombie heads for from a position, before looking at the doors.
+     * Only reads the city, so it can be called from several threads at once.
+     *
+     * @param city      The city of the zombie.
+     * @param x         The X position of the zombie.
+     * @param y         The Y position of the zombie.
+     * @param flowField The flow field of the city, or null to use the distance heuristic.
+     * @param noisiest  The noisiest area of the city, used by the distance heuristic.
+     * @return The direction, or null if the flow field gives none or no neighbouring area exists.
+     */
+    public Direction chooseDirection(City city, int x, int y, FlowField flowField, Area noisiest) {
+        if (flowField != null)
+            return flowField.getDirection(x, y);
+        return bestDirectionToTake(city, x, y, noisiest);
+    }
+
+    /**
+     * Plays moves chosen ahead with {@link #chooseDirection}, the doors being checked now.
+     * Every move is narrated and spends an action point as if played on its own,
+     * but the Zombie only leaves its area for the area it ends in, which leaves the actors of the city
+     * in the same order as moving area by area.
+     *
+     * @param zombie     The Zombie performing the moves.
+     * @param directions The directions chosen, one per move, null for staying.
+     * @param from       The index of the first move in the directions.
+     * @param count      The number of moves to play.
+     * @throws IllegalStateException If no direction was chosen while the distance heuristic is used.
+     */
+    public void followPlan(Zombie zombie, Direction[] directions, int from, int count) {
+        City city = zombie.getCity();
+        CityGrid grid = city.getGrid();
+        FlowField flowField = city.getFlowField();
+        int x = zombie.getArea().getX();
+        int y = zombie.getArea().getY();
+        for (int k = from; k < from + count; k++) {
+            if (zombie.getOutput().isEnabled(Verbosity.ACTION)) {
+                zombie.getOutput().println(Verbosity.ACTION, this.toString());
+            }
+            Direction direction = directions[k];
+            Direction checked = checkDirection(zombie, flowField, direction,
+                    direction != null && grid.isDoorOpen(grid.cell(x, y), direction));
+            if (checked != null) {
+                if (zombie.getOutput().isEnabled(Verbosity.ACTION)) {
+                    zombie.getOutput().println(Verbosity.ACTION, zombie.getName()+" moved ");
+                }
+                x += checked.getX();
+                y += checked.getY();
+            }
+            if (grid.getKind(grid.cell(x, y)) == AreaKind.PHARMACY) {
+                ((ThePharmacy) city.getArea(x, y)).addHealingFiask();
+                if (zombie.getOutput().isEnabled(Verbosity.ACTION)) {
+                    zombie.getOutput().println(Verbosity.ACTION, zombie.getName()+" entered the pharmacy, a healing fiask appeared");
+                }
+            }
+            zombie.removeActionPoint();
+        }
+        if (count > 0) {
+            zombie.setArea(city.getArea(x, y));
+        }
+    }
+
+    /**
+     * Checks that the Zombie can take a direction.
+     *
+     * @param z         The Zombie to move.
+     * @param flowField The flow field followed, or null if the distance heuristic is used.
+     * @param direction The direction chosen.
+     * @param doorOpen  true if the door of the area of the Zombie in that direction is open.
+     * @return The direction to take, or null if the Zombie stays.
+     * @throws IllegalStateException If no direction was chosen while the distance heuristic is used.
+     */
+    private Direction checkDirection(Actor z, FlowField flowField, Direction direction, boolean doorOpen) {
+        if (flowField != null) {
+            if (direction == null) {
+                if (z.getOutput().isEnabled(Verbosity.ACTION)) {
+                    z.getOutput().println(Verbosity.ACTION, z.getName()+" has no way toward the noise, he didn't move");
+                }
+                z.getOutput().println(Verbosity.ACTION, "");
+            }
+            return direction;
+        }
 
         if (direction == null)
             throw new IllegalStateException("Zombie must have direction to move!");
 
-        if (!area.getDoor(direction).isOpen()) {
-            System.out.println("Door closed in direction: "+direction+", "+z.getName()+" didn't move");
-            System.out.println();
+        if (!doorOpen) {
+            if (z.getOutput().isEnabled(Verbosity.ACTION)) {
+                z.getOutput().println(Verbosity.ACTION, "Door closed in direction: "+direction+", "+z.getName()+" didn't move");
+            }
+            z.getOutput().println(Verbosity.ACTION, "");
             return null;
         }
 
@@ -45,55 +140,38 @@ public class ZombieMoveAction extends MoveAction<Zombie> {
         return "Move Action";
     }
 
-    private double distance(Area areaNoisy, Area area){
+    private double distance(Area areaNoisy, int x2, int y2){
         int x1 = areaNoisy.getX();
         int y1 = areaNoisy.getY();
 
-        int x2 = area.getX();
-        int y2 = area.getY();
-
         double result = Math.pow(x2-x1 , 2) +  Math.pow(y2-y1 , 2);
 
         return Math.sqrt(result);
     }
 
-    private Direction minimalDistance(HashMap<Direction , Double> map){
-        Double min = null;
+    /**
+     * Finds the neighbouring position closest to the noisiest area, the last direction winning on a tie.
+     */
+    private Direction bestDirectionToTake(City city, int ax, int ay, Area mostNoisyArea){
+        int width = city.getWidth();
+        int height = city.getHeight();
+        double min = 0;
         Direction direction = null;
 
-        for(Map.Entry<Direction , Double> entry : map.entrySet()){
-            if(min == null)
-                min = entry.getValue();
-
-
-            if(entry.getValue() <= min){
-                min = entry.getValue();
-                direction = entry.getKey();
-            }
-        }
-
-        return direction;
-    }
-
-    private Direction bestDirectionToTake(Actor z){
-        HashMap<Direction , Double> distanceFromEachDirection = new HashMap<>();
-        Area a = z.getArea();
-        Area mostNoisyArea = z.getCity().getAreaNoiseMax();
-
-        for(Direction d : Direction.values()){
-            int x = a.getX()+d.getX();
-            int y = a.getY()+d.getY();
-
-            int width = z.getCity().getWidth();
-            int height = z.getCity().getHeight();
+        for(Direction d : DIRECTIONS){
+            int x = ax+d.getX();
+            int y = ay+d.getY();
 
             if(x < width && y < height && x >= 0 && y >= 0){
-                Area areaDirection = z.getCity().getArea(x , y);
-                distanceFromEachDirection.put(d , distance(mostNoisyArea , areaDirection));
+                double distance = distance(mostNoisyArea , x, y);
+                if(direction == null || distance <= min){
+                    min = distance;
+                    direction = d;
+                }
             }
         }
 
-        return minimalDistance(distanceFromEachDirection);
+        return direction;
 
     }
 }
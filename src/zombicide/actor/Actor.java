@@ -3,6 +3,7 @@ package zombicide.actor;
 import zombicide.action.Action;
 import zombicide.city.area.Area;
 import zombicide.city.City;
+import zombicide.util.output.GameOutput;
 
 import java.util.List;
 
@@ -28,6 +29,12 @@ public abstract class Actor {
 
     protected City city;
 
+    /** The slot of the actor in the {@link ActorList} of its area, -1 if it is in none. */
+    int slot = -1;
+
+    /** The slot of the actor in the registry of the city it stands in, -1 if it is in none. */
+    int registrySlot = -1;
+
     public Actor(City city, int lifePoints, int actionPoints) {
         this.city = city;
         this.lifePoints = lifePoints;
@@ -52,6 +59,15 @@ public abstract class Actor {
 
     public City getCity(){ return this.city; }
 
+    /**
+     * Retrieves the output the actor narrates its actions to.
+     *
+     * @return The output of its city, or the console if the actor has no city.
+     */
+    public GameOutput getOutput() {
+        return this.city != null ? this.city.getOutput() : GameOutput.console();
+    }
+
     /**
      * Sets the life points of the actor.
      *
@@ -0,0 +1,172 @@
+package zombicide.actor;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * List of the actors standing in one area, where every actor knows its slot in the list.
+ * An actor is found and removed in constant time: the last actor of the list takes the slot of the removed one,
+ * so removing changes the order of the remaining actors, adding never does.
+ * An actor kept in two lists at once is still found, by a scan of the list its slot does not belong to.
+ * A {@linkplain #registry() registry} of a whole city keeps its slots apart, so that an actor is found
+ * in constant time both in its area and in its city.
+ *
+ * @param <A> The type of the actors of the list.
+ */
+public class ActorList<A extends Actor> extends AbstractList<A> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 4;
+
+    private final boolean registry;
+    private Actor[] actors;
+    private int size;
+
+    /**
+     * Creates an empty list of the actors of an area.
+     */
+    public ActorList() {
+        this(false);
+    }
+
+    private ActorList(boolean registry) {
+        this.registry = registry;
+        this.actors = new Actor[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Creates an empty list of the actors of a whole city, whose slots do not clash with the ones of the areas.
+     *
+     * @param <A> The type of the actors of the list.
+     * @return The new list.
+     */
+    public static <A extends Actor> ActorList<A> registry() {
+        return new ActorList<>(true);
+    }
+
+    /**
+     * Retrieves the number of changes made to the list, to tell whether it changed since an earlier call.
+     *
+     * @return The number of changes made to the list.
+     */
+    public int getModCount() {
+        return this.modCount;
+    }
+
+    private int slotOf(Actor actor) {
+        return this.registry ? actor.registrySlot : actor.slot;
+    }
+
+    private void setSlot(Actor actor, int slot) {
+        if (this.registry) {
+            actor.registrySlot = slot;
+        } else {
+            actor.slot = slot;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public A get(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index + " hors de la liste de taille " + this.size);
+        }
+        return (A) this.actors[index];
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds an actor at the end of the list and records its slot.
+     *
+     * @param actor The actor to add.
+     * @return true.
+     */
+    @Override
+    public boolean add(A actor) {
+        if (this.size == this.actors.length) {
+            this.actors = Arrays.copyOf(this.actors, this.size * 2);
+        }
+        this.actors[this.size] = actor;
+        setSlot(actor, this.size);
+        this.size++;
+        this.modCount++;
+        return true;
+    }
+
+    /**
+     * Removes the actor at the given index, the last actor of the list taking its place.
+     *
+     * @param index The index of the actor to remove.
+     * @return The removed actor.
+     */
+    @Override
+    public A remove(int index) {
+        A removed = get(index);
+        int last = --this.size;
+        if (index != last) {
+            this.actors[index] = this.actors[last];
+            setSlot(this.actors[index], index);
+        }
+        this.actors[last] = null;
+        setSlot(removed, -1);
+        this.modCount++;
+        return removed;
+    }
+
+    /**
+     * Removes an actor from the list, in constant time when the list holds its slot.
+     *
+     * @param o The actor to remove.
+     * @return true if the actor was in the list, false otherwise.
+     */
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (o instanceof Actor) {
+            int slot = slotOf((Actor) o);
+            if (slot >= 0 && slot < this.size && this.actors[slot] == o) {
+                return slot;
+            }
+        }
+        return super.indexOf(o);
+    }
+
+    /**
+     * Checks in constant time if an actor is in the list at the slot it records,
+     * which tells whether an actor is in a registry without scanning it.
+     *
+     * @param actor The actor.
+     * @return true if the actor is in the list at its slot, false otherwise.
+     */
+    public boolean containsAtSlot(Actor actor) {
+        int slot = slotOf(actor);
+        return slot >= 0 && slot < this.size && this.actors[slot] == actor;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < this.size; i++) {
+            setSlot(this.actors[i], -1);
+            this.actors[i] = null;
+        }
+        this.size = 0;
+        this.modCount++;
+    }
+}
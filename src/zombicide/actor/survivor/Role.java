@@ -1,17 +1,32 @@
 package zombicide.actor.survivor;
 
 import zombicide.action.Action;
+import zombicide.action.ActionTable;
+import zombicide.action.survivor.*;
 import zombicide.action.survivor.special.Fighter;
 import zombicide.action.survivor.special.Healer;
 import zombicide.action.survivor.special.Lucky;
 import zombicide.action.survivor.special.Snooper;
 
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+
 public enum Role {
     FIGHTER(new Fighter()),
     HEALER(new Healer()),
     LUCKY(new Lucky()),
     SNOOPER(new Snooper());
 
+    /** The action table of each role, compiled once and shared by the survivors of the role. */
+    private static final EnumMap<Role, ActionTable<Survivor>> ACTION_TABLES = new EnumMap<>(Role.class);
+
+    static {
+        for (Role role : values()) {
+            ACTION_TABLES.put(role, compile(role.createActions()));
+        }
+    }
+
     private final Action<Survivor> action;
 
     Role(Action<Survivor> action) {
@@ -21,4 +36,67 @@ public enum Role {
     public Action<Survivor> getAction() {
         return action;
     }
+
+    /**
+     * Creates the actions a survivor of this role picks from.
+     * The null action stands for doing nothing.
+     *
+     * @return The actions of a survivor of this role.
+     */
+    public List<Action<Survivor>> createActions() {
+        switch (this) {
+            case FIGHTER:
+                return Arrays.asList(null, new AttackZombieAction(), new RummageAction(), new BackPackAction(),
+                        new DoorAction(), new ItemAction(), new NoiseAction(), new LookAction(),
+                        new Fighter(), new SurvivorMoveAction());
+            case HEALER:
+                return Arrays.asList(null, new AttackZombieAction(), new RummageAction(), new BackPackAction(),
+                        new DoorAction(), new ItemAction(), new NoiseAction(), new LookAction(),
+                        new Healer(), new SurvivorMoveAction());
+            case LUCKY:
+                return Arrays.asList(null, new AttackZombieAction(), new RummageAction(), new BackPackAction(),
+                        new DoorAction(), new ItemAction(), new NoiseAction(), new LookAction(),
+                        new Lucky(), new SurvivorMoveAction());
+            default:
+                return Arrays.asList(null, new RummageAction(), new AttackZombieAction(), new BackPackAction(),
+                        new DoorAction(), new ItemAction(), new NoiseAction(), new LookAction(),
+                        new Snooper(), new SurvivorMoveAction());
+        }
+    }
+
+    /**
+     * Retrieves the action table shared by the survivors of this role.
+     *
+     * @return The action table of this role.
+     */
+    public ActionTable<Survivor> getActionTable() {
+        return ACTION_TABLES.get(this);
+    }
+
+    /**
+     * Compiles the actions of a survivor into an action table, the first {@link Snooper} being its passive action.
+     *
+     * @param actions The actions of the survivor.
+     * @return The action table.
+     */
+    public static ActionTable<Survivor> compile(List<? extends Action<Survivor>> actions) {
+        return new ActionTable<>(actions, Snooper.class::isInstance);
+    }
+
+    /**
+     * Retrieves the role of a survivor, given by the special action among its actions.
+     *
+     * @param survivor The survivor.
+     * @return The role of the survivor, or null if it has none.
+     */
+    public static Role of(Survivor survivor) {
+        for (Action<Survivor> a : survivor.getRoles()) {
+            for (Role role : values()) {
+                if (a != null && a.getClass() == role.action.getClass()) {
+                    return role;
+                }
+            }
+        }
+        return null;
+    }
 }
@@ -1,7 +1,7 @@
 package zombicide.actor.survivor;
 
 import zombicide.action.Action;
-import zombicide.action.survivor.special.Snooper;
+import zombicide.action.ActionTable;
 import zombicide.actor.Actor;
 import zombicide.actor.survivor.backpack.BackPack;
 import zombicide.city.City;
@@ -9,11 +9,15 @@ import zombicide.city.area.Area;
 import zombicide.item.Item;
 import zombicide.item.attackItem.weapon.Pistol;
 import zombicide.util.Expertise;
-import zombicide.util.listchooser.RandomListChooser;
+import zombicide.util.random.RandomSource;
+import zombicide.util.random.RandomStream;
+import zombicide.util.output.Verbosity;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collection;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * Represents a survivor actor in the game.
@@ -21,8 +25,6 @@ import java.util.List;
 public class Survivor extends Actor {
     private static final int ACTION_POINTS = 3;
     private static final int LIFE_POINTS = 5;
-    private static final RandomListChooser<Action<Survivor>> SURVIVOR_ACTION_CHOOSER =
-            new RandomListChooser<>();
 
     /** The skill points of the survivor. */
     private int skillPoints;
@@ -34,10 +36,16 @@ public class Survivor extends Actor {
     private Item itemHeld;
 
     /** The roles associated with the survivor. */
-    private final List<Action<Survivor>> roles;
+    private final RoleList roles;
+
+    /** The roles compiled into a table, compiled again when the roles change. */
+    private ActionTable<Survivor> actionTable;
+    private int actionTableVersion;
 
     private String name;
 
+    private final RandomSource actionRandom;
+
     public Survivor(City city) {
         this(new ArrayList<>(), city);
     }
@@ -50,6 +58,7 @@ public class Survivor extends Actor {
      */
     public Survivor(List<Action<Survivor>> actions, City city) {
         super(city, LIFE_POINTS, ACTION_POINTS);
+        this.actionRandom = city.getRandom(RandomStream.ACTIONS);
         this.skillPoints = 0;
         this.backpack = new BackPack(this);
         Pistol pistol = new Pistol();
@@ -57,7 +66,19 @@ public class Survivor extends Actor {
         this.itemHeld = pistol;
         this.itemHeld.setSurvivor(this);
         this.setArea(this.city.getSpawn());
-        this.roles = new ArrayList<>(actions);
+        this.roles = new RoleList(actions);
+    }
+
+    /**
+     * Creates a new survivor of the given role, sharing the action table of the role.
+     *
+     * @param role The role of the survivor.
+     * @param city The city of the survivor.
+     */
+    public Survivor(Role role, City city) {
+        this(role.getActionTable().asList(), city);
+        this.actionTable = role.getActionTable();
+        this.actionTableVersion = this.roles.version();
     }
 
     public void setName(String name){
@@ -139,6 +160,20 @@ public class Survivor extends Actor {
         return roles;
     }
 
+    /**
+     * Retrieves the roles of the survivor compiled into an action table.
+     * The table is compiled on the first call, then again only if the roles were changed.
+     *
+     * @return The action table of the survivor.
+     */
+    public ActionTable<Survivor> getActionTable() {
+        if (this.actionTable == null || this.actionTableVersion != this.roles.version()) {
+            this.actionTable = Role.compile(this.roles);
+            this.actionTableVersion = this.roles.version();
+        }
+        return this.actionTable;
+    }
+
     /**
      * Increases the skill points of the survivor.
      */
@@ -165,7 +200,7 @@ public class Survivor extends Actor {
     @Override
     public void setArea(Area area) {
         if (this.area != null) {
-            this.area.removeActor(this);
+            this.area.removeMovingActor(this, area);
         }
         this.area = area;
         area.addSurvivor(this);
@@ -186,25 +221,81 @@ public class Survivor extends Actor {
      */
     @Override
     public void handleAction() {
-        Action<Survivor> action = SURVIVOR_ACTION_CHOOSER.choose(roles);
-        // System.out.println();
+        ActionTable<Survivor> table = getActionTable();
+        Action<Survivor> action = table.choose(this.actionRandom);
         if (action != null) {
-            System.out.println(action);
+            if (getOutput().isEnabled(Verbosity.ACTION)) {
+                getOutput().println(Verbosity.ACTION, action.toString());
+            }
             action.doSomething(this);
         } else {
-            System.out.println(this.getName()+" decided to do nothing");
+            if (getOutput().isEnabled(Verbosity.ACTION)) {
+                getOutput().println(Verbosity.ACTION, this.getName()+" decided to do nothing");
+            }
             this.removeActionPoint();
         }
 
-        Iterator<Action<Survivor>> it = this.roles.iterator();
-        boolean found = false;
-        while (it.hasNext() && !found) {
-            Action<Survivor> a = it.next();
-            if (a instanceof Snooper) {
-                System.out.println(a);
-                a.doSomething(this);
-                found = true;
+        Action<Survivor> passive = table.getPassive();
+        if (passive != null) {
+            if (getOutput().isEnabled(Verbosity.ACTION)) {
+                getOutput().println(Verbosity.ACTION, passive.toString());
             }
+            passive.doSomething(this);
+        }
+    }
+
+    /**
+     * List of the roles of a survivor, telling when it was changed.
+     * Every change goes through {@link #set}, {@link #add(int, Action)} or {@link #remove(int)},
+     * sublists and iterators included, so replacing a role is seen as well as adding or removing one.
+     */
+    private static class RoleList extends AbstractList<Action<Survivor>> implements RandomAccess {
+        private final List<Action<Survivor>> actions;
+        private int version;
+
+        RoleList(Collection<? extends Action<Survivor>> actions) {
+            this.actions = new ArrayList<>(actions);
+        }
+
+        @Override
+        public Action<Survivor> get(int index) {
+            return this.actions.get(index);
+        }
+
+        @Override
+        public int size() {
+            return this.actions.size();
+        }
+
+        @Override
+        public Action<Survivor> set(int index, Action<Survivor> action) {
+            Action<Survivor> previous = this.actions.set(index, action);
+            this.version++;
+            return previous;
+        }
+
+        @Override
+        public void add(int index, Action<Survivor> action) {
+            this.actions.add(index, action);
+            this.version++;
+            this.modCount++;
+        }
+
+        @Override
+        public Action<Survivor> remove(int index) {
+            Action<Survivor> removed = this.actions.remove(index);
+            this.version++;
+            this.modCount++;
+            return removed;
+        }
+
+        /**
+         * Retrieves the number of changes made to the list.
+         *
+         * @return The number of changes so far.
+         */
+        int version() {
+            return this.version;
         }
     }
 }
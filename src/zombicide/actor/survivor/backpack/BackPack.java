@@ -3,6 +3,8 @@ package zombicide.actor.survivor.backpack;
 import zombicide.actor.survivor.Survivor;
 import zombicide.item.Item;
 import zombicide.util.listchooser.RandomListChooser;
+import zombicide.util.random.RandomSource;
+import zombicide.util.random.RandomStream;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,7 +19,7 @@ public class BackPack {
      * List to store items in the backpack.
      */
     private final List<Item> items;
-    private static final RandomListChooser<Item> ITEM_CHOOSER = new RandomListChooser<>();
+    private final RandomListChooser<Item> itemChooser;
 
     /**
      * Constructor for the BackPack class. Initializes an empty list of items.
@@ -26,6 +28,8 @@ public class BackPack {
     public BackPack(Survivor survivor) {
         this.survivor = survivor;
         this.items = new ArrayList<>();
+        RandomSource random = survivor == null ? RandomSource.create() : survivor.getCity().getRandom(RandomStream.ACTIONS);
+        this.itemChooser = new RandomListChooser<>(random);
     }
 
 
@@ -73,7 +77,7 @@ public class BackPack {
      * @return The item that was removed from the backpack.
      */
     private Item swapRandomItemWith(Item item) {
-        Item droppedItem = ITEM_CHOOSER.choose(this.items);
+        Item droppedItem = this.itemChooser.choose(this.items);
         this.items.remove(droppedItem);
         this.items.add(item);
         return droppedItem;
@@ -89,7 +93,7 @@ public class BackPack {
     }
 
     public Item getRandomItem() {
-        return ITEM_CHOOSER.choose(this.items);
+        return this.itemChooser.choose(this.items);
     }
 
     public String displayItems(){
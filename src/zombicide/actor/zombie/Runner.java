@@ -15,6 +15,11 @@ public class Runner extends Zombie {
 		super(zombieActions, ATTACK_POINTS, LIFE_POINTS, ACTION_POINTS, IS_STRONG, city);
 	}
 
+	@Override
+	public ZombieType getType() {
+		return ZombieType.RUNNER;
+	}
+
 	public String toString() {
 		return "Runner";
 	}
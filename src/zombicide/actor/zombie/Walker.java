@@ -15,6 +15,11 @@ public class Walker extends Zombie {
 		super(zombieActions, ATTACK_POINTS, LIFE_POINTS, ACTION_POINTS, IS_STRONG, city);
 	}
 
+	@Override
+	public ZombieType getType() {
+		return ZombieType.WALKER;
+	}
+
 	public String toString() {
 		return "Walker";
 	}
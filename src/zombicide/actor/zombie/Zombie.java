@@ -8,14 +8,21 @@ import zombicide.city.area.Area;
 import zombicide.city.City;
 import zombicide.city.area.street.Manhole;
 import zombicide.util.listchooser.RandomListChooser;
+import zombicide.util.random.RandomSource;
+import zombicide.util.random.RandomStream;
+import zombicide.util.output.Verbosity;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Abstract class representing a zombie actor in the game.
  */
 public abstract class Zombie extends Actor {
+    /** The actions of every zombie, which keep no state. */
+    private static final Action<Zombie> ATTACK = new AttackSurvivorAction();
+    private static final Action<Zombie> MOVE = new ZombieMoveAction();
+    /** The list of these actions, given by the {@link ZombieFactory} to every zombie it creates. */
+    static final List<Action<Zombie>> ACTIONS = List.of(MOVE, ATTACK);
 
     /** The attack points of the zombie. */
     protected int attackPoints;
@@ -23,23 +30,56 @@ public abstract class Zombie extends Actor {
     /** Indicates whether the zombie is strong or not. */
     protected boolean isStrong;
     protected List<Action<Zombie>> zombieActions;
-    private static final RandomListChooser<Manhole> MANHOLE_CHOOSER = new RandomListChooser<>();
-    protected static final RandomListChooser<Action<Zombie>> ACTION_CHOOSER = new RandomListChooser<>();
+
+    private final int maxLifePoints;
+
+    /** The stream the attacks of the zombie draw from, split from the actions of its city. */
+    private final RandomSource attackRandom;
 
     public Zombie(List<Action<Zombie>> zombieActions, int attackPoints, int lifePoints, int actionPoints, boolean isStrong, City city) {
         super(city, lifePoints, actionPoints);
 		this.attackPoints = attackPoints;
 		this.isStrong = isStrong;
-        this.zombieActions = new ArrayList<>(zombieActions);
+        this.zombieActions = zombieActions;
+        this.maxLifePoints = lifePoints;
+        this.attackRandom = city.getRandom(RandomStream.ACTIONS).split();
 	}
 
+    /**
+     * Retrieves the random stream of the attacks of the zombie.
+     * Each zombie has its own, so that the attacks of zombies standing in different areas
+     * can be drawn in any order and still give the same game.
+     *
+     * @return The attack stream of the zombie.
+     */
+    public RandomSource getAttackRandom() {
+        return this.attackRandom;
+    }
+
+    /**
+     * Retrieves the type of the zombie.
+     *
+     * @return The type of the zombie.
+     */
+    public abstract ZombieType getType();
+
+    /**
+     * Brings a dead zombie back with all its life and action points, outside of any area,
+     * so that a {@link ZombieFactory} can spawn it again.
+     */
+    void revive() {
+        this.lifePoints = this.maxLifePoints;
+        resetActionPoints();
+        this.area = null;
+    }
+
     /**
      * Chooses a random manhole for the zombie to spawn.
      *
      * @return The randomly chosen manhole.
      */
     private Manhole chooseRandomManhole() {
-        return MANHOLE_CHOOSER.choose(this.city.getManholes());
+        return new RandomListChooser<Manhole>(this.city.getRandom(RandomStream.SPAWNS)).choose(this.city.getManholes());
     }
 
     /**
@@ -68,7 +108,7 @@ public abstract class Zombie extends Actor {
     @Override
     public void setArea(Area area) {
         if (this.area != null) {
-            this.area.removeActor(this);
+            this.area.removeMovingActor(this, area);
         }
         this.area = area;
         area.addZombie(this);
@@ -76,19 +116,14 @@ public abstract class Zombie extends Actor {
 
     /**
      * Handles the action of the zombie.
-     * Chooses a random action from the available actions and performs it.
+     * Attacks a survivor of its area if there is one, moves otherwise.
      */
     public void handleAction() {
-        if (!this.getArea().getSurvivors().isEmpty()) {
-            Action<Zombie> action = new AttackSurvivorAction();
-            System.out.println(action.toString());
-            action.doSomething(this);
-        }
-        else {
-            Action<Zombie> action = new ZombieMoveAction();
-            System.out.println(action.toString());
-            action.doSomething(this);
+        Action<Zombie> action = this.getArea().getSurvivors().isEmpty() ? MOVE : ATTACK;
+        if (getOutput().isEnabled(Verbosity.ACTION)) {
+            getOutput().println(Verbosity.ACTION, action.toString());
         }
+        action.doSomething(this);
         /**
         Action<Zombie> action = ACTION_CHOOSER.choose(this.zombieActions);
         if (action != null)  {
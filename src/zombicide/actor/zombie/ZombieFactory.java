@@ -0,0 +1,142 @@
+package zombicide.actor.zombie;
+
+import zombicide.action.Action;
+import zombicide.city.City;
+import zombicide.util.listchooser.ListChooser;
+import zombicide.util.listchooser.RandomListChooser;
+import zombicide.util.listchooser.WeightedListChooser;
+import zombicide.util.random.RandomStream;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.List;
+
+/**
+ * Creates the zombies spawned in a city, choosing their type with fixed weights.
+ * Every zombie of the factory shares the one list of the actions of the zombies, which keep no state.
+ * When recycling is on, the dead zombies given back to the factory are kept in a pool, one per type,
+ * and brought back to life instead of creating new zombies.
+ * Types are drawn from the {@link RandomStream#SPAWNS} stream of the city; with equal weights,
+ * a type is drawn the same way as a zombie chosen in a list of one zombie per type.
+ */
+public class ZombieFactory {
+    private static final List<ZombieType> TYPES = List.of(ZombieType.values());
+
+    private final City city;
+    private final List<Action<Zombie>> zombieActions;
+    private final ListChooser<ZombieType> chooser;
+    private final EnumMap<ZombieType, ArrayDeque<Zombie>> pool;
+    private boolean recycling;
+
+    /**
+     * Creates a factory spawning every type of zombie as often.
+     *
+     * @param city The city of the zombies.
+     */
+    public ZombieFactory(City city) {
+        this(city, 1, 1, 1, 1);
+    }
+
+    /**
+     * Creates a factory spawning the types of zombies with the given weights.
+     *
+     * @param city    The city of the zombies.
+     * @param weights The weight of each type, in the order of {@link ZombieType#values()}.
+     * @throws IllegalArgumentException If there is not one weight per type, or the weights are invalid.
+     */
+    public ZombieFactory(City city, double... weights) {
+        if (weights.length != TYPES.size()) {
+            throw new IllegalArgumentException("Il faut un poids par type de zombie : " + TYPES.size() + " attendus, " + weights.length + " donnés");
+        }
+        this.city = city;
+        this.zombieActions = Zombie.ACTIONS;
+        this.chooser = isUniform(weights)
+                ? new RandomListChooser<>(city.getRandom(RandomStream.SPAWNS))
+                : new WeightedListChooser<>(city.getRandom(RandomStream.SPAWNS), weights);
+        this.pool = new EnumMap<>(ZombieType.class);
+        for (ZombieType type : TYPES) {
+            this.pool.put(type, new ArrayDeque<>());
+        }
+    }
+
+    private static boolean isUniform(double[] weights) {
+        for (double weight : weights) {
+            if (weight != weights[0]) {
+                return false;
+            }
+        }
+        return weights[0] > 0 && !Double.isInfinite(weights[0]);
+    }
+
+    /**
+     * Turns the recycling of dead zombies on or off. Turning it off empties the pool.
+     *
+     * @param recycling true to recycle the dead zombies, false to leave them to the garbage collector.
+     */
+    public void setRecycling(boolean recycling) {
+        this.recycling = recycling;
+        if (!recycling) {
+            for (ArrayDeque<Zombie> zombies : this.pool.values()) {
+                zombies.clear();
+            }
+        }
+    }
+
+    public boolean isRecycling() {
+        return this.recycling;
+    }
+
+    /**
+     * Retrieves the number of dead zombies waiting in the pool.
+     *
+     * @return The number of zombies in the pool.
+     */
+    public int getPoolSize() {
+        int size = 0;
+        for (ArrayDeque<Zombie> zombies : this.pool.values()) {
+            size += zombies.size();
+        }
+        return size;
+    }
+
+    /**
+     * Creates a zombie of a random type, not placed in any area.
+     *
+     * @return The zombie.
+     */
+    public Zombie create() {
+        return create(this.chooser.choose(TYPES));
+    }
+
+    /**
+     * Creates a zombie of the given type, not placed in any area,
+     * taking it back from the pool if a dead zombie of that type waits there.
+     *
+     * @param type The type of the zombie.
+     * @return The zombie, with all its life and action points.
+     */
+    public Zombie create(ZombieType type) {
+        Zombie zombie = this.pool.get(type).pollLast();
+        if (zombie == null) {
+            return type.create(this.zombieActions, this.city);
+        }
+        zombie.revive();
+        return zombie;
+    }
+
+    /**
+     * Gives a dead zombie back to the factory, which keeps it for a later spawn if recycling is on.
+     * The zombie must not be used by the caller any more.
+     *
+     * @param zombie The dead zombie.
+     * @throws IllegalArgumentException If the zombie is still alive.
+     */
+    public void recycle(Zombie zombie) {
+        if (!zombie.isDead()) {
+            throw new IllegalArgumentException("Seul un zombie mort peut être recyclé : " + zombie);
+        }
+        if (this.recycling && zombie.getCity() == this.city) {
+            this.pool.get(zombie.getType()).addLast(zombie);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package zombicide.actor.zombie;
+
+import zombicide.action.Action;
+import zombicide.city.City;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * The kinds of zombies a city can spawn, each one knowing how to create its zombies.
+ */
+public enum ZombieType {
+    RUNNER(Runner::new),
+    BALAISE(Balaise::new),
+    ABOMINATION(Abomination::new),
+    WALKER(Walker::new);
+
+    private final BiFunction<List<Action<Zombie>>, City, Zombie> constructor;
+
+    ZombieType(BiFunction<List<Action<Zombie>>, City, Zombie> constructor) {
+        this.constructor = constructor;
+    }
+
+    /**
+     * Creates a new zombie of this type.
+     *
+     * @param zombieActions The actions of the zombie.
+     * @param city          The city of the zombie.
+     * @return The zombie.
+     */
+    public Zombie create(List<Action<Zombie>> zombieActions, City city) {
+        return this.constructor.apply(zombieActions, city);
+    }
+}
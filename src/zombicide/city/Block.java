@@ -0,0 +1,188 @@
+package zombicide.city;
+
+import java.util.List;
+
+/**
+ * Rectangle of cells the city generation worked on, with the crossroad it was split around.
+ * A block split around a crossroad has four children, the blocks left between its streets:
+ * top left, top right, bottom left and bottom right. A block too small to be split is a leaf, holding rooms only.
+ * The cells of a block are those of its two streets and those of its children.
+ * A block is a view over a row of its {@link BlockTree}: two blocks of the same tree with the same id are equal.
+ */
+public final class Block {
+    private final BlockTree tree;
+    private final int id;
+
+    /**
+     * Creates a view over a block of a tree.
+     *
+     * @param tree The tree of the block.
+     * @param id   The id of the block.
+     */
+    Block(BlockTree tree, int id) {
+        this.tree = tree;
+        this.id = id;
+    }
+
+    /**
+     * Retrieves the id of the block, from 0 for the whole city to the size of its tree excluded.
+     *
+     * @return The id of the block.
+     */
+    public int getId() {
+        return this.id;
+    }
+
+    /**
+     * Retrieves the block this one was split from.
+     *
+     * @return The parent block, or null for the whole city.
+     */
+    public Block getParent() {
+        int parent = this.tree.getParent(this.id);
+        return parent < 0 ? null : new Block(this.tree, parent);
+    }
+
+    /**
+     * Retrieves the number of splits between the whole city and this block, in O(depth).
+     *
+     * @return The depth of the block, 0 for the whole city.
+     */
+    public int getDepth() {
+        int depth = 0;
+        for (int parent = this.tree.getParent(this.id); parent >= 0; parent = this.tree.getParent(parent)) {
+            depth++;
+        }
+        return depth;
+    }
+
+    public int getLeft() {
+        return this.tree.getLeft(this.id);
+    }
+
+    public int getTop() {
+        return this.tree.getTop(this.id);
+    }
+
+    public int getRight() {
+        return this.tree.getRight(this.id);
+    }
+
+    public int getBottom() {
+        return this.tree.getBottom(this.id);
+    }
+
+    public int getWidth() {
+        return getRight() - getLeft() + 1;
+    }
+
+    public int getHeight() {
+        return getBottom() - getTop() + 1;
+    }
+
+    /**
+     * Retrieves the number of cells of the block.
+     *
+     * @return The width times the height of the block.
+     */
+    public long getCells() {
+        return (long) getWidth() * getHeight();
+    }
+
+    /**
+     * Checks if the block was not split.
+     *
+     * @return true if the block has no crossroad and no children, false otherwise.
+     */
+    public boolean isLeaf() {
+        return this.tree.getFirstChild(this.id) < 0;
+    }
+
+    /**
+     * Retrieves the X position of the crossroad of the block.
+     *
+     * @return The column of the vertical street of the block, or -1 for a leaf.
+     */
+    public int getCrossroadX() {
+        return this.tree.getCrossroadX(this.id);
+    }
+
+    /**
+     * Retrieves the Y position of the crossroad of the block.
+     *
+     * @return The row of the horizontal street of the block, or -1 for a leaf.
+     */
+    public int getCrossroadY() {
+        return this.tree.getCrossroadY(this.id);
+    }
+
+    /**
+     * Retrieves the children of the block.
+     *
+     * @return The four children, top left, top right, bottom left then bottom right, or an empty list for a leaf.
+     */
+    public List<Block> getChildren() {
+        int first = this.tree.getFirstChild(this.id);
+        if (first < 0) {
+            return List.of();
+        }
+        return List.of(new Block(this.tree, first), new Block(this.tree, first + 1),
+                new Block(this.tree, first + 2), new Block(this.tree, first + 3));
+    }
+
+    /**
+     * Checks if a position is inside the block.
+     *
+     * @param x The X position.
+     * @param y The Y position.
+     * @return true if the position is inside the block, false otherwise.
+     */
+    public boolean contains(int x, int y) {
+        return x >= getLeft() && x <= getRight() && y >= getTop() && y <= getBottom();
+    }
+
+    /**
+     * Checks if a position of the block is on one of the two streets the block was split along.
+     *
+     * @param x The X position, inside the block.
+     * @param y The Y position, inside the block.
+     * @return true if the position is on the streets of the block, false if it is in a child or the block is a leaf.
+     */
+    public boolean isOnStreets(int x, int y) {
+        return !isLeaf() && (x == getCrossroadX() || y == getCrossroadY());
+    }
+
+    /**
+     * Retrieves the child of the block holding a position.
+     *
+     * @param x The X position, inside the block.
+     * @param y The Y position, inside the block.
+     * @return The child holding the position, or null if the position is on the streets of the block or the block is a leaf.
+     */
+    public Block getChild(int x, int y) {
+        int child = this.tree.childOf(this.id, x, y);
+        return child < 0 ? null : new Block(this.tree, child);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Block)) {
+            return false;
+        }
+        Block block = (Block) o;
+        return this.tree == block.tree && this.id == block.id;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(this.tree) + this.id;
+    }
+
+    @Override
+    public String toString() {
+        return "Block(" + getLeft() + ", " + getTop() + ")-(" + getRight() + ", " + getBottom() + ")";
+    }
+}
@@ -0,0 +1,552 @@
+package zombicide.city;
+
+import zombicide.actor.Actor;
+import zombicide.actor.survivor.Survivor;
+import zombicide.actor.zombie.Zombie;
+import zombicide.city.area.Area;
+import zombicide.city.area.CityGrid;
+import zombicide.city.area.GridListener;
+import zombicide.city.area.room.Room;
+import zombicide.item.Item;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+
+/**
+ * Spatial index of a city over its {@link BlockTree}, answering region queries without scanning every cell:
+ * the block holding an area, the rooms of a block, the k rooms or streets nearest to a position,
+ * and the actors and items inside a rectangle.
+ *
+ * Every block keeps the number of zombies, survivors and items standing in it, its children included,
+ * and in each of the four streets leaving its crossroad. A rectangle query skips the blocks and the streets holding none,
+ * takes the total of those lying inside the rectangle as is, and only looks at the cells of those it cuts through. The counts follow the actors as they move,
+ * the index listening to the {@link CityGrid} of the city.
+ *
+ * A nearest query goes best first over the blocks, ordered by their Manhattan distance to the position,
+ * so it only opens the blocks around the position. Areas at the same distance come by cell id.
+ */
+public final class BlockIndex implements GridListener {
+    private static final int BLOCK = 0;
+    private static final int CELLS = 1;
+    private static final int CELL = 2;
+
+    /** The counts of a block: its total, then those of the four streets leaving its crossroad, the crossroad excluded. */
+    private static final int STRIDE = 5;
+    private static final int UP = 1;
+    private static final int DOWN = 2;
+    private static final int LEFT = 3;
+    private static final int RIGHT = 4;
+
+    private final CityGrid grid;
+    private final BlockTree tree;
+    private final int[] zombies;
+    private final int[] survivors;
+    private final int[] items;
+
+    /**
+     * Creates the index of a city, counting the actors and the items already in it,
+     * then listens to its grid to follow them.
+     *
+     * @param grid      The grid of the city.
+     * @param tree      The blocks of the city.
+     * @param roomCells The cells of the rooms of the city.
+     */
+    BlockIndex(CityGrid grid, BlockTree tree, int[] roomCells) {
+        this.grid = grid;
+        this.tree = tree;
+        this.zombies = new int[tree.size() * STRIDE];
+        this.survivors = new int[tree.size() * STRIDE];
+        this.items = new int[tree.size() * STRIDE];
+        for (Zombie zombie : grid.getZombies()) {
+            add(this.zombies, zombie.getArea().getX(), zombie.getArea().getY(), 1);
+        }
+        for (Survivor survivor : grid.getSurvivors()) {
+            add(this.survivors, survivor.getArea().getX(), survivor.getArea().getY(), 1);
+        }
+        for (int cell : roomCells) {
+            if (grid.hasArea(cell)) {
+                add(this.items, cell % grid.getWidth(), cell / grid.getWidth(), itemCount(cell));
+            }
+        }
+        grid.addListener(this);
+    }
+
+    private void add(int[] counts, int x, int y, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        int id = 0;
+        for (int child = 0; child >= 0; child = this.tree.childOf(id, x, y)) {
+            id = child;
+            counts[id * STRIDE] += delta;
+        }
+        int crossroadX = this.tree.getCrossroadX(id);
+        int crossroadY = this.tree.getCrossroadY(id);
+        if (this.tree.getFirstChild(id) >= 0 && (x != crossroadX || y != crossroadY)) {
+            int street = x == crossroadX ? (y < crossroadY ? UP : DOWN) : (x < crossroadX ? LEFT : RIGHT);
+            counts[id * STRIDE + street] += delta;
+        }
+    }
+
+    private int[] countsOf(Actor actor) {
+        return actor instanceof Zombie ? this.zombies : this.survivors;
+    }
+
+    @Override
+    public void actorEntered(int cell, Actor actor) {
+        add(countsOf(actor), cell % this.grid.getWidth(), cell / this.grid.getWidth(), 1);
+    }
+
+    @Override
+    public void actorLeft(int cell, Actor actor) {
+        add(countsOf(actor), cell % this.grid.getWidth(), cell / this.grid.getWidth(), -1);
+    }
+
+    @Override
+    public void itemAdded(int cell, Item item) {
+        add(this.items, cell % this.grid.getWidth(), cell / this.grid.getWidth(), 1);
+    }
+
+    /**
+     * Retrieves the smallest block holding an area: the leaf holding a room, or the block split along a street.
+     *
+     * @param area The area.
+     * @return The block of the area.
+     */
+    public Block getBlock(Area area) {
+        return this.tree.getBlock(area.getX(), area.getY());
+    }
+
+    /**
+     * Retrieves the rooms of a block, those of its leaves.
+     *
+     * @param block A block of the city.
+     * @return The rooms of the block, row by row within each leaf.
+     */
+    public List<Room> getRooms(Block block) {
+        List<Room> rooms = new ArrayList<>();
+        collectRooms(block.getId(), rooms);
+        return rooms;
+    }
+
+    private void collectRooms(int id, List<Room> rooms) {
+        int first = this.tree.getFirstChild(id);
+        if (first >= 0) {
+            for (int child = first; child < first + 4; child++) {
+                collectRooms(child, rooms);
+            }
+            return;
+        }
+        scan(this.tree.getLeft(id), this.tree.getTop(id), this.tree.getRight(id), this.tree.getBottom(id), cell -> {
+            if (this.grid.getKind(cell).isRoom()) {
+                rooms.add((Room) this.grid.getArea(cell));
+            }
+        });
+    }
+
+    /**
+     * Counts the zombies inside a rectangle.
+     *
+     * @param left   The X position of the left side of the rectangle.
+     * @param top    The Y position of the top side of the rectangle.
+     * @param right  The X position of the right side of the rectangle, included.
+     * @param bottom The Y position of the bottom side of the rectangle, included.
+     * @return The number of zombies inside the rectangle.
+     */
+    public int countZombies(int left, int top, int right, int bottom) {
+        return count(left, top, right, bottom, this.zombies, this.grid::getZombieCount);
+    }
+
+    /**
+     * Counts the survivors inside a rectangle.
+     *
+     * @param left   The X position of the left side of the rectangle.
+     * @param top    The Y position of the top side of the rectangle.
+     * @param right  The X position of the right side of the rectangle, included.
+     * @param bottom The Y position of the bottom side of the rectangle, included.
+     * @return The number of survivors inside the rectangle.
+     */
+    public int countSurvivors(int left, int top, int right, int bottom) {
+        return count(left, top, right, bottom, this.survivors, this.grid::getSurvivorCount);
+    }
+
+    /**
+     * Counts the items lying in the rooms inside a rectangle.
+     *
+     * @param left   The X position of the left side of the rectangle.
+     * @param top    The Y position of the top side of the rectangle.
+     * @param right  The X position of the right side of the rectangle, included.
+     * @param bottom The Y position of the bottom side of the rectangle, included.
+     * @return The number of items inside the rectangle.
+     */
+    public int countItems(int left, int top, int right, int bottom) {
+        return count(left, top, right, bottom, this.items, this::itemCount);
+    }
+
+    /**
+     * Retrieves the zombies inside a rectangle.
+     *
+     * @param left   The X position of the left side of the rectangle.
+     * @param top    The Y position of the top side of the rectangle.
+     * @param right  The X position of the right side of the rectangle, included.
+     * @param bottom The Y position of the bottom side of the rectangle, included.
+     * @return The zombies inside the rectangle.
+     */
+    public List<Zombie> getZombies(int left, int top, int right, int bottom) {
+        List<Zombie> found = new ArrayList<>();
+        visit(left, top, right, bottom, this.zombies, cell -> {
+            if (this.grid.getZombieCount(cell) > 0) {
+                found.addAll(this.grid.getArea(cell).getZombies());
+            }
+        });
+        return found;
+    }
+
+    /**
+     * Retrieves the survivors inside a rectangle.
+     *
+     * @param left   The X position of the left side of the rectangle.
+     * @param top    The Y position of the top side of the rectangle.
+     * @param right  The X position of the right side of the rectangle, included.
+     * @param bottom The Y position of the bottom side of the rectangle, included.
+     * @return The survivors inside the rectangle.
+     */
+    public List<Survivor> getSurvivors(int left, int top, int right, int bottom) {
+        List<Survivor> found = new ArrayList<>();
+        visit(left, top, right, bottom, this.survivors, cell -> {
+            if (this.grid.getSurvivorCount(cell) > 0) {
+                found.addAll(this.grid.getArea(cell).getSurvivors());
+            }
+        });
+        return found;
+    }
+
+    /**
+     * Retrieves the items lying in the rooms inside a rectangle.
+     *
+     * @param left   The X position of the left side of the rectangle.
+     * @param top    The Y position of the top side of the rectangle.
+     * @param right  The X position of the right side of the rectangle, included.
+     * @param bottom The Y position of the bottom side of the rectangle, included.
+     * @return The items inside the rectangle.
+     */
+    public List<Item> getItems(int left, int top, int right, int bottom) {
+        List<Item> found = new ArrayList<>();
+        visit(left, top, right, bottom, this.items, cell -> {
+            if (itemCount(cell) > 0) {
+                found.addAll(((Room) this.grid.getArea(cell)).getItems());
+            }
+        });
+        return found;
+    }
+
+    private int itemCount(int cell) {
+        if (!this.grid.hasArea(cell)) {
+            return 0;
+        }
+        Area area = this.grid.getArea(cell);
+        return area instanceof Room ? ((Room) area).getItems().size() : 0;
+    }
+
+    private int count(int left, int top, int right, int bottom, int[] counts, IntUnaryOperator countOf) {
+        int[] total = new int[1];
+        new RectangleVisitor(left, top, right, bottom, counts) {
+            @Override
+            boolean takeWhole(int count) {
+                total[0] += count;
+                return true;
+            }
+
+            @Override
+            void visitCell(int cell) {
+                total[0] += countOf.applyAsInt(cell);
+            }
+        }.visit();
+        return total[0];
+    }
+
+    private void visit(int left, int top, int right, int bottom, int[] counts, IntConsumer action) {
+        new RectangleVisitor(left, top, right, bottom, counts) {
+            @Override
+            boolean takeWhole(int count) {
+                return false;
+            }
+
+            @Override
+            void visitCell(int cell) {
+                action.accept(cell);
+            }
+        }.visit();
+    }
+
+    /**
+     * Walk over the blocks and the streets cut by a rectangle, skipping those the counts show empty.
+     */
+    private abstract class RectangleVisitor {
+        private final int left;
+        private final int top;
+        private final int right;
+        private final int bottom;
+        private final int[] counts;
+
+        RectangleVisitor(int left, int top, int right, int bottom, int[] counts) {
+            this.left = Math.max(left, 0);
+            this.top = Math.max(top, 0);
+            this.right = Math.min(right, grid.getWidth() - 1);
+            this.bottom = Math.min(bottom, grid.getHeight() - 1);
+            this.counts = counts;
+        }
+
+        /**
+         * Handles a block or a street lying inside the rectangle as a whole.
+         *
+         * @param count What the block or the street holds.
+         * @return true if it was handled, false to go through its cells.
+         */
+        abstract boolean takeWhole(int count);
+
+        /**
+         * Handles a cell of the rectangle, in a block or a street holding something.
+         *
+         * @param cell The id of the cell.
+         */
+        abstract void visitCell(int cell);
+
+        void visit() {
+            if (this.left <= this.right && this.top <= this.bottom) {
+                visit(0);
+            }
+        }
+
+        private boolean isInside(int left, int top, int right, int bottom) {
+            return left >= this.left && right <= this.right && top >= this.top && bottom <= this.bottom;
+        }
+
+        private boolean isOutside(int left, int top, int right, int bottom) {
+            return right < this.left || left > this.right || bottom < this.top || top > this.bottom;
+        }
+
+        private void visit(int id) {
+            int total = this.counts[id * STRIDE];
+            if (total == 0) {
+                return;
+            }
+            int blockLeft = tree.getLeft(id);
+            int blockTop = tree.getTop(id);
+            int blockRight = tree.getRight(id);
+            int blockBottom = tree.getBottom(id);
+            if (isOutside(blockLeft, blockTop, blockRight, blockBottom)
+                    || isInside(blockLeft, blockTop, blockRight, blockBottom) && takeWhole(total)) {
+                return;
+            }
+            int first = tree.getFirstChild(id);
+            if (first < 0) {
+                visitCells(blockLeft, blockTop, blockRight, blockBottom);
+                return;
+            }
+            int crossroadX = tree.getCrossroadX(id);
+            int crossroadY = tree.getCrossroadY(id);
+            int crossroad = total;
+            for (int child = first; child < first + 4; child++) {
+                crossroad -= this.counts[child * STRIDE];
+            }
+            for (int street = UP; street <= RIGHT; street++) {
+                crossroad -= this.counts[id * STRIDE + street];
+            }
+            visitStreet(id, UP, crossroadX, blockTop, crossroadX, crossroadY - 1);
+            visitStreet(id, DOWN, crossroadX, crossroadY + 1, crossroadX, blockBottom);
+            visitStreet(id, LEFT, blockLeft, crossroadY, crossroadX - 1, crossroadY);
+            visitStreet(id, RIGHT, crossroadX + 1, crossroadY, blockRight, crossroadY);
+            if (crossroad > 0 && !isOutside(crossroadX, crossroadY, crossroadX, crossroadY)) {
+                visitCell(grid.cell(crossroadX, crossroadY));
+            }
+            for (int child = first; child < first + 4; child++) {
+                visit(child);
+            }
+        }
+
+        private void visitStreet(int id, int street, int left, int top, int right, int bottom) {
+            int count = this.counts[id * STRIDE + street];
+            if (count == 0 || left > right || top > bottom || isOutside(left, top, right, bottom)
+                    || isInside(left, top, right, bottom) && takeWhole(count)) {
+                return;
+            }
+            visitCells(left, top, right, bottom);
+        }
+
+        private void visitCells(int left, int top, int right, int bottom) {
+            int fromX = Math.max(left, this.left);
+            int toX = Math.min(right, this.right);
+            for (int y = Math.max(top, this.top); y <= Math.min(bottom, this.bottom); y++) {
+                int cell = grid.cell(fromX, y);
+                for (int x = fromX; x <= toX; x++, cell++) {
+                    visitCell(cell);
+                }
+            }
+        }
+    }
+
+    private void scan(int left, int top, int right, int bottom, IntConsumer action) {
+        for (int y = top; y <= bottom; y++) {
+            int cell = this.grid.cell(left, y);
+            for (int x = left; x <= right; x++, cell++) {
+                action.accept(cell);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the rooms nearest to a position, by Manhattan distance.
+     *
+     * @param x The X position.
+     * @param y The Y position.
+     * @param k The number of rooms wanted.
+     * @return At most k rooms, nearest first.
+     * @throws IllegalArgumentException If the position is outside the city.
+     */
+    public List<Area> getNearestRooms(int x, int y, int k) {
+        return nearest(x, y, k, true, area -> true);
+    }
+
+    /**
+     * Retrieves the streets nearest to a position, by Manhattan distance.
+     *
+     * @param x The X position.
+     * @param y The Y position.
+     * @param k The number of streets wanted.
+     * @return At most k streets, nearest first.
+     * @throws IllegalArgumentException If the position is outside the city.
+     */
+    public List<Area> getNearestStreets(int x, int y, int k) {
+        return nearest(x, y, k, false, area -> true);
+    }
+
+    /**
+     * Retrieves the streets nearest to a position among those matching a filter, by Manhattan distance,
+     * for instance the nearest manholes.
+     *
+     * @param x      The X position.
+     * @param y      The Y position.
+     * @param k      The number of streets wanted.
+     * @param filter The test the streets must pass.
+     * @return At most k streets passing the filter, nearest first.
+     * @throws IllegalArgumentException If the position is outside the city.
+     */
+    public List<Area> getNearestStreets(int x, int y, int k, Predicate<Area> filter) {
+        return nearest(x, y, k, false, filter);
+    }
+
+    private List<Area> nearest(int x, int y, int k, boolean rooms, Predicate<Area> filter) {
+        if (!this.grid.contains(x, y)) {
+            throw new IllegalArgumentException("Position hors de la ville : (" + x + ", " + y + ")");
+        }
+        List<Area> found = new ArrayList<>();
+        if (k <= 0 || (!rooms && this.tree.getFirstChild(0) < 0)) {
+            return found;
+        }
+        PriorityQueue<Entry> queue = new PriorityQueue<>();
+        queue.add(blockEntry(x, y, 0));
+        while (!queue.isEmpty() && found.size() < k) {
+            Entry entry = queue.poll();
+            if (entry.type == CELL) {
+                int cell = (int) entry.key;
+                if (this.grid.getKind(cell).isRoom() == rooms) {
+                    Area area = this.grid.getArea(cell);
+                    if (filter.test(area)) {
+                        found.add(area);
+                    }
+                }
+            } else if (entry.type == CELLS) {
+                int nearestX = clamp(x, entry.left, entry.right);
+                int nearestY = clamp(y, entry.top, entry.bottom);
+                queue.add(new Entry(CELL, entry.key, nearestX, nearestY, nearestX, nearestY));
+                addCells(queue, x, y, entry.left, entry.top, entry.right, nearestY - 1);
+                addCells(queue, x, y, entry.left, nearestY + 1, entry.right, entry.bottom);
+                addCells(queue, x, y, entry.left, nearestY, nearestX - 1, nearestY);
+                addCells(queue, x, y, nearestX + 1, nearestY, entry.right, nearestY);
+            } else {
+                expand(queue, x, y, entry.left, rooms);
+            }
+        }
+        return found;
+    }
+
+    private void expand(PriorityQueue<Entry> queue, int x, int y, int id, boolean rooms) {
+        int first = this.tree.getFirstChild(id);
+        if (first < 0) {
+            addCells(queue, x, y, this.tree.getLeft(id), this.tree.getTop(id), this.tree.getRight(id), this.tree.getBottom(id));
+            return;
+        }
+        if (!rooms) {
+            int crossroadX = this.tree.getCrossroadX(id);
+            int crossroadY = this.tree.getCrossroadY(id);
+            addCells(queue, x, y, this.tree.getLeft(id), crossroadY, this.tree.getRight(id), crossroadY);
+            addCells(queue, x, y, crossroadX, this.tree.getTop(id), crossroadX, crossroadY - 1);
+            addCells(queue, x, y, crossroadX, crossroadY + 1, crossroadX, this.tree.getBottom(id));
+        }
+        for (int child = first; child < first + 4; child++) {
+            if (rooms || this.tree.getFirstChild(child) >= 0) {
+                queue.add(blockEntry(x, y, child));
+            }
+        }
+    }
+
+    private Entry blockEntry(int x, int y, int id) {
+        Entry entry = cellsEntry(x, y, this.tree.getLeft(id), this.tree.getTop(id), this.tree.getRight(id), this.tree.getBottom(id));
+        return new Entry(BLOCK, entry.key, id, 0, 0, 0);
+    }
+
+    private void addCells(PriorityQueue<Entry> queue, int x, int y, int left, int top, int right, int bottom) {
+        if (left <= right && top <= bottom) {
+            queue.add(cellsEntry(x, y, left, top, right, bottom));
+        }
+    }
+
+    /**
+     * Creates the entry of a rectangle of cells, keyed by its distance to the position then by the id of its nearest cell,
+     * which no other cell of the rectangle can come before.
+     */
+    private Entry cellsEntry(int x, int y, int left, int top, int right, int bottom) {
+        int nearestX = clamp(x, left, right);
+        int nearestY = clamp(y, top, bottom);
+        long distance = Math.abs(nearestX - x) + Math.abs(nearestY - y);
+        return new Entry(CELLS, distance << 32 | this.grid.cell(nearestX, nearestY), left, top, right, bottom);
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * Block, rectangle of cells or cell waiting in a nearest query.
+     * The key holds the distance in its high half and a cell id in its low half.
+     * A block keeps its id in {@code left}.
+     */
+    private static final class Entry implements Comparable<Entry> {
+        private final int type;
+        private final long key;
+        private final int left;
+        private final int top;
+        private final int right;
+        private final int bottom;
+
+        Entry(int type, long key, int left, int top, int right, int bottom) {
+            this.type = type;
+            this.key = key;
+            this.left = left;
+            this.top = top;
+            this.right = right;
+            this.bottom = bottom;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byKey = Long.compare(this.key, other.key);
+            return byKey != 0 ? byKey : Integer.compare(other.type, this.type);
+        }
+    }
+}
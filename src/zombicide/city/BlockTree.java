@@ -0,0 +1,349 @@
+package zombicide.city;
+
+import zombicide.city.area.AreaKind;
+import zombicide.city.area.CityGrid;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tree of the blocks the city generation split the city into, the whole city at the root.
+ * Every cell of the city is either on the streets of exactly one split block, or in exactly one leaf block,
+ * so the block of a cell is found by going down the tree, in O(depth).
+ *
+ * The blocks are stored as rows of ints in pages of {@code 2^PAGE_BITS} blocks, a {@link Block} being a view over a row,
+ * so that keeping the tree of a large city costs a few arrays rather than an object per block.
+ * The four children of a block get consecutive ids. Blocks can be split from several threads at once,
+ * as the parallel generation does, the ids then depending on the order the blocks were split in.
+ */
+public final class BlockTree {
+    /** Blocks narrower or lower than this are not split, as in the city generation. */
+    static final int MIN_SPLIT_SIZE = 5;
+    /** Crossroads are at least this far from the sides of their block. */
+    private static final int CROSSROAD_MARGIN = 2;
+    /** Each split crosses at least this many cells, the smallest block a split leaves being 5x5. */
+    private static final int MIN_SPLIT_CELLS = 2 * MIN_SPLIT_SIZE - 1;
+    private static final int CHILDREN = 4;
+
+    private static final int PAGE_BITS = 12;
+    private static final int PAGE_MASK = (1 << PAGE_BITS) - 1;
+    private static final int LEFT = 0;
+    private static final int TOP = 1;
+    private static final int RIGHT = 2;
+    private static final int BOTTOM = 3;
+    private static final int PARENT = 4;
+    private static final int FIRST_CHILD = 5;
+    private static final int CROSSROAD_X = 6;
+    private static final int CROSSROAD_Y = 7;
+    private static final int STRIDE = 8;
+
+    private final int[][] pages;
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Creates the tree of a city not split yet, made of its root block.
+     *
+     * @param width  The width of the city.
+     * @param height The height of the city.
+     */
+    BlockTree(int width, int height) {
+        long maxBlocks = 1 + CHILDREN * ((long) width * height / MIN_SPLIT_CELLS);
+        this.pages = new int[(int) (maxBlocks >>> PAGE_BITS) + 1][];
+        int root = this.size.getAndIncrement();
+        set(root, 0, 0, width - 1, height - 1, -1);
+    }
+
+    /**
+     * Rebuilds the tree of a city from its streets, for a city whose generation was not kept, such as a loaded snapshot.
+     * A block is split around a row and a column of streets crossing it from side to side.
+     * When streets of its children happen to line up, several rows or columns cross it, and the first pair
+     * leaving children consistent with a generated city is chosen: small children holding rooms only,
+     * large ones crossed by streets of their own.
+     *
+     * @param grid The cells of the city.
+     * @return The tree of the city.
+     */
+    public static BlockTree of(CityGrid grid) {
+        BlockTree tree = new BlockTree(grid.getWidth(), grid.getHeight());
+        Deque<Block> toSplit = new ArrayDeque<>();
+        toSplit.push(tree.getRoot());
+        while (!toSplit.isEmpty()) {
+            Block block = toSplit.pop();
+            if (!isSplittable(block.getLeft(), block.getTop(), block.getRight(), block.getBottom())) {
+                continue;
+            }
+            List<Integer> rows = findStreetRows(grid, block.getLeft(), block.getTop(), block.getRight(), block.getBottom());
+            List<Integer> columns = findStreetColumns(grid, block.getLeft(), block.getTop(), block.getRight(), block.getBottom());
+            if (rows.isEmpty() || columns.isEmpty()) {
+                continue;
+            }
+            int x = columns.get(0);
+            int y = rows.get(0);
+            if (rows.size() > 1 || columns.size() > 1) {
+                search:
+                for (int row : rows) {
+                    for (int column : columns) {
+                        if (isConsistentSplit(grid, block, column, row)) {
+                            x = column;
+                            y = row;
+                            break search;
+                        }
+                    }
+                }
+            }
+            tree.split(block.getId(), x, y);
+            toSplit.addAll(block.getChildren());
+        }
+        return tree;
+    }
+
+    private static boolean isSplittable(int left, int top, int right, int bottom) {
+        return right - left + 1 >= MIN_SPLIT_SIZE && bottom - top + 1 >= MIN_SPLIT_SIZE;
+    }
+
+    private static boolean isConsistentSplit(CityGrid grid, Block block, int x, int y) {
+        return isConsistentChild(grid, block.getLeft(), block.getTop(), x - 1, y - 1)
+                && isConsistentChild(grid, x + 1, block.getTop(), block.getRight(), y - 1)
+                && isConsistentChild(grid, block.getLeft(), y + 1, x - 1, block.getBottom())
+                && isConsistentChild(grid, x + 1, y + 1, block.getRight(), block.getBottom());
+    }
+
+    private static boolean isConsistentChild(CityGrid grid, int left, int top, int right, int bottom) {
+        if (isSplittable(left, top, right, bottom)) {
+            return !findStreetRows(grid, left, top, right, bottom).isEmpty()
+                    && !findStreetColumns(grid, left, top, right, bottom).isEmpty();
+        }
+        for (int y = top; y <= bottom; y++) {
+            for (int x = left; x <= right; x++) {
+                if (isStreet(grid, grid.cell(x, y))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static List<Integer> findStreetRows(CityGrid grid, int left, int top, int right, int bottom) {
+        List<Integer> rows = new ArrayList<>(1);
+        for (int y = top + CROSSROAD_MARGIN; y <= bottom - CROSSROAD_MARGIN; y++) {
+            int x = left;
+            while (x <= right && isStreet(grid, grid.cell(x, y))) {
+                x++;
+            }
+            if (x > right) {
+                rows.add(y);
+            }
+        }
+        return rows;
+    }
+
+    private static List<Integer> findStreetColumns(CityGrid grid, int left, int top, int right, int bottom) {
+        List<Integer> columns = new ArrayList<>(1);
+        for (int x = left + CROSSROAD_MARGIN; x <= right - CROSSROAD_MARGIN; x++) {
+            int y = top;
+            while (y <= bottom && isStreet(grid, grid.cell(x, y))) {
+                y++;
+            }
+            if (y > bottom) {
+                columns.add(x);
+            }
+        }
+        return columns;
+    }
+
+    private static boolean isStreet(CityGrid grid, int cell) {
+        AreaKind kind = grid.getKind(cell);
+        return kind != null && !kind.isRoom();
+    }
+
+    /**
+     * Splits a leaf around a crossroad, its streets running along the row and the column of the crossroad.
+     * Several threads may split different blocks at once.
+     *
+     * @param id The id of the leaf.
+     * @param x  The X position of the crossroad, at least one column away from the sides of the block.
+     * @param y  The Y position of the crossroad, at least one row away from the sides of the block.
+     * @return The id of the first of the four children, top left, top right, bottom left then bottom right.
+     */
+    int split(int id, int x, int y) {
+        int first = this.size.getAndAdd(CHILDREN);
+        int[] row = page(id);
+        int offset = (id & PAGE_MASK) * STRIDE;
+        int left = row[offset + LEFT];
+        int top = row[offset + TOP];
+        int right = row[offset + RIGHT];
+        int bottom = row[offset + BOTTOM];
+        set(first, left, top, x - 1, y - 1, id);
+        set(first + 1, x + 1, top, right, y - 1, id);
+        set(first + 2, left, y + 1, x - 1, bottom, id);
+        set(first + 3, x + 1, y + 1, right, bottom, id);
+        row[offset + FIRST_CHILD] = first;
+        row[offset + CROSSROAD_X] = x;
+        row[offset + CROSSROAD_Y] = y;
+        return first;
+    }
+
+    private void set(int id, int left, int top, int right, int bottom, int parent) {
+        int[] row = page(id);
+        int offset = (id & PAGE_MASK) * STRIDE;
+        row[offset + LEFT] = left;
+        row[offset + TOP] = top;
+        row[offset + RIGHT] = right;
+        row[offset + BOTTOM] = bottom;
+        row[offset + PARENT] = parent;
+        row[offset + FIRST_CHILD] = -1;
+        row[offset + CROSSROAD_X] = -1;
+        row[offset + CROSSROAD_Y] = -1;
+    }
+
+    /**
+     * Retrieves the page holding a block, allocating it if the block is the first of its page to be written.
+     *
+     * @param id The id of the block.
+     * @return The page of the block.
+     */
+    private int[] page(int id) {
+        int[] page = this.pages[id >>> PAGE_BITS];
+        if (page == null) {
+            synchronized (this.pages) {
+                page = this.pages[id >>> PAGE_BITS];
+                if (page == null) {
+                    page = new int[(1 << PAGE_BITS) * STRIDE];
+                    this.pages[id >>> PAGE_BITS] = page;
+                }
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Reads a field of a block.
+     *
+     * @param id    The id of the block.
+     * @param field The index of the field in the row of the block.
+     * @return The value of the field.
+     */
+    private int get(int id, int field) {
+        return this.pages[id >>> PAGE_BITS][(id & PAGE_MASK) * STRIDE + field];
+    }
+
+    int getLeft(int id) {
+        return get(id, LEFT);
+    }
+
+    int getTop(int id) {
+        return get(id, TOP);
+    }
+
+    int getRight(int id) {
+        return get(id, RIGHT);
+    }
+
+    int getBottom(int id) {
+        return get(id, BOTTOM);
+    }
+
+    int getParent(int id) {
+        return get(id, PARENT);
+    }
+
+    int getFirstChild(int id) {
+        return get(id, FIRST_CHILD);
+    }
+
+    int getCrossroadX(int id) {
+        return get(id, CROSSROAD_X);
+    }
+
+    int getCrossroadY(int id) {
+        return get(id, CROSSROAD_Y);
+    }
+
+    /**
+     * Retrieves the block of the whole city.
+     *
+     * @return The root of the tree.
+     */
+    public Block getRoot() {
+        return new Block(this, 0);
+    }
+
+    /**
+     * Retrieves the number of blocks of the tree, split ones and leaves.
+     *
+     * @return The number of blocks.
+     */
+    public int size() {
+        return this.size.get();
+    }
+
+    /**
+     * Retrieves a block from its id.
+     *
+     * @param id The id of the block, from 0 to {@link #size()} excluded.
+     * @return The block.
+     * @throws IndexOutOfBoundsException If there is no block with this id.
+     */
+    public Block getBlock(int id) {
+        if (id < 0 || id >= size()) {
+            throw new IndexOutOfBoundsException("Bloc inconnu : " + id);
+        }
+        return new Block(this, id);
+    }
+
+    /**
+     * Retrieves the smallest block holding a position: the leaf holding it,
+     * or the split block whose streets it is on.
+     *
+     * @param x The X position.
+     * @param y The Y position.
+     * @return The block of the position.
+     * @throws IllegalArgumentException If the position is outside the city.
+     */
+    public Block getBlock(int x, int y) {
+        if (x < 0 || y < 0 || x > getRight(0) || y > getBottom(0)) {
+            throw new IllegalArgumentException("Position hors de la ville : (" + x + ", " + y + ")");
+        }
+        return new Block(this, blockOf(0, x, y));
+    }
+
+    /**
+     * Goes down the tree from a block to the smallest block holding a position.
+     *
+     * @param id The id of a block holding the position.
+     * @param x  The X position.
+     * @param y  The Y position.
+     * @return The id of the smallest block holding the position.
+     */
+    int blockOf(int id, int x, int y) {
+        int child = childOf(id, x, y);
+        while (child >= 0) {
+            id = child;
+            child = childOf(id, x, y);
+        }
+        return id;
+    }
+
+    /**
+     * Retrieves the child of a block holding a position.
+     *
+     * @param id The id of the block, holding the position.
+     * @param x  The X position.
+     * @param y  The Y position.
+     * @return The id of the child, or -1 if the position is on the streets of the block or the block is a leaf.
+     */
+    int childOf(int id, int x, int y) {
+        int[] page = this.pages[id >>> PAGE_BITS];
+        int offset = (id & PAGE_MASK) * STRIDE;
+        int first = page[offset + FIRST_CHILD];
+        int crossroadX = page[offset + CROSSROAD_X];
+        int crossroadY = page[offset + CROSSROAD_Y];
+        if (first < 0 || x == crossroadX || y == crossroadY) {
+            return -1;
+        }
+        return first + (y < crossroadY ? 0 : 2) + (x < crossroadX ? 0 : 1);
+    }
+}
@@ -3,6 +3,8 @@ package zombicide.city;
 import zombicide.action.Action;
 import zombicide.action.zombie.AttackSurvivorAction;
 import zombicide.action.zombie.ZombieMoveAction;
+import zombicide.actor.Actor;
+import zombicide.actor.ActorList;
 import zombicide.actor.survivor.Survivor;
 import zombicide.actor.zombie.Abomination;
 import zombicide.actor.zombie.Balaise;
@@ -10,12 +12,18 @@ import zombicide.actor.zombie.Walker;
 import zombicide.actor.zombie.Runner;
 import zombicide.actor.zombie.Zombie;
 import zombicide.city.area.Area;
+import zombicide.city.area.AreaKind;
+import zombicide.city.area.Bitboards;
+import zombicide.city.area.CityGrid;
+import zombicide.city.area.LineOfFire;
 import zombicide.city.area.room.Room;
 import zombicide.city.area.room.TheContinental;
 import zombicide.city.area.room.ThePharmacy;
 import zombicide.city.area.street.Manhole;
 import zombicide.city.area.street.Street;
-import zombicide.city.area.door.Door;
+import zombicide.city.path.FlowField;
+import zombicide.city.path.HierarchicalPathFinder;
+import zombicide.city.path.PathFinder;
 import zombicide.item.InfraredGlasses;
 import zombicide.item.Item;
 import zombicide.item.Map;
@@ -26,29 +34,51 @@ import zombicide.item.attackItem.weapon.*;
 import zombicide.util.Direction;
 import zombicide.util.Position;
 import zombicide.util.listchooser.RandomListChooser;
+import zombicide.util.output.GameOutput;
+import zombicide.util.output.Verbosity;
+import zombicide.util.random.RandomSource;
+import zombicide.util.random.RandomStream;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public class City {
-    protected final Area[][] areas;
-    private final Random random;
+    protected final CityGrid grid;
+    private final RandomSource[] randomStreams;
+    private final RandomSource random;
     protected Street spawn;
     private TheContinental theContinental;
     private ThePharmacy thePharmacy;
     private static final String CLOSE_DOWN = "------";
+    private int[] roomCells;
     private List<Room> rooms;
     private List<Item> items;
     protected List<Manhole> manholes;
-    private List<Survivor> survivors;
-    private List<Zombie> zombies;
+    private volatile Snapshot<Survivor> survivors;
+    private volatile Snapshot<Zombie> zombies;
+    private FlowField flowField;
+    private LineOfFire lineOfFire;
+    private PathFinder pathFinder;
+    private HierarchicalPathFinder hierarchicalPathFinder;
+    private BlockTree blocks;
+    private BlockIndex blockIndex;
+    private Bitboards bitboards;
+    private GameOutput output = GameOutput.console();
 
     private static final int MINIMAL_ITEMS = 1;
 
     private static final int MAXIMAL_ITEMS = 5;
 
+    /** Areas of at least this many cells get their own task when the city is generated in parallel. */
+    private static final long PARALLEL_SPLIT_CELLS = 128 * 128;
+
+    private final GenerationMode generationMode;
+
     /**
      * Constructs a new City object with the specified width and height.
      *
@@ -56,61 +86,206 @@ public class City {
      * @param height the height of the city
      */
     public City(int width, int height) {
-        this.areas = new Area[height][width];
-        this.random = new Random();
-        this.rooms = new ArrayList<>();
+        this(width, height, RandomSource.create());
+    }
+
+    /**
+     * Constructs a new City object whose layout and games are reproducible from a seed.
+     *
+     * @param width  the width of the city
+     * @param height the height of the city
+     * @param seed   the master seed of the city
+     */
+    public City(int width, int height, long seed) {
+        this(width, height, RandomSource.seeded(seed));
+    }
+
+    /**
+     * Constructs a new City object drawing its randomness from the given source.
+     * Each subsystem of the game gets its own stream split from this source.
+     *
+     * @param width  the width of the city
+     * @param height the height of the city
+     * @param source the master random source of the city
+     */
+    public City(int width, int height, RandomSource source) {
+        this(width, height, source, GenerationMode.SEQUENTIAL);
+    }
+
+    /**
+     * Constructs a new City object drawing its randomness from the given source, generated in the given mode.
+     * The mode only changes how fast the city is generated, not the city itself.
+     *
+     * @param width  the width of the city
+     * @param height the height of the city
+     * @param source the master random source of the city
+     * @param mode   the way the city is generated
+     */
+    public City(int width, int height, RandomSource source, GenerationMode mode) {
+        this.generationMode = mode;
+        this.grid = new CityGrid(width, height);
+        this.randomStreams = splitStreams(source);
+        this.random = getRandom(RandomStream.GENERATION);
         this.items = new ArrayList<>();
         this.manholes = new ArrayList<>();
-        this.survivors = new ArrayList<>();
-        this.zombies = new ArrayList<>();
         initCity();
     }
 
+    /**
+     * Constructs a city over a grid already holding its areas and doors, as read by {@link CitySnapshot}.
+     * The cells of the rooms are only listed when first needed.
+     *
+     * @param grid            the grid of the city
+     * @param source          the master random source of the games of the city
+     * @param spawnCell       the cell of the spawn street
+     * @param manholeCells    the cells of the manholes
+     * @param continentalCell the cell of The Continental
+     * @param pharmacyCell    the cell of The Pharmacy
+     */
+    City(CityGrid grid, RandomSource source, int spawnCell, int[] manholeCells, int continentalCell, int pharmacyCell) {
+        this.generationMode = GenerationMode.SEQUENTIAL;
+        this.grid = grid;
+        this.randomStreams = splitStreams(source);
+        this.random = getRandom(RandomStream.GENERATION);
+        this.items = new ArrayList<>();
+        this.manholes = new ArrayList<>(manholeCells.length);
+
+        this.spawn = (Street) grid.getArea(spawnCell);
+        for (int cell : manholeCells) {
+            this.manholes.add((Manhole) grid.getArea(cell));
+        }
+        this.theContinental = (TheContinental) grid.getArea(continentalCell);
+        this.thePharmacy = (ThePharmacy) grid.getArea(pharmacyCell);
+    }
+
+    /**
+     * Splits one random stream per subsystem from the master source of a city.
+     *
+     * @param source The master random source.
+     * @return The streams, indexed by the ordinal of their subsystem.
+     */
+    private static RandomSource[] splitStreams(RandomSource source) {
+        RandomSource[] streams = new RandomSource[RandomStream.values().length];
+        for (RandomStream stream : RandomStream.values()) {
+            streams[stream.ordinal()] = source.split();
+        }
+        return streams;
+    }
+
     /**
      * Retrieves all the survivors present in the city.
+     * The list is an immutable snapshot, only copied from the registry of the grid when survivors came into the city
+     * or left it since the last call: moves within the city do not copy it again.
+     * The city is not thread-safe, but a snapshot is published safely, so threads calling this method
+     * while nothing changes the city all get the same complete list, and a list once returned can be shared.
      *
      * @return A list of all survivors in the city.
      */
     public List<Survivor> getSurvivors() {
-        this.survivors.clear();
-
-        for (int i = 0; i < getHeight(); i++) {
-            for (int j = 0; j < getWidth(); j++) {
-                Area area = this.getArea(j, i);
-                this.survivors.addAll(area.getSurvivors());
-            }
+        ActorList<Survivor> registry = this.grid.getSurvivors();
+        Snapshot<Survivor> snapshot = this.survivors;
+        if (snapshot == null || snapshot.version != registry.getModCount()) {
+            snapshot = new Snapshot<>(registry);
+            this.survivors = snapshot;
         }
-        return this.survivors;
+        return snapshot.actors;
     }
 
     /**
      * Retrieves all the zombies present in the city.
+     * The list is an immutable snapshot, only copied from the registry of the grid when zombies came into the city
+     * or left it since the last call: moves within the city do not copy it again.
+     * The city is not thread-safe, but a snapshot is published safely, so threads calling this method
+     * while nothing changes the city all get the same complete list, and a list once returned can be shared.
      *
      * @return A list of all zombies in the city.
      */
     public List<Zombie> getZombies() {
-        this.zombies.clear();
+        ActorList<Zombie> registry = this.grid.getZombies();
+        Snapshot<Zombie> snapshot = this.zombies;
+        if (snapshot == null || snapshot.version != registry.getModCount()) {
+            snapshot = new Snapshot<>(registry);
+            this.zombies = snapshot;
+        }
+        return snapshot.actors;
+    }
 
-        for (int i = 0; i < getHeight(); i++) {
-            for (int j = 0; j < getWidth(); j++) {
-                Area area = this.getArea(j, i);
-                this.zombies.addAll(area.getZombies());
-            }
+    /**
+     * Immutable copy of a registry of actors, with the number of changes of the registry it was copied at.
+     */
+    private static final class Snapshot<A extends Actor> {
+        private final int version;
+        private final List<A> actors;
+
+        private Snapshot(ActorList<A> registry) {
+            this.version = registry.getModCount();
+            this.actors = List.copyOf(registry);
         }
-        return this.zombies;
     }
 
     /**
      * Retrieves the array of areas representing the city.
+     * Every area of the city is created by this call, prefer {@link #getArea(int, int)} on large cities.
      *
      * @return The array of areas representing the city.
      */
     public Area[][] getAreas() {
-        return this.areas;
+        Area[][] areas = new Area[getHeight()][getWidth()];
+        for (int y = 0; y < getHeight(); y++) {
+            for (int x = 0; x < getWidth(); x++) {
+                areas[y][x] = getArea(x, y);
+            }
+        }
+        return areas;
     }
 
     public Area getArea(int x, int y) {
-        return this.areas[y][x];
+        return this.grid.getArea(x, y);
+    }
+
+    /**
+     * Checks if an actor can walk from one area of the city to another through open doors,
+     * in O(α(n)) without any search, the doors joining the cells being kept in a union-find.
+     *
+     * @param a The first area.
+     * @param b The second area.
+     * @return true if the areas are joined by open doors, false otherwise.
+     */
+    public boolean isReachable(Area a, Area b) {
+        return this.grid.isReachable(this.grid.cell(a.getX(), a.getY()), this.grid.cell(b.getX(), b.getY()));
+    }
+
+    /**
+     * Retrieves the grid holding the cells of the city.
+     *
+     * @return The grid of the city.
+     */
+    public CityGrid getGrid() {
+        return this.grid;
+    }
+
+    /**
+     * Places an area of the given kind at a position and creates it.
+     *
+     * @param x    The X position of the area.
+     * @param y    The Y position of the area.
+     * @param kind The kind of area.
+     * @return The new area.
+     */
+    protected Area placeArea(int x, int y, AreaKind kind) {
+        int cell = this.grid.cell(x, y);
+        this.grid.setKind(cell, kind);
+        return this.grid.getArea(cell);
+    }
+
+    /**
+     * Retrieves the random stream of a subsystem of the city.
+     *
+     * @param stream The subsystem.
+     * @return The random source of the subsystem.
+     */
+    public RandomSource getRandom(RandomStream stream) {
+        return this.randomStreams[stream.ordinal()];
     }
 
     /**
@@ -143,32 +318,30 @@ public class City {
     }
 
     /**
-     * Initializes doors for the rooms and areas.
+     * Closes the doors of the rooms and the doors on the border of the city.
      *
-     * @param rooms The list of rooms in the city.
+     * @param roomCells The cells of the rooms in the city.
      */
-    private void initDoors(List<Room> rooms) {
-        createDoors();
-
-        for (Room r : rooms) {
+    private void initDoors(int[] roomCells) {
+        for (int cell : roomCells) {
             for (Direction d : Direction.values()) {
-                r.getDoor(d).close();
+                this.grid.setDoorOpen(cell, d, false);
             }
         }
 
         for (int i = 0; i < this.getWidth(); i++) {
-            this.getAreas()[0][i].getDoor(Direction.UP).close();
+            this.grid.setDoorOpen(this.grid.cell(i, 0), Direction.UP, false);
         }
         
          for (int i = 0 ; i < this.getHeight(); i++) {
-        	 this.getAreas()[i][0].getDoor(Direction.LEFT).close();
+        	 this.grid.setDoorOpen(this.grid.cell(0, i), Direction.LEFT, false);
          }
 
          for (int i=0; i<this.getWidth(); i++)
-             this.getAreas()[this.getHeight()-1][i].getDoor(Direction.DOWN).close();
+             this.grid.setDoorOpen(this.grid.cell(i, this.getHeight()-1), Direction.DOWN, false);
 
          for (int i=0; i<this.getHeight(); i++)
-             this.getAreas()[i][getWidth()-1].getDoor(Direction.RIGHT).close();
+             this.grid.setDoorOpen(this.grid.cell(getWidth()-1, i), Direction.RIGHT, false);
     }
 
     /**
@@ -179,9 +352,7 @@ public class City {
     protected void createSpawnStreet(Position p) {
         int x = p.getX();
         int y = p.getY();
-        this.spawn = new Street(x, y);
-        Street.setSpawn(this.spawn);
-        this.areas[y][x] = this.spawn;
+        this.spawn = (Street) placeArea(x, y, AreaKind.STREET);
     }
 
     /**
@@ -191,8 +362,8 @@ public class City {
      * @param pos2 The second position.
      * @return A random position between the bounds.
      */
-    private Position getRandomCrossRoadPos(Position pos1, Position pos2) {
-        return getRandomPos(pos1, pos2, 2);
+    private Position getRandomCrossRoadPos(Position pos1, Position pos2, RandomSource random) {
+        return getRandomPos(pos1, pos2, 2, random);
     }
 
     /**
@@ -203,7 +374,7 @@ public class City {
      * @return A random position between the bounds.
      */
     private Position getRandomRoomPos(Position pos1, Position pos2) {
-        return getRandomPos(pos1, pos2, 0);
+        return getRandomPos(pos1, pos2, 0, this.random);
     }
 
     /**
@@ -214,35 +385,125 @@ public class City {
      * @param delimiter The delimiter to adjust randomness.
      * @return A random position between the bounds.
      */
-    private Position getRandomPos(Position pos1, Position pos2, int delimiter) {
+    private Position getRandomPos(Position pos1, Position pos2, int delimiter, RandomSource random) {
         int x = random.nextInt((pos2.getX() - delimiter + 1) - (pos1.getX() + delimiter)) + pos1.getX() + delimiter;
         int y = random.nextInt((pos2.getY() - delimiter + 1) - (pos1.getY() + delimiter)) + pos1.getY() + delimiter;
         return new Position(x, y);
     }
 
     /**
-     * Splits the areas of the city recursively.
+     * Splits the areas of the city, each area drawing from its own random source.
+     * The first area draws from the generation stream, and every area gives each of its splittable parts
+     * a source seeded from its own, so the city does not depend on the order the areas are split in.
+     * The blocks the areas were split into are kept as the {@link BlockTree} of the city.
      *
      * @param topLeftPos      The top left position of the area.
      * @param bottomRightPos  The bottom right position of the area.
      */
     private void splitAreas(Position topLeftPos, Position bottomRightPos) {
-        Position crossroadPos = getRandomCrossRoadPos(topLeftPos, bottomRightPos);
+        this.blocks = new BlockTree(getWidth(), getHeight());
+        Split city = new Split(topLeftPos, bottomRightPos, this.random, this.blocks.getRoot().getId());
+        if (this.generationMode == GenerationMode.PARALLEL) {
+            ForkJoinPool.commonPool().invoke(new SplitTask(city));
+        } else {
+            splitFrom(city, false);
+        }
+    }
+
+    /**
+     * Splits an area and all its parts, depth first, with an explicit stack of the areas left to split.
+     *
+     * @param first    The area to split.
+     * @param parallel true to give large parts their own fork/join task, false to split everything here.
+     */
+    private void splitFrom(Split first, boolean parallel) {
+        Deque<Split> toSplit = new ArrayDeque<>();
+        List<SplitTask> forked = new ArrayList<>();
+        toSplit.push(first);
+
+        while (!toSplit.isEmpty()) {
+            List<Split> parts = split(toSplit.pop());
+            for (int i = parts.size() - 1; i >= 0; i--) {
+                Split part = parts.get(i);
+                if (parallel && part.getCells() >= PARALLEL_SPLIT_CELLS) {
+                    SplitTask task = new SplitTask(part);
+                    task.fork();
+                    forked.add(task);
+                } else {
+                    toSplit.push(part);
+                }
+            }
+        }
+        for (SplitTask task : forked) {
+            task.join();
+        }
+    }
+
+    /**
+     * Splits one area around a random crossroad and retrieves its parts which can be split again.
+     * The parts of an area never overlap, and the streets of an area are only drawn inside it.
+     *
+     * @param area The area to split.
+     * @return The splittable parts of the area, each with its own random source.
+     */
+    private List<Split> split(Split area) {
+        Position crossroadPos = getRandomCrossRoadPos(area.topLeftPos, area.bottomRightPos, area.random);
 
         if (!spawnAlreadyCreated()) {
             createSpawnStreet(crossroadPos);
-            createManholes(crossroadPos, bottomRightPos);
+            createManholes(crossroadPos, area.bottomRightPos);
         }
-        createStreets(crossroadPos, topLeftPos, bottomRightPos);
-
-        List<Position[]> areasPositions = getSplittedPositions(crossroadPos, topLeftPos, bottomRightPos);
-        for (Position[] positions : areasPositions) {
-            Position newTopLeftPos = positions[0];
-            Position newBottomRightPos = positions[1];
-            if (isAreaSplittable(newTopLeftPos, newBottomRightPos)) {
-                splitAreas(newTopLeftPos, newBottomRightPos);
+        createStreets(crossroadPos, area.topLeftPos, area.bottomRightPos);
+
+        List<Split> parts = new ArrayList<>(4);
+        int firstChild = this.blocks.split(area.block, crossroadPos.getX(), crossroadPos.getY());
+        List<Position[]> splittedPositions = getSplittedPositions(crossroadPos, area.topLeftPos, area.bottomRightPos);
+        for (int i = 0; i < splittedPositions.size(); i++) {
+            Position[] positions = splittedPositions.get(i);
+            if (isAreaSplittable(positions[0], positions[1])) {
+                parts.add(new Split(positions[0], positions[1], RandomSource.seeded(area.random.nextLong()), firstChild + i));
             }
         }
+        return parts;
+    }
+
+    /**
+     * An area of the city left to split, with the random source it draws from and its block.
+     */
+    private static final class Split {
+        private final Position topLeftPos;
+        private final Position bottomRightPos;
+        private final RandomSource random;
+        private final int block;
+
+        private Split(Position topLeftPos, Position bottomRightPos, RandomSource random, int block) {
+            this.topLeftPos = topLeftPos;
+            this.bottomRightPos = bottomRightPos;
+            this.random = random;
+            this.block = block;
+        }
+
+        private long getCells() {
+            return (long) (bottomRightPos.getX() - topLeftPos.getX() + 1) * (bottomRightPos.getY() - topLeftPos.getY() + 1);
+        }
+    }
+
+    /**
+     * Fork/join task splitting an area and its parts.
+     */
+    private final class SplitTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Split area;
+
+        private SplitTask(Split area) {
+            this.area = area;
+        }
+
+        @Override
+        protected void compute() {
+            splitFrom(this.area, true);
+        }
     }
 
     private boolean spawnAlreadyCreated() {
@@ -258,50 +519,48 @@ public class City {
         Position pos;
         do {
             pos = getRandomRoomPos(getTopLeftPosition(), getBottomRightPosition());
-        } while (this.getAreas()[pos.getY()][pos.getX()] != null);
+        } while (!this.grid.isEmpty(this.grid.cell(pos.getX(), pos.getY())));
         return pos;
     }
 
     /**
-     * Creates a special room of the given type and adds it to the city.
+     * Creates a special room of the given kind at an empty position.
      *
-     * @param room  The class representing the special room.
-     * @param rooms The list of rooms in the city.
+     * @param kind The kind of the special room.
      * @return The created special room.
      */
-    private Room createSpecialRoom(Class<? extends Room> room, List<Room> rooms) {
+    private Room createSpecialRoom(AreaKind kind) {
         Position pos = getEmptyRoomPos();
-        int x = pos.getX();
-        int y = pos.getY();
-
-        try {
-            Room r = room.getDeclaredConstructor(int.class, int.class).newInstance(x, y);
-            this.areas[y][x] = r;
-            rooms.add(r);
-            return r;
-        } catch (Exception e) {
-            return null;
-        }
+        return (Room) placeArea(pos.getX(), pos.getY(), kind);
     }
 
     /**
      * Initializes the city by creating special rooms and regular rooms.
+     * Regular rooms are only placed in the grid, their areas are created when needed.
      */
     private void createRooms() {
 
-        this.theContinental = (TheContinental) createSpecialRoom(TheContinental.class, rooms);
-        this.thePharmacy = (ThePharmacy) createSpecialRoom(ThePharmacy.class, rooms);
+        this.theContinental = (TheContinental) createSpecialRoom(AreaKind.CONTINENTAL);
+        this.thePharmacy = (ThePharmacy) createSpecialRoom(AreaKind.PHARMACY);
 
-        for (int i = 0; i < this.getHeight(); i++) {
-            for (int j = 0; j < this.getWidth(); j++) {
-                if (this.areas[i][j] == null) {
-                    Room r = new Room(j, i);
-                    this.areas[i][j] = r;
-                    rooms.add(r);
-                }
+        int emptyCells = 0;
+        for (int cell = 0; cell < this.grid.size(); cell++) {
+            if (this.grid.isEmpty(cell)) {
+                emptyCells++;
+            }
+        }
+
+        this.roomCells = new int[emptyCells + 2];
+        this.roomCells[0] = this.grid.cell(this.theContinental.getX(), this.theContinental.getY());
+        this.roomCells[1] = this.grid.cell(this.thePharmacy.getX(), this.thePharmacy.getY());
+        int nbRooms = 2;
+        for (int cell = 0; cell < this.grid.size(); cell++) {
+            if (this.grid.isEmpty(cell)) {
+                this.grid.setKind(cell, AreaKind.ROOM);
+                this.roomCells[nbRooms++] = cell;
             }
         }
-        initDoors(rooms);
+        initDoors(this.roomCells);
     }
 
     /**
@@ -311,15 +570,10 @@ public class City {
      * @param bottomRightPos  The position representing the bottom-right corner of the area to be considered.
      */
     protected void createManholes(Position crossroadPos, Position bottomRightPos) {
-        this.areas[0][crossroadPos.getX()] = new Manhole(crossroadPos.getX(), 0);
-        this.areas[crossroadPos.getY()][bottomRightPos.getX()] = new Manhole(bottomRightPos.getX(), crossroadPos.getY());
-        this.areas[bottomRightPos.getY()][crossroadPos.getX()] = new Manhole(crossroadPos.getX(), bottomRightPos.getY());
-        this.areas[crossroadPos.getY()][0] = new Manhole(0, crossroadPos.getY());
-
-        this.manholes.add((Manhole) this.areas[0][crossroadPos.getX()]);
-        this.manholes.add((Manhole) this.areas[crossroadPos.getY()][bottomRightPos.getX()]);
-        this.manholes.add((Manhole) this.areas[bottomRightPos.getY()][crossroadPos.getX()]);
-        this.manholes.add((Manhole) this.areas[crossroadPos.getY()][0]);
+        this.manholes.add((Manhole) placeArea(crossroadPos.getX(), 0, AreaKind.MANHOLE));
+        this.manholes.add((Manhole) placeArea(bottomRightPos.getX(), crossroadPos.getY(), AreaKind.MANHOLE));
+        this.manholes.add((Manhole) placeArea(crossroadPos.getX(), bottomRightPos.getY(), AreaKind.MANHOLE));
+        this.manholes.add((Manhole) placeArea(0, crossroadPos.getY(), AreaKind.MANHOLE));
     }
 
     /**
@@ -357,15 +611,17 @@ public class City {
 
 
         for (int i = 0; i < width; i++) {
-            if (this.areas[cY][tX + i] == null) {
-                this.areas[cY][tX + i] = new Street(tX + i, cY);
+            int cell = this.grid.cell(tX + i, cY);
+            if (this.grid.isEmpty(cell)) {
+                this.grid.setKind(cell, AreaKind.STREET);
             }
         }
 
 
         for (int i = 0; i < height; i++) {
-            if (this.areas[tY + i][cX] == null) {
-                this.areas[tY + i][cX] = new Street(cX, tY + i);
+            int cell = this.grid.cell(cX, tY + i);
+            if (this.grid.isEmpty(cell)) {
+                this.grid.setKind(cell, AreaKind.STREET);
             }
         }
     }
@@ -386,52 +642,54 @@ public class City {
      * Displays the city by printing the areas.
      */
     public void display() {
+        if (this.output.isEnabled(Verbosity.BOARD)) {
+            this.output.print(Verbosity.BOARD, this.getDisplay());
+        }
+    }
+
+    /**
+     * Draws the city, three lines per row of areas.
+     *
+     * @return The drawing of the city.
+     */
+    public String getDisplay() {
+        String lineSeparator = System.lineSeparator();
+        StringBuilder board = new StringBuilder();
         for (int i = 0; i < getHeight(); i++) {
             for (int n = 0; n < 3; n++) {
                 for (int j = 0; j < getWidth(); j++) {
-                    this.areas[i][j].display(n);
+                    board.append(getArea(j, i).getDisplay(n));
                 }
                 if (n != 0) {
-                    System.out.println('|');
-                } else {
-                    System.out.println();
+                    board.append('|');
                 }
+                board.append(lineSeparator);
             }
         }
         for (int s = 0; s < getWidth(); s++) {
-            System.out.print(CLOSE_DOWN);
+            board.append(CLOSE_DOWN);
         }
-        System.out.print('\n');
+        return board.append('\n').toString();
     }
-    
+
     /**
-     * Creates doors between areas.
-     */
-    private void createDoors() {
-        for (int i = 0; i < this.getHeight(); i++) {
-            for (int j = 0; j < this.getWidth(); j++) {
-                Door upDoor = new Door();
-                Door leftDoor = new Door();
-                try {
-                    Area area = this.areas[i][j];
-                    area.addDoor(Direction.UP, upDoor);
-                    area.addDoor(Direction.LEFT, leftDoor);
-                } catch (ArrayIndexOutOfBoundsException ignored) {
-                }
-                try {
-                    Area upArea = this.areas[i - 1][j];
-                    upArea.addDoor(Direction.DOWN, upDoor);
-                } catch (ArrayIndexOutOfBoundsException ignored) {
-                }
-                try {
-                    Area leftArea = this.areas[i][j - 1];
-                    leftArea.addDoor(Direction.RIGHT, leftDoor);
-                } catch (ArrayIndexOutOfBoundsException ignored) {
-                }
-            }
-        }
+     * Retrieves the output the games of the city are narrated to.
+     *
+     * @return The output of the city.
+     */
+    public GameOutput getOutput() {
+        return output;
     }
 
+    /**
+     * Sets the output the games of the city are narrated to.
+     *
+     * @param output The new output, {@link GameOutput#silent()} for headless games.
+     */
+    public void setOutput(GameOutput output) {
+        this.output = output;
+    }
+    
     /**
      * Gets the width of the areas based on the given positions.
      *
@@ -460,7 +718,7 @@ public class City {
      * @return The width of the city.
      */
     public int getWidth() {
-        return this.areas[0].length;
+        return this.grid.getWidth();
     }
 
     /**
@@ -469,7 +727,7 @@ public class City {
      * @return The height of the city.
      */
     public int getHeight() {
-        return this.areas.length;
+        return this.grid.getHeight();
     }
 
     /**
@@ -480,7 +738,7 @@ public class City {
      * @return The area above the specified position.
      */
     public Area getCellUp(int x, int y) {
-        return this.areas[y-1][x];
+        return getArea(x, y - 1);
     }
 
 
@@ -548,10 +806,11 @@ public class City {
             this.items.add(masterKey);
         }
 
-        int sizeRooms = this.rooms.size();
+        int[] roomCells = getRoomCells();
+        int sizeRooms = roomCells.length;
         for (Item i : items) {
             int r = random.nextInt(sizeRooms);
-            this.rooms.get(r).addItem(i);
+            ((Room) this.grid.getArea(roomCells[r])).addItem(i);
         }
     }
 
@@ -569,16 +828,67 @@ public class City {
     }
 
 
+    /**
+     * Retrieves the rooms of the city, the special rooms first.
+     * Every room of the city is created by the first call.
+     *
+     * @return The rooms of the city.
+     */
     public List<Room> getRooms() {
+        if (this.rooms == null) {
+            int[] roomCells = getRoomCells();
+            this.rooms = new ArrayList<>(roomCells.length);
+            for (int cell : roomCells) {
+                this.rooms.add((Room) this.grid.getArea(cell));
+            }
+        }
         return rooms;
     }
 
+    /**
+     * Retrieves the cells of the rooms, the special rooms first, without creating their areas.
+     * The other rooms come in the order of their cells.
+     *
+     * @return The cells of the rooms, shared with the city.
+     */
+    int[] getRoomCells() {
+        if (this.roomCells == null) {
+            int nbRooms = 2;
+            for (int cell = 0; cell < this.grid.size(); cell++) {
+                if (this.grid.getKind(cell) == AreaKind.ROOM) {
+                    nbRooms++;
+                }
+            }
+            this.roomCells = new int[nbRooms];
+            this.roomCells[0] = this.grid.cell(this.theContinental.getX(), this.theContinental.getY());
+            this.roomCells[1] = this.grid.cell(this.thePharmacy.getX(), this.thePharmacy.getY());
+            nbRooms = 2;
+            for (int cell = 0; cell < this.grid.size(); cell++) {
+                if (this.grid.getKind(cell) == AreaKind.ROOM) {
+                    this.roomCells[nbRooms++] = cell;
+                }
+            }
+        }
+        return this.roomCells;
+    }
+
+    /**
+     * Puts an item of the city in a room.
+     *
+     * @param cell The cell of the room.
+     * @param item The item.
+     */
+    void placeItem(int cell, Item item) {
+        this.items.add(item);
+        ((Room) this.grid.getArea(cell)).addItem(item);
+    }
+
     public Street getSpawn() {
         return spawn;
     }
 
     public boolean containsRoom(Room r){
-        return this.rooms.contains(r);
+        return this.grid.contains(r.getX(), r.getY()) && this.getArea(r.getX(), r.getY()) == r;
     }
 
     public List<Manhole> getManholes() {
@@ -603,9 +913,9 @@ public class City {
 
     public void dispatchItems2(){
         List<Item> items = listOfItems();
-        RandomListChooser<Item> chooser = new RandomListChooser<>();
+        RandomListChooser<Item> chooser = new RandomListChooser<>(this.random);
 
-        for (Room r : this.rooms) {
+        for (Room r : getRooms()) {
             for (int x = 0; x < throwDice(MINIMAL_ITEMS, MAXIMAL_ITEMS + 1); x++) {
                 Item item = chooser.choose(items);
                 r.addItem(item);
@@ -613,19 +923,156 @@ public class City {
         }
     }
 
-    public Area getAreaNoiseMax() {
-        Area areaMaxNoise = this.spawn;
-        int maxNoise = 0;
-        for (int i=0; i<getWidth(); i++) {
-            for (int j=0; j<getHeight(); j++) {
-                int noiseArea = this.getArea(i, j).getNoise();
-                if (noiseArea > maxNoise) {
-                    areaMaxNoise = this.getArea(i, j);
-                    maxNoise = noiseArea;
-                }
-            }
+    /**
+     * Retrieves the flow field zombies follow during the current phase.
+     *
+     * @return The flow field, or null if zombies use the distance heuristic.
+     */
+    public FlowField getFlowField() {
+        return flowField;
+    }
+
+    /**
+     * Sets the flow field zombies follow, or null to go back to the distance heuristic.
+     *
+     * @param flowField The flow field to follow.
+     */
+    public void setFlowField(FlowField flowField) {
+        this.flowField = flowField;
+    }
+
+    /**
+     * Retrieves the ray tables weapons use to find the cells in their range, creating them on the first call.
+     *
+     * @return The line of fire of the city.
+     */
+    public LineOfFire getLineOfFire() {
+        if (this.lineOfFire == null) {
+            this.lineOfFire = new LineOfFire(this.grid);
         }
-        return areaMaxNoise;
+        return this.lineOfFire;
+    }
+
+    /**
+     * Retrieves the finder of the shortest routes between the areas of the city, creating it on the first call.
+     *
+     * @return The path finder of the city.
+     */
+    public PathFinder getPathFinder() {
+        if (this.pathFinder == null) {
+            this.pathFinder = new PathFinder(this.grid);
+        }
+        return this.pathFinder;
+    }
+
+    /**
+     * Retrieves the blocks the city was split into when it was generated.
+     * For a city loaded from a snapshot, they are rebuilt from its streets on the first call.
+     *
+     * @return The block tree of the city.
+     */
+    public BlockTree getBlocks() {
+        if (this.blocks == null) {
+            this.blocks = BlockTree.of(this.grid);
+        }
+        return this.blocks;
+    }
+
+    /**
+     * Retrieves the finder of the shortest routes between the areas of the city going through its blocks,
+     * creating it on the first call. It is meant for large cities, where a flat search would cross too many cells.
+     *
+     * @return The hierarchical path finder of the city.
+     */
+    public HierarchicalPathFinder getHierarchicalPathFinder() {
+        if (this.hierarchicalPathFinder == null) {
+            this.hierarchicalPathFinder = new HierarchicalPathFinder(this.grid, getBlocks());
+        }
+        return this.hierarchicalPathFinder;
+    }
+
+    /**
+     * Retrieves the bitboards of the city, the streets, the rooms, the open doors and the zombies one bit per cell,
+     * creating them on the first call.
+     *
+     * @return The bitboards of the city.
+     */
+    public Bitboards getBitboards() {
+        if (this.bitboards == null) {
+            this.bitboards = new Bitboards(this.grid, this.grid.cell(this.theContinental.getX(), this.theContinental.getY()));
+        }
+        return this.bitboards;
+    }
+
+    /**
+     * Retrieves the spatial index of the city over its blocks, creating it on the first call.
+     * Once created, it follows the actors as they move and the items as they are dropped.
+     *
+     * @return The block index of the city.
+     */
+    public BlockIndex getBlockIndex() {
+        if (this.blockIndex == null) {
+            this.blockIndex = new BlockIndex(this.grid, getBlocks(), getRoomCells());
+        }
+        return this.blockIndex;
+    }
+
+    /**
+     * Counts the zombies in the areas of a rectangle, in O(1) once the first count has been asked for.
+     * The window of radius r around an area is (x - r, y - r, x + r, y + r); the parts outside the city are left out.
+     *
+     * @param left   The X position of the left side of the rectangle.
+     * @param top    The Y position of the top side of the rectangle.
+     * @param right  The X position of the right side of the rectangle, included.
+     * @param bottom The Y position of the bottom side of the rectangle, included.
+     * @return The number of zombies in the rectangle.
+     */
+    public int countZombies(int left, int top, int right, int bottom) {
+        return this.grid.countZombies(left, top, right, bottom);
+    }
+
+    /**
+     * Counts the survivors in the areas of a rectangle, in O(1) once the first count has been asked for.
+     *
+     * @param left   The X position of the left side of the rectangle.
+     * @param top    The Y position of the top side of the rectangle.
+     * @param right  The X position of the right side of the rectangle, included.
+     * @param bottom The Y position of the bottom side of the rectangle, included.
+     * @return The number of survivors in the rectangle.
+     */
+    public int countSurvivors(int left, int top, int right, int bottom) {
+        return this.grid.countSurvivors(left, top, right, bottom);
+    }
+
+    /**
+     * Retrieves the total noise of the areas of a rectangle, in O(1) once the first total has been asked for.
+     *
+     * @param left   The X position of the left side of the rectangle.
+     * @param top    The Y position of the top side of the rectangle.
+     * @param right  The X position of the right side of the rectangle, included.
+     * @param bottom The Y position of the bottom side of the rectangle, included.
+     * @return The total noise of the rectangle.
+     */
+    public int getNoise(int left, int top, int right, int bottom) {
+        return this.grid.getNoise(left, top, right, bottom);
+    }
+
+    /**
+     * Resets the noise level of every area of the city to 0.
+     */
+    public void resetNoise() {
+        this.grid.clearNoise();
+    }
+
+    /**
+     * Retrieves the noisiest area of the city.
+     * On a tie, the first area met column by column wins, and the spawn wins when every area is silent.
+     *
+     * @return The noisiest area of the city.
+     */
+    public Area getAreaNoiseMax() {
+        Area areaMaxNoise = this.grid.getNoisiest();
+        return areaMaxNoise == null ? this.spawn : areaMaxNoise;
     }
 
 
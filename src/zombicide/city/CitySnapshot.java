@@ -0,0 +1,244 @@
+package zombicide.city;
+
+import zombicide.city.area.AreaKind;
+import zombicide.city.area.CityGrid;
+import zombicide.city.area.room.Room;
+import zombicide.city.area.street.Manhole;
+import zombicide.item.InfraredGlasses;
+import zombicide.item.Item;
+import zombicide.item.Map;
+import zombicide.item.MasterKey;
+import zombicide.item.attackItem.weapon.Axe;
+import zombicide.item.attackItem.weapon.Chainsaw;
+import zombicide.item.attackItem.weapon.Crowbar;
+import zombicide.item.attackItem.weapon.Pistol;
+import zombicide.item.attackItem.weapon.Riffle;
+import zombicide.item.careItem.FirstAidKit;
+import zombicide.item.careItem.HealingFiask;
+import zombicide.util.random.RandomSource;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Binary snapshot of the layout of a city, so that many games can be played on the same city without generating it again.
+ * A snapshot holds the kind of every cell, the doors, the spawn, the manholes, the special rooms
+ * and the items lying in the rooms. The actors and the noise of a city are not saved.
+ *
+ * The file is little-endian: a header of eight ints (magic, version, width, height, spawn, The Continental,
+ * The Pharmacy, number of manholes), the door words of the {@link zombicide.city.area.door.DoorGrid},
+ * the cells of the manholes, one byte per cell for the kinds, then the items as a count followed by
+ * (cell, item code) pairs. Loading maps the file and copies each block in bulk.
+ */
+public final class CitySnapshot {
+    /** "ZCTY" */
+    private static final int MAGIC = 0x5A435459;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8 * Integer.BYTES;
+
+    /** The items a snapshot can hold, the code of an item being its index in this list. */
+    private static final List<Supplier<Item>> ITEM_TYPES = List.of(
+            Axe::new, Chainsaw::new, Crowbar::new, Pistol::new, Riffle::new,
+            FirstAidKit::new, HealingFiask::new, InfraredGlasses::new, Map::new, MasterKey::new);
+    private static final List<Class<?>> ITEM_CLASSES = List.of(
+            Axe.class, Chainsaw.class, Crowbar.class, Pistol.class, Riffle.class,
+            FirstAidKit.class, HealingFiask.class, InfraredGlasses.class, Map.class, MasterKey.class);
+
+    private CitySnapshot() {
+    }
+
+    /**
+     * Generates a city and writes its snapshot.
+     *
+     * @param args width, height, seed and the file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 4) {
+            throw new IllegalArgumentException("Arguments attendus : largeur hauteur graine fichier");
+        }
+        City city = new City(Integer.parseInt(args[0]), Integer.parseInt(args[1]), RandomSource.seeded(Long.parseLong(args[2])),
+                GenerationMode.PARALLEL);
+        write(city, Paths.get(args[3]));
+    }
+
+    /**
+     * Writes the layout of a city to a file, replacing it if it exists.
+     *
+     * @param city The city to save.
+     * @param path The file to write.
+     * @throws IOException If the file cannot be written.
+     * @throws IllegalArgumentException If a room holds an item a snapshot cannot hold.
+     */
+    public static void write(City city, Path path) throws IOException {
+        CityGrid grid = city.getGrid();
+        int[] roomCells = city.getRoomCells();
+        List<Manhole> manholes = city.getManholes();
+
+        int itemCount = 0;
+        for (int cell : roomCells) {
+            if (grid.hasArea(cell)) {
+                itemCount += ((Room) grid.getArea(cell)).getItems().size();
+            }
+        }
+
+        long size = HEADER_BYTES
+                + (long) grid.getDoors().getWordCount() * Long.BYTES
+                + (long) manholes.size() * Integer.BYTES
+                + grid.size()
+                + Integer.BYTES + (long) itemCount * (Integer.BYTES + 1);
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Ville trop grande pour un instantané : " + city.getWidth() + "x" + city.getHeight());
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(city.getWidth()).putInt(city.getHeight());
+        buffer.putInt(grid.cell(city.getSpawn().getX(), city.getSpawn().getY()));
+        buffer.putInt(roomCells[0]).putInt(roomCells[1]);
+        buffer.putInt(manholes.size());
+
+        LongBuffer doors = buffer.asLongBuffer();
+        grid.getDoors().writeTo(doors);
+        buffer.position(buffer.position() + doors.position() * Long.BYTES);
+
+        for (Manhole manhole : manholes) {
+            buffer.putInt(grid.cell(manhole.getX(), manhole.getY()));
+        }
+        grid.writeKinds(buffer);
+
+        buffer.putInt(itemCount);
+        for (int cell : roomCells) {
+            if (grid.hasArea(cell)) {
+                for (Item item : ((Room) grid.getArea(cell)).getItems()) {
+                    buffer.putInt(cell).put(codeOf(item));
+                }
+            }
+        }
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Loads a city from a snapshot, its games drawing from an unpredictable random source.
+     *
+     * @param path The file to read.
+     * @return The city.
+     * @throws IOException If the file cannot be read or is not a valid snapshot.
+     */
+    public static City read(Path path) throws IOException {
+        return read(path, RandomSource.create());
+    }
+
+    /**
+     * Loads a city from a snapshot.
+     * Two cities loaded from the same file with sources seeded alike play the same games.
+     *
+     * @param path   The file to read.
+     * @param source The master random source of the games of the city.
+     * @return The city.
+     * @throws IOException If the file cannot be read or is not a valid snapshot.
+     */
+    public static City read(Path path, RandomSource source) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(mapped.order(ByteOrder.LITTLE_ENDIAN), source, path);
+        }
+    }
+
+    private static City read(ByteBuffer buffer, RandomSource source, Path path) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Ce fichier n'est pas un instantané de ville : " + path);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Version d'instantané non prise en charge : " + version);
+            }
+            int width = buffer.getInt();
+            int height = buffer.getInt();
+            if (width < 1 || height < 1 || (long) width * height > buffer.remaining()) {
+                throw new IOException("Dimensions de ville invalides : " + width + "x" + height);
+            }
+            CityGrid grid = new CityGrid(width, height);
+            int spawnCell = checkCell(grid, buffer.getInt());
+            int continentalCell = checkCell(grid, buffer.getInt());
+            int pharmacyCell = checkCell(grid, buffer.getInt());
+            int manholeCount = buffer.getInt();
+            if (manholeCount < 0 || manholeCount > grid.size()) {
+                throw new IOException("Nombre de bouches d'égout invalide : " + manholeCount);
+            }
+            int[] manholeCells = new int[manholeCount];
+
+            LongBuffer doors = buffer.asLongBuffer();
+            grid.getDoors().readFrom(doors);
+            buffer.position(buffer.position() + doors.position() * Long.BYTES);
+
+            for (int i = 0; i < manholeCells.length; i++) {
+                manholeCells[i] = checkCell(grid, buffer.getInt());
+            }
+            grid.readKinds(buffer);
+            checkKind(grid, spawnCell, AreaKind.STREET);
+            checkKind(grid, continentalCell, AreaKind.CONTINENTAL);
+            checkKind(grid, pharmacyCell, AreaKind.PHARMACY);
+            for (int cell : manholeCells) {
+                checkKind(grid, cell, AreaKind.MANHOLE);
+            }
+
+            City city = new City(grid, source, spawnCell, manholeCells, continentalCell, pharmacyCell);
+            int itemCount = buffer.getInt();
+            for (int i = 0; i < itemCount; i++) {
+                int cell = checkCell(grid, buffer.getInt());
+                city.placeItem(cell, itemOf(buffer.get()));
+            }
+            return city;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Instantané de ville tronqué : " + path, e);
+        } catch (IllegalArgumentException | ClassCastException e) {
+            throw new IOException("Instantané de ville invalide : " + path, e);
+        }
+    }
+
+    private static void checkKind(CityGrid grid, int cell, AreaKind kind) throws IOException {
+        if (grid.getKind(cell) != kind) {
+            throw new IOException("La case " + cell + " devrait être de type " + kind + " : " + grid.getKind(cell));
+        }
+    }
+
+    private static int checkCell(CityGrid grid, int cell) {
+        if (cell < 0 || cell >= grid.size()) {
+            throw new IllegalArgumentException("Case hors de la ville : " + cell);
+        }
+        return cell;
+    }
+
+    private static byte codeOf(Item item) {
+        int code = ITEM_CLASSES.indexOf(item.getClass());
+        if (code < 0) {
+            throw new IllegalArgumentException("Objet non pris en charge par les instantanés : " + item.getClass().getSimpleName());
+        }
+        return (byte) code;
+    }
+
+    private static Item itemOf(byte code) {
+        if (code < 0 || code >= ITEM_TYPES.size()) {
+            throw new IllegalArgumentException("Code d'objet inconnu : " + code);
+        }
+        return ITEM_TYPES.get(code).get();
+    }
+}
@@ -0,0 +1,14 @@
+package zombicide.city;
+
+/**
+ * The ways a city can be generated. Both give the same city for the same seed.
+ */
+public enum GenerationMode {
+
+    /** Split the areas of the city one after the other on the calling thread. */
+    SEQUENTIAL,
+
+    /** Split large areas of the city concurrently, as fork/join tasks. */
+    PARALLEL;
+
+}
@@ -1,7 +1,7 @@
 package zombicide.city;
 
+import zombicide.city.area.AreaKind;
 import zombicide.city.area.street.Manhole;
-import zombicide.city.area.street.Street;
 import zombicide.util.Position;
 
 public class TrainCity extends City {
@@ -16,9 +16,7 @@ public class TrainCity extends City {
     protected void createSpawnStreet(Position p) {
         int x = p.getX();
         int y = p.getY();
-        this.spawn = new Manhole(x, y);
-        Street.setSpawn(this.spawn);
-        this.areas[y][x] = this.spawn;
+        this.spawn = (Manhole) placeArea(x, y, AreaKind.MANHOLE);
     }
 
     @Override
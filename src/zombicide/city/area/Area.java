@@ -1,19 +1,25 @@
 package zombicide.city.area;
 
 import zombicide.actor.Actor;
+import zombicide.actor.ActorList;
 import zombicide.actor.survivor.Survivor;
 import zombicide.actor.zombie.Zombie;
 import zombicide.city.area.door.Door;
+import zombicide.item.Item;
 import zombicide.util.Color;
 import zombicide.util.Direction;
+import zombicide.util.output.GameOutput;
+import zombicide.util.output.Verbosity;
 
-import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Abstract class representing an area in the game.
+ * The area of a city is a view over a cell of its {@link CityGrid}, which holds its noise and its doors;
+ * an area created on its own keeps them itself.
  */
 public abstract class Area {
     protected static final String resetColorCode = Color.RESET.getCode();
@@ -29,7 +35,9 @@ public abstract class Area {
     private final int posX;
     private final int posY;
     private int noise;
-    protected final Map<Direction, Door> doors;
+    private CityGrid grid;
+    private int cell;
+    private Map<Direction, Door> doors;
 
     /**
      * Constructor for the Area class.
@@ -40,13 +48,20 @@ public abstract class Area {
     public Area(int posX, int posY) {
         this.posX = posX;
         this.posY = posY;
-        this.survivors = new ArrayList<>();
-        this.zombies = new ArrayList<>();
+        this.survivors = new ActorList<>();
+        this.zombies = new ActorList<>();
         this.noise = 0;
-        this.doors = new HashMap<>();
-        for (Direction d : Direction.values()) {
-            doors.put(d, new Door());
-        }
+    }
+
+    /**
+     * Attaches the area to the cell of the grid it is the view of.
+     *
+     * @param grid The grid of the city.
+     * @param cell The id of the cell of the area.
+     */
+    void attach(CityGrid grid, int cell) {
+        this.grid = grid;
+        this.cell = cell;
     }
 
     public List<Survivor> getSurvivors() {
@@ -64,7 +79,23 @@ public abstract class Area {
      * @return The door in the specified direction.
      */
     public Door getDoor(Direction direction) {
-        return this.doors.get(direction);
+        if (this.grid != null) {
+            return this.grid.getDoor(this.cell, direction);
+        }
+        return ownDoors().get(direction);
+    }
+
+    /**
+     * Checks if the door in the specified direction is open, without going through a {@link Door}.
+     *
+     * @param direction The direction of the door.
+     * @return true if the door is open, false otherwise.
+     */
+    public boolean isDoorOpen(Direction direction) {
+        if (this.grid != null) {
+            return this.grid.isDoorOpen(this.cell, direction);
+        }
+        return ownDoors().get(direction).isOpen();
     }
 
     /**
@@ -73,17 +104,44 @@ public abstract class Area {
      * @return Map containing all doors in the area.
      */
     public Map<Direction, Door> getDoors() {
-        return doors;
+        if (this.grid != null) {
+            Map<Direction, Door> gridDoors = new EnumMap<>(Direction.class);
+            for (Direction d : Direction.values()) {
+                gridDoors.put(d, getDoor(d));
+            }
+            return gridDoors;
+        }
+        return ownDoors();
     }
 
     /**
      * Adds a door to the area in the specified direction.
+     * In a city, the state of the door is copied to the door the area shares with its neighbour.
      * 
      * @param direction The direction of the door.
      * @param door The door to add.
      */
     public void addDoor(Direction direction, Door door) {
-        doors.put(direction, door);
+        if (this.grid != null) {
+            this.grid.setDoorOpen(this.cell, direction, door.isOpen());
+            return;
+        }
+        ownDoors().put(direction, door);
+    }
+
+    /**
+     * Retrieves the doors of an area created outside of a city, creating them open on the first call.
+     *
+     * @return The doors of the area.
+     */
+    private Map<Direction, Door> ownDoors() {
+        if (this.doors == null) {
+            this.doors = new HashMap<>();
+            for (Direction d : Direction.values()) {
+                this.doors.put(d, new Door());
+            }
+        }
+        return this.doors;
     }
 
     /**
@@ -114,19 +172,20 @@ public abstract class Area {
     }
 
     /**
-     * Abstract method to display the area with specific parameters.
+     * Retrieves one of the three lines drawing the area on the board.
      * 
-     * @param n Specific parameters for displaying the area.
+     * @param n The line to draw: the upper wall, then the name and the zombies, then the survivors.
+     * @return The line drawing the area.
      */
-    public void display(int n) {
+    public String getDisplay(int n) {
     	if (n == 0) {
-			System.out.print(this.getDoor(Direction.UP).isOpen() ? OPEN_UP : CLOSE_UP);
+			return this.isDoorOpen(Direction.UP) ? OPEN_UP : CLOSE_UP;
     	}
     	else if (n == 1) {
-    		System.out.print(this.getDoor(Direction.LEFT).isOpen() ? openLeft1() : closeLeft1());
+    		return this.isDoorOpen(Direction.LEFT) ? openLeft1() : closeLeft1();
     	}
     	else {
-    		System.out.print(this.getDoor(Direction.LEFT).isOpen() ? openLeft2() : closeLeft2());
+    		return this.isDoorOpen(Direction.LEFT) ? openLeft2() : closeLeft2();
     	}
     }
 
@@ -183,6 +242,9 @@ public abstract class Area {
     public void addZombie(Zombie z) {
         // z.setArea(this);  // Set the area for the zombie (if needed)
         this.zombies.add(z);
+        if (this.grid != null) {
+            this.grid.addZombie(this.cell, z);
+        }
     }
 
     /**
@@ -193,55 +255,102 @@ public abstract class Area {
     public void addSurvivor(Survivor s) {
         // s.setArea(this);  // Set the area for the survivor (if needed)
         this.survivors.add(s);
+        if (this.grid != null) {
+            this.grid.addSurvivor(this.cell, s);
+        }
     }
 
     /**
-     * Removes an actor (zombie or survivor) from the area.
-     * Removes the actor from both the zombie and survivor lists.
+     * Removes an actor (zombie or survivor) leaving the city from the area, in constant time.
+     * Only the list matching the kind of the actor is searched, and the last actor of that list takes its place.
      *
      * @param a The Actor to remove.
      */
     public void removeActor(Actor a) {
-        this.survivors.remove(a);
-        this.zombies.remove(a);
+        removeActor(a, false);
+    }
+
+    /**
+     * Removes an actor moving to another area, in constant time.
+     * If that area is in the same city, the actor stays in the registry of the city and only the counts of the areas change.
+     *
+     * @param a           The Actor to remove.
+     * @param destination The area the actor moves to.
+     */
+    public void removeMovingActor(Actor a, Area destination) {
+        removeActor(a, destination.grid == this.grid);
+    }
+
+    private void removeActor(Actor a, boolean moving) {
+        if (a instanceof Survivor) {
+            if (this.survivors.remove(a) && this.grid != null) {
+                this.grid.removeSurvivor(this.cell, (Survivor) a, moving);
+            }
+        } else if (this.zombies.remove(a) && this.grid != null) {
+            this.grid.removeZombie(this.cell, (Zombie) a, moving);
+        }
+    }
+
+    /**
+     * Tells the grid of the area that an item was dropped in it.
+     *
+     * @param item The item.
+     */
+    protected void itemAdded(Item item) {
+        if (this.grid != null) {
+            this.grid.itemAdded(this.cell, item);
+        }
     }
 
     public void displayActors() {
+        displayActors(GameOutput.console());
+    }
+
+    /**
+     * Displays the survivors and the zombies of the area, unless it is the Continental.
+     *
+     * @param output The output to display them on.
+     */
+    public void displayActors(GameOutput output) {
         if (!isContinental()) {
-            System.out.println("Survivors:");
-            if (!survivors.isEmpty()) {
-                for (Survivor s : survivors) {
-                    System.out.print("| " + s.getName() + " ");
-                }
-                System.out.println("|");
-            } else {
-                System.out.println("Nobody");
+            output.println(Verbosity.BOARD, "Survivors:");
+            if (output.isEnabled(Verbosity.BOARD)) {
+                output.println(Verbosity.BOARD, describeActors(survivors));
             }
-
-            System.out.println("Zombies:");
-            if (!zombies.isEmpty()) {
-                for (Zombie z : zombies) {
-                    System.out.print("| " + z.getName() + " ");
-                }
-                System.out.println("|");
-            } else {
-                System.out.println("Nobody");
+            output.println(Verbosity.BOARD, "Zombies:");
+            if (output.isEnabled(Verbosity.BOARD)) {
+                output.println(Verbosity.BOARD, describeActors(zombies));
             }
         }
     }
 
+    private String describeActors(List<? extends Actor> actors) {
+        if (actors.isEmpty()) {
+            return "Nobody";
+        }
+        StringBuilder line = new StringBuilder();
+        for (Actor a : actors) {
+            line.append("| ").append(a.getName()).append(' ');
+        }
+        return line.append('|').toString();
+    }
+
 
 
     public int getNoise(){
-        return this.noise;
+        return this.grid != null ? this.grid.getNoise(this.cell) : this.noise;
     }
 
     public void setNoise(int noise){
-        this.noise = noise;
+        if (this.grid != null) {
+            this.grid.setNoise(this.cell, noise);
+        } else {
+            this.noise = noise;
+        }
     }
 
     public void increaseNoiseLevel(int n){
-        this.noise += n;
+        setNoise(getNoise() + n);
     }
 
     public String openLeft1() {
@@ -0,0 +1,82 @@
+package zombicide.city.area;
+
+import zombicide.city.area.room.Room;
+import zombicide.city.area.room.TheContinental;
+import zombicide.city.area.room.ThePharmacy;
+import zombicide.city.area.street.Manhole;
+import zombicide.city.area.street.Street;
+
+/**
+ * The kinds of area a cell of the city grid can hold.
+ */
+public enum AreaKind {
+    STREET {
+        @Override
+        Area create(int x, int y) {
+            return new Street(x, y);
+        }
+    },
+    MANHOLE {
+        @Override
+        Area create(int x, int y) {
+            return new Manhole(x, y);
+        }
+    },
+    ROOM {
+        @Override
+        Area create(int x, int y) {
+            return new Room(x, y);
+        }
+    },
+    CONTINENTAL {
+        @Override
+        Area create(int x, int y) {
+            return new TheContinental(x, y);
+        }
+    },
+    PHARMACY {
+        @Override
+        Area create(int x, int y) {
+            return new ThePharmacy(x, y);
+        }
+    };
+
+    private static final AreaKind[] VALUES = values();
+
+    /**
+     * Creates an area of this kind.
+     *
+     * @param x The X position of the area.
+     * @param y The Y position of the area.
+     * @return The new area.
+     */
+    abstract Area create(int x, int y);
+
+    /**
+     * Checks if areas of this kind are rooms.
+     *
+     * @return true if they are rooms, false if they are streets.
+     */
+    public boolean isRoom() {
+        return this == ROOM || this == CONTINENTAL || this == PHARMACY;
+    }
+
+    /**
+     * Retrieves a kind from its code in the grid.
+     *
+     * @param code The code of the kind, 0 meaning no area yet.
+     * @return The kind, or null for code 0.
+     */
+    static AreaKind of(byte code) {
+        return code == 0 ? null : VALUES[code - 1];
+    }
+
+    /**
+     * Retrieves the code of this kind in the grid.
+     *
+     * @return The code of the kind, never 0.
+     */
+    byte code() {
+        return (byte) (ordinal() + 1);
+    }
+}
@@ -0,0 +1,410 @@
+package zombicide.city.area;
+
+import zombicide.city.area.door.DoorGrid;
+import zombicide.util.Direction;
+
+import java.util.Arrays;
+
+/**
+ * Boolean facts about the cells of a city packed as bitboards, one bit per cell,
+ * so that they are combined and spread 64 cells at a time.
+ * A board is a {@code long[]} of {@link #getRowWords()} words per row, each row starting on a new word:
+ * cell (x, y) is bit {@code x % 64} of word {@code y * rowWords + x / 64}, the bits past the width staying clear.
+ *
+ * The streets and the rooms are read from the grid when the boards are created. The open doors are read again,
+ * a run of 64 edges at a time, the first time they are needed after a door opened or closed.
+ * The zombies are the rows of the {@link ZombieOccupancy} of the grid, kept up to date as they move.
+ *
+ * A flood fill spreads along each row with shifts doubling their length (1, 2, 4 ... 32 cells), carrying over
+ * from one word to the next, then from row to row through the open doors, sweeping down then up the city
+ * until nothing changes. The Continental can be left out of a fill, so that it is neither entered nor crossed.
+ */
+public final class Bitboards {
+    private final CityGrid grid;
+    private final int width;
+    private final int height;
+    private final int rowWords;
+    private final int continental;
+    private final long[] streets;
+    private final long[] rooms;
+    private final long[] cells;
+    private final long[] outsideContinental;
+    private final long[][] openDoors;
+    private int doorEpoch;
+
+    /**
+     * Creates the boards of a grid.
+     *
+     * @param grid        The grid of the city.
+     * @param continental The id of the cell of the Continental.
+     */
+    public Bitboards(CityGrid grid, int continental) {
+        this.grid = grid;
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        this.rowWords = (this.width + 63) >>> 6;
+        this.continental = continental;
+        this.streets = newBoard();
+        this.rooms = newBoard();
+        this.cells = newBoard();
+        for (int cell = 0; cell < grid.size(); cell++) {
+            int x = cell % this.width;
+            int y = cell / this.width;
+            set(this.cells, x, y);
+            if (grid.isEmpty(cell)) {
+                continue;
+            }
+            set(grid.getKind(cell).isRoom() ? this.rooms : this.streets, x, y);
+        }
+        this.outsideContinental = this.cells.clone();
+        removeContinental(this.outsideContinental);
+        this.openDoors = new long[Direction.values().length][];
+        this.doorEpoch = grid.getDoors().getEpoch() - 1;
+    }
+
+    /**
+     * Retrieves the number of words of each row of a board.
+     *
+     * @return The number of words per row.
+     */
+    public int getRowWords() {
+        return this.rowWords;
+    }
+
+    /**
+     * Creates an empty board the size of the city.
+     *
+     * @return The new board.
+     */
+    public long[] newBoard() {
+        return new long[this.rowWords * this.height];
+    }
+
+    /**
+     * Checks if a cell is set on a board.
+     *
+     * @param board The board.
+     * @param x     The X position of the cell.
+     * @param y     The Y position of the cell.
+     * @return true if the bit of the cell is set, false otherwise.
+     */
+    public boolean isSet(long[] board, int x, int y) {
+        return (board[y * this.rowWords + (x >>> 6)] & (1L << x)) != 0;
+    }
+
+    /**
+     * Sets a cell on a board.
+     *
+     * @param board The board.
+     * @param x     The X position of the cell.
+     * @param y     The Y position of the cell.
+     */
+    public void set(long[] board, int x, int y) {
+        board[y * this.rowWords + (x >>> 6)] |= 1L << x;
+    }
+
+    private void clear(long[] board, int x, int y) {
+        board[y * this.rowWords + (x >>> 6)] &= ~(1L << x);
+    }
+
+    /**
+     * Counts the cells set on a board.
+     *
+     * @param board The board.
+     * @return The number of bits set.
+     */
+    public static int count(long[] board) {
+        int count = 0;
+        for (long word : board) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Clears the cell of the Continental on a board.
+     *
+     * @param board The board.
+     */
+    public void removeContinental(long[] board) {
+        clear(board, this.continental % this.width, this.continental / this.width);
+    }
+
+    /**
+     * Retrieves the board of the streets, manholes included. It must not be modified.
+     *
+     * @return The streets of the city.
+     */
+    public long[] getStreets() {
+        return this.streets;
+    }
+
+    /**
+     * Retrieves the board of the rooms, the special rooms included. It must not be modified.
+     *
+     * @return The rooms of the city.
+     */
+    public long[] getRooms() {
+        return this.rooms;
+    }
+
+    /**
+     * Retrieves the board of the cells holding zombies, kept up to date as they move. It must not be modified.
+     *
+     * @return The cells holding at least one zombie.
+     */
+    public long[] getZombies() {
+        return this.grid.getZombieOccupancy().getRows();
+    }
+
+    /**
+     * Retrieves the board of the cells whose door in a direction is open, the doors on the border of the city
+     * being left out. It must not be modified, and is replaced by a new one once a door opens or closes.
+     *
+     * @param direction The direction of the doors.
+     * @return The cells whose door in that direction is open.
+     */
+    public long[] getOpenDoors(Direction direction) {
+        int epoch = this.grid.getDoors().getEpoch();
+        if (epoch != this.doorEpoch) {
+            readDoors();
+            this.doorEpoch = epoch;
+        }
+        return this.openDoors[direction.ordinal()];
+    }
+
+    private void readDoors() {
+        DoorGrid doors = this.grid.getDoors();
+        for (Direction d : Direction.values()) {
+            long[] board = newBoard();
+            for (int y = 0; y < this.height; y++) {
+                doors.readEdges(doors.edge(0, y, d), this.width, board, y * this.rowWords);
+            }
+            this.openDoors[d.ordinal()] = board;
+        }
+        // the doors on the border lead out of the city
+        long[] up = this.openDoors[Direction.UP.ordinal()];
+        long[] down = this.openDoors[Direction.DOWN.ordinal()];
+        Arrays.fill(up, 0, this.rowWords, 0);
+        Arrays.fill(down, (this.height - 1) * this.rowWords, this.height * this.rowWords, 0);
+        for (int y = 0; y < this.height; y++) {
+            clear(this.openDoors[Direction.LEFT.ordinal()], 0, y);
+            clear(this.openDoors[Direction.RIGHT.ordinal()], this.width - 1, y);
+        }
+    }
+
+    /**
+     * Retrieves the cells of a board and those one move away from them through open doors,
+     * the next frontier of a search being {@code expand(cells) & ~cells}.
+     *
+     * @param cells            The cells to move from, left as they are.
+     * @param avoidContinental true to never enter the Continental.
+     * @return The board of the cells and their open neighbours.
+     */
+    public long[] expand(long[] cells, boolean avoidContinental) {
+        long[] allowed = avoidContinental ? this.outsideContinental : this.cells;
+        long[] right = getOpenDoors(Direction.RIGHT);
+        long[] down = getOpenDoors(Direction.DOWN);
+        long[] expanded = cells.clone();
+        for (int y = 0; y < this.height; y++) {
+            int row = y * this.rowWords;
+            for (int w = 0; w < this.rowWords; w++) {
+                int i = row + w;
+                long moved = (cells[i] & right[i]) << 1 | cells[i] >>> 1 & right[i];
+                if (w > 0) {
+                    moved |= (cells[i - 1] & right[i - 1]) >>> 63;
+                }
+                if (w + 1 < this.rowWords) {
+                    moved |= (cells[i + 1] & 1L) << 63 & right[i];
+                }
+                if (y > 0) {
+                    moved |= cells[i - this.rowWords] & down[i - this.rowWords];
+                }
+                if (y + 1 < this.height) {
+                    moved |= cells[i + this.rowWords] & down[i];
+                }
+                expanded[i] |= moved & allowed[i];
+            }
+        }
+        return expanded;
+    }
+
+    /**
+     * Retrieves the cells an actor can reach from a cell through open doors.
+     *
+     * @param x                  The X position of the cell.
+     * @param y                  The Y position of the cell.
+     * @param avoidContinental   true to neither enter nor cross the Continental.
+     * @return The board of the reachable cells, the cell itself included unless it is the avoided Continental.
+     */
+    public long[] getReachable(int x, int y, boolean avoidContinental) {
+        long[] seeds = newBoard();
+        set(seeds, x, y);
+        return flood(seeds, avoidContinental);
+    }
+
+    /**
+     * Retrieves the cells in line with a cell that can be seen from it, along its row and its column
+     * up to the first closed door in each direction.
+     *
+     * @param x The X position of the cell.
+     * @param y The Y position of the cell.
+     * @return The board of the cells seen, the cell itself included.
+     */
+    public long[] getVisible(int x, int y) {
+        long[] visible = newBoard();
+        set(visible, x, y);
+        fillRow(visible, y * this.rowWords, this.cells, getOpenDoors(Direction.RIGHT));
+        long[] down = getOpenDoors(Direction.DOWN);
+        for (int row = y; row + 1 < this.height && isSet(down, x, row); row++) {
+            set(visible, x, row + 1);
+        }
+        for (int row = y; row > 0 && isSet(down, x, row - 1); row--) {
+            set(visible, x, row - 1);
+        }
+        return visible;
+    }
+
+    /**
+     * Retrieves the cells an actor can reach through open doors from any cell of a board.
+     *
+     * @param seeds            The cells to start from, left as they are.
+     * @param avoidContinental true to neither enter nor cross the Continental.
+     * @return The board of the reachable cells, the seeds included.
+     */
+    public long[] flood(long[] seeds, boolean avoidContinental) {
+        long[] allowed = avoidContinental ? this.outsideContinental : this.cells;
+        long[] right = getOpenDoors(Direction.RIGHT);
+        long[] down = getOpenDoors(Direction.DOWN);
+        long[] reached = new long[seeds.length];
+        for (int i = 0; i < reached.length; i++) {
+            reached[i] = seeds[i] & allowed[i];
+        }
+        boolean first = true;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int y = 0; y < this.height; y++) {
+                changed |= spread(reached, y, y - 1, down, y - 1, allowed, right, first);
+            }
+            first = false;
+            for (int y = this.height - 1; y >= 0; y--) {
+                changed |= spread(reached, y, y + 1, down, y, allowed, right, false);
+            }
+        }
+        return reached;
+    }
+
+    /**
+     * Adds to a row the cells entered from a neighbouring row, then fills the row along its open doors
+     * if any cell was entered: a row is only changed by what enters it once it has been filled.
+     *
+     * @param board   The board being filled.
+     * @param y       The row to fill.
+     * @param from    The neighbouring row, possibly outside the city.
+     * @param doors   The board of the doors between the two rows, open downwards.
+     * @param doorRow The row of the doors on that board, the upper of the two rows.
+     * @param allowed The cells the fill may enter.
+     * @param right   The board of the doors open to the right.
+     * @param force   true to fill the row even if no cell entered it, for its first fill.
+     * @return true if the row changed, false otherwise.
+     */
+    private boolean spread(long[] board, int y, int from, long[] doors, int doorRow, long[] allowed, long[] right,
+            boolean force) {
+        int row = y * this.rowWords;
+        boolean entered = false;
+        if (from >= 0 && from < this.height) {
+            int source = from * this.rowWords;
+            int door = doorRow * this.rowWords;
+            for (int w = 0; w < this.rowWords; w++) {
+                long incoming = board[source + w] & doors[door + w] & allowed[row + w] & ~board[row + w];
+                if (incoming != 0) {
+                    board[row + w] |= incoming;
+                    entered = true;
+                }
+            }
+        }
+        if (!entered && !force) {
+            return false;
+        }
+        return fillRow(board, row, allowed, right) || entered;
+    }
+
+    /**
+     * Fills a row of a board to the right then to the left along the open doors, in O(words).
+     *
+     * @param board   The board.
+     * @param row     The first word of the row.
+     * @param allowed The cells the fill may enter.
+     * @param right   The board of the doors open to the right.
+     * @return true if the row changed, false otherwise.
+     */
+    private boolean fillRow(long[] board, int row, long[] allowed, long[] right) {
+        boolean changed = false;
+        long previousOpen = 0;
+        long previousFilled = 0;
+        for (int w = 0; w < this.rowWords; w++) {
+            long open = right[row + w];
+            // bit i: cell i can be entered from cell i - 1, bit 0 from the last cell of the previous word
+            long enter = (open << 1 | previousOpen >>> 63) & allowed[row + w];
+            long before = board[row + w];
+            long filled = fill(before | (previousFilled >>> 63 & enter & 1L), enter, true);
+            if (filled != before) {
+                board[row + w] = filled;
+                changed = true;
+            }
+            previousOpen = open;
+            previousFilled = filled;
+        }
+        long nextFilled = 0;
+        for (int w = this.rowWords - 1; w >= 0; w--) {
+            // bit i: cell i can be entered from cell i + 1, bit 63 from the first cell of the next word
+            long enter = right[row + w] & allowed[row + w];
+            long before = board[row + w];
+            long filled = fill(before | ((nextFilled & 1L) << 63 & enter), enter, false);
+            if (filled != before) {
+                board[row + w] = filled;
+                changed = true;
+            }
+            nextFilled = filled;
+        }
+        return changed;
+    }
+
+    /**
+     * Spreads the bits of a word along the bits they can enter, by shifts doubling their length.
+     *
+     * @param seeds  The bits to spread.
+     * @param enter  The bits that can be entered from their neighbour on the side the spread comes from.
+     * @param upward true to spread towards the high bits, false towards the low bits.
+     * @return The seeds and every bit reached from them.
+     */
+    private static long fill(long seeds, long enter, boolean upward) {
+        if (upward) {
+            seeds |= enter & (seeds << 1);
+            enter &= enter << 1;
+            seeds |= enter & (seeds << 2);
+            enter &= enter << 2;
+            seeds |= enter & (seeds << 4);
+            enter &= enter << 4;
+            seeds |= enter & (seeds << 8);
+            enter &= enter << 8;
+            seeds |= enter & (seeds << 16);
+            enter &= enter << 16;
+            seeds |= enter & (seeds << 32);
+        } else {
+            seeds |= enter & (seeds >>> 1);
+            enter &= enter >>> 1;
+            seeds |= enter & (seeds >>> 2);
+            enter &= enter >>> 2;
+            seeds |= enter & (seeds >>> 4);
+            enter &= enter >>> 4;
+            seeds |= enter & (seeds >>> 8);
+            enter &= enter >>> 8;
+            seeds |= enter & (seeds >>> 16);
+            enter &= enter >>> 16;
+            seeds |= enter & (seeds >>> 32);
+        }
+        return seeds;
+    }
+}
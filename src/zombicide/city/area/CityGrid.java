@@ -0,0 +1,557 @@
+package zombicide.city.area;
+
+import zombicide.actor.ActorList;
+import zombicide.actor.survivor.Survivor;
+import zombicide.actor.zombie.Zombie;
+import zombicide.city.area.door.Door;
+import zombicide.city.area.door.DoorGrid;
+import zombicide.item.Item;
+import zombicide.util.Direction;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Storage of the cells of a city as flat primitive arrays indexed by cell id ({@code y * width + x}).
+ * The kind of every cell, its noise and its number of actors live in the arrays, the doors in a {@link DoorGrid},
+ * and the {@link Area} of a cell is only created the first time it is asked for, then kept,
+ * since it is the one carrying the actors and the items of the cell.
+ * Created areas are kept in pages of {@code 2^PAGE_BITS} cells, a page being allocated with its first area.
+ * Noise and actor counts are only allocated once a cell gets some.
+ * Their sums over rectangles come from {@link SummedAreaTable}s, only allocated on the first query,
+ * and the cells holding zombies are also kept in the row and column bitsets of a {@link ZombieOccupancy}.
+ * The grid also keeps a registry of every actor standing in one of its areas,
+ * and tells its {@link GridListener}s about the actors moving and the items dropped.
+ */
+public class CityGrid {
+    private static final int PAGE_BITS = 12;
+    private static final int PAGE_MASK = (1 << PAGE_BITS) - 1;
+
+    private final int width;
+    private final int height;
+    private final byte[] kinds;
+    private final DoorGrid doors;
+    private final Area[][] views;
+    private int[] noises;
+    private int[] survivorCounts;
+    private int[] zombieCounts;
+    private NoiseIndex noiseIndex;
+    private SummedAreaTable noiseSums;
+    private SummedAreaTable survivorSums;
+    private SummedAreaTable zombieSums;
+    private ZombieOccupancy zombieOccupancy;
+    private final ActorList<Survivor> survivors = ActorList.registry();
+    private final ActorList<Zombie> zombies = ActorList.registry();
+    private GridListener[] listeners = new GridListener[0];
+
+    /**
+     * Creates an empty grid, every door being open.
+     *
+     * @param width  The width of the grid.
+     * @param height The height of the grid.
+     */
+    public CityGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.kinds = new byte[width * height];
+        this.doors = new DoorGrid(width, height);
+        this.views = new Area[((width * height) >>> PAGE_BITS) + 1][];
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Retrieves the number of cells of the grid.
+     *
+     * @return The number of cells.
+     */
+    public int size() {
+        return this.kinds.length;
+    }
+
+    /**
+     * Retrieves the id of the cell at the given position.
+     *
+     * @param x The X position of the cell.
+     * @param y The Y position of the cell.
+     * @return The id of the cell.
+     */
+    public int cell(int x, int y) {
+        return y * this.width + x;
+    }
+
+    /**
+     * Checks if a position is inside the grid.
+     *
+     * @param x The X position.
+     * @param y The Y position.
+     * @return true if the position is inside the grid, false otherwise.
+     */
+    public boolean contains(int x, int y) {
+        return x >= 0 && y >= 0 && x < this.width && y < this.height;
+    }
+
+    /**
+     * Retrieves the kind of area of a cell.
+     *
+     * @param cell The id of the cell.
+     * @return The kind of the cell, or null if no area was placed on it yet.
+     */
+    public AreaKind getKind(int cell) {
+        return AreaKind.of(this.kinds[cell]);
+    }
+
+    /**
+     * Places an area of the given kind on a cell, without creating the area itself.
+     *
+     * @param cell The id of the cell.
+     * @param kind The kind of area.
+     */
+    public void setKind(int cell, AreaKind kind) {
+        this.kinds[cell] = kind.code();
+        Area[] page = this.views[cell >>> PAGE_BITS];
+        if (page != null) {
+            page[cell & PAGE_MASK] = null;
+        }
+    }
+
+    /**
+     * Checks if no area was placed on a cell yet.
+     *
+     * @param cell The id of the cell.
+     * @return true if the cell is empty, false otherwise.
+     */
+    public boolean isEmpty(int cell) {
+        return this.kinds[cell] == 0;
+    }
+
+    /**
+     * Copies the kind of every cell, one byte per cell in the order of the cells, to a buffer.
+     *
+     * @param buffer The buffer to write to, with at least {@link #size()} bytes remaining.
+     */
+    public void writeKinds(ByteBuffer buffer) {
+        buffer.put(this.kinds);
+    }
+
+    /**
+     * Replaces the kind of every cell by the bytes written by {@link #writeKinds(ByteBuffer)}.
+     * The areas already created are dropped.
+     *
+     * @param buffer The buffer to read from, with at least {@link #size()} bytes remaining.
+     * @throws IllegalArgumentException If a byte is not the code of a kind, an empty cell included.
+     */
+    public void readKinds(ByteBuffer buffer) {
+        buffer.get(this.kinds);
+        int codes = AreaKind.values().length;
+        for (int cell = 0; cell < this.kinds.length; cell++) {
+            if (this.kinds[cell] <= 0 || this.kinds[cell] > codes) {
+                throw new IllegalArgumentException("Type de case inconnu : " + this.kinds[cell] + " en " + cell);
+            }
+        }
+        Arrays.fill(this.views, null);
+    }
+
+    /**
+     * Checks if the area of a cell was already created.
+     *
+     * @param cell The id of the cell.
+     * @return true if the area exists, false if it would be created by {@link #getArea(int)}.
+     */
+    public boolean hasArea(int cell) {
+        Area[] page = this.views[cell >>> PAGE_BITS];
+        return page != null && page[cell & PAGE_MASK] != null;
+    }
+
+    /**
+     * Retrieves the area at the given position, creating it on the first call.
+     *
+     * @param x The X position of the area.
+     * @param y The Y position of the area.
+     * @return The area at that position.
+     * @throws ArrayIndexOutOfBoundsException If the position is outside the grid.
+     */
+    public Area getArea(int x, int y) {
+        if (!contains(x, y)) {
+            throw new ArrayIndexOutOfBoundsException("Position hors de la ville : (" + x + ", " + y + ")");
+        }
+        return getArea(cell(x, y));
+    }
+
+    /**
+     * Retrieves the area of a cell, creating it on the first call.
+     *
+     * @param cell The id of the cell.
+     * @return The area of the cell, or null if no area was placed on it yet.
+     */
+    public Area getArea(int cell) {
+        Area[] page = this.views[cell >>> PAGE_BITS];
+        Area view = page == null ? null : page[cell & PAGE_MASK];
+        if (view == null) {
+            AreaKind kind = getKind(cell);
+            if (kind == null) {
+                return null;
+            }
+            if (page == null) {
+                page = new Area[1 << PAGE_BITS];
+                this.views[cell >>> PAGE_BITS] = page;
+            }
+            view = kind.create(cell % this.width, cell / this.width);
+            view.attach(this, cell);
+            page[cell & PAGE_MASK] = view;
+        }
+        return view;
+    }
+
+    /**
+     * Checks if the door of a cell in the given direction is open.
+     *
+     * @param cell      The id of the cell.
+     * @param direction The direction of the door.
+     * @return true if the door is open, false otherwise.
+     */
+    public boolean isDoorOpen(int cell, Direction direction) {
+        return this.doors.isOpen(cell % this.width, cell / this.width, direction);
+    }
+
+    /**
+     * Retrieves the door of a cell in the given direction.
+     *
+     * @param cell      The id of the cell.
+     * @param direction The direction of the door.
+     * @return The door, equal to the door of the neighbouring cell on the same edge.
+     */
+    public Door getDoor(int cell, Direction direction) {
+        return this.doors.getDoor(cell % this.width, cell / this.width, direction);
+    }
+
+    /**
+     * Retrieves the doors of the grid.
+     *
+     * @return The doors of the grid, one bit per edge.
+     */
+    public DoorGrid getDoors() {
+        return this.doors;
+    }
+
+    /**
+     * Opens or closes the door of a cell in the given direction.
+     * The door is shared with the neighbouring cell, which sees the same change.
+     *
+     * @param cell      The id of the cell.
+     * @param direction The direction of the door.
+     * @param open      true to open the door, false to close it.
+     */
+    public void setDoorOpen(int cell, Direction direction, boolean open) {
+        this.doors.setOpen(this.doors.edge(cell % this.width, cell / this.width, direction), open);
+    }
+
+    /**
+     * Checks if an actor can walk from one cell to another through open doors.
+     *
+     * @param a The id of the first cell.
+     * @param b The id of the second cell.
+     * @return true if the cells are joined by open doors, false otherwise.
+     */
+    public boolean isReachable(int a, int b) {
+        return this.doors.isReachable(a, b);
+    }
+
+    /**
+     * Retrieves the noise level of a cell.
+     *
+     * @param cell The id of the cell.
+     * @return The noise level of the cell.
+     */
+    public int getNoise(int cell) {
+        return this.noises == null ? 0 : this.noises[cell];
+    }
+
+    /**
+     * Sets the noise level of a cell.
+     *
+     * @param cell  The id of the cell.
+     * @param noise The new noise level.
+     */
+    public void setNoise(int cell, int noise) {
+        if (getNoise(cell) == noise) {
+            return;
+        }
+        if (this.noises == null) {
+            this.noises = new int[size()];
+        }
+        if (this.noiseSums != null) {
+            this.noiseSums.add(cell, noise - this.noises[cell]);
+        }
+        this.noises[cell] = noise;
+        if (this.noiseIndex != null) {
+            this.noiseIndex.update(slot(cell), noise);
+        }
+    }
+
+    /**
+     * Resets the noise of every cell to 0 in one pass over the noise array.
+     */
+    public void clearNoise() {
+        if (this.noises != null) {
+            Arrays.fill(this.noises, 0);
+        }
+        if (this.noiseIndex != null) {
+            this.noiseIndex.clear();
+        }
+        if (this.noiseSums != null) {
+            this.noiseSums.clear();
+        }
+    }
+
+    /**
+     * Retrieves the total noise of the cells of a rectangle, clipped to the grid.
+     *
+     * @param left   The X position of the left side of the rectangle.
+     * @param top    The Y position of the top side of the rectangle.
+     * @param right  The X position of the right side of the rectangle, included.
+     * @param bottom The Y position of the bottom side of the rectangle, included.
+     * @return The total noise of the rectangle.
+     */
+    public int getNoise(int left, int top, int right, int bottom) {
+        if (this.noiseSums == null) {
+            this.noiseSums = new SummedAreaTable(this.width, this.height, this::getNoise);
+        }
+        return this.noiseSums.sum(left, top, right, bottom);
+    }
+
+    /**
+     * Retrieves the noisiest area of the grid.
+     * On a tie, the first cell met column by column wins.
+     *
+     * @return The noisiest area, or null if every cell is silent.
+     */
+    public Area getNoisiest() {
+        if (this.noiseIndex == null) {
+            this.noiseIndex = new NoiseIndex(this);
+        }
+        int slot = this.noiseIndex.getNoisiest();
+        return slot < 0 ? null : getArea(cellOfSlot(slot));
+    }
+
+    /**
+     * Retrieves the slot of a cell in the noise index, the cells being ordered column by column.
+     *
+     * @param cell The id of the cell.
+     * @return The slot of the cell.
+     */
+    int slot(int cell) {
+        return (cell % this.width) * this.height + cell / this.width;
+    }
+
+    /**
+     * Retrieves the cell of a slot of the noise index.
+     *
+     * @param slot The slot.
+     * @return The id of the cell.
+     */
+    int cellOfSlot(int slot) {
+        return cell(slot / this.height, slot % this.height);
+    }
+
+    /**
+     * Retrieves the number of survivors in a cell.
+     *
+     * @param cell The id of the cell.
+     * @return The number of survivors.
+     */
+    public int getSurvivorCount(int cell) {
+        return this.survivorCounts == null ? 0 : this.survivorCounts[cell];
+    }
+
+    /**
+     * Retrieves the number of zombies in a cell.
+     *
+     * @param cell The id of the cell.
+     * @return The number of zombies.
+     */
+    public int getZombieCount(int cell) {
+        return this.zombieCounts == null ? 0 : this.zombieCounts[cell];
+    }
+
+    /**
+     * Counts the survivors in the cells of a rectangle, clipped to the grid.
+     *
+     * @param left   The X position of the left side of the rectangle.
+     * @param top    The Y position of the top side of the rectangle.
+     * @param right  The X position of the right side of the rectangle, included.
+     * @param bottom The Y position of the bottom side of the rectangle, included.
+     * @return The number of survivors in the rectangle.
+     */
+    public int countSurvivors(int left, int top, int right, int bottom) {
+        if (this.survivorSums == null) {
+            this.survivorSums = new SummedAreaTable(this.width, this.height, this::getSurvivorCount);
+        }
+        return this.survivorSums.sum(left, top, right, bottom);
+    }
+
+    /**
+     * Counts the zombies in the cells of a rectangle, clipped to the grid.
+     *
+     * @param left   The X position of the left side of the rectangle.
+     * @param top    The Y position of the top side of the rectangle.
+     * @param right  The X position of the right side of the rectangle, included.
+     * @param bottom The Y position of the bottom side of the rectangle, included.
+     * @return The number of zombies in the rectangle.
+     */
+    public int countZombies(int left, int top, int right, int bottom) {
+        if (this.zombieSums == null) {
+            this.zombieSums = new SummedAreaTable(this.width, this.height, this::getZombieCount);
+        }
+        return this.zombieSums.sum(left, top, right, bottom);
+    }
+
+    /**
+     * Retrieves the bitsets of the cells holding zombies, creating them on the first call.
+     *
+     * @return The zombie occupancy of the grid.
+     */
+    ZombieOccupancy getZombieOccupancy() {
+        if (this.zombieOccupancy == null) {
+            this.zombieOccupancy = new ZombieOccupancy(this);
+        }
+        return this.zombieOccupancy;
+    }
+
+    /**
+     * Retrieves the registry of the survivors standing in the areas of the grid.
+     *
+     * @return The survivors of the grid, in the order of their registry.
+     */
+    public ActorList<Survivor> getSurvivors() {
+        return this.survivors;
+    }
+
+    /**
+     * Retrieves the registry of the zombies standing in the areas of the grid.
+     *
+     * @return The zombies of the grid, in the order of their registry.
+     */
+    public ActorList<Zombie> getZombies() {
+        return this.zombies;
+    }
+
+    /**
+     * Records a survivor entering a cell, registering it if it was not in the grid yet.
+     *
+     * @param cell     The id of the cell.
+     * @param survivor The survivor.
+     */
+    void addSurvivor(int cell, Survivor survivor) {
+        if (this.survivorCounts == null) {
+            this.survivorCounts = new int[size()];
+        }
+        this.survivorCounts[cell]++;
+        if (!this.survivors.containsAtSlot(survivor)) {
+            this.survivors.add(survivor);
+        }
+        if (this.survivorSums != null) {
+            this.survivorSums.add(cell, 1);
+        }
+        for (GridListener listener : this.listeners) {
+            listener.actorEntered(cell, survivor);
+        }
+    }
+
+    /**
+     * Records a survivor leaving a cell.
+     *
+     * @param cell     The id of the cell.
+     * @param survivor The survivor.
+     * @param moving   true if the survivor moves to another cell of the grid and stays registered,
+     *                 false if it leaves the grid.
+     */
+    void removeSurvivor(int cell, Survivor survivor, boolean moving) {
+        this.survivorCounts[cell]--;
+        if (!moving) {
+            this.survivors.remove(survivor);
+        }
+        if (this.survivorSums != null) {
+            this.survivorSums.add(cell, -1);
+        }
+        for (GridListener listener : this.listeners) {
+            listener.actorLeft(cell, survivor);
+        }
+    }
+
+    /**
+     * Records a zombie entering a cell, registering it if it was not in the grid yet.
+     *
+     * @param cell   The id of the cell.
+     * @param zombie The zombie.
+     */
+    void addZombie(int cell, Zombie zombie) {
+        if (this.zombieCounts == null) {
+            this.zombieCounts = new int[size()];
+        }
+        if (++this.zombieCounts[cell] == 1 && this.zombieOccupancy != null) {
+            this.zombieOccupancy.set(cell, true);
+        }
+        if (!this.zombies.containsAtSlot(zombie)) {
+            this.zombies.add(zombie);
+        }
+        if (this.zombieSums != null) {
+            this.zombieSums.add(cell, 1);
+        }
+        for (GridListener listener : this.listeners) {
+            listener.actorEntered(cell, zombie);
+        }
+    }
+
+    /**
+     * Records a zombie leaving a cell.
+     *
+     * @param cell   The id of the cell.
+     * @param zombie The zombie.
+     * @param moving true if the zombie moves to another cell of the grid and stays registered,
+     *               false if it leaves the grid.
+     */
+    void removeZombie(int cell, Zombie zombie, boolean moving) {
+        if (--this.zombieCounts[cell] == 0 && this.zombieOccupancy != null) {
+            this.zombieOccupancy.set(cell, false);
+        }
+        if (!moving) {
+            this.zombies.remove(zombie);
+        }
+        if (this.zombieSums != null) {
+            this.zombieSums.add(cell, -1);
+        }
+        for (GridListener listener : this.listeners) {
+            listener.actorLeft(cell, zombie);
+        }
+    }
+
+    /**
+     * Records an item dropped in the room of a cell.
+     *
+     * @param cell The id of the cell.
+     * @param item The item.
+     */
+    void itemAdded(int cell, Item item) {
+        for (GridListener listener : this.listeners) {
+            listener.itemAdded(cell, item);
+        }
+    }
+
+    /**
+     * Registers a listener told about the actors entering and leaving the cells and the items dropped in them.
+     *
+     * @param listener The listener.
+     */
+    public void addListener(GridListener listener) {
+        GridListener[] listeners = Arrays.copyOf(this.listeners, this.listeners.length + 1);
+        listeners[this.listeners.length] = listener;
+        this.listeners = listeners;
+    }
+}
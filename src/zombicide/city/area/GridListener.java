@@ -0,0 +1,33 @@
+package zombicide.city.area;
+
+import zombicide.actor.Actor;
+import zombicide.item.Item;
+
+/**
+ * Receives the changes of the cells of a {@link CityGrid}, for the indexes of a city kept up to date as the game goes.
+ */
+public interface GridListener {
+    /**
+     * Called when an actor enters a cell.
+     *
+     * @param cell  The id of the cell.
+     * @param actor The actor.
+     */
+    void actorEntered(int cell, Actor actor);
+
+    /**
+     * Called when an actor leaves a cell.
+     *
+     * @param cell  The id of the cell.
+     * @param actor The actor.
+     */
+    void actorLeft(int cell, Actor actor);
+
+    /**
+     * Called when an item is dropped in the room of a cell.
+     *
+     * @param cell The id of the cell.
+     * @param item The item.
+     */
+    void itemAdded(int cell, Item item);
+}
@@ -0,0 +1,173 @@
+package zombicide.city.area;
+
+import zombicide.util.Direction;
+
+/**
+ * Ray tables of a city telling which cells a weapon reaches from a cell.
+ * For every direction and every range, the table holds the offset of the target cell from the shooter's cell,
+ * and the reach of a cell in a direction is its distance to the border of the city,
+ * so a ray never has to check the bounds of each cell it crosses.
+ * The rays are enumerated in a buffer given by the caller, in the order weapons have always listed their targets:
+ * the shooter's own cell, then each direction in turn, nearest cell first.
+ */
+public class LineOfFire {
+    private final CityGrid grid;
+    private int[][] offsets;
+
+    /**
+     * Creates the ray tables of a grid.
+     *
+     * @param grid The grid of the city.
+     */
+    public LineOfFire(CityGrid grid) {
+        this.grid = grid;
+        this.offsets = new int[Direction.values().length][1];
+    }
+
+    /**
+     * Retrieves the number of cells a buffer must hold for the targets of a weapon.
+     *
+     * @param maxRange The maximum range of the weapon.
+     * @return The size of the buffer.
+     */
+    public static int maxTargets(int maxRange) {
+        return 1 + Direction.values().length * maxRange;
+    }
+
+    /**
+     * Lists the cells in range of a shooter, without creating their areas.
+     * A shooter in the Continental only reaches its own cell.
+     *
+     * @param x           The X position of the shooter.
+     * @param y           The Y position of the shooter.
+     * @param minRange    The minimum range of the weapon, 0 if it reaches the shooter's own cell.
+     * @param maxRange    The maximum range of the weapon.
+     * @param continental true if the shooter stands in the Continental.
+     * @param cells       The buffer the cells are written to, of at least {@link #maxTargets(int)} cells.
+     * @return The number of cells written.
+     */
+    public int targetCells(int x, int y, int minRange, int maxRange, boolean continental, int[] cells) {
+        int cell = this.grid.cell(x, y);
+        int n = 0;
+        if (minRange == 0) {
+            cells[n++] = cell;
+        }
+        if (continental) {
+            return n;
+        }
+        int[][] rays = rays(maxRange);
+        int first = Math.max(minRange, 1);
+        for (Direction d : Direction.values()) {
+            int[] ray = rays[d.ordinal()];
+            int last = Math.min(maxRange, reach(x, y, d));
+            for (int range = first; range <= last; range++) {
+                cells[n++] = cell + ray[range];
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Lists the cells in range of a shooter holding zombies, in the order of {@link #targetCells},
+     * finding them in the row and column bitsets of the grid instead of looking at every cell.
+     * A shooter in the Continental only reaches its own cell.
+     *
+     * @param x           The X position of the shooter.
+     * @param y           The Y position of the shooter.
+     * @param minRange    The minimum range of the weapon, 0 if it reaches the shooter's own cell.
+     * @param maxRange    The maximum range of the weapon.
+     * @param continental true if the shooter stands in the Continental.
+     * @param cells       The buffer the cells are written to, of at least {@link #maxTargets(int)} cells.
+     * @return The number of cells written.
+     */
+    public int zombieCells(int x, int y, int minRange, int maxRange, boolean continental, int[] cells) {
+        int cell = this.grid.cell(x, y);
+        int n = 0;
+        if (minRange == 0 && this.grid.getZombieCount(cell) > 0) {
+            cells[n++] = cell;
+        }
+        if (continental) {
+            return n;
+        }
+        ZombieOccupancy occupancy = this.grid.getZombieOccupancy();
+        int width = this.grid.getWidth();
+        int first = Math.max(minRange, 1);
+        // each stretch of at most 64 cells is read in one go, nearest cell first, the directions in their usual order
+        int last = Math.min(maxRange, y);
+        for (int near = first; near <= last; near += 64) {
+            int far = Math.min(near + 63, last);
+            long bits = occupancy.columnWindow(x, y - far, y - near);
+            while (bits != 0) {
+                int i = 63 - Long.numberOfLeadingZeros(bits);
+                cells[n++] = cell - (far - i) * width;
+                bits &= ~(1L << i);
+            }
+        }
+        last = Math.min(maxRange, width - 1 - x);
+        for (int near = first; near <= last; near += 64) {
+            long bits = occupancy.rowWindow(y, x + near, x + Math.min(near + 63, last));
+            while (bits != 0) {
+                cells[n++] = cell + near + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        last = Math.min(maxRange, this.grid.getHeight() - 1 - y);
+        for (int near = first; near <= last; near += 64) {
+            long bits = occupancy.columnWindow(x, y + near, y + Math.min(near + 63, last));
+            while (bits != 0) {
+                cells[n++] = cell + (near + Long.numberOfTrailingZeros(bits)) * width;
+                bits &= bits - 1;
+            }
+        }
+        last = Math.min(maxRange, x);
+        for (int near = first; near <= last; near += 64) {
+            int far = Math.min(near + 63, last);
+            long bits = occupancy.rowWindow(y, x - far, x - near);
+            while (bits != 0) {
+                int i = 63 - Long.numberOfLeadingZeros(bits);
+                cells[n++] = cell - (far - i);
+                bits &= ~(1L << i);
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Retrieves the number of cells between a cell and the border of the city in a direction.
+     *
+     * @param x The X position of the cell.
+     * @param y The Y position of the cell.
+     * @param d The direction.
+     * @return The number of cells the cell sees in that direction.
+     */
+    private int reach(int x, int y, Direction d) {
+        switch (d) {
+            case UP: return y;
+            case DOWN: return this.grid.getHeight() - 1 - y;
+            case LEFT: return x;
+            default: return this.grid.getWidth() - 1 - x;
+        }
+    }
+
+    /**
+     * Retrieves the offsets of the cells of every ray, growing the tables to the given range if needed.
+     *
+     * @param maxRange The range the tables must cover.
+     * @return The offsets, indexed by direction then by range.
+     */
+    private int[][] rays(int maxRange) {
+        if (this.offsets[0].length <= maxRange) {
+            int[][] grown = new int[this.offsets.length][];
+            for (Direction d : Direction.values()) {
+                int step = d.getY() * this.grid.getWidth() + d.getX();
+                int[] ray = new int[maxRange + 1];
+                for (int range = 0; range <= maxRange; range++) {
+                    ray[range] = range * step;
+                }
+                grown[d.ordinal()] = ray;
+            }
+            this.offsets = grown;
+        }
+        return this.offsets;
+    }
+}
@@ -0,0 +1,112 @@
+package zombicide.city.area;
+
+import java.util.Arrays;
+
+/**
+ * Tournament tree keeping track of the noisiest cell of a city grid.
+ * Each cell is a leaf of the tree and every internal node holds the slot of the
+ * winner of its two children, so the noisiest cell is always at the root.
+ * Ties are won by the lowest slot, slots being given in the order the city used
+ * to scan its areas (column by column), which keeps the historical tie-breaking.
+ */
+class NoiseIndex {
+    private static final int NO_SLOT = -1;
+
+    private final CityGrid grid;
+    private final int[] noises;
+    private final int[] tree;
+    private final int size;
+    private boolean built;
+
+    /**
+     * Creates an index over the cells of the given grid.
+     * The tree itself is only built on the first query.
+     *
+     * @param grid The grid of the city.
+     */
+    NoiseIndex(CityGrid grid) {
+        this.grid = grid;
+        this.size = grid.size();
+        this.noises = new int[size];
+        this.tree = new int[2 * size];
+        this.built = false;
+    }
+
+    /**
+     * Retrieves the slot of the noisiest cell, in O(1) once the tree is built.
+     *
+     * @return The slot of the noisiest cell, or -1 if every cell is silent.
+     */
+    int getNoisiest() {
+        if (!this.built) {
+            build();
+        }
+        int winner = this.tree[1];
+        if (winner == NO_SLOT || this.noises[winner] <= 0) {
+            return NO_SLOT;
+        }
+        return winner;
+    }
+
+    /**
+     * Forgets every noise, the tree being rebuilt on the next query.
+     */
+    void clear() {
+        this.built = false;
+    }
+
+    /**
+     * Records the new noise of the cell at the given slot, in O(log n).
+     *
+     * @param slot  The slot of the cell.
+     * @param noise The new noise level of the cell.
+     */
+    void update(int slot, int noise) {
+        if (!this.built) {
+            return;
+        }
+        this.noises[slot] = noise;
+        int node = (slot + this.size) >> 1;
+        while (node >= 1) {
+            this.tree[node] = winner(this.tree[2 * node], this.tree[2 * node + 1]);
+            node >>= 1;
+        }
+    }
+
+    /**
+     * Builds the whole tree from the current noise of the cells, in O(n).
+     */
+    private void build() {
+        for (int slot = 0; slot < this.size; slot++) {
+            this.noises[slot] = this.grid.getNoise(this.grid.cellOfSlot(slot));
+            this.tree[slot + this.size] = slot;
+        }
+        Arrays.fill(this.tree, 0, this.size, NO_SLOT);
+        for (int node = this.size - 1; node >= 1; node--) {
+            this.tree[node] = winner(this.tree[2 * node], this.tree[2 * node + 1]);
+        }
+        this.built = true;
+    }
+
+    /**
+     * Retrieves the winner between two slots: the noisiest one, or the lowest one on a tie.
+     *
+     * @param a The first slot.
+     * @param b The second slot.
+     * @return The winning slot.
+     */
+    private int winner(int a, int b) {
+        if (a == NO_SLOT) {
+            return b;
+        }
+        if (b == NO_SLOT) {
+            return a;
+        }
+        int noiseA = this.noises[a];
+        int noiseB = this.noises[b];
+        if (noiseA != noiseB) {
+            return noiseA > noiseB ? a : b;
+        }
+        return Math.min(a, b);
+    }
+}
@@ -0,0 +1,130 @@
+package zombicide.city.area;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Summed-area table over one value of the cells of a city grid, answering the sum of any rectangle in O(1).
+ * The entry of (x, y) holds the sum of the cells above and left of it, so a rectangle is four lookups.
+ * The table is only built on the first query, in O(n). Changes made after it was built are kept in a log
+ * added to the answers, so that a phase of moves does not rebuild the table on every query;
+ * once the log is full, the table is built again on the next query.
+ */
+class SummedAreaTable {
+    private final int width;
+    private final int height;
+    private final IntUnaryOperator valueOf;
+    private final int maxPending;
+    private int[] table;
+    private boolean built;
+    private int[] pendingXs;
+    private int[] pendingYs;
+    private int[] pendingDeltas;
+    private int pending;
+
+    /**
+     * Creates a table over the cells of a grid.
+     * The table itself is only built on the first query.
+     *
+     * @param width   The width of the grid.
+     * @param height  The height of the grid.
+     * @param valueOf The value of a cell, from its id.
+     */
+    SummedAreaTable(int width, int height, IntUnaryOperator valueOf) {
+        this.width = width;
+        this.height = height;
+        this.valueOf = valueOf;
+        this.maxPending = Math.max(16, (int) Math.sqrt((double) width * height) / 4);
+        this.built = false;
+    }
+
+    /**
+     * Records the change of the value of a cell, in O(1).
+     *
+     * @param cell  The id of the cell.
+     * @param delta The change of its value.
+     */
+    void add(int cell, int delta) {
+        if (!this.built || delta == 0) {
+            return;
+        }
+        if (this.pending == this.maxPending) {
+            clear();
+            return;
+        }
+        if (this.pendingXs == null) {
+            this.pendingXs = new int[this.maxPending];
+            this.pendingYs = new int[this.maxPending];
+            this.pendingDeltas = new int[this.maxPending];
+        }
+        this.pendingXs[this.pending] = cell % this.width;
+        this.pendingYs[this.pending] = cell / this.width;
+        this.pendingDeltas[this.pending] = delta;
+        this.pending++;
+    }
+
+    /**
+     * Forgets every value, the table being built again on the next query.
+     */
+    void clear() {
+        this.built = false;
+        this.pending = 0;
+    }
+
+    /**
+     * Retrieves the sum of the values of the cells of a rectangle, clipped to the grid,
+     * in O(1) plus the changes logged since the table was built.
+     *
+     * @param left   The X position of the left side of the rectangle.
+     * @param top    The Y position of the top side of the rectangle.
+     * @param right  The X position of the right side of the rectangle, included.
+     * @param bottom The Y position of the bottom side of the rectangle, included.
+     * @return The sum of the values of the cells.
+     */
+    int sum(int left, int top, int right, int bottom) {
+        left = Math.max(left, 0);
+        top = Math.max(top, 0);
+        right = Math.min(right, this.width - 1);
+        bottom = Math.min(bottom, this.height - 1);
+        if (left > right || top > bottom) {
+            return 0;
+        }
+        if (!this.built) {
+            build();
+        }
+        int stride = this.width + 1;
+        int sum = this.table[(bottom + 1) * stride + right + 1] - this.table[top * stride + right + 1]
+                - this.table[(bottom + 1) * stride + left] + this.table[top * stride + left];
+        for (int i = 0; i < this.pending; i++) {
+            int x = this.pendingXs[i];
+            int y = this.pendingYs[i];
+            if (x >= left && x <= right && y >= top && y <= bottom) {
+                sum += this.pendingDeltas[i];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Builds the whole table from the current values of the cells, in O(n).
+     */
+    private void build() {
+        int stride = this.width + 1;
+        if (this.table == null) {
+            this.table = new int[stride * (this.height + 1)];
+        }
+        Arrays.fill(this.table, 0, stride, 0);
+        for (int y = 0; y < this.height; y++) {
+            int row = (y + 1) * stride;
+            int cell = y * this.width;
+            int rowSum = 0;
+            this.table[row] = 0;
+            for (int x = 0; x < this.width; x++, cell++) {
+                rowSum += this.valueOf.applyAsInt(cell);
+                this.table[row + x + 1] = this.table[row - stride + x + 1] + rowSum;
+            }
+        }
+        this.built = true;
+        this.pending = 0;
+    }
+}
@@ -0,0 +1,96 @@
+package zombicide.city.area;
+
+/**
+ * Bitsets of the cells of a city grid holding at least one zombie, one per row and one per column,
+ * so that the zombies along a line are found 64 cells at a time.
+ * Row y holds bit x for cell (x, y) and column x holds bit y, each row and column starting on a new word.
+ */
+class ZombieOccupancy {
+    private final int width;
+    private final int rowWords;
+    private final int columnWords;
+    private final long[] rows;
+    private final long[] columns;
+
+    /**
+     * Creates the bitsets of a grid from the zombies standing in it.
+     *
+     * @param grid The grid of the city.
+     */
+    ZombieOccupancy(CityGrid grid) {
+        this.width = grid.getWidth();
+        this.rowWords = (grid.getWidth() + 63) >>> 6;
+        this.columnWords = (grid.getHeight() + 63) >>> 6;
+        this.rows = new long[grid.getHeight() * this.rowWords];
+        this.columns = new long[grid.getWidth() * this.columnWords];
+        for (int cell = 0; cell < grid.size(); cell++) {
+            if (grid.getZombieCount(cell) > 0) {
+                set(cell, true);
+            }
+        }
+    }
+
+    /**
+     * Marks a cell as holding zombies or not.
+     *
+     * @param cell     The id of the cell.
+     * @param occupied true if zombies stand in the cell, false if none is left.
+     */
+    void set(int cell, boolean occupied) {
+        int x = cell % this.width;
+        int y = cell / this.width;
+        int row = y * this.rowWords + (x >>> 6);
+        int column = x * this.columnWords + (y >>> 6);
+        if (occupied) {
+            this.rows[row] |= 1L << x;
+            this.columns[column] |= 1L << y;
+        } else {
+            this.rows[row] &= ~(1L << x);
+            this.columns[column] &= ~(1L << y);
+        }
+    }
+
+    /**
+     * Retrieves the row bitsets, laid out as a board of {@link Bitboards}.
+     *
+     * @return The rows, one bit per cell.
+     */
+    long[] getRows() {
+        return this.rows;
+    }
+
+    /**
+     * Retrieves the cells holding zombies in a stretch of a row, at most 64 cells long.
+     *
+     * @param y    The row.
+     * @param from The X position of the first cell of the stretch.
+     * @param to   The X position of the last cell of the stretch, included, less than from + 64.
+     * @return The bits of the stretch, bit i being set if cell (from + i, y) holds zombies.
+     */
+    long rowWindow(int y, int from, int to) {
+        return window(this.rows, y * this.rowWords, this.rowWords, from, to);
+    }
+
+    /**
+     * Retrieves the cells holding zombies in a stretch of a column, at most 64 cells long.
+     *
+     * @param x    The column.
+     * @param from The Y position of the first cell of the stretch.
+     * @param to   The Y position of the last cell of the stretch, included, less than from + 64.
+     * @return The bits of the stretch, bit i being set if cell (x, from + i) holds zombies.
+     */
+    long columnWindow(int x, int from, int to) {
+        return window(this.columns, x * this.columnWords, this.columnWords, from, to);
+    }
+
+    private static long window(long[] bits, int base, int words, int from, int to) {
+        int index = from >>> 6;
+        int shift = from & 63;
+        long window = bits[base + index] >>> shift;
+        if (shift != 0 && index + 1 < words) {
+            window |= bits[base + index + 1] << (64 - shift);
+        }
+        int length = to - from + 1;
+        return length < 64 ? window & ((1L << length) - 1) : window;
+    }
+}
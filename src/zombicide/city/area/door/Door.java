@@ -2,30 +2,55 @@ package zombicide.city.area.door;
 
 /**
  * Represents a door on the board.
+ * A door of a city is a view over one edge of its {@link DoorGrid}: two doors over the same edge are equal.
  */
 public class Door {
-    /** Flag indicating whether the door is open or closed. */
+    /** Flag indicating whether the door is open or closed, for a door outside of a city. */
     private boolean isOpen;
 
+    private final DoorGrid grid;
+    private final int edge;
+
     /**
      * Constructor for the Door class. Initializes the door as open.
      */
     public Door() {
         isOpen = true;
+        this.grid = null;
+        this.edge = -1;
+    }
+
+    /**
+     * Creates a view over the door on an edge of a city.
+     *
+     * @param grid The doors of the city.
+     * @param edge The id of the edge.
+     */
+    Door(DoorGrid grid, int edge) {
+        this.grid = grid;
+        this.edge = edge;
     }
 
     /**
      * Opens the door.
      */
     public void open() {
-        isOpen = true;
+        setOpen(true);
     }
 
     /**
      * Closes the door.
      */
     public void close() {
-        isOpen = false;
+        setOpen(false);
+    }
+
+    private void setOpen(boolean open) {
+        if (grid != null) {
+            grid.setOpen(edge, open);
+        } else {
+            isOpen = open;
+        }
     }
 
     /**
@@ -34,6 +59,23 @@ public class Door {
      * @return true if the door is open, false otherwise.
      */
     public boolean isOpen() {
-        return isOpen;
+        return grid != null ? grid.isOpen(edge) : isOpen;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (grid == null || !(o instanceof Door)) {
+            return false;
+        }
+        Door door = (Door) o;
+        return grid == door.grid && edge == door.edge;
+    }
+
+    @Override
+    public int hashCode() {
+        return grid == null ? System.identityHashCode(this) : 31 * System.identityHashCode(grid) + edge;
     }
 }
@@ -0,0 +1,103 @@
+package zombicide.city.area.door;
+
+/**
+ * Disjoint sets of the cells of a city joined by open doors, so that two cells are in the same set
+ * exactly when an actor can walk from one to the other.
+ * Opening a door merges two sets in O(α(n)) and a reachability query costs two finds in O(α(n)).
+ * Closing a door cannot be undone in a union-find, so the sets are then built again from the doors,
+ * which only happens while the city is generated or in tests, doors never closing during a game.
+ * Finds shorten the paths they follow, so the sets must not be read from several threads at once.
+ */
+class DoorConnectivity {
+    private final DoorGrid doors;
+    private final int width;
+    private final int height;
+    private final int[] parents;
+    private final byte[] ranks;
+
+    /**
+     * Builds the sets of the cells joined by the open doors of a grid, in a time linear in its number of cells.
+     *
+     * @param doors The doors of the city.
+     */
+    DoorConnectivity(DoorGrid doors) {
+        this.doors = doors;
+        this.width = doors.getWidth();
+        this.height = doors.getHeight();
+        this.parents = new int[this.width * this.height];
+        this.ranks = new byte[this.parents.length];
+        for (int cell = 0; cell < this.parents.length; cell++) {
+            this.parents[cell] = cell;
+        }
+        for (int y = 0; y < this.height; y++) {
+            for (int x = 0; x < this.width; x++) {
+                int cell = y * this.width + x;
+                if (x + 1 < this.width && doors.isOpen(doors.verticalEdge(x + 1, y))) {
+                    union(cell, cell + 1);
+                }
+                if (y + 1 < this.height && doors.isOpen(doors.horizontalEdge(x, y + 1))) {
+                    union(cell, cell + this.width);
+                }
+            }
+        }
+    }
+
+    /**
+     * Merges the sets of the two cells on both sides of a door which was just opened.
+     * A door on the border of the city leads nowhere and changes nothing.
+     *
+     * @param edge The id of the edge of the door.
+     */
+    void opened(int edge) {
+        int vertical = edge - this.doors.getVerticalStart();
+        if (vertical < 0) {
+            int line = edge / this.width;
+            if (line > 0 && line < this.height) {
+                union(edge - this.width, edge);
+            }
+        } else {
+            int row = vertical / (this.width + 1);
+            int column = vertical % (this.width + 1);
+            if (column > 0 && column < this.width) {
+                int cell = row * this.width + column;
+                union(cell - 1, cell);
+            }
+        }
+    }
+
+    /**
+     * Checks if two cells are joined by open doors.
+     *
+     * @param a The id of the first cell.
+     * @param b The id of the second cell.
+     * @return true if an actor can walk from one cell to the other, false otherwise.
+     */
+    boolean isReachable(int a, int b) {
+        return find(a) == find(b);
+    }
+
+    private int find(int cell) {
+        int[] parents = this.parents;
+        while (parents[cell] != cell) {
+            parents[cell] = parents[parents[cell]];
+            cell = parents[cell];
+        }
+        return cell;
+    }
+
+    private void union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            return;
+        }
+        if (this.ranks[rootA] < this.ranks[rootB]) {
+            this.parents[rootA] = rootB;
+        } else if (this.ranks[rootA] > this.ranks[rootB]) {
+            this.parents[rootB] = rootA;
+        } else {
+            this.parents[rootB] = rootA;
+            this.ranks[rootA]++;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package zombicide.city.area.door;
+
+import zombicide.util.Direction;
+
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+/**
+ * Open or closed state of every door of a city, packed as one bit per edge of the grid.
+ * Horizontal edges come first, {@code width} per line of edges from the top border to the bottom one,
+ * then vertical edges, {@code width + 1} per row from the left border to the right one.
+ * Two neighbouring cells name the same edge for the door between them, so they always share its state.
+ * Which cells open doors join is kept in a {@link DoorConnectivity}, built on the first reachability query.
+ */
+public class DoorGrid {
+    private final int width;
+    private final int height;
+    private final int verticalStart;
+    private final long[] bits;
+    private DoorConnectivity connectivity;
+    private int epoch;
+
+    /**
+     * Creates the doors of a grid, every door being open.
+     *
+     * @param width  The width of the grid.
+     * @param height The height of the grid.
+     */
+    public DoorGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.verticalStart = (height + 1) * width;
+        int edges = this.verticalStart + height * (width + 1);
+        this.bits = new long[(edges + 63) >>> 6];
+        Arrays.fill(this.bits, -1L);
+    }
+
+    /**
+     * Retrieves the edge of the door of a cell in the given direction.
+     *
+     * @param x         The X position of the cell.
+     * @param y         The Y position of the cell.
+     * @param direction The direction of the door.
+     * @return The id of the edge.
+     */
+    public int edge(int x, int y, Direction direction) {
+        switch (direction) {
+            case UP: return horizontalEdge(x, y);
+            case DOWN: return horizontalEdge(x, y + 1);
+            case LEFT: return verticalEdge(x, y);
+            default: return verticalEdge(x + 1, y);
+        }
+    }
+
+    /**
+     * Retrieves the horizontal edge above a cell.
+     *
+     * @param x    The X position of the cell.
+     * @param line The line of edges, from 0 at the top border to the height at the bottom one.
+     * @return The id of the edge.
+     */
+    int horizontalEdge(int x, int line) {
+        return line * this.width + x;
+    }
+
+    /**
+     * Retrieves the vertical edge left of a cell.
+     *
+     * @param column The column of edges, from 0 at the left border to the width at the right one.
+     * @param y      The Y position of the cell.
+     * @return The id of the edge.
+     */
+    int verticalEdge(int column, int y) {
+        return this.verticalStart + y * (this.width + 1) + column;
+    }
+
+    /**
+     * Retrieves the id of the first vertical edge, every edge before it being horizontal.
+     *
+     * @return The id of the first vertical edge.
+     */
+    int getVerticalStart() {
+        return this.verticalStart;
+    }
+
+    /**
+     * Checks if the door on an edge is open.
+     *
+     * @param edge The id of the edge.
+     * @return true if the door is open, false otherwise.
+     */
+    public boolean isOpen(int edge) {
+        return (this.bits[edge >>> 6] & (1L << edge)) != 0;
+    }
+
+    /**
+     * Checks if the door of a cell in the given direction is open.
+     *
+     * @param x         The X position of the cell.
+     * @param y         The Y position of the cell.
+     * @param direction The direction of the door.
+     * @return true if the door is open, false otherwise.
+     */
+    public boolean isOpen(int x, int y, Direction direction) {
+        return isOpen(edge(x, y, direction));
+    }
+
+    /**
+     * Opens or closes the door on an edge.
+     *
+     * @param edge The id of the edge.
+     * @param open true to open the door, false to close it.
+     */
+    public void setOpen(int edge, boolean open) {
+        if (isOpen(edge) == open) {
+            return;
+        }
+        this.epoch++;
+        if (open) {
+            this.bits[edge >>> 6] |= 1L << edge;
+            if (this.connectivity != null) {
+                this.connectivity.opened(edge);
+            }
+        } else {
+            this.bits[edge >>> 6] &= ~(1L << edge);
+            this.connectivity = null;
+        }
+    }
+
+    /**
+     * Checks if two cells are joined by open doors, in O(α(n)) once the connectivity is built.
+     * The connectivity is built on the first call, then again on the first call after a door closed.
+     *
+     * @param a The id of the first cell ({@code y * width + x}).
+     * @param b The id of the second cell.
+     * @return true if an actor can walk from one cell to the other, false otherwise.
+     */
+    public boolean isReachable(int a, int b) {
+        if (this.connectivity == null) {
+            this.connectivity = new DoorConnectivity(this);
+        }
+        return this.connectivity.isReachable(a, b);
+    }
+
+    /**
+     * Copies the state of a run of consecutive edges to words, 64 edges at a time.
+     * The doors of a line of cells in one direction are consecutive edges,
+     * starting at {@link #edge(int, int, Direction)} of the first cell of the line.
+     *
+     * @param first  The id of the first edge.
+     * @param count  The number of edges.
+     * @param words  The words to write to, bit i of the run going to bit {@code i % 64} of word {@code offset + i / 64}.
+     * @param offset The first word written.
+     */
+    public void readEdges(int first, int count, long[] words, int offset) {
+        for (int i = 0; i < count; i += 64) {
+            int position = first + i;
+            int index = position >>> 6;
+            int shift = position & 63;
+            long word = this.bits[index] >>> shift;
+            if (shift != 0 && index + 1 < this.bits.length) {
+                word |= this.bits[index + 1] << (64 - shift);
+            }
+            int length = count - i;
+            words[offset + (i >>> 6)] = length < 64 ? word & ((1L << length) - 1) : word;
+        }
+    }
+
+    /**
+     * Retrieves a door object over the door of a cell in the given direction.
+     *
+     * @param x         The X position of the cell.
+     * @param y         The Y position of the cell.
+     * @param direction The direction of the door.
+     * @return The door.
+     */
+    public Door getDoor(int x, int y, Direction direction) {
+        return new Door(this, edge(x, y, direction));
+    }
+
+    /**
+     * Retrieves the door epoch, a counter increased every time a door opens or closes,
+     * so that anything computed from the doors can tell when it is out of date.
+     *
+     * @return The current door epoch.
+     */
+    public int getEpoch() {
+        return this.epoch;
+    }
+
+    /**
+     * Retrieves the number of 64-bit words holding the doors.
+     *
+     * @return The number of words.
+     */
+    public int getWordCount() {
+        return this.bits.length;
+    }
+
+    /**
+     * Copies the state of every door, {@link #getWordCount()} words, to a buffer.
+     *
+     * @param buffer The buffer to write to.
+     */
+    public void writeTo(LongBuffer buffer) {
+        buffer.put(this.bits);
+    }
+
+    /**
+     * Replaces the state of every door by the words written by {@link #writeTo(LongBuffer)}.
+     *
+     * @param buffer The buffer to read from.
+     */
+    public void readFrom(LongBuffer buffer) {
+        buffer.get(this.bits);
+        this.connectivity = null;
+        this.epoch++;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
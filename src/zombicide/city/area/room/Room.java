@@ -4,6 +4,9 @@ import zombicide.city.area.Area;
 import zombicide.actor.survivor.backpack.BackPack;
 import zombicide.item.Item;
 import zombicide.util.listchooser.RandomListChooser;
+import zombicide.util.output.GameOutput;
+import zombicide.util.output.Verbosity;
+import zombicide.util.random.RandomSource;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,7 +17,6 @@ import java.util.List;
  */
 public class Room extends Area {
 	private static final char name = 'R';
-	private static final RandomListChooser<Item> ITEM_CHOOSER = new RandomListChooser<>();
 
 	public List<Item> items;
 
@@ -46,6 +48,7 @@ public class Room extends Area {
 	 */
 	public void addItem(Item item) {
 		this.items.add(item);
+		itemAdded(item);
 	}
 
 	/**
@@ -63,16 +66,28 @@ public class Room extends Area {
 	 * Displays the items in this room.
 	 */
 	public void displayItems() {
-		System.out.print("There are : ");
+		displayItems(GameOutput.console());
+	}
+
+	/**
+	 * Displays the items in this room.
+	 *
+	 * @param output The output to display them on.
+	 */
+	public void displayItems(GameOutput output) {
+		if (!output.isEnabled(Verbosity.BOARD)) {
+			return;
+		}
+		StringBuilder line = new StringBuilder("There are : ");
 		if (this.items.isEmpty()) {
-			System.out.print("nothing");
+			line.append("nothing");
 		}
 		else {
 			for(Item item : this.items) {
-				System.out.print("| " + item.toString() + " |");
+				line.append("| ").append(item.toString()).append(" |");
 			}
 		}
-		System.out.println('\n');
+		output.println(Verbosity.BOARD, line.append('\n').toString());
 	}
 
 	/**
@@ -81,7 +96,17 @@ public class Room extends Area {
 	 * @return A random item from this room if there are any, null otherwise.
 	 */
 	public Item getRandomItem() {
-		return ITEM_CHOOSER.choose(this.items);
+		return getRandomItem(RandomSource.create());
+	}
+
+	/**
+	 * Retrieves a random item from this room, drawn from the given random source.
+	 *
+	 * @param random The random source to draw from.
+	 * @return A random item from this room if there are any, null otherwise.
+	 */
+	public Item getRandomItem(RandomSource random) {
+		return new RandomListChooser<Item>(random).choose(this.items);
 	}
 
 	public boolean hasItems() {
@@ -8,7 +8,6 @@ import zombicide.util.Color;
  */
 public class Street extends Area {
     private static final char name = 'S';
-    private static Street spawn;
     private static final String blueBoldCode = Color.BLUE_BOLD.getCode();
 
     /**
@@ -25,8 +24,4 @@ public class Street extends Area {
     protected String getName() {
         return blueBoldCode + name + resetColorCode;
     }
-
-    public static void setSpawn(Street spawn) {
-        Street.spawn = spawn;
-    }
 }
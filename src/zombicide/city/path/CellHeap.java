@@ -0,0 +1,89 @@
+package zombicide.city.path;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of cells keyed by an int priority, then by an int tie-break.
+ * A search pushing its estimated cost as priority and its estimate of what is left as tie-break
+ * goes on with the cells closest to the target first, instead of spreading over every equally good cell.
+ * A cell may be pushed several times; the searches using it skip the entries gone out of date when they pop them.
+ */
+final class CellHeap {
+    private long[] keys = new long[64];
+    private int[] cells = new int[64];
+    private int size;
+    private long lastKey;
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * Adds a cell to the heap.
+     *
+     * @param priority The priority of the cell, not negative.
+     * @param tieBreak The order of the cell among those of the same priority, not negative.
+     * @param cell     The cell.
+     */
+    void push(int priority, int tieBreak, int cell) {
+        if (this.size == this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, this.size * 2);
+            this.cells = Arrays.copyOf(this.cells, this.size * 2);
+        }
+        long key = ((long) priority << 32) | tieBreak;
+        int i = this.size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (this.keys[parent] <= key) {
+                break;
+            }
+            this.keys[i] = this.keys[parent];
+            this.cells[i] = this.cells[parent];
+            i = parent;
+        }
+        this.keys[i] = key;
+        this.cells[i] = cell;
+    }
+
+    /**
+     * Removes the cell of lowest priority from the heap.
+     *
+     * @return The cell, its priority being given by {@link #getLastPriority()}.
+     */
+    int pop() {
+        int top = this.cells[0];
+        this.lastKey = this.keys[0];
+        long key = this.keys[--this.size];
+        int cell = this.cells[this.size];
+        int i = 0;
+        int half = this.size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < this.size && this.keys[child + 1] < this.keys[child]) {
+                child++;
+            }
+            if (key <= this.keys[child]) {
+                break;
+            }
+            this.keys[i] = this.keys[child];
+            this.cells[i] = this.cells[child];
+            i = child;
+        }
+        this.keys[i] = key;
+        this.cells[i] = cell;
+        return top;
+    }
+
+    /**
+     * Retrieves the priority the last cell popped was pushed with.
+     *
+     * @return The priority of the last cell popped.
+     */
+    int getLastPriority() {
+        return (int) (this.lastKey >>> 32);
+    }
+}
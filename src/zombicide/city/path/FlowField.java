@@ -0,0 +1,114 @@
+package zombicide.city.path;
+
+import zombicide.city.City;
+import zombicide.city.area.Area;
+import zombicide.city.area.door.DoorGrid;
+import zombicide.util.Direction;
+
+import java.util.Arrays;
+
+/**
+ * Distance and direction grid leading every area of a city toward a target area.
+ * It is computed with one breadth-first search from the target which only crosses open doors,
+ * so following it never bumps into a wall, and reading it is O(1) per area.
+ */
+public class FlowField {
+    private static final byte NO_DIRECTION = -1;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final Area target;
+    private final int width;
+    private final int[] distances;
+    private final byte[] directions;
+
+    private FlowField(Area target, int width, int height) {
+        this.target = target;
+        this.width = width;
+        this.distances = new int[width * height];
+        this.directions = new byte[width * height];
+        Arrays.fill(this.distances, -1);
+        Arrays.fill(this.directions, NO_DIRECTION);
+    }
+
+    /**
+     * Computes the flow field of the city toward the given area.
+     *
+     * @param city   The city.
+     * @param target The area every step leads to.
+     * @return The flow field toward the target.
+     */
+    public static FlowField towards(City city, Area target) {
+        int width = city.getWidth();
+        int height = city.getHeight();
+        FlowField field = new FlowField(target, width, height);
+
+        int[] queue = new int[width * height];
+        int head = 0;
+        int tail = 0;
+        DoorGrid doors = city.getGrid().getDoors();
+        int start = target.getY() * width + target.getX();
+        field.distances[start] = 0;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            int x = cell % width;
+            int y = cell / width;
+            for (Direction d : DIRECTIONS) {
+                int nx = x + d.getX();
+                int ny = y + d.getY();
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height || !doors.isOpen(x, y, d)) {
+                    continue;
+                }
+                int next = ny * width + nx;
+                if (field.distances[next] == -1) {
+                    field.distances[next] = field.distances[cell] + 1;
+                    field.directions[next] = (byte) d.getReverse().ordinal();
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return field;
+    }
+
+    /**
+     * Retrieves the area this flow field leads to.
+     *
+     * @return The target area.
+     */
+    public Area getTarget() {
+        return this.target;
+    }
+
+    /**
+     * Retrieves the direction to take from the given area to get closer to the target.
+     *
+     * @param area The area to leave.
+     * @return The direction to take, or null if the area is the target or cannot reach it.
+     */
+    public Direction getDirection(Area area) {
+        return getDirection(area.getX(), area.getY());
+    }
+
+    /**
+     * Retrieves the direction to take from the given position to get closer to the target.
+     *
+     * @param x The X position to leave.
+     * @param y The Y position to leave.
+     * @return The direction to take, or null if the position is the target or cannot reach it.
+     */
+    public Direction getDirection(int x, int y) {
+        byte direction = this.directions[y * this.width + x];
+        return direction == NO_DIRECTION ? null : DIRECTIONS[direction];
+    }
+
+    /**
+     * Retrieves the number of moves needed to reach the target from the given area.
+     *
+     * @param area The area to leave.
+     * @return The number of moves, or -1 if the target cannot be reached.
+     */
+    public int getDistance(Area area) {
+        return this.distances[area.getY() * this.width + area.getX()];
+    }
+}
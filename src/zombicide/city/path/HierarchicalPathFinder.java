@@ -0,0 +1,634 @@
+package zombicide.city.path;
+
+import zombicide.city.Block;
+import zombicide.city.BlockTree;
+import zombicide.city.area.Area;
+import zombicide.city.area.CityGrid;
+import zombicide.city.area.door.DoorGrid;
+import zombicide.util.Direction;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Short routes between two areas of a large city, found on the blocks of its {@link BlockTree} rather than cell by cell.
+ *
+ * The city is cut into rectangular clusters: the small blocks, whole, and for the large ones their streets,
+ * in strips of {@value #STRIP_LENGTH} cells, and their leaves, in tiles.
+ * Each run of open doors along the side between two clusters makes a single pair of portals, the two cells
+ * of the door in the middle of the run, and the distances between the portals of every cluster are found
+ * by a search inside the cluster.
+ * A query runs A* over the portals only, then refines each step inside its cluster.
+ * The routes found are not always the shortest: crossing a run by its middle door can add up to twice
+ * the length of the run to a route, compared with those of {@link PathFinder}. An area is reached whenever it can be.
+ * Cities of fewer than {@value #FLAT_CELLS} cells are searched cell by cell with a {@link PathFinder} instead,
+ * which is faster there.
+ *
+ * The portals and their distances are found all at once on the first query after a door opens or closes,
+ * which the finder tells from the door epoch of the {@link DoorGrid}.
+ * A finder keeps its search state between calls, so it is not safe to use from several threads at once.
+ */
+public class HierarchicalPathFinder {
+    /** Blocks of at most this many cells make a single cluster. */
+    static final int CLUSTER_CELLS = 4096;
+    /** The streets of larger blocks are cut in strips of this many cells. */
+    static final int STRIP_LENGTH = 128;
+    /** Cities of fewer cells are searched cell by cell. */
+    static final int FLAT_CELLS = 1 << 17;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final byte WHOLE = 0;
+    private static final byte STREETS = 1;
+    private static final byte TILES = 2;
+
+    private final DoorGrid doors;
+    private final BlockTree tree;
+    private final int width;
+    private final int height;
+
+    private final byte[] blockKinds;
+    private final int[] firstClusters;
+    private int[] lefts = new int[64];
+    private int[] tops = new int[64];
+    private int[] rights = new int[64];
+    private int[] bottoms = new int[64];
+    private int clusterCount;
+    private int maxClusterCells;
+
+    private final PathFinder flat;
+    private final Cluster[] clusters;
+    private int[] portalCells;
+    private int[] portalClusters;
+    private int portalCount = -1;
+    private int[] linkCells = new int[256];
+    private int[] linkClusters = new int[256];
+    private int linkCount;
+    private int epoch;
+
+    private int[] costs = new int[256];
+    private int[] parents = new int[256];
+    private int[] stamps = new int[256];
+    private int search;
+    private final CellHeap heap = new CellHeap();
+
+    private final int[] localDistances;
+    private final byte[] localMoves;
+    private final int[] localStamps;
+    private final int[] localQueue;
+    private int localSearch;
+    private byte[] route = new byte[256];
+    private int routeLength;
+
+    /**
+     * Portals of a cluster, by increasing cell, the distances between them and the portals of other clusters next to them.
+     */
+    private static final class Cluster {
+        private final int first;
+        private final int[] portals;
+        private final int[][] distances;
+        private final int[][] neighbours;
+
+        private Cluster(int first, int[] portals) {
+            this.first = first;
+            this.portals = portals;
+            this.distances = new int[portals.length][];
+            this.neighbours = new int[portals.length][];
+        }
+    }
+
+    /**
+     * Creates a path finder over the cells and the blocks of a city.
+     *
+     * @param grid   The cells of the city.
+     * @param blocks The blocks of the city.
+     */
+    public HierarchicalPathFinder(CityGrid grid, BlockTree blocks) {
+        this(grid, blocks, FLAT_CELLS);
+    }
+
+    /**
+     * Creates a path finder over the cells and the blocks of a city, searching cell by cell in small cities.
+     *
+     * @param grid      The cells of the city.
+     * @param blocks    The blocks of the city.
+     * @param flatCells The number of cells below which routes are found by a {@link PathFinder}.
+     */
+    HierarchicalPathFinder(CityGrid grid, BlockTree blocks, int flatCells) {
+        this.flat = grid.size() < flatCells ? new PathFinder(grid) : null;
+        this.doors = grid.getDoors();
+        this.tree = blocks;
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        this.blockKinds = new byte[blocks.size()];
+        this.firstClusters = new int[blocks.size()];
+        cutClusters();
+        this.clusters = new Cluster[this.clusterCount];
+        this.localDistances = new int[this.maxClusterCells];
+        this.localMoves = new byte[this.maxClusterCells];
+        this.localStamps = new int[this.maxClusterCells];
+        this.localQueue = new int[this.maxClusterCells];
+    }
+
+    /**
+     * Cuts the blocks of the city into clusters, going down the tree until the blocks are small enough.
+     */
+    private void cutClusters() {
+        Deque<Block> toCut = new ArrayDeque<>();
+        toCut.push(this.tree.getRoot());
+        while (!toCut.isEmpty()) {
+            Block block = toCut.pop();
+            int id = block.getId();
+            this.firstClusters[id] = this.clusterCount;
+            if (block.getCells() <= CLUSTER_CELLS) {
+                this.blockKinds[id] = WHOLE;
+                addCluster(block.getLeft(), block.getTop(), block.getRight(), block.getBottom());
+            } else if (block.isLeaf()) {
+                this.blockKinds[id] = TILES;
+                int span = tileSpan(block);
+                if (block.getWidth() <= block.getHeight()) {
+                    for (int y = block.getTop(); y <= block.getBottom(); y += span) {
+                        addCluster(block.getLeft(), y, block.getRight(), Math.min(y + span - 1, block.getBottom()));
+                    }
+                } else {
+                    for (int x = block.getLeft(); x <= block.getRight(); x += span) {
+                        addCluster(x, block.getTop(), Math.min(x + span - 1, block.getRight()), block.getBottom());
+                    }
+                }
+            } else {
+                this.blockKinds[id] = STREETS;
+                int x0 = block.getCrossroadX();
+                int y0 = block.getCrossroadY();
+                for (int x = block.getLeft(); x <= block.getRight(); x += STRIP_LENGTH) {
+                    addCluster(x, y0, Math.min(x + STRIP_LENGTH - 1, block.getRight()), y0);
+                }
+                for (int y = block.getTop(); y < y0; y += STRIP_LENGTH) {
+                    addCluster(x0, y, x0, Math.min(y + STRIP_LENGTH - 1, y0 - 1));
+                }
+                for (int y = y0 + 1; y <= block.getBottom(); y += STRIP_LENGTH) {
+                    addCluster(x0, y, x0, Math.min(y + STRIP_LENGTH - 1, block.getBottom()));
+                }
+                for (Block child : block.getChildren()) {
+                    toCut.push(child);
+                }
+            }
+        }
+    }
+
+    private void addCluster(int left, int top, int right, int bottom) {
+        if (this.clusterCount == this.lefts.length) {
+            int capacity = this.clusterCount * 2;
+            this.lefts = Arrays.copyOf(this.lefts, capacity);
+            this.tops = Arrays.copyOf(this.tops, capacity);
+            this.rights = Arrays.copyOf(this.rights, capacity);
+            this.bottoms = Arrays.copyOf(this.bottoms, capacity);
+        }
+        this.lefts[this.clusterCount] = left;
+        this.tops[this.clusterCount] = top;
+        this.rights[this.clusterCount] = right;
+        this.bottoms[this.clusterCount] = bottom;
+        this.clusterCount++;
+        this.maxClusterCells = Math.max(this.maxClusterCells, (right - left + 1) * (bottom - top + 1));
+    }
+
+    /**
+     * Retrieves the number of rows, or columns for a wide leaf, of the tiles a large leaf is cut into.
+     *
+     * @param block The leaf.
+     * @return The number of rows or columns per tile.
+     */
+    private static int tileSpan(Block block) {
+        int side = Math.min(block.getWidth(), block.getHeight());
+        return Math.max(1, CLUSTER_CELLS / side);
+    }
+
+    /**
+     * Retrieves the number of clusters the city is cut into.
+     *
+     * @return The number of clusters.
+     */
+    public int getClusterCount() {
+        return this.clusterCount;
+    }
+
+    /**
+     * Retrieves the cluster holding a position.
+     *
+     * @param x The X position.
+     * @param y The Y position.
+     * @return The id of the cluster.
+     */
+    int clusterOf(int x, int y) {
+        Block block = this.tree.getRoot();
+        while (true) {
+            int id = block.getId();
+            int first = this.firstClusters[id];
+            switch (this.blockKinds[id]) {
+                case WHOLE:
+                    return first;
+                case TILES:
+                    return first + (block.getWidth() <= block.getHeight()
+                            ? (y - block.getTop()) / tileSpan(block)
+                            : (x - block.getLeft()) / tileSpan(block));
+                default:
+                    int y0 = block.getCrossroadY();
+                    if (y == y0) {
+                        return first + (x - block.getLeft()) / STRIP_LENGTH;
+                    }
+                    if (x == block.getCrossroadX()) {
+                        int row = (block.getWidth() + STRIP_LENGTH - 1) / STRIP_LENGTH;
+                        if (y < y0) {
+                            return first + row + (y - block.getTop()) / STRIP_LENGTH;
+                        }
+                        int above = (y0 - block.getTop() + STRIP_LENGTH - 1) / STRIP_LENGTH;
+                        return first + row + above + (y - y0 - 1) / STRIP_LENGTH;
+                    }
+                    block = block.getChild(x, y);
+            }
+        }
+    }
+
+    /**
+     * Retrieves a shortest route from one area to another.
+     *
+     * @param from The area to leave.
+     * @param to   The area to reach.
+     * @return The route, empty if both areas are the same, or null if the target cannot be reached.
+     */
+    public Route find(Area from, Area to) {
+        return find(from.getY() * this.width + from.getX(), to.getY() * this.width + to.getX());
+    }
+
+    /**
+     * Retrieves a shortest route from one cell to another.
+     *
+     * @param from The id of the cell to leave ({@code y * width + x}).
+     * @param to   The id of the cell to reach.
+     * @return The route, empty if both cells are the same, or null if the target cannot be reached.
+     */
+    public Route find(int from, int to) {
+        if (this.flat != null) {
+            return this.flat.find(from, to);
+        }
+        if (this.portalCount < 0 || this.epoch != this.doors.getEpoch()) {
+            buildPortals();
+            this.epoch = this.doors.getEpoch();
+        }
+        if (from == to) {
+            return new Route(new byte[0], 0);
+        }
+        if (!this.doors.isReachable(from, to)) {
+            return null;
+        }
+        int start = clusterOf(from % this.width, from / this.width);
+        int goal = clusterOf(to % this.width, to / this.width);
+
+        Cluster target = this.clusters[goal];
+        searchInside(goal, to, -1);
+        int[] toTarget = new int[target.portals.length];
+        for (int i = 0; i < toTarget.length; i++) {
+            toTarget[i] = localDistance(goal, target.portals[i]);
+        }
+        int best = start == goal ? localDistance(goal, from) : -1;
+        if (best < 0) {
+            best = Integer.MAX_VALUE;
+        }
+        int last = -1;
+
+        if (++this.search == 0) {
+            Arrays.fill(this.stamps, 0);
+            this.search = 1;
+        }
+        this.heap.clear();
+        Cluster source = this.clusters[start];
+        searchInside(start, from, -1);
+        for (int i = 0; i < source.portals.length; i++) {
+            int distance = localDistance(start, source.portals[i]);
+            if (distance >= 0) {
+                relax(source.first + i, distance, -1, to);
+            }
+        }
+
+        while (!this.heap.isEmpty()) {
+            int portal = this.heap.pop();
+            int priority = this.heap.getLastPriority();
+            if (priority >= best) {
+                break;
+            }
+            int cost = this.costs[portal];
+            int cell = this.portalCells[portal];
+            if (priority != cost + distance(cell, to)) {
+                continue;
+            }
+            int clusterId = this.portalClusters[portal];
+            if (clusterId == goal && toTarget[portal - target.first] >= 0 && cost + toTarget[portal - target.first] < best) {
+                best = cost + toTarget[portal - target.first];
+                last = portal;
+            }
+            Cluster cluster = this.clusters[clusterId];
+            int[] distances = cluster.distances[portal - cluster.first];
+            for (int j = 0; j < distances.length; j++) {
+                if (distances[j] > 0) {
+                    relax(cluster.first + j, cost + distances[j], portal, to);
+                }
+            }
+            for (int next : cluster.neighbours[portal - cluster.first]) {
+                relax(next, cost + 1, portal, to);
+            }
+        }
+        if (best == Integer.MAX_VALUE) {
+            return null;
+        }
+        return refine(from, to, start, goal, last);
+    }
+
+    private void relax(int portal, int cost, int parent, int to) {
+        if (portal >= this.stamps.length) {
+            int capacity = Math.max(portal + 1, this.stamps.length * 2);
+            this.costs = Arrays.copyOf(this.costs, capacity);
+            this.parents = Arrays.copyOf(this.parents, capacity);
+            this.stamps = Arrays.copyOf(this.stamps, capacity);
+        }
+        if (this.stamps[portal] != this.search || cost < this.costs[portal]) {
+            this.stamps[portal] = this.search;
+            this.costs[portal] = cost;
+            this.parents[portal] = parent;
+            int left = distance(this.portalCells[portal], to);
+            this.heap.push(cost + left, left, portal);
+        }
+    }
+
+    private int distance(int cell, int to) {
+        return Math.abs(cell % this.width - to % this.width) + Math.abs(cell / this.width - to / this.width);
+    }
+
+    private boolean contains(int cluster, int x, int y) {
+        return x >= this.lefts[cluster] && x <= this.rights[cluster] && y >= this.tops[cluster] && y <= this.bottoms[cluster];
+    }
+
+    /**
+     * Finds the portals of every cluster, the doors between them and the distances between the portals of each cluster.
+     * Only the bottom and right sides of the clusters are walked, which meets every side between two clusters once.
+     */
+    private void buildPortals() {
+        this.linkCount = 0;
+        for (int id = 0; id < this.clusterCount; id++) {
+            if (this.bottoms[id] + 1 < this.height) {
+                linkSide(id, this.lefts[id], this.bottoms[id], Direction.RIGHT, Direction.DOWN, this.rights[id] - this.lefts[id] + 1);
+            }
+            if (this.rights[id] + 1 < this.width) {
+                linkSide(id, this.rights[id], this.tops[id], Direction.DOWN, Direction.RIGHT, this.bottoms[id] - this.tops[id] + 1);
+            }
+        }
+
+        long[] keys = new long[2 * this.linkCount];
+        for (int i = 0; i < this.linkCount; i++) {
+            keys[2 * i] = key(this.linkClusters[2 * i], this.linkCells[2 * i]);
+            keys[2 * i + 1] = key(this.linkClusters[2 * i + 1], this.linkCells[2 * i + 1]);
+        }
+        Arrays.sort(keys);
+        int count = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (i == 0 || keys[i] != keys[i - 1]) {
+                keys[count++] = keys[i];
+            }
+        }
+        keys = Arrays.copyOf(keys, count);
+        this.portalCells = new int[count];
+        this.portalClusters = new int[count];
+        for (int i = 0; i < count; i++) {
+            this.portalClusters[i] = (int) (keys[i] >>> 32);
+            this.portalCells[i] = (int) keys[i];
+        }
+
+        int[] degrees = new int[count];
+        int[] ends = new int[2 * this.linkCount];
+        for (int i = 0; i < ends.length; i++) {
+            ends[i] = Arrays.binarySearch(keys, key(this.linkClusters[i], this.linkCells[i]));
+            degrees[ends[i]]++;
+        }
+        int[][] neighbours = new int[count][];
+        for (int i = 0; i < count; i++) {
+            neighbours[i] = new int[degrees[i]];
+            degrees[i] = 0;
+        }
+        for (int i = 0; i < ends.length; i += 2) {
+            neighbours[ends[i]][degrees[ends[i]]++] = ends[i + 1];
+            neighbours[ends[i + 1]][degrees[ends[i + 1]]++] = ends[i];
+        }
+
+        int first = 0;
+        for (int id = 0; id < this.clusterCount; id++) {
+            int last = first;
+            while (last < count && this.portalClusters[last] == id) {
+                last++;
+            }
+            Cluster cluster = new Cluster(first, Arrays.copyOfRange(this.portalCells, first, last));
+            for (int i = 0; i < cluster.portals.length; i++) {
+                searchInside(id, cluster.portals[i], -1);
+                cluster.distances[i] = new int[cluster.portals.length];
+                for (int j = 0; j < cluster.portals.length; j++) {
+                    cluster.distances[i][j] = localDistance(id, cluster.portals[j]);
+                }
+                cluster.neighbours[i] = neighbours[first + i];
+            }
+            this.clusters[id] = cluster;
+            first = last;
+        }
+        this.portalCount = count;
+    }
+
+    /**
+     * Links a cluster to the clusters along one of its sides, one pair of portals per run of doors.
+     * A run is a row of cells of the side with open doors across to the same cluster, where the doors along the side
+     * are open on both sides of the border, so that any door of the run can be reached from any other one.
+     * The portals are the two cells of the door in the middle of the run.
+     *
+     * @param id     The id of the cluster.
+     * @param x0     The X position of the first cell of the side.
+     * @param y0     The Y position of the first cell of the side.
+     * @param along  The direction the side is walked in.
+     * @param across The direction leading out of the cluster.
+     * @param length The number of cells of the side.
+     */
+    private void linkSide(int id, int x0, int y0, Direction along, Direction across, int length) {
+        int runStart = -1;
+        int runCluster = -1;
+        for (int i = 0; i <= length; i++) {
+            int x = x0 + i * along.getX();
+            int y = y0 + i * along.getY();
+            int other = -1;
+            if (i < length && this.doors.isOpen(x, y, across)) {
+                other = clusterOf(x + across.getX(), y + across.getY());
+            }
+            boolean joined = other >= 0 && other == runCluster
+                    && this.doors.isOpen(x - along.getX(), y - along.getY(), along)
+                    && this.doors.isOpen(x - along.getX() + across.getX(), y - along.getY() + across.getY(), along);
+            if (joined) {
+                continue;
+            }
+            if (runStart >= 0) {
+                int middle = (runStart + i - 1) / 2;
+                int mx = x0 + middle * along.getX();
+                int my = y0 + middle * along.getY();
+                link(id, my * this.width + mx, runCluster, (my + across.getY()) * this.width + mx + across.getX());
+            }
+            runStart = other >= 0 ? i : -1;
+            runCluster = other;
+        }
+    }
+
+    private void link(int cluster, int cell, int otherCluster, int otherCell) {
+        if (2 * this.linkCount + 2 > this.linkCells.length) {
+            this.linkCells = Arrays.copyOf(this.linkCells, this.linkCells.length * 2);
+            this.linkClusters = Arrays.copyOf(this.linkClusters, this.linkClusters.length * 2);
+        }
+        this.linkCells[2 * this.linkCount] = cell;
+        this.linkClusters[2 * this.linkCount] = cluster;
+        this.linkCells[2 * this.linkCount + 1] = otherCell;
+        this.linkClusters[2 * this.linkCount + 1] = otherCluster;
+        this.linkCount++;
+    }
+
+    private static long key(int cluster, int cell) {
+        return ((long) cluster << 32) | (cell & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Retrieves the number of portals of the city since the last door change.
+     *
+     * @return The number of portals, or -1 if they have not been found yet.
+     */
+    int getPortalCount() {
+        return this.portalCount;
+    }
+
+    /**
+     * Runs a breadth-first search from a cell without leaving its cluster.
+     *
+     * @param id     The id of the cluster.
+     * @param source The cell to search from.
+     * @param target The cell at which to stop, or -1 to reach the whole cluster.
+     */
+    private void searchInside(int id, int source, int target) {
+        if (++this.localSearch == 0) {
+            Arrays.fill(this.localStamps, 0);
+            this.localSearch = 1;
+        }
+        int left = this.lefts[id];
+        int top = this.tops[id];
+        int local = localIndex(id, source);
+        this.localStamps[local] = this.localSearch;
+        this.localDistances[local] = 0;
+        this.localQueue[0] = source;
+        int head = 0;
+        int tail = 1;
+        while (head < tail) {
+            int cell = this.localQueue[head++];
+            if (cell == target) {
+                return;
+            }
+            int x = cell % this.width;
+            int y = cell / this.width;
+            int distance = this.localDistances[(y - top) * (this.rights[id] - left + 1) + x - left];
+            for (Direction d : DIRECTIONS) {
+                int nx = x + d.getX();
+                int ny = y + d.getY();
+                if (!contains(id, nx, ny) || !this.doors.isOpen(x, y, d)) {
+                    continue;
+                }
+                int next = (ny - top) * (this.rights[id] - left + 1) + nx - left;
+                if (this.localStamps[next] != this.localSearch) {
+                    this.localStamps[next] = this.localSearch;
+                    this.localDistances[next] = distance + 1;
+                    this.localMoves[next] = (byte) d.ordinal();
+                    this.localQueue[tail++] = ny * this.width + nx;
+                }
+            }
+        }
+    }
+
+    private int localIndex(int id, int cell) {
+        return (cell / this.width - this.tops[id]) * (this.rights[id] - this.lefts[id] + 1) + cell % this.width - this.lefts[id];
+    }
+
+    private int localDistance(int id, int cell) {
+        int local = localIndex(id, cell);
+        return this.localStamps[local] == this.localSearch ? this.localDistances[local] : -1;
+    }
+
+    /**
+     * Turns the portals of the last search into moves, searching inside each cluster between two portals.
+     *
+     * @param from  The cell the route starts from.
+     * @param to    The cell the route leads to.
+     * @param start The cluster of the first cell.
+     * @param goal  The cluster of the last cell.
+     * @param last  The last portal of the route, or -1 if the route stays inside a single cluster.
+     * @return The route.
+     */
+    private Route refine(int from, int to, int start, int goal, int last) {
+        this.routeLength = 0;
+        if (last < 0) {
+            appendInside(start, from, to);
+            return new Route(Arrays.copyOf(this.route, this.routeLength), 0);
+        }
+        int count = 0;
+        for (int portal = last; portal >= 0; portal = this.parents[portal]) {
+            count++;
+        }
+        int[] chain = new int[count];
+        for (int portal = last, i = count - 1; portal >= 0; portal = this.parents[portal], i--) {
+            chain[i] = portal;
+        }
+        appendInside(start, from, this.portalCells[chain[0]]);
+        for (int i = 1; i < count; i++) {
+            int previous = chain[i - 1];
+            int next = chain[i];
+            if (this.portalClusters[previous] == this.portalClusters[next]) {
+                appendInside(this.portalClusters[next], this.portalCells[previous], this.portalCells[next]);
+            } else {
+                append(step(this.portalCells[previous], this.portalCells[next]));
+            }
+        }
+        appendInside(goal, this.portalCells[last], to);
+        return new Route(Arrays.copyOf(this.route, this.routeLength), 0);
+    }
+
+    private void appendInside(int id, int from, int to) {
+        if (from == to) {
+            return;
+        }
+        searchInside(id, from, to);
+        int length = localDistance(id, to);
+        int start = this.routeLength;
+        for (int i = 0; i < length; i++) {
+            append((byte) 0);
+        }
+        int cell = to;
+        for (int i = this.routeLength - 1; i >= start; i--) {
+            byte move = this.localMoves[localIndex(id, cell)];
+            this.route[i] = move;
+            Direction d = DIRECTIONS[move];
+            cell -= d.getY() * this.width + d.getX();
+        }
+    }
+
+    private byte step(int from, int to) {
+        int dx = to % this.width - from % this.width;
+        int dy = to / this.width - from / this.width;
+        for (Direction d : DIRECTIONS) {
+            if (d.getX() == dx && d.getY() == dy) {
+                return (byte) d.ordinal();
+            }
+        }
+        throw new IllegalStateException("Portails non voisins : " + from + " et " + to);
+    }
+
+    private void append(byte move) {
+        if (this.routeLength == this.route.length) {
+            this.route = Arrays.copyOf(this.route, this.routeLength * 2);
+        }
+        this.route[this.routeLength++] = move;
+    }
+}
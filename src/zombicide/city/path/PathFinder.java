@@ -0,0 +1,204 @@
+package zombicide.city.path;
+
+import zombicide.city.area.Area;
+import zombicide.city.area.CityGrid;
+import zombicide.city.area.door.DoorGrid;
+import zombicide.util.Direction;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Shortest routes between two areas of a city through open doors, found with A* and a Manhattan heuristic.
+ * Found routes are cached until a door of the city opens or closes, which the finder tells from the door epoch
+ * of the {@link DoorGrid}. Since every part of a shortest route is a shortest route too, a found route is cached
+ * for every area along it, so actors heading to the same target, such as the noisiest area or The Pharmacy,
+ * mostly read their route from the cache.
+ * A finder keeps its search state between calls, so it is not safe to use from several threads at once.
+ */
+public class PathFinder {
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int CACHE_LIMIT = 1 << 16;
+    private static final Route UNREACHABLE = new Route(new byte[0], 0);
+
+    private final CityGrid grid;
+    private final DoorGrid doors;
+    private final int width;
+    private final int height;
+    private final HashMap<Long, Route> cache = new HashMap<>();
+    private int epoch;
+
+    private int[] costs;
+    private int[] stamps;
+    private byte[] moves;
+    private int search;
+    private final CellHeap heap = new CellHeap();
+
+    /**
+     * Creates a path finder over the cells of a city.
+     *
+     * @param grid The cells of the city.
+     */
+    public PathFinder(CityGrid grid) {
+        this.grid = grid;
+        this.doors = grid.getDoors();
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        this.epoch = this.doors.getEpoch();
+    }
+
+    /**
+     * Retrieves a shortest route from one area to another.
+     *
+     * @param from The area to leave.
+     * @param to   The area to reach.
+     * @return The route, empty if both areas are the same, or null if the target cannot be reached.
+     */
+    public Route find(Area from, Area to) {
+        return find(this.grid.cell(from.getX(), from.getY()), this.grid.cell(to.getX(), to.getY()));
+    }
+
+    /**
+     * Retrieves a shortest route from one cell to another.
+     *
+     * @param from The id of the cell to leave ({@code y * width + x}).
+     * @param to   The id of the cell to reach.
+     * @return The route, empty if both cells are the same, or null if the target cannot be reached.
+     */
+    public Route find(int from, int to) {
+        if (this.epoch != this.doors.getEpoch()) {
+            this.cache.clear();
+            this.epoch = this.doors.getEpoch();
+        }
+        Route route = this.cache.get(key(from, to));
+        if (route == null) {
+            route = search(from, to);
+        }
+        return route == UNREACHABLE ? null : route;
+    }
+
+    /**
+     * Retrieves the first move of a shortest route from one area to another.
+     *
+     * @param from The area to leave.
+     * @param to   The area to reach.
+     * @return The direction to take, or null if both areas are the same or the target cannot be reached.
+     */
+    public Direction getDirection(Area from, Area to) {
+        Route route = find(from, to);
+        return route == null || route.length() == 0 ? null : route.getDirection(0);
+    }
+
+    /**
+     * Retrieves the number of routes currently cached.
+     *
+     * @return The number of cached routes, unreachable targets included.
+     */
+    public int getCacheSize() {
+        return this.cache.size();
+    }
+
+    private static Long key(int from, int to) {
+        return ((long) from << 32) | (to & 0xFFFFFFFFL);
+    }
+
+    private int heuristic(int cell, int tx, int ty) {
+        return Math.abs(cell % this.width - tx) + Math.abs(cell / this.width - ty);
+    }
+
+    /**
+     * Runs A* from one cell to another and caches the result.
+     * The union-find of the doors answers first, so a search never floods a closed part of the city in vain.
+     *
+     * @param from The id of the cell to leave.
+     * @param to   The id of the cell to reach.
+     * @return The route found, or {@link #UNREACHABLE}.
+     */
+    private Route search(int from, int to) {
+        if (!this.doors.isReachable(from, to)) {
+            store(key(from, to), UNREACHABLE);
+            return UNREACHABLE;
+        }
+        if (this.costs == null) {
+            this.costs = new int[this.grid.size()];
+            this.stamps = new int[this.grid.size()];
+            this.moves = new byte[this.grid.size()];
+        }
+        if (++this.search == 0) {
+            Arrays.fill(this.stamps, 0);
+            this.search = 1;
+        }
+        int tx = to % this.width;
+        int ty = to / this.width;
+        this.heap.clear();
+        this.costs[from] = 0;
+        this.stamps[from] = this.search;
+        this.heap.push(heuristic(from, tx, ty), heuristic(from, tx, ty), from);
+
+        while (!this.heap.isEmpty()) {
+            int cell = this.heap.pop();
+            int cost = this.costs[cell];
+            if (this.heap.getLastPriority() != cost + heuristic(cell, tx, ty)) {
+                continue;
+            }
+            if (cell == to) {
+                break;
+            }
+            int x = cell % this.width;
+            int y = cell / this.width;
+            for (Direction d : DIRECTIONS) {
+                int nx = x + d.getX();
+                int ny = y + d.getY();
+                if (nx < 0 || ny < 0 || nx >= this.width || ny >= this.height || !this.doors.isOpen(x, y, d)) {
+                    continue;
+                }
+                int next = ny * this.width + nx;
+                if (this.stamps[next] != this.search || cost + 1 < this.costs[next]) {
+                    this.stamps[next] = this.search;
+                    this.costs[next] = cost + 1;
+                    this.moves[next] = (byte) d.ordinal();
+                    int left = Math.abs(nx - tx) + Math.abs(ny - ty);
+                    this.heap.push(cost + 1 + left, left, next);
+                }
+            }
+        }
+        return collect(from, to);
+    }
+
+    /**
+     * Walks the moves of the last search back from the target, then caches the route from every cell along it.
+     *
+     * @param from The id of the cell the search started from.
+     * @param to   The id of the cell the search reached.
+     * @return The route from the first cell.
+     */
+    private Route collect(int from, int to) {
+        byte[] route = new byte[this.costs[to]];
+        int cell = to;
+        for (int i = route.length - 1; i >= 0; i--) {
+            byte move = this.moves[cell];
+            route[i] = move;
+            Direction d = DIRECTIONS[move];
+            cell -= d.getY() * this.width + d.getX();
+        }
+        if (this.cache.size() + route.length >= CACHE_LIMIT) {
+            this.cache.clear();
+        }
+        cell = from;
+        for (int i = 0; i <= route.length; i++) {
+            this.cache.put(key(cell, to), new Route(route, i));
+            if (i < route.length) {
+                Direction d = DIRECTIONS[route[i]];
+                cell += d.getY() * this.width + d.getX();
+            }
+        }
+        return this.cache.get(key(from, to));
+    }
+
+    private void store(Long key, Route route) {
+        if (this.cache.size() >= CACHE_LIMIT) {
+            this.cache.clear();
+        }
+        this.cache.put(key, route);
+    }
+}
@@ -0,0 +1,84 @@
+package zombicide.city.path;
+
+import zombicide.util.Direction;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Sequence of moves leading from one area of a city to another, stored as one byte per move.
+ * The routes from the areas along a route share its moves, each one starting further in them.
+ */
+public final class Route {
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final byte[] moves;
+    private final int offset;
+
+    /**
+     * Creates the route made of the moves of an array from an offset on.
+     *
+     * @param moves  The ordinals of the directions of the moves, which are not copied.
+     * @param offset The index of the first move of the route.
+     */
+    Route(byte[] moves, int offset) {
+        this.moves = moves;
+        this.offset = offset;
+    }
+
+    /**
+     * Retrieves the number of moves of the route.
+     *
+     * @return The number of moves, 0 if the route starts where it ends.
+     */
+    public int length() {
+        return this.moves.length - this.offset;
+    }
+
+    /**
+     * Retrieves a move of the route.
+     *
+     * @param index The index of the move, 0 for the first one.
+     * @return The direction of the move.
+     */
+    public Direction getDirection(int index) {
+        return DIRECTIONS[this.moves[this.offset + index]];
+    }
+
+    /**
+     * Retrieves the route left after the first moves of this one, sharing its moves.
+     *
+     * @param moves The number of moves already made.
+     * @return The rest of the route.
+     */
+    public Route skip(int moves) {
+        return new Route(this.moves, this.offset + moves);
+    }
+
+    /**
+     * Retrieves the moves of the route as a list.
+     *
+     * @return An unmodifiable view over the directions of the moves.
+     */
+    public List<Direction> getDirections() {
+        return new AbstractList<Direction>() {
+            @Override
+            public Direction get(int index) {
+                if (index < 0 || index >= size()) {
+                    throw new IndexOutOfBoundsException("Déplacement hors du chemin : " + index);
+                }
+                return getDirection(index);
+            }
+
+            @Override
+            public int size() {
+                return length();
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return getDirections().toString();
+    }
+}
@@ -0,0 +1,20 @@
+package zombicide.game;
+
+/**
+ * The reasons why a game can end.
+ */
+public enum EndCondition {
+
+    /** Every survivor is dead. */
+    ALL_SURVIVORS_DEAD,
+
+    /** Every zombie is dead. */
+    ALL_ZOMBIES_DEAD,
+
+    /** The survivors gathered enough skill points. */
+    STAGE_REACHED,
+
+    /** The maximum number of turns has been played. */
+    TURN_LIMIT;
+
+}
@@ -1,14 +1,13 @@
 package zombicide.game;
 
-import zombicide.action.Action;
-import zombicide.action.zombie.AttackSurvivorAction;
-import zombicide.action.zombie.ZombieMoveAction;
 import zombicide.actor.zombie.*;
 import zombicide.city.area.street.Manhole;
 import zombicide.item.Item;
 import zombicide.actor.Actor;
+import zombicide.actor.survivor.Role;
 import zombicide.actor.survivor.Survivor;
 import zombicide.city.City;
+import zombicide.city.path.FlowField;
 import zombicide.item.InfraredGlasses;
 import zombicide.item.Map;
 import zombicide.item.MasterKey;
@@ -16,8 +15,12 @@ import zombicide.item.attackItem.weapon.*;
 import zombicide.item.careItem.FirstAidKit;
 import zombicide.item.careItem.HealingFiask;
 import zombicide.util.listchooser.RandomListChooser;
+import zombicide.util.output.Verbosity;
+import zombicide.util.random.RandomSource;
+import zombicide.util.random.RandomStream;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Scanner;
 import java.util.Arrays;
@@ -31,6 +34,14 @@ public class Game {
     private List<Survivor> survivors;
     private List<Zombie> zombies;
     private Phase currentPhase;
+    private ZombieMoveMode zombieMoveMode;
+    private boolean twoStageZombiePhase;
+    private int turn;
+    private int maxTurns;
+    private int killedZombies;
+    private int deadSurvivors;
+    private final EnumMap<Role, Integer> survivorDeathsByRole;
+    private ZombieFactory zombieFactory;
 
     Scanner scanner = new Scanner(System.in);
 
@@ -44,6 +55,57 @@ public class Game {
         this.survivors = new ArrayList<>();
         this.zombies = new ArrayList<>();
         this.currentPhase = Phase.SURVIVORS;
+        this.zombieMoveMode = ZombieMoveMode.HEURISTIC;
+        this.turn = 1;
+        this.maxTurns = 0;
+        this.survivorDeathsByRole = new EnumMap<>(Role.class);
+        this.zombieFactory = new ZombieFactory(city);
+    }
+
+    /**
+     * Sets the maximum number of turns of the game.
+     *
+     * @param maxTurns The maximum number of turns, or 0 for no limit.
+     */
+    public void setMaxTurns(int maxTurns) {
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Sets whether the zombie phase may be played in two stages, planning the moves in parallel
+     * then resolving the attacks area by area. The game is the same either way; the zombies play one after another
+     * by default, as the two stages only pay off on large hordes with several cores.
+     *
+     * @param twoStageZombiePhase true to let large hordes play in two stages, false to play the zombies in turn.
+     */
+    public void setTwoStageZombiePhase(boolean twoStageZombiePhase) {
+        this.twoStageZombiePhase = twoStageZombiePhase;
+    }
+
+    /**
+     * Sets the way zombies choose where to move.
+     *
+     * @param zombieMoveMode The move mode of the zombies.
+     */
+    public void setZombieMoveMode(ZombieMoveMode zombieMoveMode) {
+        this.zombieMoveMode = zombieMoveMode;
+    }
+
+    public ZombieMoveMode getZombieMoveMode() {
+        return this.zombieMoveMode;
+    }
+
+    /**
+     * Sets the factory creating the zombies spawned during the game.
+     *
+     * @param zombieFactory The zombie factory, for the city of the game.
+     */
+    public void setZombieFactory(ZombieFactory zombieFactory) {
+        this.zombieFactory = zombieFactory;
+    }
+
+    public ZombieFactory getZombieFactory() {
+        return this.zombieFactory;
     }
 
     public void initGame(){
@@ -77,7 +139,33 @@ public class Game {
      * @return true if the game should end, false otherwise.
      */
     public boolean endGame(){
-        return allSurvivorAreDead() || allZombiesAreDead() || areThePlayersHaveReachedStage();
+        return getEndCondition() != null;
+    }
+
+    /**
+     * Retrieves the reason why the game ended.
+     *
+     * @return The end condition met, or null if the game is not over.
+     */
+    public EndCondition getEndCondition(){
+        if (allSurvivorAreDead())
+            return EndCondition.ALL_SURVIVORS_DEAD;
+        if (allZombiesAreDead())
+            return EndCondition.ALL_ZOMBIES_DEAD;
+        if (areThePlayersHaveReachedStage())
+            return EndCondition.STAGE_REACHED;
+        if (hasReachedTurnLimit())
+            return EndCondition.TURN_LIMIT;
+        return null;
+    }
+
+    /**
+     * Checks if the maximum number of turns has been played.
+     *
+     * @return true if the turn limit is reached, false otherwise.
+     */
+    public boolean hasReachedTurnLimit(){
+        return this.maxTurns > 0 && this.turn > this.maxTurns;
     }
 
     /**
@@ -115,12 +203,14 @@ public class Game {
      */
     private void playFirstTour() {
         initGame();
-        System.out.println("TOUR 1");
+        this.turn = 1;
+        this.city.getOutput().println(Verbosity.TURN, "TOUR 1");
         playSurvivorsPhase();
         this.spawnAZombie();
         resetActionPoints();
         this.city.display();
         currentPhase = Phase.SURVIVORS;
+        this.turn = 2;
     }
 
 
@@ -129,26 +219,32 @@ public class Game {
      */
     public void play(){
         playFirstTour();
-        int i = 2;
         while(!endGame()){
             if(currentPhase == Phase.SURVIVORS){
-                System.out.println("TOUR "+i);
-                System.out.println("Survivors' tour ("+this.countOfSurvivorsAlive()+" alive)");
+                if (this.city.getOutput().isEnabled(Verbosity.TURN)) {
+                    this.city.getOutput().println(Verbosity.TURN, "TOUR "+this.turn);
+                    this.city.getOutput().println(Verbosity.TURN, "Survivors' tour ("+this.countOfSurvivorsAlive()+" alive)");
+                }
                 playSurvivorsPhase();
             }
             else if(currentPhase == Phase.ZOMBIES){
-                System.out.println("Zombies' tour ("+this.countOfZombiesAlive()+" alive)");
+                if (this.city.getOutput().isEnabled(Verbosity.TURN)) {
+                    this.city.getOutput().println(Verbosity.TURN, "Zombies' tour ("+this.countOfZombiesAlive()+" alive)");
+                }
                 playZombiesPhase();
             }
             else {
                 playEndPhase();
-                System.out.println();
-                System.out.println("Voici l'état des survivants :");
+                this.city.getOutput().println(Verbosity.TURN, "");
+                this.city.getOutput().println(Verbosity.TURN, "Voici l'état des survivants :");
                 for (int ignored = 0; ignored < survivors.size(); ignored++) {
-                    System.out.printf("Le survivant %d a %d points de vie", ignored+1, survivors.get(ignored).getLifePoints());
-                    System.out.println();
+                    Survivor survivor = survivors.get(ignored);
+                    int number = ignored + 1;
+                    if (this.city.getOutput().isEnabled(Verbosity.TURN)) {
+                        this.city.getOutput().println(Verbosity.TURN, String.format("Le survivant %d a %d points de vie", number, survivor.getLifePoints()));
+                    }
                 }
-                i++;
+                this.turn++;
             }
             this.city.display();
         }
@@ -161,18 +257,16 @@ public class Game {
     private void playEndPhase() {
         /*survivors.removeIf(Survivor::isDead);
         zombies.removeIf(Zombie::isDead);*/
-        survivors.removeIf(Actor::isDead);
-        zombies.removeIf(Actor::isDead);
+        removeDeadActors();
 
         resetNoise();;
 
         if(!allZombiesAreDead()){
             int nbZombie = getNumberOfZombiesToSpawn();
-            int k;
-            for(k = 0 ; k < nbZombie ; k++){
-                this.spawnAZombie();
+            this.spawnZombies(nbZombie);
+            if (this.city.getOutput().isEnabled(Verbosity.TURN)) {
+                this.city.getOutput().println(Verbosity.TURN, nbZombie+" zombies spawned");
             }
-            System.out.println(nbZombie+" zombies spawned");
         }
 
         resetActionPoints();
@@ -183,14 +277,94 @@ public class Game {
     }
 
     /**
-     * Resets the noise level of all areas in the city to 0.
+     * Removes dead survivors and zombies from the game, counting them first.
      */
-    private void resetNoise() {
-        for (int i = 0; i < this.city.getWidth(); i++) {
-            for (int j = 0; j < this.city.getHeight(); j++) {
-                this.city.getArea(i, j).setNoise(0);
+    private void removeDeadActors() {
+        for (Survivor s : survivors) {
+            if (s.isDead()) {
+                recordDeath(s);
+            }
+        }
+        survivors.removeIf(Actor::isDead);
+        this.killedZombies += countDeadZombies();
+        zombies.removeIf(zombie -> {
+            if (!zombie.isDead()) {
+                return false;
+            }
+            this.zombieFactory.recycle(zombie);
+            return true;
+        });
+    }
+
+    private void recordDeath(Survivor s) {
+        this.deadSurvivors++;
+        Role role = Role.of(s);
+        if (role != null) {
+            this.survivorDeathsByRole.merge(role, 1, Integer::sum);
+        }
+    }
+
+    private int countDeadZombies() {
+        return (int) this.zombies.stream().filter(Actor::isDead).count();
+    }
+
+    /**
+     * Retrieves the number of turns played, the current one included if it has started.
+     *
+     * @return The number of turns played.
+     */
+    public int getTurnsPlayed() {
+        return this.currentPhase == Phase.SURVIVORS ? this.turn - 1 : this.turn;
+    }
+
+    /**
+     * Retrieves the number of zombies killed since the beginning of the game.
+     *
+     * @return The number of zombies killed.
+     */
+    public int getKilledZombies() {
+        return this.killedZombies + countDeadZombies();
+    }
+
+    /**
+     * Retrieves the number of survivors dead since the beginning of the game.
+     *
+     * @return The number of survivors dead.
+     */
+    public int getDeadSurvivors() {
+        return this.deadSurvivors + (int) this.survivors.stream().filter(Actor::isDead).count();
+    }
+
+    /**
+     * Retrieves the number of survivors dead since the beginning of the game, for each role.
+     *
+     * @return The number of survivors dead by role.
+     */
+    public EnumMap<Role, Integer> getSurvivorDeathsByRole() {
+        EnumMap<Role, Integer> deaths = new EnumMap<>(this.survivorDeathsByRole);
+        for (Survivor s : this.survivors) {
+            Role role = Role.of(s);
+            if (s.isDead() && role != null) {
+                deaths.merge(role, 1, Integer::sum);
             }
         }
+        return deaths;
+    }
+
+    /**
+     * Retrieves the survivors still in the game.
+     *
+     * @return The survivors of the game.
+     */
+    public List<Survivor> getSurvivors() {
+        return this.survivors;
+    }
+
+    /**
+     * Resets the noise level of all areas in the city to 0.
+     */
+    private void resetNoise() {
+        this.city.resetNoise();
     }
 
     /**
@@ -209,18 +383,21 @@ public class Game {
 
     /**
      * Handles the zombies' phase of the game.
-     * Zombies take their actions.
+     * Zombies take their actions in turn, or through the two stages of a {@link ZombiePhase} if they were asked for.
+     * In flow field mode, the way to the noisiest area is computed once for the whole phase,
+     * as neither the noise nor the doors change while zombies play.
      */
     private void playZombiesPhase() {
-        for(Zombie z : zombies){
-            if(!z.isDead()){
-                while (z.getActionPoints() > 0) {
-                    // scanner.next();
-                    z.handleAction();
-                }
-            }
-
+        if (this.zombieMoveMode == ZombieMoveMode.FLOW_FIELD) {
+            this.city.setFlowField(FlowField.towards(this.city, this.city.getAreaNoiseMax()));
+        }
+        ZombiePhase phase = new ZombiePhase(this.city, this.zombies);
+        if (this.twoStageZombiePhase) {
+            phase.play();
+        } else {
+            phase.playInTurn();
         }
+        this.city.setFlowField(null);
         this.currentPhase = Phase.END;
     }
 
@@ -231,18 +408,24 @@ public class Game {
     private void playSurvivorsPhase() {
         for(Survivor s : survivors){
             if(!s.isDead()) {
-                System.out.println("It's " + s.getName() + "'s turn ! He has "+s.getLifePoints() +" life point(s)");
+                if (this.city.getOutput().isEnabled(Verbosity.TURN)) {
+                    this.city.getOutput().println(Verbosity.TURN, "It's " + s.getName() + "'s turn ! He has "+s.getLifePoints() +" life point(s)");
+                }
 
-                if(s.getItemHeld() != null)
-                    System.out.println(s.getName()+" is holding a(n) "+s.getItemHeld().toString());
+                if (this.city.getOutput().isEnabled(Verbosity.ACTION)) {
+                    if(s.getItemHeld() != null)
+                        this.city.getOutput().println(Verbosity.ACTION, s.getName()+" is holding a(n) "+s.getItemHeld().toString());
 
-                System.out.println("Backpack : " + s.getBackpack().displayItems());
+                    this.city.getOutput().println(Verbosity.ACTION, "Backpack : " + s.getBackpack().displayItems());
+                }
                 while (s.getActionPoints() > 0) {
                     // scanner.next();
                     s.handleAction();
-                    System.out.println(s.getName() + " has " + s.getActionPoints() + " pts d'action");
+                    if (this.city.getOutput().isEnabled(Verbosity.ACTION)) {
+                        this.city.getOutput().println(Verbosity.ACTION, s.getName() + " has " + s.getActionPoints() + " pts d'action");
+                    }
                 }
-                System.out.println();
+                this.city.getOutput().println(Verbosity.ACTION, "");
             }
         }
         this.currentPhase = Phase.ZOMBIES;
@@ -276,6 +459,16 @@ public class Game {
         return  this.city;
     }
 
+    /**
+     * Retrieves the random stream of a subsystem of the game, owned by its city.
+     *
+     * @param stream The subsystem.
+     * @return The random source of the subsystem.
+     */
+    public RandomSource getRandom(RandomStream stream) {
+        return this.city.getRandom(stream);
+    }
+
     public void distributeItems() {
         List<Item> listOfItems = Arrays.asList(
                 new Riffle(),
@@ -291,7 +484,7 @@ public class Game {
         );
 
         for(Survivor s : this.survivors) {
-            RandomListChooser<Item> chooser = new RandomListChooser<>();
+            RandomListChooser<Item> chooser = new RandomListChooser<>(getRandom(RandomStream.GENERATION));
             Item item1 = chooser.choose(listOfItems);
             Item item2 = chooser.choose(listOfItems);
 
@@ -300,28 +493,30 @@ public class Game {
         }
     }
 
+    /**
+     * Spawns a zombie on a random manhole.
+     */
     public void spawnAZombie() {
-        RandomListChooser<Manhole> chooser = new RandomListChooser<>();
-        Manhole manhole = chooser.choose(this.city.getManholes());
-
-        List<Action<Zombie>> zombieActions = Arrays.asList(
-                new ZombieMoveAction(),
-                new AttackSurvivorAction()
-        );
-
-        List<Zombie> zombiesTypes = Arrays.asList(
-                new Runner(zombieActions,this.city),
-                new Balaise(zombieActions,this.city),
-                new Abomination(zombieActions,this.city),
-                new Walker(zombieActions,this.city)
-        );
-
-        RandomListChooser<Zombie> ch = new RandomListChooser<>();
-        Zombie zombie = ch.choose(zombiesTypes);
+        spawnZombies(1);
+    }
 
-        zombie.setArea(manhole);
-        // manhole.addZombie(zombie);
-        this.zombies.add(zombie);
+    /**
+     * Spawns zombies on random manholes, each one of a type chosen by the zombie factory of the game.
+     *
+     * @param count The number of zombies to spawn.
+     */
+    public void spawnZombies(int count) {
+        List<Manhole> manholes = this.city.getManholes();
+        if (count <= 0 || manholes.isEmpty()) {
+            return;
+        }
+        RandomListChooser<Manhole> chooser = new RandomListChooser<>(getRandom(RandomStream.SPAWNS));
+        for (int i = 0; i < count; i++) {
+            Manhole manhole = chooser.choose(manholes);
+            Zombie zombie = this.zombieFactory.create();
+            zombie.setArea(manhole);
+            this.zombies.add(zombie);
+        }
     }
 
 
@@ -0,0 +1,14 @@
+package zombicide.game;
+
+/**
+ * The ways zombies can choose where to move during their phase.
+ */
+public enum ZombieMoveMode {
+
+    /** Step toward the neighbour closest to the noisiest area, ignoring doors. */
+    HEURISTIC,
+
+    /** Follow a flow field computed once per phase through open doors. */
+    FLOW_FIELD;
+
+}
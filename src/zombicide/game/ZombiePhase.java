@@ -0,0 +1,344 @@
+package zombicide.game;
+
+import zombicide.action.zombie.AttackSurvivorAction;
+import zombicide.action.zombie.ZombieMoveAction;
+import zombicide.actor.survivor.Survivor;
+import zombicide.actor.zombie.Zombie;
+import zombicide.city.City;
+import zombicide.city.area.Area;
+import zombicide.city.area.CityGrid;
+import zombicide.city.path.FlowField;
+import zombicide.util.Direction;
+import zombicide.util.output.Verbosity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Zombie phase of a game, played with zombies one after another, or in two stages.
+ * First the zombies plan their moves, in parallel for large hordes, against the city as it is at the start
+ * of the phase: a zombie heads for the noise until it runs out of action points or reaches an area with survivors.
+ * Zombies never add survivors to an area nor open doors, and the noise stays the same during the phase,
+ * so a planned move is the move the zombie would have chosen live.
+ * Then the zombies follow their plans in turn, each one only leaving its area for the last area of its plan,
+ * and the zombies left with action points, which stand with survivors, are resolved in batches, one per area.
+ * Every zombie draws its attacks from its own stream and the zombies of an area attack in turn,
+ * so the batches choose their targets in parallel and give the same game as zombies playing one after another.
+ * When the attacks of an area could kill all its survivors, its zombies would go on moving toward other areas,
+ * so the zombies left then play live, in turn, which gives the same game too.
+ * Only the narration differs: the moves of all the zombies come before their attacks.
+ *
+ * The moves are played by one thread, as they update the counts of the city,
+ * so the two stages only pay off with many cores; the game plays the zombies in turn unless asked otherwise.
+ */
+public class ZombiePhase {
+    /** The smallest number of zombies planned by one task. */
+    private static final int PLAN_BATCH = 1024;
+    /** The number of planning tasks per thread, so that threads finishing early can steal some work. */
+    private static final int TASKS_PER_THREAD = 4;
+    private static final ZombieMoveAction MOVE = new ZombieMoveAction();
+    private static final AttackSurvivorAction ATTACK = new AttackSurvivorAction();
+
+    private final City city;
+    private final CityGrid grid;
+    private final List<Zombie> zombies;
+    private final FlowField flowField;
+    private final Area noisiest;
+    private final int maxSteps;
+    /** The planned directions, maxSteps per zombie, null for staying. */
+    private final Direction[] plans;
+    private final int[] planLengths;
+    /** The survivors attacked, maxSteps per zombie, null for an attack from the Continental. */
+    private Survivor[] targets;
+    private boolean resolvedByArea;
+
+    /**
+     * Prepares the zombie phase of a city, its flow field being set if the zombies follow one.
+     *
+     * @param city    The city.
+     * @param zombies The zombies, in the order they play.
+     */
+    public ZombiePhase(City city, List<Zombie> zombies) {
+        this.city = city;
+        this.grid = city.getGrid();
+        this.zombies = zombies;
+        this.flowField = city.getFlowField();
+        this.noisiest = this.flowField != null ? null : city.getAreaNoiseMax();
+        int steps = 0;
+        for (Zombie z : zombies) {
+            steps = Math.max(steps, z.getActionPoints());
+        }
+        this.maxSteps = steps;
+        this.plans = new Direction[zombies.size() * steps];
+        this.planLengths = new int[zombies.size()];
+    }
+
+    /**
+     * Plays the phase, in two stages if the horde is large enough and several threads can plan,
+     * the zombies playing one after another otherwise.
+     */
+    public void play() {
+        if (this.zombies.size() > PLAN_BATCH && getParallelism() > 1) {
+            playInTwoStages();
+        } else {
+            playInTurn();
+        }
+    }
+
+    /**
+     * Plays the phase in two stages: plans every move, then plays the moves in turn and the attacks area by area.
+     */
+    public void playInTwoStages() {
+        int batch = Math.max(PLAN_BATCH, this.zombies.size() / (getParallelism() * TASKS_PER_THREAD));
+        new PlanTask(0, this.zombies.size(), batch).invoke();
+        resolve();
+    }
+
+    /**
+     * Plays the phase with zombies choosing every action live, one after another.
+     */
+    public void playInTurn() {
+        for (Zombie z : this.zombies) {
+            if (!z.isDead()) {
+                while (z.getActionPoints() > 0) {
+                    z.handleAction();
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves the number of threads the planning stage can run on.
+     *
+     * @return The parallelism of the fork/join pool of the current thread, or of the common pool.
+     */
+    private static int getParallelism() {
+        return ForkJoinTask.inForkJoinPool() ? ForkJoinTask.getPool().getParallelism() : ForkJoinPool.getCommonPoolParallelism();
+    }
+
+    /**
+     * Plans the moves of the zombies of a range, reading the city only.
+     *
+     * @param from The index of the first zombie.
+     * @param to   The index after the last zombie.
+     */
+    private void plan(int from, int to) {
+        for (int i = from; i < to; i++) {
+            Zombie z = this.zombies.get(i);
+            if (z.isDead()) {
+                continue;
+            }
+            int x = z.getArea().getX();
+            int y = z.getArea().getY();
+            int steps = Math.min(z.getActionPoints(), this.maxSteps);
+            int k = 0;
+            while (k < steps) {
+                int cell = this.grid.cell(x, y);
+                if (this.grid.getSurvivorCount(cell) > 0) {
+                    break;
+                }
+                Direction d = MOVE.chooseDirection(this.city, x, y, this.flowField, this.noisiest);
+                if (d == null && this.flowField == null) {
+                    break;
+                }
+                this.plans[i * this.maxSteps + k] = d;
+                k++;
+                if (d != null && this.grid.isDoorOpen(cell, d)) {
+                    x += d.getX();
+                    y += d.getY();
+                }
+            }
+            this.planLengths[i] = k;
+        }
+    }
+
+    /**
+     * Plays the zombies in turn along their plans, then the zombies left with action points.
+     */
+    private void resolve() {
+        int[] pending = new int[this.zombies.size()];
+        int count = 0;
+        for (int i = 0; i < this.zombies.size(); i++) {
+            Zombie z = this.zombies.get(i);
+            if (z.isDead()) {
+                continue;
+            }
+            if (this.planLengths[i] > 0 && z.getArea().getSurvivors().isEmpty()) {
+                MOVE.followPlan(z, this.plans, i * this.maxSteps, this.planLengths[i]);
+            }
+            if (z.getActionPoints() > 0) {
+                pending[count++] = i;
+            }
+        }
+
+        Collection<AreaBatch> batches = groupByArea(pending, count);
+        if (batches == null) {
+            for (int c = 0; c < count; c++) {
+                Zombie z = this.zombies.get(pending[c]);
+                while (z.getActionPoints() > 0) {
+                    z.handleAction();
+                }
+            }
+            return;
+        }
+        this.resolvedByArea = true;
+        this.targets = new Survivor[this.zombies.size() * this.maxSteps];
+        ForkJoinTask.invokeAll(batches);
+        for (int c = 0; c < count; c++) {
+            Zombie z = this.zombies.get(pending[c]);
+            for (int k = pending[c] * this.maxSteps; z.getActionPoints() > 0; k++) {
+                if (this.targets[k] == null) {
+                    z.handleAction();
+                    continue;
+                }
+                if (z.getOutput().isEnabled(Verbosity.ACTION)) {
+                    z.getOutput().println(Verbosity.ACTION, ATTACK.toString());
+                }
+                ATTACK.hit(z, this.targets[k]);
+            }
+        }
+    }
+
+    /**
+     * Groups the zombies left with action points by area, in the order they play.
+     *
+     * @param pending The indexes of the zombies.
+     * @param count   The number of zombies.
+     * @return The batches, or null if a zombie would move on: it stands in an area without survivors,
+     *         or the attacks of its area could kill all the survivors standing there.
+     */
+    private Collection<AreaBatch> groupByArea(int[] pending, int count) {
+        Map<Area, AreaBatch> batches = new HashMap<>();
+        for (int c = 0; c < count; c++) {
+            Area area = this.zombies.get(pending[c]).getArea();
+            if (area.getSurvivors().isEmpty()) {
+                return null;
+            }
+            batches.computeIfAbsent(area, AreaBatch::new).add(pending[c]);
+        }
+        for (AreaBatch batch : batches.values()) {
+            if (!batch.area.isContinental() && batch.getDamage() >= batch.getLifePoints()) {
+                return null;
+            }
+        }
+        return batches.values();
+    }
+
+    /**
+     * Tells whether the attacks of the last two-stage phase were resolved area by area.
+     *
+     * @return true if they were, false if the zombies left with action points played live.
+     */
+    boolean isResolvedByArea() {
+        return this.resolvedByArea;
+    }
+
+    /**
+     * Fork/join task planning the moves of a range of zombies.
+     */
+    private final class PlanTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int batch;
+
+        private PlanTask(int from, int to, int batch) {
+            this.from = from;
+            this.to = to;
+            this.batch = batch;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= this.batch) {
+                plan(this.from, this.to);
+                return;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(new PlanTask(this.from, middle, this.batch), new PlanTask(middle, this.to, this.batch));
+        }
+    }
+
+    /**
+     * Fork/join task choosing the targets of the zombies of one area, in the order they play.
+     * It reads the survivors of the area without changing them, following their life points
+     * and the order the area would leave them in on a copy.
+     */
+    private final class AreaBatch extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Area area;
+        private int[] members;
+        private int size;
+
+        private AreaBatch(Area area) {
+            this.area = area;
+            this.members = new int[4];
+        }
+
+        private void add(int zombie) {
+            if (this.size == this.members.length) {
+                this.members = Arrays.copyOf(this.members, this.size * 2);
+            }
+            this.members[this.size++] = zombie;
+        }
+
+        /**
+         * Retrieves the damage the zombies of the batch can deal with the action points they have left.
+         */
+        private long getDamage() {
+            long damage = 0;
+            for (int c = 0; c < this.size; c++) {
+                Zombie z = zombies.get(this.members[c]);
+                damage += (long) z.getActionPoints() * z.getAttackPoints();
+            }
+            return damage;
+        }
+
+        /**
+         * Retrieves the life points of the survivors of the area.
+         */
+        private long getLifePoints() {
+            long lifePoints = 0;
+            for (Survivor s : this.area.getSurvivors()) {
+                lifePoints += s.getLifePoints();
+            }
+            return lifePoints;
+        }
+
+        @Override
+        protected void compute() {
+            boolean continental = this.area.isContinental();
+            List<Survivor> survivors = new ArrayList<>(this.area.getSurvivors());
+            int[] lifePoints = new int[survivors.size()];
+            for (int j = 0; j < lifePoints.length; j++) {
+                lifePoints[j] = survivors.get(j).getLifePoints();
+            }
+            for (int c = 0; c < this.size; c++) {
+                int i = this.members[c];
+                Zombie z = zombies.get(i);
+                for (int k = 0; k < z.getActionPoints() && !continental; k++) {
+                    Survivor target = ATTACK.chooseTarget(z, survivors);
+                    targets[i * maxSteps + k] = target;
+                    int j = survivors.indexOf(target);
+                    lifePoints[j] -= z.getAttackPoints();
+                    if (lifePoints[j] <= 0) {
+                        // the area gives the slot of a dead survivor to its last survivor
+                        int last = survivors.size() - 1;
+                        survivors.set(j, survivors.get(last));
+                        lifePoints[j] = lifePoints[last];
+                        survivors.remove(last);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package zombicide.item;
 
 import zombicide.actor.survivor.Survivor;
+import zombicide.util.output.GameOutput;
 
 /**
  * Abstract class representing an item that can be used by a Survivor.
@@ -52,6 +53,15 @@ public abstract class Item {
         return this.survivor;
     }
 
+    /**
+     * Gets the output the use of the item is narrated to.
+     *
+     * @return The output of the Survivor using the item, or the console if nobody uses it.
+     */
+    protected GameOutput getOutput() {
+        return this.survivor != null ? this.survivor.getOutput() : GameOutput.console();
+    }
+
     /**
      * Abstract method to define the use of the item.
      * Each specific item type will define its own use.
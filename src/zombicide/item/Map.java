@@ -2,6 +2,7 @@ package zombicide.item;
 
 import zombicide.actor.survivor.Survivor;
 import zombicide.city.City;
+import zombicide.util.output.Verbosity;
 
 /**
  * Represents a Map item in the game.
@@ -30,7 +31,7 @@ public class Map extends Item {
 	public void use() {
 		City city = this.survivor.getCity();
 		this.survivor.getArea().increaseNoiseLevel(1);
-		System.out.println("Displaying the map 'Action map':");
+		getOutput().println(Verbosity.BOARD, "Displaying the map 'Action map':");
 		city.display();
 	}
 }
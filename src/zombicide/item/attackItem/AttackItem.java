@@ -1,10 +1,11 @@
 package zombicide.item.attackItem;
 
 import zombicide.actor.zombie.Zombie;
-import zombicide.city.City;
 import zombicide.city.area.Area;
+import zombicide.city.area.CityGrid;
+import zombicide.city.area.LineOfFire;
 import zombicide.item.Item;
-import zombicide.util.Direction;
+import zombicide.util.output.Verbosity;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,6 +16,7 @@ public abstract class AttackItem extends Item {
     protected int damage;
     protected int minHittingRange;
     protected int maxHittingRange;
+    private int[] targets;
 
     /**
      * Creates a new Weapon with specified characteristics.
@@ -40,6 +42,15 @@ public abstract class AttackItem extends Item {
         return lastShotValue >= this.diceThreshold;
     }
 
+    /**
+     * Gets the lowest die value for a shot to hit its target.
+     *
+     * @return The threshold of a successful shot.
+     */
+    public int getDiceThreshold() {
+        return diceThreshold;
+    }
+
     /**
      * Gets the damage inflicted by the weapon.
      *
@@ -73,33 +84,56 @@ public abstract class AttackItem extends Item {
      * @return List of zombies within the weapon's shooting range.
      */
     public List<Zombie> shootRange() {
-        Area areaWeapon = this.survivor.getArea();
-        City city = this.survivor.getCity();
-        int x = areaWeapon.getX();
-        int y = areaWeapon.getY();
         List<Zombie> zombies = new ArrayList<>();
-
-        if (this.getMinHittingRange() == 0) {
-            List<Zombie> zom = city.getArea(x, y).getZombies();
-            zombies.addAll(zom);
+        CityGrid grid = this.survivor.getCity().getGrid();
+        int n = targetCells();
+        for (int i = 0; i < n; i++) {
+            zombies.addAll(grid.getArea(this.targets[i]).getZombies());
         }
+        return zombies;
+    }
 
-        for (Direction d : Direction.values()) {
-            for (int i = 1; i <= this.getMaxHittingRange(); i++) {
-                int newX = x + i * d.getX();
-                int newY = y + i * d.getY();
-                if (this.getMinHittingRange() <= i) {
-                    if (newX < city.getWidth() && newX >= 0 && newY < city.getHeight() && newY >= 0) {
-                        if (!(areaWeapon.isContinental())) {
-                            List<Zombie> zom = city.getArea(newX, newY).getZombies();
-                            zombies.addAll(zom);
-                        }
-                    }
+    /**
+     * Finds the zombie with the fewest life points within the shooting range, without building any list.
+     * The zombies are met in the order of {@link #shootRange()}, and the first one met wins a tie.
+     *
+     * @return The weakest zombie in range, or null if there is none.
+     *         When the first zombie met has no life points left, that zombie is returned.
+     */
+    public Zombie getWeakestTarget() {
+        CityGrid grid = this.survivor.getCity().getGrid();
+        Zombie weakest = null;
+        int minLife = 0;
+        int n = targetCells();
+        for (int i = 0; i < n; i++) {
+            List<Zombie> zombies = grid.getArea(this.targets[i]).getZombies();
+            for (int j = 0; j < zombies.size(); j++) {
+                Zombie zombie = zombies.get(j);
+                int life = zombie.getLifePoints();
+                if (weakest == null) {
+                    weakest = zombie;
+                    minLife = life;
+                } else if (life > 0 && life < minLife) {
+                    weakest = zombie;
+                    minLife = life;
                 }
             }
         }
+        return weakest;
+    }
 
-        return zombies;
+    /**
+     * Lists the cells within the shooting range of the weapon holding zombies in its buffer of targets.
+     *
+     * @return The number of cells in range holding zombies.
+     */
+    private int targetCells() {
+        Area areaWeapon = this.survivor.getArea();
+        if (this.targets == null) {
+            this.targets = new int[LineOfFire.maxTargets(this.maxHittingRange)];
+        }
+        return this.survivor.getCity().getLineOfFire().zombieCells(areaWeapon.getX(), areaWeapon.getY(),
+                this.minHittingRange, this.maxHittingRange, areaWeapon.isContinental(), this.targets);
     }
 
     public int getNbDiceThrows() {
@@ -111,10 +145,13 @@ public abstract class AttackItem extends Item {
      */
     public void use() {
         List<Zombie> zombiesInRange = shootRange();
-        System.out.print("Zombies in range: ");
+        if (!getOutput().isEnabled(Verbosity.ACTION)) {
+            return;
+        }
+        StringBuilder line = new StringBuilder("Zombies in range: ");
         for (Zombie zombie : zombiesInRange) {
-            System.out.print(zombie.toString() + " ");
+            line.append(zombie.toString()).append(' ');
         }
-        System.out.println();
+        getOutput().println(Verbosity.ACTION, line.toString());
     }
 }
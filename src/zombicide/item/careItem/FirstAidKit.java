@@ -5,6 +5,8 @@ import zombicide.actor.survivor.Survivor;
 import zombicide.city.area.Area;
 import zombicide.util.listchooser.ListChooser;
 import zombicide.util.listchooser.RandomListChooser;
+import zombicide.util.random.RandomStream;
+import zombicide.util.output.Verbosity;
 
 import java.util.List;
 
@@ -39,9 +41,11 @@ public class FirstAidKit extends CareItem {
         Survivor targetSurvivor = chooseAPlayer();
         if (targetSurvivor != null) {
             healAction.doSomething(targetSurvivor);
-            System.out.println(targetSurvivor.getName()+" has now "+targetSurvivor.getLifePoints()+" life point(s)");
+            if (getOutput().isEnabled(Verbosity.ACTION)) {
+                getOutput().println(Verbosity.ACTION, targetSurvivor.getName()+" has now "+targetSurvivor.getLifePoints()+" life point(s)");
+            }
         } else {
-            System.out.println("No other survivors in the area to heal.");
+            getOutput().println(Verbosity.ACTION, "No other survivors in the area to heal.");
         }
     }
 
@@ -58,7 +62,7 @@ public class FirstAidKit extends CareItem {
             return null;
         }
 
-        ListChooser<Survivor> chooser = new RandomListChooser<>();
+        ListChooser<Survivor> chooser = new RandomListChooser<>(this.survivor.getCity().getRandom(RandomStream.ACTIONS));
         return chooser.choose(survivorsInArea);
     }
 }
@@ -1,6 +1,7 @@
 package zombicide.item.careItem;
 
 import zombicide.action.survivor.HealAction;
+import zombicide.util.output.Verbosity;
 
 /**
  * HealingFiask class represents a healing flask care item in the game.
@@ -29,6 +30,8 @@ public class HealingFiask extends CareItem {
         HealAction healAction = new HealAction();
         healAction.setLifePointsToAdd(this.lifePointsToAdd);
         healAction.doSomething(survivor);
-        System.out.println(this.survivor.getName()+" has now "+this.survivor.getLifePoints()+" life point(s)");
+        if (getOutput().isEnabled(Verbosity.ACTION)) {
+            getOutput().println(Verbosity.ACTION, this.survivor.getName()+" has now "+this.survivor.getLifePoints()+" life point(s)");
+        }
     }
 }
@@ -0,0 +1,140 @@
+package zombicide.simulation;
+
+import zombicide.actor.survivor.Role;
+import zombicide.actor.survivor.Survivor;
+import zombicide.city.City;
+import zombicide.city.CitySnapshot;
+import zombicide.game.Game;
+import zombicide.util.listchooser.ListChooser;
+import zombicide.util.listchooser.RandomListChooser;
+import zombicide.util.output.GameOutput;
+import zombicide.util.random.RandomSource;
+import zombicide.util.random.RandomStream;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Plays a batch of independent games on every core and streams their outcomes.
+ * Every game gets its own city and its own random stream split from the seed of the batch,
+ * so a batch is reproducible whatever the number of threads.
+ * With a city snapshot, every game loads its own copy of the same city instead of generating one.
+ */
+public class BatchRunner {
+    private final SimulationConfig config;
+
+    /**
+     * Creates a runner for the given settings.
+     *
+     * @param config The settings of the batch.
+     */
+    public BatchRunner(SimulationConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        SimulationConfig config = SimulationConfig.fromArgs(args);
+        new BatchRunner(config).run(System.out);
+    }
+
+    /**
+     * Plays the games of the batch and writes one line per game, in the order of the games, then the summary.
+     *
+     * @param out The stream the outcomes are written to.
+     * @return The summary of the batch.
+     * @throws InterruptedException If the runner is interrupted while waiting for a game.
+     */
+    public BatchSummary run(PrintStream out) throws InterruptedException {
+        OutcomeFormat format = this.config.getFormat();
+        BatchSummary summary = new BatchSummary();
+        RandomSource master = RandomSource.seeded(this.config.getSeed());
+        ForkJoinPool pool = new ForkJoinPool(this.config.getThreads());
+
+        try {
+            List<Future<GameOutcome>> outcomes = new ArrayList<>();
+            for (int i = 0; i < this.config.getGames(); i++) {
+                int index = i;
+                RandomSource source = master.split();
+                outcomes.add(pool.submit(() -> playGame(index, source)));
+            }
+
+            if (format.header() != null) {
+                out.println(format.header());
+            }
+            for (Future<GameOutcome> future : outcomes) {
+                GameOutcome outcome = get(future);
+                summary.add(outcome);
+                out.println(format.format(outcome));
+            }
+            out.println(format.format(summary));
+            out.flush();
+        } finally {
+            pool.shutdownNow();
+        }
+        return summary;
+    }
+
+    /**
+     * Plays one game of the batch.
+     *
+     * @param index  The index of the game in the batch.
+     * @param source The random source of the game.
+     * @return The outcome of the game.
+     */
+    public GameOutcome playGame(int index, RandomSource source) {
+        City city = createCity(source);
+        city.setOutput(GameOutput.silent());
+        Game game = new Game(city);
+        game.setMaxTurns(this.config.getMaxTurns());
+        game.setZombieMoveMode(this.config.getZombieMoves());
+        game.getZombieFactory().setRecycling(true);
+
+        List<Role> mix = this.config.getRoleMix();
+        ListChooser<Role> chooser = new RandomListChooser<>(game.getRandom(RandomStream.GENERATION));
+        for (int i = 0; i < this.config.getSurvivors(); i++) {
+            Role role = mix.isEmpty() ? chooser.choose(Arrays.asList(Role.values())) : mix.get(i % mix.size());
+            Survivor survivor = new Survivor(role, city);
+            survivor.setName("s" + (i + 1));
+            game.addSurvivor(survivor);
+        }
+
+        game.play();
+
+        int alive = (int) game.getSurvivors().stream().filter(s -> !s.isDead()).count();
+        return new GameOutcome(index, game.getTurnsPlayed(), game.getEndCondition(), game.getKilledZombies(),
+                game.getDeadSurvivors(), alive, game.getSurvivorDeathsByRole());
+    }
+
+    /**
+     * Creates the city of a game, loaded from the snapshot of the batch if there is one.
+     *
+     * @param source The random source of the game.
+     * @return The city.
+     * @throws UncheckedIOException If the snapshot cannot be read.
+     */
+    private City createCity(RandomSource source) {
+        if (this.config.getCity() == null) {
+            return new City(this.config.getWidth(), this.config.getHeight(), source);
+        }
+        try {
+            return CitySnapshot.read(this.config.getCity(), source);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static GameOutcome get(Future<GameOutcome> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A game of the batch failed", e.getCause());
+        }
+    }
+}
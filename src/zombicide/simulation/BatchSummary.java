@@ -0,0 +1,72 @@
+package zombicide.simulation;
+
+import zombicide.actor.survivor.Role;
+import zombicide.game.EndCondition;
+
+/**
+ * Aggregated results of a batch of games.
+ */
+public class BatchSummary {
+    private int games;
+    private long turns;
+    private long killedZombies;
+    private long deadSurvivors;
+    private final int[] endConditions = new int[EndCondition.values().length];
+    private final long[] deathsByRole = new long[Role.values().length];
+
+    /**
+     * Adds the outcome of a game to the summary.
+     *
+     * @param outcome The outcome of a game.
+     */
+    public void add(GameOutcome outcome) {
+        this.games++;
+        this.turns += outcome.getTurns();
+        this.killedZombies += outcome.getKilledZombies();
+        this.deadSurvivors += outcome.getDeadSurvivors();
+        this.endConditions[outcome.getEndCondition().ordinal()]++;
+        for (Role role : Role.values()) {
+            this.deathsByRole[role.ordinal()] += outcome.getDeaths(role);
+        }
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Retrieves the number of games which ended for the given reason.
+     *
+     * @param condition The end condition.
+     * @return The number of games which ended that way.
+     */
+    public int getCount(EndCondition condition) {
+        return endConditions[condition.ordinal()];
+    }
+
+    public double getMeanTurns() {
+        return mean(turns);
+    }
+
+    public double getMeanKilledZombies() {
+        return mean(killedZombies);
+    }
+
+    public double getMeanDeadSurvivors() {
+        return mean(deadSurvivors);
+    }
+
+    /**
+     * Retrieves the mean number of deaths of survivors of a role per game.
+     *
+     * @param role The role.
+     * @return The mean number of deaths of that role.
+     */
+    public double getMeanDeaths(Role role) {
+        return mean(deathsByRole[role.ordinal()]);
+    }
+
+    private double mean(long total) {
+        return games == 0 ? 0 : (double) total / games;
+    }
+}
@@ -0,0 +1,77 @@
+package zombicide.simulation;
+
+import zombicide.actor.survivor.Role;
+import zombicide.game.EndCondition;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * What happened in one simulated game.
+ */
+public class GameOutcome {
+    private final int index;
+    private final int turns;
+    private final EndCondition endCondition;
+    private final int killedZombies;
+    private final int deadSurvivors;
+    private final int survivorsAlive;
+    private final EnumMap<Role, Integer> deathsByRole;
+
+    /**
+     * Creates the outcome of a game.
+     *
+     * @param index          The index of the game in its batch.
+     * @param turns          The number of turns played.
+     * @param endCondition   The reason why the game ended.
+     * @param killedZombies  The number of zombies killed.
+     * @param deadSurvivors  The number of survivors dead.
+     * @param survivorsAlive The number of survivors still alive.
+     * @param deathsByRole   The number of survivors dead, by role.
+     */
+    public GameOutcome(int index, int turns, EndCondition endCondition, int killedZombies, int deadSurvivors,
+                       int survivorsAlive, Map<Role, Integer> deathsByRole) {
+        this.index = index;
+        this.turns = turns;
+        this.endCondition = endCondition;
+        this.killedZombies = killedZombies;
+        this.deadSurvivors = deadSurvivors;
+        this.survivorsAlive = survivorsAlive;
+        this.deathsByRole = new EnumMap<>(Role.class);
+        this.deathsByRole.putAll(deathsByRole);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getTurns() {
+        return turns;
+    }
+
+    public EndCondition getEndCondition() {
+        return endCondition;
+    }
+
+    public int getKilledZombies() {
+        return killedZombies;
+    }
+
+    public int getDeadSurvivors() {
+        return deadSurvivors;
+    }
+
+    public int getSurvivorsAlive() {
+        return survivorsAlive;
+    }
+
+    /**
+     * Retrieves the number of survivors of a role dead during the game.
+     *
+     * @param role The role.
+     * @return The number of survivors of that role dead.
+     */
+    public int getDeaths(Role role) {
+        return deathsByRole.getOrDefault(role, 0);
+    }
+}
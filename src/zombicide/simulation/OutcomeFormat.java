@@ -0,0 +1,122 @@
+package zombicide.simulation;
+
+import zombicide.actor.survivor.Role;
+import zombicide.game.EndCondition;
+
+import java.util.Locale;
+
+/**
+ * The formats the outcomes of a batch can be written in.
+ */
+public enum OutcomeFormat {
+
+    /** One comma separated line per game, after a header line. */
+    CSV {
+        @Override
+        public String header() {
+            StringBuilder header = new StringBuilder("game,turns,end,killed_zombies,dead_survivors,survivors_alive");
+            for (Role role : Role.values()) {
+                header.append(",dead_").append(role.name().toLowerCase());
+            }
+            return header.toString();
+        }
+
+        @Override
+        public String format(GameOutcome outcome) {
+            StringBuilder line = new StringBuilder();
+            line.append(outcome.getIndex()).append(',')
+                    .append(outcome.getTurns()).append(',')
+                    .append(outcome.getEndCondition()).append(',')
+                    .append(outcome.getKilledZombies()).append(',')
+                    .append(outcome.getDeadSurvivors()).append(',')
+                    .append(outcome.getSurvivorsAlive());
+            for (Role role : Role.values()) {
+                line.append(',').append(outcome.getDeaths(role));
+            }
+            return line.toString();
+        }
+
+        @Override
+        public String format(BatchSummary summary) {
+            StringBuilder line = new StringBuilder("# games=").append(summary.getGames());
+            for (EndCondition condition : EndCondition.values()) {
+                line.append(' ').append(condition.name().toLowerCase()).append('=').append(summary.getCount(condition));
+            }
+            line.append(String.format(Locale.ROOT, " mean_turns=%.2f mean_killed_zombies=%.2f mean_dead_survivors=%.2f",
+                    summary.getMeanTurns(), summary.getMeanKilledZombies(), summary.getMeanDeadSurvivors()));
+            for (Role role : Role.values()) {
+                line.append(String.format(Locale.ROOT, " mean_dead_%s=%.2f", role.name().toLowerCase(), summary.getMeanDeaths(role)));
+            }
+            return line.toString();
+        }
+    },
+
+    /** One JSON object per line, for every game and then for the summary. */
+    NDJSON {
+        @Override
+        public String header() {
+            return null;
+        }
+
+        @Override
+        public String format(GameOutcome outcome) {
+            StringBuilder line = new StringBuilder("{\"type\":\"game\"");
+            line.append(",\"game\":").append(outcome.getIndex())
+                    .append(",\"turns\":").append(outcome.getTurns())
+                    .append(",\"end\":\"").append(outcome.getEndCondition()).append('"')
+                    .append(",\"killedZombies\":").append(outcome.getKilledZombies())
+                    .append(",\"deadSurvivors\":").append(outcome.getDeadSurvivors())
+                    .append(",\"survivorsAlive\":").append(outcome.getSurvivorsAlive())
+                    .append(",\"deathsByRole\":{");
+            for (Role role : Role.values()) {
+                if (role.ordinal() > 0)
+                    line.append(',');
+                line.append('"').append(role).append("\":").append(outcome.getDeaths(role));
+            }
+            return line.append("}}").toString();
+        }
+
+        @Override
+        public String format(BatchSummary summary) {
+            StringBuilder line = new StringBuilder("{\"type\":\"summary\"");
+            line.append(",\"games\":").append(summary.getGames()).append(",\"ends\":{");
+            for (EndCondition condition : EndCondition.values()) {
+                if (condition.ordinal() > 0)
+                    line.append(',');
+                line.append('"').append(condition).append("\":").append(summary.getCount(condition));
+            }
+            line.append(String.format(Locale.ROOT, "},\"meanTurns\":%.4f,\"meanKilledZombies\":%.4f,\"meanDeadSurvivors\":%.4f",
+                    summary.getMeanTurns(), summary.getMeanKilledZombies(), summary.getMeanDeadSurvivors()));
+            line.append(",\"meanDeathsByRole\":{");
+            for (Role role : Role.values()) {
+                if (role.ordinal() > 0)
+                    line.append(',');
+                line.append(String.format(Locale.ROOT, "\"%s\":%.4f", role, summary.getMeanDeaths(role)));
+            }
+            return line.append("}}").toString();
+        }
+    };
+
+    /**
+     * Retrieves the line written before the outcomes.
+     *
+     * @return The header line, or null if the format has none.
+     */
+    public abstract String header();
+
+    /**
+     * Formats the outcome of a game as one line.
+     *
+     * @param outcome The outcome of a game.
+     * @return The formatted line.
+     */
+    public abstract String format(GameOutcome outcome);
+
+    /**
+     * Formats the summary of a batch as one line.
+     *
+     * @param summary The summary of the batch.
+     * @return The formatted line.
+     */
+    public abstract String format(BatchSummary summary);
+}
@@ -0,0 +1,145 @@
+package zombicide.simulation;
+
+import zombicide.actor.survivor.Role;
+import zombicide.game.ZombieMoveMode;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings of a batch of simulated games, read from the command line.
+ */
+public class SimulationConfig {
+    private int games = 100;
+    private int width = 10;
+    private int height = 10;
+    private int survivors = 4;
+    private final List<Role> roleMix = new ArrayList<>();
+    private long seed = System.nanoTime();
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int maxTurns = 200;
+    private ZombieMoveMode zombieMoves = ZombieMoveMode.HEURISTIC;
+    private OutcomeFormat format = OutcomeFormat.CSV;
+    private Path city;
+
+    /**
+     * Reads the settings from options of the form {@code --name value}.
+     * Options: games, width, height, survivors, roles (comma separated, given in turn to the survivors),
+     * seed, threads, max-turns (0 for no limit), zombie-moves (heuristic or flow_field), format (csv or ndjson)
+     * and city (a {@link zombicide.city.CitySnapshot} every game is played on, instead of a new city per game).
+     *
+     * @param args The command line arguments.
+     * @return The settings.
+     * @throws IllegalArgumentException If an option is unknown, has no value or a value out of range.
+     */
+    public static SimulationConfig fromArgs(String[] args) {
+        SimulationConfig config = new SimulationConfig();
+        for (int i = 0; i < args.length; i += 2) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Option attendue de la forme --nom valeur : " + args[i]);
+            }
+            String value = args[i + 1];
+            switch (args[i].substring(2)) {
+                case "games": config.games = positive(value); break;
+                case "width": config.width = atLeastFive(value); break;
+                case "height": config.height = atLeastFive(value); break;
+                case "survivors": config.survivors = positive(value); break;
+                case "roles":
+                    for (String role : value.split(",")) {
+                        config.roleMix.add(Role.valueOf(role.trim().toUpperCase()));
+                    }
+                    break;
+                case "seed": config.seed = Long.parseLong(value); break;
+                case "threads": config.threads = positive(value); break;
+                case "max-turns": config.maxTurns = notNegative(value); break;
+                case "zombie-moves": config.zombieMoves = ZombieMoveMode.valueOf(value.toUpperCase()); break;
+                case "format": config.format = OutcomeFormat.valueOf(value.toUpperCase()); break;
+                case "city": config.city = Paths.get(value); break;
+                default: throw new IllegalArgumentException("Option inconnue : " + args[i]);
+            }
+        }
+        return config;
+    }
+
+    private static int positive(String value) {
+        int n = Integer.parseInt(value);
+        if (n < 1)
+            throw new IllegalArgumentException("La valeur doit être strictement positive : " + value);
+        return n;
+    }
+
+    private static int notNegative(String value) {
+        int n = Integer.parseInt(value);
+        if (n < 0)
+            throw new IllegalArgumentException("La valeur ne doit pas être négative : " + value);
+        return n;
+    }
+
+    private static int atLeastFive(String value) {
+        int n = Integer.parseInt(value);
+        if (n < 5)
+            throw new IllegalArgumentException("La ville doit mesurer au moins 5 cases : " + value);
+        return n;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getSurvivors() {
+        return survivors;
+    }
+
+    /**
+     * Retrieves the roles given in turn to the survivors.
+     *
+     * @return The role mix, empty if roles are drawn at random.
+     */
+    public List<Role> getRoleMix() {
+        return roleMix;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    /**
+     * Retrieves the way the zombies of every game choose where to move.
+     *
+     * @return The move mode of the zombies, the heuristic one unless another was asked for.
+     */
+    public ZombieMoveMode getZombieMoves() {
+        return zombieMoves;
+    }
+
+    public OutcomeFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Retrieves the snapshot of the city every game is played on.
+     *
+     * @return The snapshot file, or null if every game generates its own city.
+     */
+    public Path getCity() {
+        return city;
+    }
+}
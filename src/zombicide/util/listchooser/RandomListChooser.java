@@ -1,16 +1,30 @@
 package zombicide.util.listchooser;
 
+import zombicide.util.random.RandomSource;
+
 import java.util.List;
-import java.util.Random;
 
 public class RandomListChooser<T> implements ListChooser<T> {
-    private static final Random RANDOM = new Random();
+    private final RandomSource random;
+
+    public RandomListChooser() {
+        this(RandomSource.create());
+    }
+
+    /**
+     * Creates a chooser drawing from the given random source.
+     *
+     * @param random The random source of the chooser.
+     */
+    public RandomListChooser(RandomSource random) {
+        this.random = random;
+    }
 
     @Override
     public T choose(List<? extends T> list) {
         if (list.isEmpty()) {
             return null;
         }
-        return list.get(RANDOM.nextInt(list.size()));
+        return list.get(random.nextInt(list.size()));
     }
 }
@@ -0,0 +1,127 @@
+package zombicide.util.listchooser;
+
+import zombicide.util.random.RandomSource;
+
+import java.util.List;
+
+/**
+ * Chooser picking the elements of a list with fixed weights, the element at index i being chosen
+ * with a probability proportional to the weight at index i.
+ * The weights are turned once into Vose's alias tables, in a time linear in their number,
+ * after which every choice costs one random draw and one comparison, whatever the number of elements.
+ * The weights are copied on creation, so the tables never need to be built again.
+ *
+ * @param <T> The type of the elements chosen.
+ */
+public class WeightedListChooser<T> implements ListChooser<T> {
+    private final RandomSource random;
+    private final double[] probabilities;
+    private final int[] aliases;
+
+    /**
+     * Creates a chooser drawing from an unpredictable random source.
+     *
+     * @param weights The weights of the elements, by index.
+     */
+    public WeightedListChooser(double... weights) {
+        this(RandomSource.create(), weights);
+    }
+
+    /**
+     * Creates a chooser drawing from the given random source.
+     *
+     * @param random  The random source of the chooser.
+     * @param weights The weights of the elements, by index.
+     * @throws IllegalArgumentException If there is no weight, a weight is negative or not finite, or they are all 0.
+     */
+    public WeightedListChooser(RandomSource random, double... weights) {
+        this.random = random;
+        int n = weights.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("Il faut au moins un poids");
+        }
+        double total = 0;
+        for (double weight : weights) {
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Poids invalide : " + weight);
+            }
+            total += weight;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("Tous les poids sont nuls");
+        }
+
+        this.probabilities = new double[n];
+        this.aliases = new int[n];
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int nbSmall = 0;
+        int nbLarge = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1) {
+                small[nbSmall++] = i;
+            } else {
+                large[nbLarge++] = i;
+            }
+        }
+        while (nbSmall > 0 && nbLarge > 0) {
+            int less = small[--nbSmall];
+            int more = large[--nbLarge];
+            this.probabilities[less] = scaled[less];
+            this.aliases[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+            if (scaled[more] < 1) {
+                small[nbSmall++] = more;
+            } else {
+                large[nbLarge++] = more;
+            }
+        }
+        // What is left is full, up to rounding errors.
+        while (nbLarge > 0) {
+            this.probabilities[large[--nbLarge]] = 1;
+        }
+        while (nbSmall > 0) {
+            this.probabilities[small[--nbSmall]] = 1;
+        }
+    }
+
+    /**
+     * Retrieves the number of weights of the chooser, which is the size of the lists it chooses from.
+     *
+     * @return The number of weights.
+     */
+    public int size() {
+        return this.probabilities.length;
+    }
+
+    /**
+     * Chooses an index with a probability proportional to its weight.
+     *
+     * @return The chosen index.
+     */
+    public int chooseIndex() {
+        double draw = this.random.nextDouble() * this.probabilities.length;
+        int column = (int) draw;
+        return draw - column < this.probabilities[column] ? column : this.aliases[column];
+    }
+
+    /**
+     * Chooses an element of a list with a probability proportional to the weight of its index.
+     *
+     * @param list The list to choose from, with as many elements as the chooser has weights.
+     * @return The chosen element, or null if the list is empty.
+     * @throws IllegalArgumentException If the list does not have as many elements as the chooser has weights.
+     */
+    @Override
+    public T choose(List<? extends T> list) {
+        if (list.isEmpty()) {
+            return null;
+        }
+        if (list.size() != this.probabilities.length) {
+            throw new IllegalArgumentException("La liste a " + list.size() + " éléments pour " + this.probabilities.length + " poids");
+        }
+        return list.get(chooseIndex());
+    }
+}
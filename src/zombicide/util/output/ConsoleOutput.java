@@ -0,0 +1,57 @@
+package zombicide.util.output;
+
+import java.io.PrintStream;
+
+/**
+ * Output writing the messages up to a given level to a stream, the console by default.
+ */
+public class ConsoleOutput implements GameOutput {
+    static final ConsoleOutput ALL = new ConsoleOutput(Verbosity.BOARD);
+
+    private final PrintStream out;
+    private final Verbosity maxLevel;
+
+    /**
+     * Creates an output writing to the console.
+     * The console is looked up on every message, so a redirection of System.out is followed.
+     *
+     * @param maxLevel The most detailed level written.
+     */
+    public ConsoleOutput(Verbosity maxLevel) {
+        this(null, maxLevel);
+    }
+
+    /**
+     * Creates an output writing to the given stream.
+     *
+     * @param out      The stream to write to, or null for the console.
+     * @param maxLevel The most detailed level written.
+     */
+    public ConsoleOutput(PrintStream out, Verbosity maxLevel) {
+        this.out = out;
+        this.maxLevel = maxLevel;
+    }
+
+    @Override
+    public boolean isEnabled(Verbosity level) {
+        return level.compareTo(this.maxLevel) <= 0;
+    }
+
+    @Override
+    public void print(Verbosity level, String text) {
+        if (isEnabled(level)) {
+            stream().print(text);
+        }
+    }
+
+    @Override
+    public void println(Verbosity level, String text) {
+        if (isEnabled(level)) {
+            stream().println(text);
+        }
+    }
+
+    private PrintStream stream() {
+        return this.out != null ? this.out : System.out;
+    }
+}
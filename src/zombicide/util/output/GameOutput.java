@@ -0,0 +1,79 @@
+package zombicide.util.output;
+
+import java.util.function.Supplier;
+
+/**
+ * Where the narration of a game goes.
+ * Messages that cost something to build are built behind {@link #isEnabled(Verbosity)},
+ * so a muted output neither builds nor prints anything.
+ * They can also be given as suppliers, only called when their level is enabled, but a supplier capturing
+ * variables is itself a new object on every call: the game only uses the check.
+ */
+public interface GameOutput {
+
+    /**
+     * Checks if the messages of the given level are written.
+     *
+     * @param level The level of the messages.
+     * @return true if they are written, false otherwise.
+     */
+    boolean isEnabled(Verbosity level);
+
+    /**
+     * Writes a text, without ending the line.
+     *
+     * @param level The level of the text.
+     * @param text  The text to write.
+     */
+    void print(Verbosity level, String text);
+
+    /**
+     * Writes a text and ends the line.
+     *
+     * @param level The level of the text.
+     * @param text  The text to write.
+     */
+    void println(Verbosity level, String text);
+
+    /**
+     * Writes a text built on demand, without ending the line.
+     *
+     * @param level   The level of the text.
+     * @param message Builds the text to write.
+     */
+    default void print(Verbosity level, Supplier<String> message) {
+        if (isEnabled(level)) {
+            print(level, message.get());
+        }
+    }
+
+    /**
+     * Writes a text built on demand and ends the line.
+     *
+     * @param level   The level of the text.
+     * @param message Builds the text to write.
+     */
+    default void println(Verbosity level, Supplier<String> message) {
+        if (isEnabled(level)) {
+            println(level, message.get());
+        }
+    }
+
+    /**
+     * Retrieves the output writing every message on the console, as the game always did.
+     *
+     * @return The console output.
+     */
+    static GameOutput console() {
+        return ConsoleOutput.ALL;
+    }
+
+    /**
+     * Retrieves the output writing nothing.
+     *
+     * @return The silent output.
+     */
+    static GameOutput silent() {
+        return SilentOutput.INSTANCE;
+    }
+}
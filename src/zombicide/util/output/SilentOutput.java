@@ -0,0 +1,34 @@
+package zombicide.util.output;
+
+import java.util.function.Supplier;
+
+/**
+ * Output writing nothing, for headless games.
+ */
+public final class SilentOutput implements GameOutput {
+    static final SilentOutput INSTANCE = new SilentOutput();
+
+    private SilentOutput() {
+    }
+
+    @Override
+    public boolean isEnabled(Verbosity level) {
+        return false;
+    }
+
+    @Override
+    public void print(Verbosity level, String text) {
+    }
+
+    @Override
+    public void println(Verbosity level, String text) {
+    }
+
+    @Override
+    public void print(Verbosity level, Supplier<String> message) {
+    }
+
+    @Override
+    public void println(Verbosity level, Supplier<String> message) {
+    }
+}
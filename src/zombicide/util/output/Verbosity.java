@@ -0,0 +1,17 @@
+package zombicide.util.output;
+
+/**
+ * Levels of detail of the narration of a game, from the least to the most verbose.
+ */
+public enum Verbosity {
+
+    /** Turns, phases and the state of the survivors between turns. */
+    TURN,
+
+    /** What every actor does. */
+    ACTION,
+
+    /** Boards, and what survivors see when they look around. */
+    BOARD;
+
+}
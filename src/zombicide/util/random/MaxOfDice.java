@@ -0,0 +1,138 @@
+package zombicide.util.random;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The highest value shown by several dice thrown together, each die showing 1 to {@code faces}.
+ * The maximum of {@code count} dice is at most k with probability {@code k^count / faces^count},
+ * so it is drawn in one go: one integer uniformly drawn among the {@code faces^count} outcomes,
+ * then the first k whose {@code k^count} is above it, read from tables built once per faces and count.
+ * Up to {@value #MAX_LOOKUP} outcomes, the maximum of every outcome is stored, so a throw is one draw and one read.
+ * The same tables give the exact probability of reaching each value.
+ * When there are too many outcomes for one draw, the dice are thrown one by one.
+ */
+public final class MaxOfDice {
+    private static final int MAX_LOOKUP = 1 << 16;
+    private static final ConcurrentMap<Long, MaxOfDice> TABLES = new ConcurrentHashMap<>();
+
+    private final int faces;
+    private final int count;
+    /** {@code k^count} at index k - 1, or null when {@code faces^count} does not fit in one draw. */
+    private final int[] outcomesUpTo;
+    /** The maximum of every outcome, or null when there are more than {@link #MAX_LOOKUP} outcomes. */
+    private final byte[] maxOfOutcome;
+    /** The probability that the maximum is at least v, at index v, from 0 to faces + 1. */
+    private final double[] atLeast;
+
+    private MaxOfDice(int faces, int count) {
+        this.faces = faces;
+        this.count = count;
+
+        long outcomes = 1;
+        for (int i = 0; i < count && outcomes <= Integer.MAX_VALUE; i++) {
+            outcomes *= faces;
+        }
+        if (outcomes <= Integer.MAX_VALUE) {
+            this.outcomesUpTo = new int[faces];
+            for (int k = 1; k <= faces; k++) {
+                long power = 1;
+                for (int i = 0; i < count; i++) {
+                    power *= k;
+                }
+                this.outcomesUpTo[k - 1] = (int) power;
+            }
+        } else {
+            this.outcomesUpTo = null;
+        }
+        if (outcomes <= MAX_LOOKUP && faces <= Byte.MAX_VALUE) {
+            this.maxOfOutcome = new byte[(int) outcomes];
+            int value = 1;
+            for (int outcome = 0; outcome < outcomes; outcome++) {
+                while (this.outcomesUpTo[value - 1] <= outcome) {
+                    value++;
+                }
+                this.maxOfOutcome[outcome] = (byte) value;
+            }
+        } else {
+            this.maxOfOutcome = null;
+        }
+
+        this.atLeast = new double[faces + 2];
+        for (int v = 0; v <= faces + 1; v++) {
+            this.atLeast[v] = v <= 1 ? 1 : 1 - Math.pow((double) (v - 1) / faces, count);
+        }
+    }
+
+    /**
+     * Retrieves the table of the maximum of several dice.
+     *
+     * @param faces The number of faces of each die.
+     * @param count The number of dice.
+     * @return The table, shared by every caller asking for the same dice.
+     * @throws IllegalArgumentException If there is no face or no die.
+     */
+    public static MaxOfDice of(int faces, int count) {
+        if (faces < 1 || count < 1) {
+            throw new IllegalArgumentException("Il faut au moins un dé d'au moins une face : " + count + "d" + faces);
+        }
+        return TABLES.computeIfAbsent(((long) faces << 32) | count, key -> new MaxOfDice(faces, count));
+    }
+
+    public int getFaces() {
+        return faces;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Throws the dice and retrieves the highest value shown.
+     *
+     * @param random The random source to draw from.
+     * @return The highest value, between 1 and the number of faces.
+     */
+    public int roll(RandomSource random) {
+        if (this.maxOfOutcome != null) {
+            return this.maxOfOutcome[random.nextInt(this.maxOfOutcome.length)];
+        }
+        if (this.outcomesUpTo == null) {
+            int highest = 0;
+            for (int i = 0; i < this.count; i++) {
+                highest = Math.max(highest, random.nextInt(this.faces) + 1);
+            }
+            return highest;
+        }
+        int outcome = random.nextInt(this.outcomesUpTo[this.faces - 1]);
+        int value = 1;
+        // Counts the values passed without branching on the outcome, which the processor could not predict.
+        for (int k = 0; k < this.faces - 1; k++) {
+            value += (this.outcomesUpTo[k] - 1 - outcome) >>> 31;
+        }
+        return value;
+    }
+
+    /**
+     * Retrieves the exact probability that the highest value shown is at least the given value.
+     *
+     * @param value The value to reach.
+     * @return The probability to reach the value, 1 for any value up to 1 and 0 above the number of faces.
+     */
+    public double probabilityAtLeast(int value) {
+        if (value <= 0) {
+            return 1;
+        }
+        return value > this.faces ? 0 : this.atLeast[value];
+    }
+
+    /**
+     * Retrieves the exact probability that the highest value shown is the given value.
+     *
+     * @param value The value.
+     * @return The probability of the value.
+     */
+    public double probability(int value) {
+        return probabilityAtLeast(value) - probabilityAtLeast(value + 1);
+    }
+}
@@ -0,0 +1,58 @@
+package zombicide.util.random;
+
+/**
+ * A source of pseudo-random numbers owned by one game, or by one subsystem of a game.
+ * Sources are not thread-safe: each thread or subsystem gets its own stream through {@link #split()},
+ * so no state is shared between them.
+ */
+public interface RandomSource {
+
+    /**
+     * Returns the next pseudo-random 64 bits.
+     *
+     * @return A pseudo-random long.
+     */
+    long nextLong();
+
+    /**
+     * Returns a pseudo-random integer uniformly drawn in [0, bound).
+     *
+     * @param bound The exclusive upper bound, which must be positive.
+     * @return A pseudo-random integer between 0 (inclusive) and bound (exclusive).
+     */
+    int nextInt(int bound);
+
+    /**
+     * Returns a pseudo-random double uniformly drawn in [0, 1).
+     *
+     * @return A pseudo-random double.
+     */
+    double nextDouble();
+
+    /**
+     * Creates a new source whose stream is independent from this one.
+     * The new source only depends on the state of this one, so splitting is reproducible.
+     *
+     * @return A new independent source.
+     */
+    RandomSource split();
+
+    /**
+     * Creates a source from a seed. Two sources created with the same seed give the same numbers.
+     *
+     * @param seed The seed.
+     * @return A new seeded source.
+     */
+    static RandomSource seeded(long seed) {
+        return new XoshiroRandomSource(seed);
+    }
+
+    /**
+     * Creates a source from an unpredictable seed.
+     *
+     * @return A new source.
+     */
+    static RandomSource create() {
+        return new XoshiroRandomSource(XoshiroRandomSource.freshSeed());
+    }
+}
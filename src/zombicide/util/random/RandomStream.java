@@ -0,0 +1,20 @@
+package zombicide.util.random;
+
+/**
+ * The subsystems of a game, each drawing from its own independent random stream.
+ */
+public enum RandomStream {
+
+    /** Layout of the city and dispatch of its items. */
+    GENERATION,
+
+    /** Decisions of the survivors and zombies. */
+    ACTIONS,
+
+    /** Dice thrown during attacks. */
+    DICE,
+
+    /** Spawn of new zombies. */
+    SPAWNS;
+
+}
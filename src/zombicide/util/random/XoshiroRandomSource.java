@@ -0,0 +1,131 @@
+package zombicide.util.random;
+
+/**
+ * Random source based on the xoshiro256** generator, seeded with SplitMix64.
+ * Splitting hands the current state over to the new source and then jumps this one
+ * 2^128 numbers ahead, so the two streams can never overlap.
+ */
+public class XoshiroRandomSource implements RandomSource {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long[] JUMP = {
+            0x180ec6d33cfd0abaL, 0xd5a61266f0c9392cL, 0xa9582618e03fc9aaL, 0x39abdc4529b1661cL
+    };
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private long s0;
+    private long s1;
+    private long s2;
+    private long s3;
+
+    /**
+     * Creates a source whose state is derived from the given seed with SplitMix64.
+     *
+     * @param seed The seed.
+     */
+    public XoshiroRandomSource(long seed) {
+        long x = seed;
+        this.s0 = mix(x += GOLDEN_GAMMA);
+        this.s1 = mix(x += GOLDEN_GAMMA);
+        this.s2 = mix(x += GOLDEN_GAMMA);
+        this.s3 = mix(x + GOLDEN_GAMMA);
+    }
+
+    private XoshiroRandomSource(long s0, long s1, long s2, long s3) {
+        this.s0 = s0;
+        this.s1 = s1;
+        this.s2 = s2;
+        this.s3 = s3;
+    }
+
+    @Override
+    public long nextLong() {
+        long result = Long.rotateLeft(this.s1 * 5, 7) * 9;
+        long t = this.s1 << 17;
+        this.s2 ^= this.s0;
+        this.s3 ^= this.s1;
+        this.s1 ^= this.s2;
+        this.s0 ^= this.s3;
+        this.s2 ^= t;
+        this.s3 = Long.rotateLeft(this.s3, 45);
+        return result;
+    }
+
+    /**
+     * Draws an unbiased integer with Lemire's multiply-and-reject method.
+     */
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        long m = (nextLong() >>> 32) * bound;
+        long low = m & 0xffffffffL;
+        if (low < bound) {
+            long threshold = (0x100000000L - bound) % bound;
+            while (low < threshold) {
+                m = (nextLong() >>> 32) * bound;
+                low = m & 0xffffffffL;
+            }
+        }
+        return (int) (m >>> 32);
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    @Override
+    public RandomSource split() {
+        XoshiroRandomSource child = new XoshiroRandomSource(this.s0, this.s1, this.s2, this.s3);
+        jump();
+        return child;
+    }
+
+    /**
+     * Advances this source by 2^128 numbers.
+     */
+    private void jump() {
+        long t0 = 0;
+        long t1 = 0;
+        long t2 = 0;
+        long t3 = 0;
+        for (long jump : JUMP) {
+            for (int b = 0; b < 64; b++) {
+                if ((jump & (1L << b)) != 0) {
+                    t0 ^= this.s0;
+                    t1 ^= this.s1;
+                    t2 ^= this.s2;
+                    t3 ^= this.s3;
+                }
+                nextLong();
+            }
+        }
+        this.s0 = t0;
+        this.s1 = t1;
+        this.s2 = t2;
+        this.s3 = t3;
+    }
+
+    /**
+     * The SplitMix64 output function.
+     *
+     * @param z The value to mix.
+     * @return The mixed value.
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Builds a seed for sources created without one.
+     *
+     * @return An unpredictable seed.
+     */
+    static long freshSeed() {
+        return mix(System.nanoTime()) ^ mix(Thread.currentThread().getId() * GOLDEN_GAMMA)
+                ^ mix(System.identityHashCode(new Object()));
+    }
+}
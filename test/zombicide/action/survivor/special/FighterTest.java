@@ -1,13 +1,41 @@
 package zombicide.action.survivor.special;
 
 import org.junit.jupiter.api.Test;
+import zombicide.action.survivor.AttackZombieAction;
+import zombicide.item.attackItem.weapon.Pistol;
+import zombicide.util.random.RandomSource;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FighterTest {
     @Test
     void testThrowOneDie() {
-        int dieValue = new Fighter().throwOneDie();
-        assertTrue(dieValue >= 2 && dieValue <= 6);
+        SeededFighter fighter = new SeededFighter();
+        RandomSource dice = RandomSource.seeded(4);
+        boolean[] seen = new boolean[7];
+        for (int i = 0; i < 200; i++) {
+            int dieValue = fighter.throwOneDieFrom(dice);
+            assertTrue(dieValue >= 2 && dieValue <= 6);
+            seen[dieValue] = true;
+        }
+        assertTrue(seen[2] && seen[6]);
+        assertEquals(fighter.throwOneDieFrom(RandomSource.seeded(9)), fighter.throwOneDieFrom(RandomSource.seeded(9)));
+    }
+
+    @Test
+    void testHitProbability() {
+        assertEquals(0.6, new Fighter().getHitProbability(new Pistol()), 1e-12);
+        assertEquals(0.5, new AttackZombieAction().getHitProbability(new Pistol()), 1e-12);
+        assertEquals(0.75, new Lucky().getHitProbability(new Pistol()), 1e-12);
+    }
+
+    /**
+     * Fighter giving the tests access to its seeded die throw.
+     */
+    private static class SeededFighter extends Fighter {
+        int throwOneDieFrom(RandomSource dice) {
+            return throwOneDie(dice);
+        }
     }
 }
@@ -0,0 +1,81 @@
+package zombicide.actor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import zombicide.actor.zombie.Walker;
+import zombicide.actor.zombie.Zombie;
+import zombicide.city.City;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ActorListTest {
+    private City city;
+    private ActorList<Zombie> zombies;
+    private List<Zombie> added;
+
+    @BeforeEach
+    public void before() {
+        this.city = new City(5, 5);
+        this.zombies = new ActorList<>();
+        this.added = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Zombie zombie = new Walker(new ArrayList<>(), this.city);
+            this.zombies.add(zombie);
+            this.added.add(zombie);
+        }
+    }
+
+    @Test
+    public void testAddKeepsOrder() {
+        assertEquals(this.added, this.zombies);
+    }
+
+    @Test
+    public void testRemoveMovesTheLastActor() {
+        assertTrue(this.zombies.remove(this.added.get(2)));
+        assertEquals(9, this.zombies.size());
+        assertSame(this.added.get(9), this.zombies.get(2));
+        assertFalse(this.zombies.contains(this.added.get(2)));
+        assertEquals(2, this.zombies.indexOf(this.added.get(9)));
+    }
+
+    @Test
+    public void testRemoveTwiceFails() {
+        assertTrue(this.zombies.remove(this.added.get(0)));
+        assertFalse(this.zombies.remove(this.added.get(0)));
+        assertEquals(9, this.zombies.size());
+    }
+
+    @Test
+    public void testActorInTwoListsIsFoundInBoth() {
+        ActorList<Zombie> other = new ActorList<>();
+        Zombie zombie = this.added.get(4);
+        other.add(zombie);
+        assertTrue(this.zombies.contains(zombie));
+        assertTrue(this.zombies.remove(zombie));
+        assertTrue(other.remove(zombie));
+        assertTrue(other.isEmpty());
+    }
+
+    @Test
+    public void testIteratorRemoveVisitsEveryActor() {
+        int visited = 0;
+        Iterator<Zombie> it = this.zombies.iterator();
+        while (it.hasNext()) {
+            it.next();
+            visited++;
+            if (visited % 2 == 0) {
+                it.remove();
+            }
+        }
+        assertEquals(10, visited);
+        assertEquals(5, this.zombies.size());
+    }
+}
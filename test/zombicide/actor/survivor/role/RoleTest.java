@@ -1,12 +1,27 @@
 package zombicide.actor.survivor.role;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import zombicide.action.Action;
+import zombicide.action.ActionTable;
 import zombicide.action.survivor.special.Fighter;
 import zombicide.action.survivor.special.Healer;
 import zombicide.action.survivor.special.Lucky;
 import zombicide.action.survivor.special.Snooper;
+import zombicide.actor.survivor.Role;
 import zombicide.actor.survivor.Survivor;
 import zombicide.city.City;
+import zombicide.util.random.RandomStream;
+
+import java.util.List;
+import java.util.ListIterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class RoleTest {
     private Survivor survivor;
@@ -26,4 +41,55 @@ public class RoleTest {
         this.healer = new Healer();
     }
 
+    @Test
+    public void testRoleTableIsShared() {
+        Survivor first = new Survivor(Role.LUCKY, this.city);
+        Survivor second = new Survivor(Role.LUCKY, this.city);
+        assertSame(Role.LUCKY.getActionTable(), first.getActionTable());
+        assertSame(first.getActionTable(), second.getActionTable());
+        assertEquals(Role.LUCKY, Role.of(first));
+        assertEquals(Role.LUCKY.createActions().size(), first.getActionTable().size());
+        assertNull(first.getActionTable().getPassive());
+    }
+
+    @Test
+    public void testSnooperIsPassive() {
+        ActionTable<Survivor> table = Role.SNOOPER.getActionTable();
+        assertTrue(table.getPassive() instanceof Snooper);
+        assertNull(Role.compile(List.of(this.fighter, this.healer)).getPassive());
+        assertSame(this.snooper, Role.compile(List.of(this.lucky, this.snooper)).getPassive());
+    }
+
+    @Test
+    public void testTableFollowsRoles() {
+        ActionTable<Survivor> empty = this.survivor.getActionTable();
+        assertEquals(0, empty.size());
+        assertNull(empty.choose(this.city.getRandom(RandomStream.ACTIONS)));
+        assertSame(empty, this.survivor.getActionTable());
+
+        this.survivor.getRoles().add(this.snooper);
+        ActionTable<Survivor> table = this.survivor.getActionTable();
+        assertNotSame(empty, table);
+        assertEquals(1, table.size());
+        assertSame(this.snooper, table.getPassive());
+        assertThrows(UnsupportedOperationException.class, () -> table.asList().add(this.fighter));
+    }
+
+    @Test
+    public void testTableFollowsReplacedRoles() {
+        Survivor survivor = new Survivor(Role.SNOOPER, this.city);
+        assertTrue(survivor.getActionTable().getPassive() instanceof Snooper);
+        int snooperIndex = survivor.getRoles().indexOf(survivor.getActionTable().getPassive());
+
+        survivor.getRoles().set(snooperIndex, this.lucky);
+        assertNull(survivor.getActionTable().getPassive());
+
+        ListIterator<Action<Survivor>> roles = survivor.getRoles().listIterator(snooperIndex);
+        roles.next();
+        roles.set(this.snooper);
+        assertSame(this.snooper, survivor.getActionTable().getPassive());
+
+        survivor.getRoles().subList(snooperIndex, snooperIndex + 1).set(0, this.healer);
+        assertNull(survivor.getActionTable().getPassive());
+    }
 }
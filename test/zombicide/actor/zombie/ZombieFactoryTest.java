@@ -0,0 +1,95 @@
+package zombicide.actor.zombie;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import zombicide.city.City;
+
+import java.util.EnumMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ZombieFactoryTest {
+    private City city;
+
+    @BeforeEach
+    public void setUp() {
+        city = new City(10, 10, 5L);
+    }
+
+    @Test
+    public void testCreateGivesZombieOfType() {
+        ZombieFactory factory = new ZombieFactory(city);
+        for (ZombieType type : ZombieType.values()) {
+            Zombie zombie = factory.create(type);
+            assertEquals(type, zombie.getType());
+            assertNull(zombie.getArea());
+        }
+        assertTrue(factory.create(ZombieType.RUNNER) instanceof Runner);
+        assertTrue(factory.create(ZombieType.ABOMINATION) instanceof Abomination);
+    }
+
+    @Test
+    public void testWeightsChooseTypes() {
+        ZombieFactory factory = new ZombieFactory(city, 0, 0, 1, 3);
+        EnumMap<ZombieType, Integer> counts = new EnumMap<>(ZombieType.class);
+        for (int i = 0; i < 40_000; i++) {
+            counts.merge(factory.create().getType(), 1, Integer::sum);
+        }
+        assertNull(counts.get(ZombieType.RUNNER));
+        assertNull(counts.get(ZombieType.BALAISE));
+        assertEquals(0.25, counts.get(ZombieType.ABOMINATION) / 40_000.0, 0.01);
+        assertEquals(0.75, counts.get(ZombieType.WALKER) / 40_000.0, 0.01);
+    }
+
+    @Test
+    public void testWrongNumberOfWeights() {
+        assertThrows(IllegalArgumentException.class, () -> new ZombieFactory(city, 1, 2));
+    }
+
+    @Test
+    public void testRecyclingRevivesDeadZombies() {
+        ZombieFactory factory = new ZombieFactory(city);
+        factory.setRecycling(true);
+        Zombie balaise = factory.create(ZombieType.BALAISE);
+        balaise.setArea(city.getSpawn());
+        balaise.removeLifePoints(10);
+        balaise.setActionPoints(0);
+        balaise.getArea().removeActor(balaise);
+
+        factory.recycle(balaise);
+        assertEquals(1, factory.getPoolSize());
+        assertNotSame(balaise, factory.create(ZombieType.WALKER));
+
+        Zombie revived = factory.create(ZombieType.BALAISE);
+        assertSame(balaise, revived);
+        assertEquals(0, factory.getPoolSize());
+        assertEquals(4, revived.getLifePoints());
+        assertEquals(1, revived.getActionPoints());
+        assertNull(revived.getArea());
+
+        revived.setArea(city.getSpawn());
+        assertEquals(1, city.getSpawn().getZombies().size());
+    }
+
+    @Test
+    public void testNoRecyclingByDefault() {
+        ZombieFactory factory = new ZombieFactory(city);
+        Zombie walker = factory.create(ZombieType.WALKER);
+        walker.removeLifePoints(1);
+        factory.recycle(walker);
+        assertEquals(0, factory.getPoolSize());
+        assertNotSame(walker, factory.create(ZombieType.WALKER));
+    }
+
+    @Test
+    public void testOnlyDeadZombiesAreRecycled() {
+        ZombieFactory factory = new ZombieFactory(city);
+        factory.setRecycling(true);
+        assertThrows(IllegalArgumentException.class, () -> factory.recycle(factory.create(ZombieType.RUNNER)));
+    }
+}
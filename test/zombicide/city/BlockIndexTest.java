@@ -0,0 +1,155 @@
+package zombicide.city;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import zombicide.actor.survivor.Survivor;
+import zombicide.actor.zombie.Walker;
+import zombicide.actor.zombie.Zombie;
+import zombicide.city.area.Area;
+import zombicide.city.area.CityGrid;
+import zombicide.city.area.room.Room;
+import zombicide.city.area.street.Manhole;
+import zombicide.item.attackItem.weapon.Axe;
+import zombicide.util.random.RandomSource;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BlockIndexTest {
+    private City city;
+    private CityGrid grid;
+    private RandomSource random;
+
+    @BeforeEach
+    public void setUp() {
+        this.city = new City(90, 70, 5L);
+        this.grid = this.city.getGrid();
+        this.random = RandomSource.seeded(11);
+    }
+
+    @Test
+    public void testBlockOfAnAreaHoldsIt() {
+        BlockIndex index = this.city.getBlockIndex();
+        for (int y = 0; y < this.city.getHeight(); y++) {
+            for (int x = 0; x < this.city.getWidth(); x++) {
+                Block block = index.getBlock(this.city.getArea(x, y));
+                assertTrue(block.contains(x, y));
+                assertEquals(block.isLeaf(), this.city.getArea(x, y).isARoom());
+            }
+        }
+    }
+
+    @Test
+    public void testRoomsOfTheRootAreEveryRoom() {
+        BlockIndex index = this.city.getBlockIndex();
+        List<Room> rooms = index.getRooms(this.city.getBlocks().getRoot());
+        assertEquals(new HashSet<>(this.city.getRooms()), new HashSet<>(rooms));
+        Block block = this.city.getBlocks().getRoot().getChildren().get(3);
+        for (Room room : index.getRooms(block)) {
+            assertTrue(block.contains(room.getX(), room.getY()));
+        }
+    }
+
+    @Test
+    public void testRectangleQueriesFollowTheActors() {
+        List<Zombie> zombies = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            Zombie zombie = new Walker(new ArrayList<>(), this.city);
+            zombie.setArea(randomArea());
+            zombies.add(zombie);
+        }
+        BlockIndex index = this.city.getBlockIndex();
+        List<Survivor> survivors = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Survivor survivor = new Survivor(this.city);
+            survivor.setArea(randomArea());
+            survivors.add(survivor);
+        }
+        for (int round = 0; round < 30; round++) {
+            Zombie zombie = zombies.get(this.random.nextInt(zombies.size()));
+            if (round % 5 == 4) {
+                zombie.getArea().removeActor(zombie);
+                zombies.remove(zombie);
+            } else {
+                zombie.setArea(randomArea());
+            }
+            survivors.get(round % survivors.size()).setArea(randomArea());
+            assertMatchesScan(index);
+        }
+    }
+
+    @Test
+    public void testItemsDroppedAreCounted() {
+        BlockIndex index = this.city.getBlockIndex();
+        int before = index.countItems(0, 0, this.city.getWidth() - 1, this.city.getHeight() - 1);
+        Room room = this.city.getRooms().get(5);
+        room.addItem(new Axe());
+        assertEquals(before + 1, index.countItems(0, 0, this.city.getWidth() - 1, this.city.getHeight() - 1));
+        assertTrue(index.getItems(room.getX(), room.getY(), room.getX(), room.getY()).containsAll(room.getItems()));
+        assertMatchesScan(index);
+    }
+
+    @Test
+    public void testNearestAreasMatchAScan() {
+        BlockIndex index = this.city.getBlockIndex();
+        Predicate<Area> manholes = area -> area instanceof Manhole;
+        for (int i = 0; i < 40; i++) {
+            int x = this.random.nextInt(this.city.getWidth());
+            int y = this.random.nextInt(this.city.getHeight());
+            assertEquals(nearestByScan(x, y, 7, true, area -> true), index.getNearestRooms(x, y, 7));
+            assertEquals(nearestByScan(x, y, 7, false, area -> true), index.getNearestStreets(x, y, 7));
+            assertEquals(nearestByScan(x, y, 2, false, manholes), index.getNearestStreets(x, y, 2, manholes));
+        }
+        assertEquals(List.of(), index.getNearestRooms(0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> index.getNearestRooms(-1, 0, 3));
+    }
+
+    private Area randomArea() {
+        return this.city.getArea(this.random.nextInt(this.city.getWidth()), this.random.nextInt(this.city.getHeight()));
+    }
+
+    private void assertMatchesScan(BlockIndex index) {
+        for (int i = 0; i < 20; i++) {
+            int left = this.random.nextInt(this.city.getWidth());
+            int top = this.random.nextInt(this.city.getHeight());
+            int right = left + this.random.nextInt(40);
+            int bottom = top + this.random.nextInt(40);
+            int zombies = 0;
+            int survivors = 0;
+            int items = 0;
+            for (int y = top; y <= Math.min(bottom, this.city.getHeight() - 1); y++) {
+                for (int x = left; x <= Math.min(right, this.city.getWidth() - 1); x++) {
+                    Area area = this.city.getArea(x, y);
+                    zombies += area.getNbZombies();
+                    survivors += area.getNbSurvivors();
+                    items += area instanceof Room ? ((Room) area).getItems().size() : 0;
+                }
+            }
+            assertEquals(zombies, index.countZombies(left, top, right, bottom));
+            assertEquals(zombies, index.getZombies(left, top, right, bottom).size());
+            assertEquals(survivors, index.countSurvivors(left, top, right, bottom));
+            assertEquals(survivors, index.getSurvivors(left, top, right, bottom).size());
+            assertEquals(items, index.countItems(left, top, right, bottom));
+            assertEquals(items, index.getItems(left, top, right, bottom).size());
+        }
+    }
+
+    private List<Area> nearestByScan(int x, int y, int k, boolean rooms, Predicate<Area> filter) {
+        List<Area> areas = new ArrayList<>();
+        for (int cell = 0; cell < this.grid.size(); cell++) {
+            if (this.grid.getKind(cell).isRoom() == rooms && filter.test(this.grid.getArea(cell))) {
+                areas.add(this.grid.getArea(cell));
+            }
+        }
+        areas.sort(Comparator.<Area>comparingInt(area -> Math.abs(area.getX() - x) + Math.abs(area.getY() - y))
+                .thenComparingInt(area -> this.grid.cell(area.getX(), area.getY())));
+        return areas.subList(0, Math.min(k, areas.size()));
+    }
+}
@@ -0,0 +1,77 @@
+package zombicide.city;
+
+import org.junit.jupiter.api.Test;
+import zombicide.city.area.CityGrid;
+import zombicide.util.random.RandomSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BlockTreeTest {
+
+    @Test
+    public void testLeavesHoldRoomsAndSplitBlocksHoldStreets() {
+        City city = new City(80, 60, 3L);
+        CityGrid grid = city.getGrid();
+        BlockTree tree = city.getBlocks();
+        assertEquals(0, tree.getRoot().getDepth());
+        for (int y = 0; y < city.getHeight(); y++) {
+            for (int x = 0; x < city.getWidth(); x++) {
+                Block block = tree.getBlock(x, y);
+                assertTrue(block.contains(x, y));
+                assertEquals(block.isLeaf(), grid.getKind(grid.cell(x, y)).isRoom());
+                assertEquals(!block.isLeaf(), block.isOnStreets(x, y));
+            }
+        }
+    }
+
+    @Test
+    public void testChildrenComeAfterTheirParent() {
+        BlockTree tree = new City(80, 60, 3L).getBlocks();
+        for (int id = 0; id < tree.size(); id++) {
+            Block block = tree.getBlock(id);
+            assertEquals(id, block.getId());
+            for (Block child : block.getChildren()) {
+                assertEquals(block, child.getParent());
+                assertEquals(block.getDepth() + 1, child.getDepth());
+                assertTrue(child.getId() > id);
+            }
+        }
+    }
+
+    @Test
+    public void testParallelGenerationKeepsTheSameBlocks() {
+        BlockTree sequential = new City(300, 300, RandomSource.seeded(9), GenerationMode.SEQUENTIAL).getBlocks();
+        BlockTree parallel = new City(300, 300, RandomSource.seeded(9), GenerationMode.PARALLEL).getBlocks();
+        assertSameBlocks(sequential, parallel);
+    }
+
+    @Test
+    public void testTreeIsRebuiltFromStreets() {
+        for (long seed = 0; seed < 20; seed++) {
+            City city = new City(120, 90, seed);
+            CityGrid grid = city.getGrid();
+            BlockTree rebuilt = BlockTree.of(grid);
+            for (int y = 0; y < city.getHeight(); y++) {
+                for (int x = 0; x < city.getWidth(); x++) {
+                    assertEquals(grid.getKind(grid.cell(x, y)).isRoom(), rebuilt.getBlock(x, y).isLeaf());
+                }
+            }
+        }
+    }
+
+    private static void assertSameBlocks(BlockTree expected, BlockTree actual) {
+        assertEquals(expected.size(), actual.size());
+        Block root = expected.getRoot();
+        for (int y = root.getTop(); y <= root.getBottom(); y++) {
+            for (int x = root.getLeft(); x <= root.getRight(); x++) {
+                Block a = expected.getBlock(x, y);
+                Block b = actual.getBlock(x, y);
+                assertEquals(a.toString(), b.toString());
+                assertEquals(a.getCrossroadX(), b.getCrossroadX());
+                assertEquals(a.getCrossroadY(), b.getCrossroadY());
+                assertEquals(a.getDepth(), b.getDepth());
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package zombicide.city;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import zombicide.city.area.CityGrid;
+import zombicide.city.area.room.Room;
+import zombicide.item.Item;
+import zombicide.util.Direction;
+import zombicide.util.random.RandomSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CitySnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testReadGivesBackTheSameCity() throws IOException {
+        City city = new City(60, 40, 5L);
+        Path file = this.dir.resolve("city.bin");
+        CitySnapshot.write(city, file);
+        City loaded = CitySnapshot.read(file, RandomSource.seeded(5));
+
+        CityGrid expected = city.getGrid();
+        CityGrid actual = loaded.getGrid();
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        for (int cell = 0; cell < expected.size(); cell++) {
+            assertEquals(expected.getKind(cell), actual.getKind(cell));
+            for (Direction d : Direction.values()) {
+                assertEquals(expected.isDoorOpen(cell, d), actual.isDoorOpen(cell, d));
+            }
+        }
+        assertEquals(city.getSpawn().getX(), loaded.getSpawn().getX());
+        assertEquals(city.getSpawn().getY(), loaded.getSpawn().getY());
+        assertEquals(city.getManholes().size(), loaded.getManholes().size());
+        for (int i = 0; i < city.getManholes().size(); i++) {
+            assertEquals(city.getManholes().get(i).getX(), loaded.getManholes().get(i).getX());
+            assertEquals(city.getManholes().get(i).getY(), loaded.getManholes().get(i).getY());
+        }
+        assertArrayEquals(city.getRoomCells(), loaded.getRoomCells());
+
+        List<Room> rooms = city.getRooms();
+        List<Room> loadedRooms = loaded.getRooms();
+        for (int i = 0; i < rooms.size(); i++) {
+            assertEquals(rooms.get(i).getClass(), loadedRooms.get(i).getClass());
+            assertArrayEquals(classes(rooms.get(i).getItems()), classes(loadedRooms.get(i).getItems()));
+        }
+    }
+
+    @Test
+    public void testReadRejectsOtherFiles() throws IOException {
+        Path file = this.dir.resolve("other.bin");
+        Files.write(file, new byte[64]);
+        assertThrows(IOException.class, () -> CitySnapshot.read(file));
+    }
+
+    @Test
+    public void testReadRejectsTruncatedFiles() throws IOException {
+        Path file = this.dir.resolve("city.bin");
+        CitySnapshot.write(new City(20, 20, 1L), file);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(IOException.class, () -> CitySnapshot.read(file));
+    }
+
+    @Test
+    public void testReadRejectsEmptyCells() throws IOException {
+        City city = new City(20, 20, 1L);
+        Path file = this.dir.resolve("city.bin");
+        CitySnapshot.write(city, file);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[kindsOffset(city) + 399] = 0;
+        Files.write(file, bytes);
+        assertThrows(IOException.class, () -> CitySnapshot.read(file));
+    }
+
+    @Test
+    public void testReadRejectsSpecialCellsOfTheWrongKind() throws IOException {
+        City city = new City(20, 20, 1L);
+        Path file = this.dir.resolve("city.bin");
+        CitySnapshot.write(city, file);
+        byte[] bytes = Files.readAllBytes(file);
+        int spawn = city.getGrid().cell(city.getSpawn().getX(), city.getSpawn().getY());
+        bytes[kindsOffset(city) + city.getRoomCells()[1]] = bytes[kindsOffset(city) + spawn];
+        Files.write(file, bytes);
+        assertThrows(IOException.class, () -> CitySnapshot.read(file));
+    }
+
+    /**
+     * Retrieves the position of the kinds of the cells in the snapshot of a city,
+     * after the header, the doors and the manholes.
+     */
+    private static int kindsOffset(City city) {
+        return 8 * Integer.BYTES + city.getGrid().getDoors().getWordCount() * Long.BYTES
+                + city.getManholes().size() * Integer.BYTES;
+    }
+
+    private static Object[] classes(List<Item> items) {
+        return items.stream().map(Object::getClass).toArray();
+    }
+}
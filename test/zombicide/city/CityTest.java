@@ -13,10 +13,12 @@ import zombicide.actor.survivor.Survivor;
 import zombicide.actor.zombie.Abomination;
 import zombicide.actor.zombie.Zombie;
 import zombicide.city.area.Area;
+import zombicide.city.area.CityGrid;
 import zombicide.city.area.room.Room;
 import zombicide.city.City;
 import zombicide.city.area.street.Street;
 import zombicide.util.Direction;
+import zombicide.util.random.RandomSource;
 
 import java.util.Arrays;
 import java.util.List;
@@ -112,6 +114,94 @@ class CityTest {
 		assertEquals(city.getSurvivors().size() , 2);
 	}
 
+	@Test
+	void testActorsFollowMovesAndDeaths(){
+		List<Zombie> before = city.getZombies();
+		assertSame(before, city.getZombies());
+
+		abomination1.setArea(city.getArea(2, 2));
+		abomination2.getArea().removeActor(abomination2);
+		List<Zombie> after = city.getZombies();
+
+		assertEquals(3, before.size());
+		assertEquals(2, after.size());
+		assertTrue(after.contains(abomination1));
+		assertFalse(after.contains(abomination2));
+		assertThrows(UnsupportedOperationException.class, () -> after.remove(0));
+	}
+
+	@Test
+	void testMovesKeepTheSnapshotOfTheActors(){
+		List<Zombie> before = city.getZombies();
+		int modCount = city.getGrid().getZombies().getModCount();
+
+		abomination1.setArea(city.getArea(2, 2));
+		abomination2.setArea(city.getArea(3, 1));
+
+		assertSame(before, city.getZombies());
+		assertEquals(modCount, city.getGrid().getZombies().getModCount());
+		assertEquals(1, city.getGrid().getZombieCount(city.getGrid().cell(2, 2)));
+	}
+
+	@Test
+	void testSameSeedGivesSameCity(){
+		City first = new City(20, 15, 1234L);
+		City second = new City(20, 15, 1234L);
+		for (int y = 0; y < 15; y++) {
+			for (int x = 0; x < 20; x++) {
+				assertEquals(first.getArea(x, y).getClass(), second.getArea(x, y).getClass());
+				for (Direction d : Direction.values()) {
+					assertEquals(first.getArea(x, y).getDoor(d).isOpen(), second.getArea(x, y).getDoor(d).isOpen());
+				}
+			}
+		}
+		for (int i = 0; i < first.getRooms().size(); i++) {
+			assertEquals(first.getRooms().get(i).getItems().toString(), second.getRooms().get(i).getItems().toString());
+		}
+	}
+
+	@Test
+	void testParallelGenerationGivesSameCity(){
+		City sequential = new City(400, 300, RandomSource.seeded(99), GenerationMode.SEQUENTIAL);
+		City parallel = new City(400, 300, RandomSource.seeded(99), GenerationMode.PARALLEL);
+		CityGrid expected = sequential.getGrid();
+		CityGrid actual = parallel.getGrid();
+		for (int cell = 0; cell < expected.size(); cell++) {
+			assertEquals(expected.getKind(cell), actual.getKind(cell));
+			for (Direction d : Direction.values()) {
+				assertEquals(expected.isDoorOpen(cell, d), actual.isDoorOpen(cell, d));
+			}
+		}
+		assertEquals(sequential.getSpawn().getX(), parallel.getSpawn().getX());
+		assertEquals(sequential.getSpawn().getY(), parallel.getSpawn().getY());
+		assertEquals(sequential.getRooms().get(0).getX(), parallel.getRooms().get(0).getX());
+	}
+
+	@Test
+	void testGetAreaNoiseMaxIsSpawnWhenSilent(){
+		assertEquals(city.getSpawn(), city.getAreaNoiseMax());
+	}
+
+	@Test
+	void testGetAreaNoiseMaxFollowsNoise(){
+		city.getArea(3, 1).increaseNoiseLevel(2);
+		assertEquals(city.getArea(3, 1), city.getAreaNoiseMax());
+		city.getArea(0, 4).setNoise(3);
+		assertEquals(city.getArea(0, 4), city.getAreaNoiseMax());
+		city.getArea(0, 4).setNoise(0);
+		assertEquals(city.getArea(3, 1), city.getAreaNoiseMax());
+		city.getArea(3, 1).setNoise(0);
+		assertEquals(city.getSpawn(), city.getAreaNoiseMax());
+	}
+
+	@Test
+	void testGetAreaNoiseMaxTieIsWonColumnByColumn(){
+		city.getArea(4, 0).setNoise(1);
+		city.getArea(1, 3).setNoise(1);
+		city.getArea(1, 2).setNoise(1);
+		assertEquals(city.getArea(1, 2), city.getAreaNoiseMax());
+	}
+
 
 
 	/** TODO Revoir le test (isARoom ne considère pas une Room comme une Room)
@@ -0,0 +1,153 @@
+package zombicide.city.area;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import zombicide.actor.zombie.Walker;
+import zombicide.city.City;
+import zombicide.util.Direction;
+import zombicide.util.random.RandomSource;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+
+class BitboardsTest {
+
+	private City city;
+	private CityGrid grid;
+	private Bitboards boards;
+	private RandomSource random;
+
+	@BeforeEach
+	void setUp() {
+		city = new City(150, 70, 6L);
+		grid = city.getGrid();
+		boards = city.getBitboards();
+		random = RandomSource.seeded(2);
+	}
+
+	@Test
+	void testLayersMatchTheCells() {
+		for (int i = 0; i < 10; i++) {
+			new Walker(new ArrayList<>(), city).setArea(randomArea());
+		}
+		long[] zombies = boards.getZombies();
+		for (int y = 0; y < 70; y++) {
+			for (int x = 0; x < 150; x++) {
+				Area area = city.getArea(x, y);
+				assertEquals(area.isARoom(), boards.isSet(boards.getRooms(), x, y));
+				assertEquals(!area.isARoom(), boards.isSet(boards.getStreets(), x, y));
+				assertEquals(area.getNbZombies() > 0, boards.isSet(zombies, x, y));
+				for (Direction d : Direction.values()) {
+					boolean inside = grid.contains(x + d.getX(), y + d.getY());
+					assertEquals(inside && area.isDoorOpen(d), boards.isSet(boards.getOpenDoors(d), x, y));
+				}
+			}
+		}
+		assertEquals(Bitboards.count(boards.getRooms()) + Bitboards.count(boards.getStreets()), grid.size());
+	}
+
+	@Test
+	void testFloodMatchesTheConnectivity() {
+		for (int round = 0; round < 6; round++) {
+			int start = grid.cell(random.nextInt(150), random.nextInt(70));
+			long[] reachable = boards.getReachable(start % 150, start / 150, false);
+			for (int cell = 0; cell < grid.size(); cell++) {
+				assertEquals(grid.isReachable(start, cell), boards.isSet(reachable, cell % 150, cell / 150));
+			}
+			for (int i = 0; i < 200; i++) {
+				randomArea().getDoor(Direction.values()[random.nextInt(4)]).open();
+			}
+		}
+	}
+
+	@Test
+	void testFloodAroundTheContinental() {
+		Area continental = null;
+		for (int cell = 0; cell < grid.size(); cell++) {
+			if (grid.getKind(cell) == AreaKind.CONTINENTAL) {
+				continental = grid.getArea(cell);
+			}
+		}
+		Area start = null;
+		for (Direction d : Direction.values()) {
+			continental.getDoor(d).open();
+			if (grid.contains(continental.getX() + d.getX(), continental.getY() + d.getY())) {
+				start = city.getArea(continental.getX() + d.getX(), continental.getY() + d.getY());
+			}
+		}
+		long[] reachable = boards.getReachable(start.getX(), start.getY(), true);
+		boolean[] expected = search(grid.cell(start.getX(), start.getY()), grid.cell(continental.getX(), continental.getY()));
+		for (int cell = 0; cell < grid.size(); cell++) {
+			assertEquals(expected[cell], boards.isSet(reachable, cell % 150, cell / 150));
+		}
+		assertFalse(boards.isSet(reachable, continental.getX(), continental.getY()));
+		assertTrue(boards.isSet(boards.getReachable(start.getX(), start.getY(), false), continental.getX(), continental.getY()));
+		assertEquals(0, Bitboards.count(boards.getReachable(continental.getX(), continental.getY(), true)));
+	}
+
+	@Test
+	void testExpandMovesOneStep() {
+		long[] cells = boards.newBoard();
+		for (int i = 0; i < 30; i++) {
+			boards.set(cells, random.nextInt(150), random.nextInt(70));
+		}
+		long[] expanded = boards.expand(cells, false);
+		for (int y = 0; y < 70; y++) {
+			for (int x = 0; x < 150; x++) {
+				boolean expected = boards.isSet(cells, x, y);
+				for (Direction d : Direction.values()) {
+					int nx = x + d.getX();
+					int ny = y + d.getY();
+					expected |= grid.contains(nx, ny) && boards.isSet(cells, nx, ny) && city.getArea(x, y).isDoorOpen(d);
+				}
+				assertEquals(expected, boards.isSet(expanded, x, y));
+			}
+		}
+	}
+
+	@Test
+	void testVisibleStopsAtClosedDoors() {
+		for (int i = 0; i < 20; i++) {
+			int x = random.nextInt(150);
+			int y = random.nextInt(70);
+			long[] visible = boards.getVisible(x, y);
+			int seen = 1;
+			for (Direction d : Direction.values()) {
+				Area area = city.getArea(x, y);
+				while (grid.contains(area.getX() + d.getX(), area.getY() + d.getY()) && area.isDoorOpen(d)) {
+					area = city.getArea(area.getX() + d.getX(), area.getY() + d.getY());
+					assertTrue(boards.isSet(visible, area.getX(), area.getY()));
+					seen++;
+				}
+			}
+			assertEquals(seen, Bitboards.count(visible));
+		}
+	}
+
+	private Area randomArea() {
+		return city.getArea(random.nextInt(city.getWidth()), random.nextInt(city.getHeight()));
+	}
+
+	private boolean[] search(int start, int avoided) {
+		boolean[] seen = new boolean[grid.size()];
+		ArrayDeque<Integer> queue = new ArrayDeque<>();
+		seen[start] = true;
+		queue.add(start);
+		while (!queue.isEmpty()) {
+			int cell = queue.poll();
+			for (Direction d : Direction.values()) {
+				int nx = cell % 150 + d.getX();
+				int ny = cell / 150 + d.getY();
+				int next = grid.cell(Math.max(nx, 0), Math.max(ny, 0));
+				if (grid.contains(nx, ny) && next != avoided && !seen[next] && grid.isDoorOpen(cell, d)) {
+					seen[next] = true;
+					queue.add(next);
+				}
+			}
+		}
+		return seen;
+	}
+}
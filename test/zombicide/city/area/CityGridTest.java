@@ -0,0 +1,180 @@
+package zombicide.city.area;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import zombicide.actor.zombie.Walker;
+import zombicide.city.City;
+import zombicide.city.path.FlowField;
+import zombicide.city.area.room.Room;
+import zombicide.util.Direction;
+import zombicide.util.random.RandomSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class CityGridTest {
+
+	private City city;
+	private CityGrid grid;
+
+	@BeforeEach
+	void setUp() {
+		city = new City(10, 10, 5L);
+		grid = city.getGrid();
+	}
+
+	@Test
+	void testAreaIsCreatedOnceAndKept() {
+		Area area = city.getArea(3, 4);
+		assertSame(area, city.getArea(3, 4));
+		assertEquals(3, area.getX());
+		assertEquals(4, area.getY());
+		assertEquals(grid.getKind(grid.cell(3, 4)).isRoom(), area.isARoom());
+	}
+
+	@Test
+	void testNeighboursShareTheirDoor() {
+		Area area = city.getArea(4, 4);
+		area.getDoor(Direction.RIGHT).close();
+		assertFalse(city.getArea(5, 4).isDoorOpen(Direction.LEFT));
+		city.getArea(5, 4).getDoor(Direction.LEFT).open();
+		assertTrue(area.isDoorOpen(Direction.RIGHT));
+	}
+
+	@Test
+	void testNeighboursGetEqualDoors() {
+		assertEquals(city.getArea(4, 4).getDoor(Direction.DOWN), city.getArea(4, 5).getDoor(Direction.UP));
+		assertEquals(city.getArea(4, 4).getDoor(Direction.LEFT), city.getArea(3, 4).getDoor(Direction.RIGHT));
+		assertNotEquals(city.getArea(4, 4).getDoor(Direction.LEFT), city.getArea(4, 4).getDoor(Direction.RIGHT));
+		assertNotEquals(city.getArea(city.getWidth() - 1, 2).getDoor(Direction.RIGHT), city.getArea(0, 3).getDoor(Direction.LEFT));
+	}
+
+	@Test
+	void testRoomsAndBorderAreClosed() {
+		for (Room room : city.getRooms()) {
+			for (Direction d : Direction.values()) {
+				assertFalse(room.isDoorOpen(d));
+			}
+		}
+		for (int x = 0; x < city.getWidth(); x++) {
+			assertFalse(city.getArea(x, 0).isDoorOpen(Direction.UP));
+			assertFalse(city.getArea(x, city.getHeight() - 1).isDoorOpen(Direction.DOWN));
+		}
+	}
+
+	@Test
+	void testActorsAreCounted() {
+		Walker walker = new Walker(new ArrayList<>(), city);
+		walker.setArea(city.getArea(2, 2));
+		assertEquals(1, grid.getZombieCount(grid.cell(2, 2)));
+		walker.setArea(city.getArea(2, 3));
+		assertEquals(0, grid.getZombieCount(grid.cell(2, 2)));
+		assertEquals(1, grid.getZombieCount(grid.cell(2, 3)));
+		assertEquals(1, city.getZombies().size());
+	}
+
+	@Test
+	void testResetNoiseClearsEveryArea() {
+		city.getArea(1, 1).setNoise(4);
+		city.getArea(7, 2).increaseNoiseLevel(2);
+		assertEquals(city.getArea(1, 1), city.getAreaNoiseMax());
+		city.resetNoise();
+		assertEquals(0, city.getArea(1, 1).getNoise());
+		assertEquals(0, city.getArea(7, 2).getNoise());
+		assertEquals(city.getSpawn(), city.getAreaNoiseMax());
+	}
+
+	@Test
+	void testLineOfFireStopsAtTheBorder() {
+		LineOfFire lineOfFire = city.getLineOfFire();
+		int[] cells = new int[LineOfFire.maxTargets(3)];
+		int n = lineOfFire.targetCells(0, 0, 1, 3, false, cells);
+		assertEquals(6, n);
+		assertArrayEquals(new int[] { 1, 2, 3, 10, 20, 30 }, Arrays.copyOf(cells, n));
+
+		n = lineOfFire.targetCells(5, 5, 0, 1, false, cells);
+		assertArrayEquals(new int[] { 55, 45, 56, 65, 54 }, Arrays.copyOf(cells, n));
+	}
+
+	@Test
+	void testZombieCellsAreTheTargetsHoldingZombies() {
+		City big = new City(150, 70, 8L);
+		CityGrid bigGrid = big.getGrid();
+		RandomSource random = RandomSource.seeded(4);
+		int[] targets = new int[LineOfFire.maxTargets(100)];
+		int[] zombieCells = new int[LineOfFire.maxTargets(100)];
+		big.getLineOfFire().zombieCells(0, 0, 0, 1, false, zombieCells);
+		List<Walker> walkers = new ArrayList<>();
+		for (int i = 0; i < 400; i++) {
+			Walker walker = new Walker(new ArrayList<>(), big);
+			walker.setArea(big.getArea(random.nextInt(150), random.nextInt(70)));
+			walkers.add(walker);
+		}
+		for (int round = 0; round < 300; round++) {
+			Walker walker = walkers.get(random.nextInt(walkers.size()));
+			if (round % 3 == 0) {
+				walker.getArea().removeActor(walker);
+				walkers.remove(walker);
+			} else {
+				walker.setArea(big.getArea(random.nextInt(150), random.nextInt(70)));
+			}
+			int x = random.nextInt(150);
+			int y = random.nextInt(70);
+			int minRange = random.nextInt(2);
+			int maxRange = 1 + random.nextInt(100);
+			int n = big.getLineOfFire().targetCells(x, y, minRange, maxRange, false, targets);
+			int[] expected = Arrays.stream(targets, 0, n).filter(cell -> bigGrid.getZombieCount(cell) > 0).toArray();
+			int found = big.getLineOfFire().zombieCells(x, y, minRange, maxRange, false, zombieCells);
+			assertArrayEquals(expected, Arrays.copyOf(zombieCells, found));
+		}
+	}
+
+	@Test
+	void testLineOfFireFromTheContinentalOnlyReachesItsOwnCell() {
+		int[] cells = new int[LineOfFire.maxTargets(3)];
+		assertEquals(0, city.getLineOfFire().targetCells(5, 5, 1, 3, true, cells));
+		assertEquals(1, city.getLineOfFire().targetCells(5, 5, 0, 3, true, cells));
+		assertEquals(55, cells[0]);
+	}
+
+	@Test
+	void testReachabilityFollowsOpenedDoors() {
+		City big = new City(30, 20, 9L);
+		RandomSource random = RandomSource.seeded(9);
+		for (int round = 0; round < 6; round++) {
+			Area target = big.getArea(random.nextInt(30), random.nextInt(20));
+			FlowField field = FlowField.towards(big, target);
+			for (int y = 0; y < 20; y++) {
+				for (int x = 0; x < 30; x++) {
+					Area area = big.getArea(x, y);
+					assertEquals(field.getDistance(area) >= 0, big.isReachable(area, target));
+				}
+			}
+			for (int i = 0; i < 40; i++) {
+				Area area = big.getArea(random.nextInt(30), random.nextInt(20));
+				area.getDoor(Direction.values()[random.nextInt(4)]).open();
+			}
+		}
+	}
+
+	@Test
+	void testReachabilityAfterClosingDoors() {
+		Area a = city.getArea(4, 4);
+		Area b = city.getArea(5, 4);
+		for (Direction d : Direction.values()) {
+			a.getDoor(d).open();
+		}
+		assertTrue(city.isReachable(a, b));
+		for (Direction d : Direction.values()) {
+			a.getDoor(d).close();
+		}
+		assertFalse(city.isReachable(a, b));
+		assertTrue(city.isReachable(a, a));
+		a.getDoor(Direction.RIGHT).open();
+		assertTrue(city.isReachable(a, b));
+	}
+}
@@ -0,0 +1,106 @@
+package zombicide.city.area;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import zombicide.actor.survivor.Survivor;
+import zombicide.actor.zombie.Walker;
+import zombicide.actor.zombie.Zombie;
+import zombicide.city.City;
+import zombicide.util.random.RandomSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class SummedAreaTableTest {
+
+	private City city;
+	private CityGrid grid;
+	private RandomSource random;
+
+	@BeforeEach
+	void setUp() {
+		city = new City(40, 30, 5L);
+		grid = city.getGrid();
+		random = RandomSource.seeded(3);
+	}
+
+	@Test
+	void testSumOfAGrid() {
+		SummedAreaTable table = new SummedAreaTable(4, 3, cell -> cell);
+		assertEquals(66, table.sum(0, 0, 3, 2));
+		assertEquals(5 + 6 + 9 + 10, table.sum(1, 1, 2, 2));
+		assertEquals(3, table.sum(3, 0, 9, 0));
+		assertEquals(0, table.sum(2, 1, 1, 1));
+		table.add(5, 100);
+		assertEquals(100 + 5 + 6 + 9 + 10, table.sum(1, 1, 2, 2));
+		assertEquals(4 + 8, table.sum(0, 1, 0, 2));
+	}
+
+	@Test
+	void testCountsFollowTheActors() {
+		List<Zombie> zombies = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			Zombie zombie = new Walker(new ArrayList<>(), city);
+			zombie.setArea(randomArea());
+			zombies.add(zombie);
+		}
+		Survivor survivor = new Survivor(city);
+		survivor.setArea(randomArea());
+		assertMatchesScan();
+		for (int round = 0; round < 12; round++) {
+			// a few moves stay in the log, many of them make the table be built again
+			int moves = round % 2 == 0 ? 3 : 80;
+			for (int i = 0; i < moves; i++) {
+				zombies.get(random.nextInt(zombies.size())).setArea(randomArea());
+			}
+			survivor.setArea(randomArea());
+			Zombie dead = zombies.remove(random.nextInt(zombies.size()));
+			dead.getArea().removeActor(dead);
+			assertMatchesScan();
+		}
+	}
+
+	@Test
+	void testNoiseFollowsTheAreas() {
+		assertEquals(0, city.getNoise(0, 0, 39, 29));
+		for (int round = 0; round < 10; round++) {
+			for (int i = 0; i < 20; i++) {
+				randomArea().increaseNoiseLevel(1 + random.nextInt(3));
+			}
+			assertMatchesScan();
+		}
+		city.resetNoise();
+		assertEquals(0, city.getNoise(0, 0, 39, 29));
+		city.getArea(7, 8).setNoise(4);
+		assertEquals(4, city.getNoise(5, 6, 9, 10));
+	}
+
+	private Area randomArea() {
+		return city.getArea(random.nextInt(city.getWidth()), random.nextInt(city.getHeight()));
+	}
+
+	private void assertMatchesScan() {
+		for (int i = 0; i < 30; i++) {
+			int x = random.nextInt(city.getWidth());
+			int y = random.nextInt(city.getHeight());
+			int radius = random.nextInt(6);
+			int zombies = 0;
+			int survivors = 0;
+			int noise = 0;
+			for (int ay = Math.max(0, y - radius); ay <= Math.min(city.getHeight() - 1, y + radius); ay++) {
+				for (int ax = Math.max(0, x - radius); ax <= Math.min(city.getWidth() - 1, x + radius); ax++) {
+					Area area = city.getArea(ax, ay);
+					zombies += area.getNbZombies();
+					survivors += area.getNbSurvivors();
+					noise += area.getNoise();
+				}
+			}
+			assertEquals(zombies, city.countZombies(x - radius, y - radius, x + radius, y + radius));
+			assertEquals(survivors, city.countSurvivors(x - radius, y - radius, x + radius, y + radius));
+			assertEquals(noise, city.getNoise(x - radius, y - radius, x + radius, y + radius));
+		}
+	}
+}
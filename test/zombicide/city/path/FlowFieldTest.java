@@ -0,0 +1,47 @@
+package zombicide.city.path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import zombicide.city.City;
+import zombicide.util.Direction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class FlowFieldTest {
+    private City city;
+    private FlowField flowField;
+
+    @BeforeEach
+    public void before() {
+        city = new City(5, 5);
+        flowField = FlowField.towards(city, city.getArea(2, 0));
+    }
+
+    @Test
+    public void testTargetHasNoDirection() {
+        assertEquals(0, flowField.getDistance(city.getArea(2, 0)));
+        assertNull(flowField.getDirection(city.getArea(2, 0)));
+    }
+
+    @Test
+    public void testStreetsLeadToTarget() {
+        assertEquals(4, flowField.getDistance(city.getArea(0, 2)));
+        assertEquals(Direction.RIGHT, flowField.getDirection(city.getArea(0, 2)));
+        assertEquals(Direction.UP, flowField.getDirection(city.getArea(2, 4)));
+    }
+
+    @Test
+    public void testClosedRoomCannotReachTarget() {
+        assertEquals(-1, flowField.getDistance(city.getArea(0, 0)));
+        assertNull(flowField.getDirection(city.getArea(0, 0)));
+    }
+
+    @Test
+    public void testOpenedDoorLeadsOutOfRoom() {
+        city.getArea(1, 1).getDoor(Direction.RIGHT).open();
+        flowField = FlowField.towards(city, city.getArea(2, 0));
+        assertEquals(Direction.RIGHT, flowField.getDirection(city.getArea(1, 1)));
+        assertEquals(2, flowField.getDistance(city.getArea(1, 1)));
+    }
+}
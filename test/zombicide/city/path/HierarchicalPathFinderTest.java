@@ -0,0 +1,137 @@
+package zombicide.city.path;
+
+import org.junit.jupiter.api.Test;
+import zombicide.city.City;
+import zombicide.city.area.Area;
+import zombicide.city.area.CityGrid;
+import zombicide.util.Direction;
+import zombicide.util.random.RandomSource;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HierarchicalPathFinderTest {
+
+    @Test
+    public void testSmallCityIsOneCluster() {
+        City city = new City(5, 5);
+        HierarchicalPathFinder finder = city.getHierarchicalPathFinder();
+        assertEquals(1, finder.getClusterCount());
+        assertEquals(4, finder.find(city.getArea(0, 2), city.getArea(2, 0)).length());
+        assertNull(finder.find(city.getArea(0, 0), city.getArea(2, 0)));
+    }
+
+    @Test
+    public void testClustersCoverTheCity() {
+        City city = new City(200, 150, 6L);
+        HierarchicalPathFinder finder = city.getHierarchicalPathFinder();
+        assertTrue(finder.getClusterCount() > 1);
+        for (int y = 0; y < city.getHeight(); y++) {
+            for (int x = 0; x < city.getWidth(); x++) {
+                int cluster = finder.clusterOf(x, y);
+                assertTrue(cluster >= 0 && cluster < finder.getClusterCount());
+            }
+        }
+    }
+
+    @Test
+    public void testSmallCityIsSearchedFlat() {
+        City city = new City(200, 150, RandomSource.seeded(8));
+        Random random = new Random(11);
+        for (int i = 0; i < 4000; i++) {
+            city.getGrid().setDoorOpen(random.nextInt(city.getGrid().size()), Direction.values()[random.nextInt(4)], true);
+        }
+        HierarchicalPathFinder finder = city.getHierarchicalPathFinder();
+        PathFinder flat = city.getPathFinder();
+        for (int i = 0; i < 100; i++) {
+            Area from = city.getArea(random.nextInt(200), random.nextInt(150));
+            Area to = city.getArea(random.nextInt(200), random.nextInt(150));
+            Route expected = flat.find(from, to);
+            Route route = finder.find(from, to);
+            assertEquals(expected == null ? null : expected.getDirections(), route == null ? null : route.getDirections());
+        }
+        assertEquals(-1, finder.getPortalCount());
+    }
+
+    @Test
+    public void testRunOfDoorsIsOnePortal() {
+        City city = new City(200, 150, 6L);
+        CityGrid grid = city.getGrid();
+        for (int cell = 0; cell < grid.size(); cell++) {
+            grid.setDoorOpen(cell, Direction.RIGHT, cell % 200 < 199);
+            grid.setDoorOpen(cell, Direction.DOWN, cell / 200 < 149);
+        }
+        HierarchicalPathFinder finder = new HierarchicalPathFinder(grid, city.getBlocks(), 0);
+        Set<Long> sides = new HashSet<>();
+        for (int y = 0; y < 150; y++) {
+            for (int x = 0; x < 200; x++) {
+                int cluster = finder.clusterOf(x, y);
+                if (x < 199 && finder.clusterOf(x + 1, y) != cluster) {
+                    sides.add((long) cluster << 32 | finder.clusterOf(x + 1, y));
+                }
+                if (y < 149 && finder.clusterOf(x, y + 1) != cluster) {
+                    sides.add((long) cluster << 32 | finder.clusterOf(x, y + 1));
+                }
+            }
+        }
+        Route route = finder.find(city.getArea(0, 0), city.getArea(199, 149));
+        assertLeadsTo(city, city.getArea(0, 0), city.getArea(199, 149), route);
+        assertTrue(finder.getPortalCount() > 0);
+        assertTrue(finder.getPortalCount() <= 2 * sides.size());
+    }
+
+    @Test
+    public void testRoutesLeadWhereFlatSearchDoes() {
+        City city = new City(200, 150, RandomSource.seeded(8));
+        Random random = new Random(11);
+        for (int i = 0; i < 4000; i++) {
+            city.getGrid().setDoorOpen(random.nextInt(city.getGrid().size()), Direction.values()[random.nextInt(4)], true);
+        }
+        HierarchicalPathFinder finder = new HierarchicalPathFinder(city.getGrid(), city.getBlocks(), 0);
+        PathFinder flat = city.getPathFinder();
+        for (int i = 0; i < 300; i++) {
+            Area from = city.getArea(random.nextInt(200), random.nextInt(150));
+            Area to = city.getArea(random.nextInt(200), random.nextInt(150));
+            Route expected = flat.find(from, to);
+            Route route = finder.find(from, to);
+            if (expected == null) {
+                assertNull(route);
+                continue;
+            }
+            assertTrue(route.length() >= expected.length());
+            assertLeadsTo(city, from, to, route);
+        }
+    }
+
+    @Test
+    public void testOpenedDoorIsUsed() {
+        City city = new City(200, 150, 8L);
+        HierarchicalPathFinder finder = new HierarchicalPathFinder(city.getGrid(), city.getBlocks(), 0);
+        Area room = city.getArea(1, 1);
+        Area street = city.getSpawn();
+        assertNull(finder.find(room, street));
+        for (Direction d : Direction.values()) {
+            room.getDoor(d).open();
+        }
+        Route route = finder.find(room, street);
+        assertTrue(route.length() >= city.getPathFinder().find(room, street).length());
+        assertLeadsTo(city, room, street, route);
+    }
+
+    private static void assertLeadsTo(City city, Area from, Area to, Route route) {
+        int x = from.getX();
+        int y = from.getY();
+        for (Direction d : route.getDirections()) {
+            assertTrue(city.getGrid().isDoorOpen(city.getGrid().cell(x, y), d));
+            x += d.getX();
+            y += d.getY();
+        }
+        assertEquals(to.getX(), x);
+        assertEquals(to.getY(), y);
+    }
+}
@@ -0,0 +1,89 @@
+package zombicide.city.path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import zombicide.city.City;
+import zombicide.city.GenerationMode;
+import zombicide.city.area.Area;
+import zombicide.util.Direction;
+import zombicide.util.random.RandomSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PathFinderTest {
+    private City city;
+    private PathFinder pathFinder;
+
+    @BeforeEach
+    public void before() {
+        city = new City(5, 5);
+        pathFinder = city.getPathFinder();
+    }
+
+    @Test
+    public void testStreetsLeadToTarget() {
+        Route route = pathFinder.find(city.getArea(0, 2), city.getArea(2, 0));
+        assertEquals(4, route.length());
+        assertEquals(Direction.RIGHT, route.getDirection(0));
+        assertEquals(0, pathFinder.find(city.getArea(2, 0), city.getArea(2, 0)).length());
+    }
+
+    @Test
+    public void testClosedRoomCannotReachTarget() {
+        assertNull(pathFinder.find(city.getArea(0, 0), city.getArea(2, 0)));
+        assertNull(pathFinder.getDirection(city.getArea(0, 0), city.getArea(2, 0)));
+    }
+
+    @Test
+    public void testRouteIsCachedAlongTheWay() {
+        Route route = pathFinder.find(city.getArea(0, 2), city.getArea(2, 0));
+        assertSame(pathFinder.find(city.getArea(0, 2), city.getArea(2, 0)), pathFinder.find(city.getArea(0, 2), city.getArea(2, 0)));
+        assertEquals(route.length() - 1, pathFinder.find(city.getArea(1, 2), city.getArea(2, 0)).length());
+        assertTrue(pathFinder.getCacheSize() >= route.length() + 1);
+    }
+
+    @Test
+    public void testOpenedDoorInvalidatesCache() {
+        assertNull(pathFinder.find(city.getArea(1, 1), city.getArea(2, 0)));
+        city.getArea(1, 1).getDoor(Direction.RIGHT).open();
+        Route route = pathFinder.find(city.getArea(1, 1), city.getArea(2, 0));
+        assertNotNull(route);
+        assertEquals(2, route.length());
+        assertEquals(Direction.RIGHT, route.getDirection(0));
+    }
+
+    @Test
+    public void testRoutesAreAsShortAsFlowField() {
+        city = new City(40, 30, RandomSource.seeded(3), GenerationMode.SEQUENTIAL);
+        pathFinder = city.getPathFinder();
+        Random random = new Random(7);
+        for (int t = 0; t < 5; t++) {
+            Area target = city.getArea(random.nextInt(40), random.nextInt(30));
+            FlowField field = FlowField.towards(city, target);
+            for (int i = 0; i < 200; i++) {
+                Area from = city.getArea(random.nextInt(40), random.nextInt(30));
+                Route route = pathFinder.find(from, target);
+                if (field.getDistance(from) < 0) {
+                    assertNull(route);
+                    continue;
+                }
+                assertEquals(field.getDistance(from), route.length());
+                int x = from.getX();
+                int y = from.getY();
+                for (Direction d : route.getDirections()) {
+                    assertTrue(city.getGrid().isDoorOpen(city.getGrid().cell(x, y), d));
+                    x += d.getX();
+                    y += d.getY();
+                }
+                assertEquals(target.getX(), x);
+                assertEquals(target.getY(), y);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package zombicide.game;
+
+import org.junit.jupiter.api.Test;
+import zombicide.actor.survivor.Role;
+import zombicide.actor.survivor.Survivor;
+import zombicide.actor.zombie.Zombie;
+import zombicide.actor.zombie.ZombieFactory;
+import zombicide.city.City;
+import zombicide.city.area.door.DoorGrid;
+import zombicide.city.path.FlowField;
+import zombicide.util.output.GameOutput;
+import zombicide.util.random.RandomSource;
+import zombicide.util.random.RandomStream;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ZombiePhaseTest {
+    private static final int ZOMBIES = 3000;
+    private static final int FEW_ZOMBIES = 100;
+
+    /** Whether the last phase played in two stages resolved its attacks area by area. */
+    private static boolean resolvedByArea;
+
+    @Test
+    public void testSameGameAsSequentialPhase() {
+        assertEquals(play(11L, false, false, ZOMBIES), play(11L, false, true, ZOMBIES));
+        assertFalse(resolvedByArea);
+    }
+
+    @Test
+    public void testSameGameAsSequentialPhaseWithFlowField() {
+        assertEquals(play(11L, true, false, ZOMBIES), play(11L, true, true, ZOMBIES));
+    }
+
+    @Test
+    public void testSameGameWhenAttacksAreResolvedByArea() {
+        assertEquals(play(11L, false, false, FEW_ZOMBIES), play(11L, false, true, FEW_ZOMBIES));
+        assertTrue(resolvedByArea);
+        assertEquals(play(12L, true, false, FEW_ZOMBIES), play(12L, true, true, FEW_ZOMBIES));
+        assertTrue(resolvedByArea);
+    }
+
+    /**
+     * Plays one zombie phase on a crowded city and describes the city afterwards.
+     *
+     * @param seed      The seed of the city.
+     * @param flow      true if the zombies follow a flow field.
+     * @param twoStages true to play the phase in two stages, false to play the zombies one after another.
+     * @param count     The number of zombies.
+     * @return The position of every zombie and the next number of its attack stream,
+     *         the life points of every survivor, then the next random number of the actions.
+     */
+    private static String play(long seed, boolean flow, boolean twoStages, int count) {
+        City city = new City(40, 30, seed);
+        city.setOutput(GameOutput.silent());
+        RandomSource random = RandomSource.seeded(seed);
+        DoorGrid doors = city.getGrid().getDoors();
+        for (int i = 0; i < 400; i++) {
+            doors.setOpen(random.nextInt(doors.getWordCount() * 64 - 64), false);
+        }
+
+        List<Survivor> survivors = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            Survivor survivor = new Survivor(Role.values()[i % Role.values().length], city);
+            survivor.setArea(city.getArea(random.nextInt(40), random.nextInt(30)));
+            survivors.add(survivor);
+        }
+        city.getArea(random.nextInt(40), random.nextInt(30)).setNoise(4);
+
+        ZombieFactory factory = new ZombieFactory(city);
+        List<Zombie> zombies = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Zombie zombie = factory.create();
+            zombie.setArea(city.getArea(random.nextInt(40), random.nextInt(30)));
+            zombies.add(zombie);
+        }
+
+        if (flow) {
+            city.setFlowField(FlowField.towards(city, city.getAreaNoiseMax()));
+        }
+        if (twoStages) {
+            ZombiePhase phase = new ZombiePhase(city, zombies);
+            phase.playInTwoStages();
+            resolvedByArea = phase.isResolvedByArea();
+        } else {
+            new ZombiePhase(city, zombies).playInTurn();
+        }
+
+        StringBuilder description = new StringBuilder();
+        for (Zombie z : zombies) {
+            description.append(z.getArea().getX()).append(',').append(z.getArea().getY())
+                    .append(':').append(z.getAttackRandom().nextInt(1000)).append(' ');
+        }
+        for (Survivor s : survivors) {
+            description.append(s.getLifePoints()).append(' ');
+        }
+        return description.append(city.getRandom(RandomStream.ACTIONS).nextLong()).toString();
+    }
+}
@@ -9,12 +9,14 @@ import zombicide.action.Action;
 import zombicide.action.zombie.AttackSurvivorAction;
 import zombicide.actor.survivor.Survivor;
 import zombicide.actor.zombie.Abomination;
+import zombicide.actor.zombie.Walker;
 import zombicide.item.attackItem.weapon.*;
 
 import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class WeaponTest {
@@ -77,4 +79,24 @@ public class WeaponTest {
         assertEquals(listWithRiffle.size() , 2);
         assertEquals(listWithAxe.size() , 1);
     }
+
+    @Test
+    public void testWeakestTargetIsTheFirstWithFewestLifePoints(){
+        pistol.setSurvivor(s);
+        assertEquals(z1, pistol.getWeakestTarget());
+
+        Walker walker = new Walker(Arrays.asList(new ZombieMoveAction()), c);
+        walker.setArea(c.getArea(2, 3));
+        assertEquals(walker, pistol.getWeakestTarget());
+        assertTrue(pistol.shootRange().contains(walker));
+    }
+
+    @Test
+    public void testNoWeakestTargetOutOfRange(){
+        riffle.setSurvivor(s);
+        z2.setArea(c.getArea(2, 2));
+        z3.setArea(c.getArea(2, 2));
+        assertNull(riffle.getWeakestTarget());
+        assertTrue(riffle.shootRange().isEmpty());
+    }
 }
@@ -0,0 +1,75 @@
+package zombicide.simulation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import zombicide.actor.survivor.Role;
+import zombicide.city.City;
+import zombicide.city.CitySnapshot;
+import zombicide.game.ZombieMoveMode;
+import zombicide.util.random.RandomSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BatchRunnerTest {
+
+    @Test
+    public void testSameSeedGivesSameOutcome() {
+        BatchRunner runner = new BatchRunner(SimulationConfig.fromArgs(new String[]{"--width", "8", "--height", "8"}));
+        GameOutcome first = runner.playGame(0, RandomSource.seeded(3));
+        GameOutcome second = runner.playGame(0, RandomSource.seeded(3));
+        assertNotNull(first.getEndCondition());
+        assertEquals(first.getTurns(), second.getTurns());
+        assertEquals(first.getEndCondition(), second.getEndCondition());
+        assertEquals(first.getKilledZombies(), second.getKilledZombies());
+    }
+
+    @Test
+    public void testRunWritesOneLinePerGame() throws InterruptedException {
+        SimulationConfig config = SimulationConfig.fromArgs(new String[]{
+                "--games", "4", "--threads", "2", "--seed", "11", "--roles", "fighter,lucky", "--max-turns", "5"});
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BatchSummary summary = new BatchRunner(config).run(new PrintStream(bytes));
+
+        String[] lines = bytes.toString().split("\n");
+        assertEquals(6, lines.length);
+        assertEquals(4, summary.getGames());
+        assertEquals(0.0, summary.getMeanDeaths(Role.HEALER));
+    }
+
+    @Test
+    public void testZombieMovesCanBeChosen() {
+        assertEquals(ZombieMoveMode.HEURISTIC, SimulationConfig.fromArgs(new String[0]).getZombieMoves());
+        SimulationConfig config = SimulationConfig.fromArgs(new String[]{"--zombie-moves", "flow_field", "--width", "8", "--height", "8"});
+        assertEquals(ZombieMoveMode.FLOW_FIELD, config.getZombieMoves());
+        GameOutcome first = new BatchRunner(config).playGame(0, RandomSource.seeded(3));
+        GameOutcome second = new BatchRunner(config).playGame(0, RandomSource.seeded(3));
+        assertEquals(first.getTurns(), second.getTurns());
+        assertEquals(first.getKilledZombies(), second.getKilledZombies());
+        assertThrows(IllegalArgumentException.class, () -> SimulationConfig.fromArgs(new String[]{"--zombie-moves", "teleport"}));
+    }
+
+    @Test
+    public void testMaxTurnsMustNotBeNegative() {
+        assertEquals(0, SimulationConfig.fromArgs(new String[]{"--max-turns", "0"}).getMaxTurns());
+        assertThrows(IllegalArgumentException.class, () -> SimulationConfig.fromArgs(new String[]{"--max-turns", "-1"}));
+    }
+
+    @Test
+    public void testGamesOnASnapshotAreReproducible(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("city.bin");
+        CitySnapshot.write(new City(12, 12, 4L), file);
+        BatchRunner runner = new BatchRunner(SimulationConfig.fromArgs(new String[]{"--city", file.toString()}));
+        GameOutcome first = runner.playGame(0, RandomSource.seeded(8));
+        GameOutcome second = runner.playGame(0, RandomSource.seeded(8));
+        assertEquals(first.getTurns(), second.getTurns());
+        assertEquals(first.getEndCondition(), second.getEndCondition());
+        assertEquals(first.getKilledZombies(), second.getKilledZombies());
+    }
+}
@@ -0,0 +1,45 @@
+package zombicide.util.listchooser;
+
+import org.junit.jupiter.api.Test;
+import zombicide.util.random.RandomSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class WeightedListChooserTest {
+    private static final int DRAWS = 200_000;
+
+    @Test
+    public void testFrequenciesFollowWeights() {
+        double[] weights = { 1, 0, 3, 6 };
+        WeightedListChooser<String> chooser = new WeightedListChooser<>(RandomSource.seeded(1), weights);
+        int[] counts = new int[weights.length];
+        for (int i = 0; i < DRAWS; i++) {
+            counts[chooser.chooseIndex()]++;
+        }
+        assertEquals(0, counts[1]);
+        assertEquals(0.1, (double) counts[0] / DRAWS, 0.01);
+        assertEquals(0.3, (double) counts[2] / DRAWS, 0.01);
+        assertEquals(0.6, (double) counts[3] / DRAWS, 0.01);
+    }
+
+    @Test
+    public void testChooseFromList() {
+        WeightedListChooser<String> chooser = new WeightedListChooser<>(RandomSource.seeded(2), 0, 1);
+        assertEquals("b", chooser.choose(List.of("a", "b")));
+        assertNull(chooser.choose(new ArrayList<>()));
+        assertThrows(IllegalArgumentException.class, () -> chooser.choose(List.of("a", "b", "c")));
+    }
+
+    @Test
+    public void testInvalidWeights() {
+        assertThrows(IllegalArgumentException.class, () -> new WeightedListChooser<String>());
+        assertThrows(IllegalArgumentException.class, () -> new WeightedListChooser<String>(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new WeightedListChooser<String>(1, -1));
+        assertThrows(IllegalArgumentException.class, () -> new WeightedListChooser<String>(1, Double.NaN));
+    }
+}
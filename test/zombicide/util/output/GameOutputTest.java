@@ -0,0 +1,58 @@
+package zombicide.util.output;
+
+import org.junit.jupiter.api.Test;
+import zombicide.actor.survivor.Role;
+import zombicide.actor.survivor.Survivor;
+import zombicide.city.City;
+import zombicide.game.Game;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GameOutputTest {
+
+    @Test
+    public void testSilentOutputNeverBuildsMessages() {
+        GameOutput output = GameOutput.silent();
+        output.println(Verbosity.TURN, () -> {
+            throw new AssertionError("The message should not be built");
+        });
+        assertFalse(output.isEnabled(Verbosity.TURN));
+    }
+
+    @Test
+    public void testConsoleOutputFiltersLevels() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GameOutput output = new ConsoleOutput(new PrintStream(bytes, true), Verbosity.ACTION);
+        output.print(Verbosity.TURN, "turn ");
+        output.print(Verbosity.ACTION, () -> "action");
+        output.print(Verbosity.BOARD, "board");
+        assertEquals("turn action", bytes.toString());
+        assertTrue(output.isEnabled(Verbosity.ACTION));
+        assertFalse(output.isEnabled(Verbosity.BOARD));
+    }
+
+    @Test
+    public void testSilentGameWritesNothing() {
+        PrintStream console = System.out;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(bytes, true));
+        try {
+            City city = new City(10, 10, 3L);
+            city.setOutput(GameOutput.silent());
+            Game game = new Game(city);
+            game.setMaxTurns(5);
+            for (Role role : Role.values()) {
+                game.addSurvivor(new Survivor(role.createActions(), city));
+            }
+            game.play();
+        } finally {
+            System.setOut(console);
+        }
+        assertEquals(0, bytes.size());
+    }
+}
@@ -0,0 +1,64 @@
+package zombicide.util.random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MaxOfDiceTest {
+    private static final int DRAWS = 300_000;
+
+    @Test
+    public void testExactProbabilities() {
+        assertEquals(0.5, MaxOfDice.of(6, 1).probabilityAtLeast(4), 1e-12);
+        assertEquals(0.75, MaxOfDice.of(6, 2).probabilityAtLeast(4), 1e-12);
+        assertEquals(11.0 / 36, MaxOfDice.of(6, 2).probability(6), 1e-12);
+        assertEquals(1, MaxOfDice.of(6, 3).probabilityAtLeast(1));
+        assertEquals(0, MaxOfDice.of(6, 3).probabilityAtLeast(7));
+    }
+
+    @Test
+    public void testRollsFollowTheProbabilities() {
+        MaxOfDice dice = MaxOfDice.of(6, 3);
+        RandomSource random = RandomSource.seeded(4);
+        int[] counts = new int[7];
+        for (int i = 0; i < DRAWS; i++) {
+            counts[dice.roll(random)]++;
+        }
+        assertEquals(0, counts[0]);
+        for (int v = 1; v <= 6; v++) {
+            assertEquals(dice.probability(v), (double) counts[v] / DRAWS, 0.005);
+        }
+    }
+
+    @Test
+    public void testRollsWithoutLookupTable() {
+        MaxOfDice dice = MaxOfDice.of(6, 7);
+        RandomSource random = RandomSource.seeded(6);
+        int sixes = 0;
+        for (int i = 0; i < DRAWS; i++) {
+            if (dice.roll(random) == 6) {
+                sixes++;
+            }
+        }
+        assertEquals(dice.probability(6), (double) sixes / DRAWS, 0.005);
+    }
+
+    @Test
+    public void testManyDiceAreThrownOneByOne() {
+        MaxOfDice dice = MaxOfDice.of(6, 40);
+        RandomSource random = RandomSource.seeded(5);
+        for (int i = 0; i < 100; i++) {
+            int value = dice.roll(random);
+            assertTrue(value >= 1 && value <= 6);
+        }
+    }
+
+    @Test
+    public void testTablesAreShared() {
+        assertSame(MaxOfDice.of(5, 2), MaxOfDice.of(5, 2));
+        assertThrows(IllegalArgumentException.class, () -> MaxOfDice.of(6, 0));
+    }
+}
@@ -0,0 +1,47 @@
+package zombicide.util.random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RandomSourceTest {
+
+    @Test
+    public void testSameSeedGivesSameNumbers() {
+        RandomSource a = RandomSource.seeded(42);
+        RandomSource b = RandomSource.seeded(42);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(a.nextLong(), b.nextLong());
+        }
+    }
+
+    @Test
+    public void testSplitIsReproducible() {
+        RandomSource a = RandomSource.seeded(7).split();
+        RandomSource b = RandomSource.seeded(7).split();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(a.nextInt(1000), b.nextInt(1000));
+        }
+    }
+
+    @Test
+    public void testSplitStreamsDiffer() {
+        RandomSource master = RandomSource.seeded(7);
+        RandomSource first = master.split();
+        RandomSource second = master.split();
+        assertNotEquals(first.nextLong(), second.nextLong());
+    }
+
+    @Test
+    public void testNextIntStaysInBounds() {
+        RandomSource random = RandomSource.seeded(1);
+        for (int i = 0; i < 10000; i++) {
+            int value = random.nextInt(6);
+            assertTrue(value >= 0 && value < 6);
+            double d = random.nextDouble();
+            assertTrue(d >= 0 && d < 1);
+        }
+    }
+}